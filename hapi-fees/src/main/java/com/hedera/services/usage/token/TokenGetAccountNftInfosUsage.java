@@ -46,4 +46,16 @@ public class TokenGetAccountNftInfosUsage extends QueryUsage {
         addRb(NFT_ENTITY_SIZES.fixedBytesInNftRepr() * metadata.size());
         return this;
     }
+
+    /**
+     * Charges for the NFTs read while walking the owned-NFT list from its head to the exclusive
+     * end of the requested page, including those before the page that are not returned.
+     *
+     * @param walkLength the exclusive end of the requested page
+     * @return this estimate
+     */
+    public TokenGetAccountNftInfosUsage givenWalkLength(long walkLength) {
+        addSb(NFT_ENTITY_SIZES.fixedBytesInNftRepr() * walkLength);
+        return this;
+    }
 }
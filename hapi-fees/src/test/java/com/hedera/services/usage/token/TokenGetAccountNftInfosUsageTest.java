@@ -60,6 +60,16 @@ class TokenGetAccountNftInfosUsageTest {
         assertEquals(
                 FeeBuilder.BASIC_QUERY_HEADER + BASIC_ENTITY_ID_SIZE + 2 * INT_SIZE, node.getBpt());
         assertEquals(expectedBytes, node.getBpr());
+        assertEquals(0, node.getSbpr());
+    }
+
+    @Test
+    void chargesForWholeWalk() {
+        // when:
+        var usage = subject.givenMetadata(metadata).givenWalkLength(1_000L).get();
+
+        // then:
+        assertEquals(1_000L * NFT_ENTITY_SIZES.fixedBytesInNftRepr(), usage.getNodedata().getSbpr());
     }
 
     private Query tokenQuery() {
@@ -75,6 +75,25 @@ public final class CommonUtils {
         }
     }
 
+    /**
+     * Like {@link #noThrowSha384HashOf(byte[])}, but digests the given {@link ByteString} in
+     * place, without first copying it to an array.
+     *
+     * @param bytes the bytes to hash
+     * @return their SHA-384 hash
+     */
+    public static byte[] noThrowSha384HashOf(final ByteString bytes) {
+        try {
+            final var digest = MessageDigest.getInstance(sha384HashTag);
+            for (final var buffer : bytes.asReadOnlyByteBufferList()) {
+                digest.update(buffer);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+    }
+
     public static boolean productWouldOverflow(final long multiplier, final long multiplicand) {
         if (multiplicand == 0) {
             return false;
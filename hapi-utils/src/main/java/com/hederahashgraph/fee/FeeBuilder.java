@@ -306,6 +306,11 @@ public class FeeBuilder {
     }
 
     private static long getAFromB(final long bAmount, final int aEquiv, final int bEquiv) {
+        // Every fee goes through here, so avoid BigInteger unless the product could overflow;
+        // for non-negative operands, long division truncates exactly as BigInteger.divide() does
+        if (bAmount >= 0 && aEquiv >= 0 && !CommonUtils.productWouldOverflow(bAmount, aEquiv)) {
+            return bAmount * aEquiv / bEquiv;
+        }
         final var aMultiplier = BigInteger.valueOf(aEquiv);
         final var bDivisor = BigInteger.valueOf(bEquiv);
         return BigInteger.valueOf(bAmount).multiply(aMultiplier).divide(bDivisor).longValueExact();
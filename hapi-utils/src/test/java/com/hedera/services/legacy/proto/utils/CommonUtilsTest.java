@@ -114,6 +114,21 @@ class CommonUtilsTest {
         CommonUtils.setSha384HashTag("SHA-384");
     }
 
+    @Test
+    void hashesByteStringsWithoutCopying() {
+        final var raw = NONSENSE.toByteArray();
+        final var slice = ByteString.copyFrom(new byte[] {1, 2}).concat(NONSENSE);
+
+        assertArrayEquals(noThrowSha384HashOf(raw), noThrowSha384HashOf(NONSENSE));
+        assertArrayEquals(
+                noThrowSha384HashOf(slice.toByteArray()),
+                noThrowSha384HashOf(slice.substring(0)));
+        assertArrayEquals(noThrowSha384HashOf(raw), noThrowSha384HashOf(slice.substring(2)));
+        CommonUtils.setSha384HashTag("NOPE");
+        assertThrows(IllegalStateException.class, () -> noThrowSha384HashOf(NONSENSE));
+        CommonUtils.setSha384HashTag("SHA-384");
+    }
+
     @Test
     void detectsOverflowInVariousCases() {
         final var nonZeroMultiplicand = 666L;
@@ -39,6 +39,7 @@ import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import com.hederahashgraph.api.proto.java.TransferList;
 import com.hederahashgraph.exception.InvalidTxBodyException;
+import java.math.BigInteger;
 import org.junit.jupiter.api.Test;
 
 class FeeBuilderTest {
@@ -130,6 +131,28 @@ class FeeBuilderTest {
         assertEquals(100, FeeBuilder.getTinybarsFromTinyCents(exchangeRate, 10));
     }
 
+    @Test
+    void tinybarConversionMatchesBigIntegerArithmetic() {
+        final var exchangeRate =
+                ExchangeRate.newBuilder().setCentEquiv(12).setHbarEquiv(30_000).build();
+        final var nearOverflow = Long.MAX_VALUE / 30_000;
+        assertEquals(2500, FeeBuilder.getTinybarsFromTinyCents(exchangeRate, 1));
+        assertEquals(-2500, FeeBuilder.getTinybarsFromTinyCents(exchangeRate, -1));
+        assertEquals(
+                nearOverflow * 30_000 / 12,
+                FeeBuilder.getTinybarsFromTinyCents(exchangeRate, nearOverflow));
+        assertEquals(
+                BigInteger.valueOf(nearOverflow + 1)
+                        .multiply(BigInteger.valueOf(30_000))
+                        .divide(BigInteger.valueOf(12))
+                        .longValueExact(),
+                FeeBuilder.getTinybarsFromTinyCents(exchangeRate, nearOverflow + 1));
+        final var zeroCents = ExchangeRate.newBuilder().setHbarEquiv(1).build();
+        assertThrows(
+                ArithmeticException.class,
+                () -> FeeBuilder.getTinybarsFromTinyCents(zeroCents, 1));
+    }
+
     @Test
     void assertGetContractFunctionSize() {
         assertEquals(52, FeeBuilder.getContractFunctionSize(contractFunctionResult));
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.keys;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.isActive;
+import static com.hedera.services.keys.HederaKeyActivation.keysMatch;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ecdsaSecp256k1Sig;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+
+import com.hedera.services.legacy.core.jproto.JECDSASecp256k1Key;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Activates a large threshold key (half Ed25519, half ECDSA(secp256k1) simple keys) against a
+ * shuffled list of one platform sig per simple key, comparing the previous linear scan of the sig
+ * list with the index built by {@link HederaKeyActivation#pkToSigMapFrom(List)}. Building the
+ * index is included in each invocation, just as it is done once per transaction in handle.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class HederaKeyActivationBench {
+    private static final BiPredicate<JKey, TransactionSignature> SIG_IS_PRESENT =
+            (ignoredKey, sig) -> sig != INVALID_MISSING_SIG;
+
+    @Param({"10", "50", "200"})
+    int numKeys;
+
+    @Param({"false", "true"})
+    boolean indexed;
+
+    private JKey multisigKey;
+    private List<TransactionSignature> sigs;
+
+    @Setup(Level.Trial)
+    public void setupKeyAndSigs() {
+        final var r = new Random(numKeys);
+        final List<JKey> simpleKeys = new ArrayList<>();
+        sigs = new ArrayList<>();
+        for (int i = 0; i < numKeys; i++) {
+            if (i % 2 == 0) {
+                final var pk = randomBytes(r, 32);
+                simpleKeys.add(new JEd25519Key(pk));
+                sigs.add(ed25519Sig(pk, randomBytes(r, 64), randomBytes(r, 48)));
+            } else {
+                final var uncompressed = randomBytes(r, 64);
+                final var compressed = new byte[33];
+                compressed[0] = (byte) (0x02 | (uncompressed[63] & 0x01));
+                System.arraycopy(uncompressed, 0, compressed, 1, 32);
+                simpleKeys.add(new JECDSASecp256k1Key(compressed));
+                sigs.add(ecdsaSecp256k1Sig(uncompressed, randomBytes(r, 64), randomBytes(r, 32)));
+            }
+        }
+        Collections.shuffle(sigs, r);
+        multisigKey = new JThresholdKey(new JKeyList(simpleKeys), numKeys);
+    }
+
+    @Benchmark
+    public boolean activateLargeMultisig() {
+        final Function<byte[], TransactionSignature> sigsFn =
+                indexed ? HederaKeyActivation.pkToSigMapFrom(sigs) : linearScanOf(sigs);
+        return isActive(multisigKey, sigsFn, SIG_IS_PRESENT);
+    }
+
+    private static Function<byte[], TransactionSignature> linearScanOf(
+            final List<TransactionSignature> sigs) {
+        return pk -> {
+            for (final var sig : sigs) {
+                if (keysMatch(pk, sig.getExpandedPublicKeyDirect())) {
+                    return sig;
+                }
+            }
+            return INVALID_MISSING_SIG;
+        };
+    }
+
+    private static byte[] randomBytes(final Random r, final int n) {
+        final var bytes = new byte[n];
+        r.nextBytes(bytes);
+        return bytes;
+    }
+}
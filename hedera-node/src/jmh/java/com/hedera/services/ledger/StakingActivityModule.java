@@ -47,6 +47,7 @@ import com.hedera.services.records.RecordsHistorian;
 import com.hedera.services.setup.InfrastructureBundle;
 import com.hedera.services.setup.InfrastructureType;
 import com.hedera.services.state.EntityCreator;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleStakingInfo;
@@ -141,7 +142,8 @@ public interface StakingActivityModule {
             final StakeInfoManager stakeInfoManager,
             final @MockProps AccountNumbers accountNumbers,
             final TransactionContext txnCtx,
-            final AccountUsageTracking usageTracking) {
+            final AccountUsageTracking usageTracking,
+            final EntityExpiryIndex expiryIndex) {
         final var accountsLedger =
                 new TransactionalLedger<>(
                         AccountProperty.class,
@@ -159,7 +161,8 @@ public interface StakingActivityModule {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageTracking);
+                        usageTracking,
+                        expiryIndex);
         accountsLedger.setCommitInterceptor(accountsCommitInterceptor);
         return accountsLedger;
     }
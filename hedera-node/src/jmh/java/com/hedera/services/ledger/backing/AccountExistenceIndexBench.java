@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.ledger.backing;
+
+import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
+
+import com.hedera.services.utils.PagedBitSet;
+import com.hederahashgraph.api.proto.java.AccountID;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@code HashSet<AccountID>} that {@link BackingAccounts} used to keep as its
+ * existence index with the {@link PagedBitSet} it uses now; both for lookup latency and (printed
+ * once per trial) approximate retained heap.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx8g")
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class AccountExistenceIndexBench {
+    // Accounts are every other entity number, as with interleaved token and file creations
+    @Param("1000000")
+    int numAccounts;
+
+    @Param("4096")
+    int lookupsPerInvocation;
+
+    private int i;
+    private AccountID[] lookups;
+    private Set<AccountID> hashSet;
+    private PagedBitSet bitSet;
+
+    @Setup
+    public void setup() {
+        hashSet = measured("HashSet<AccountID>", this::newHashSet);
+        bitSet = measured("PagedBitSet", this::newBitSet);
+
+        final var r = new Random(1_234_567L);
+        lookups = new AccountID[lookupsPerInvocation];
+        for (int j = 0; j < lookupsPerInvocation; j++) {
+            // Half the lookups are for missing accounts
+            lookups[j] = STATIC_PROPERTIES.scopedAccountWith(1L + r.nextInt(2 * numAccounts));
+        }
+    }
+
+    @Benchmark
+    public boolean hashSetContains() {
+        return hashSet.contains(nextLookup());
+    }
+
+    @Benchmark
+    public boolean bitSetContains() {
+        final var id = nextLookup();
+        return id.getShardNum() == STATIC_PROPERTIES.getShard()
+                && id.getRealmNum() == STATIC_PROPERTIES.getRealm()
+                && bitSet.contains(id.getAccountNum());
+    }
+
+    private AccountID nextLookup() {
+        final var id = lookups[i++];
+        if (i == lookupsPerInvocation) {
+            i = 0;
+        }
+        return id;
+    }
+
+    private Set<AccountID> newHashSet() {
+        final Set<AccountID> ids = new HashSet<>();
+        for (long num = 1; num <= 2L * numAccounts; num += 2) {
+            ids.add(STATIC_PROPERTIES.scopedAccountWith(num));
+        }
+        return ids;
+    }
+
+    private PagedBitSet newBitSet() {
+        final var nums = new PagedBitSet();
+        for (long num = 1; num <= 2L * numAccounts; num += 2) {
+            nums.add(num);
+        }
+        return nums;
+    }
+
+    @SuppressWarnings("java:S1215")
+    private <T> T measured(final String desc, final Supplier<T> factory) {
+        final var runtime = Runtime.getRuntime();
+        System.gc();
+        final var before = runtime.totalMemory() - runtime.freeMemory();
+        final var index = factory.get();
+        System.gc();
+        final var after = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf(
+                "%n%s with %d accounts retains ~%d bytes%n", desc, numAccounts, after - before);
+        return index;
+    }
+}
@@ -127,6 +127,15 @@ public class Constructables {
                 new ClassConstructorPair(VirtualNodeCache.class, VirtualNodeCache::new));
     }
 
+    public static void registerForServicesState() {
+        try {
+            ConstructableRegistry.registerConstructables("com.swirlds");
+            ConstructableRegistry.registerConstructables("com.hedera.services");
+        } catch (ConstructableRegistryException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public static void registerForJasperDb() throws ConstructableRegistryException {
         ConstructableRegistry.registerConstructable(
                 new ClassConstructorPair(JasperDbBuilder.class, JasperDbBuilder::new));
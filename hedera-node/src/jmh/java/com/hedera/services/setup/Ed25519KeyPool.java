@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import com.hedera.services.keys.Ed25519Utils;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import java.util.SplittableRandom;
+import net.i2p.crypto.eddsa.EdDSAPrivateKey;
+
+/**
+ * A fixed pool of Ed25519 keys derived from {@link Constructables#SEED}, so that a state saved by
+ * one benchmark run can still be signed for by the next. Entity number {@code n} uses the key at
+ * index {@code n % POOL_SIZE}.
+ */
+public class Ed25519KeyPool {
+    private static final int POOL_SIZE = 1_000;
+    private static final int SEED_LEN = 32;
+
+    private final byte[][] publicKeys = new byte[POOL_SIZE][];
+    private final EdDSAPrivateKey[] privateKeys = new EdDSAPrivateKey[POOL_SIZE];
+
+    public Ed25519KeyPool() {
+        final var r = new SplittableRandom(Constructables.SEED);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            final var seed = new byte[SEED_LEN];
+            r.nextBytes(seed);
+            privateKeys[i] = Ed25519Utils.keyFrom(seed);
+            publicKeys[i] = privateKeys[i].getAbyte();
+        }
+    }
+
+    public JKey keyFor(final long num) {
+        return new JEd25519Key(publicKeyFor(num));
+    }
+
+    public byte[] publicKeyFor(final long num) {
+        return publicKeys[indexOf(num)];
+    }
+
+    public EdDSAPrivateKey privateKeyFor(final long num) {
+        return privateKeys[indexOf(num)];
+    }
+
+    private static int indexOf(final long num) {
+        return (int) (num % POOL_SIZE);
+    }
+}
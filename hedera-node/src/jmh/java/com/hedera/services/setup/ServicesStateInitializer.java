@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
+import static com.hedera.services.setup.ServicesStateLayout.FAR_FUTURE_EXPIRY;
+import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
+import static com.hedera.services.state.virtual.IterableStorageUtils.overwritingUpsertMapping;
+
+import com.google.common.primitives.Longs;
+import com.hedera.services.ServicesState;
+import com.hedera.services.state.enums.TokenSupplyType;
+import com.hedera.services.state.enums.TokenType;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.virtual.ContractKey;
+import com.hedera.services.state.virtual.IterableContractValue;
+import com.hedera.services.state.virtual.VirtualBlobKey;
+import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.services.utils.EntityNumPair;
+import com.swirlds.merkle.map.MerkleMap;
+
+public class ServicesStateInitializer {
+    public static final long INITIAL_USER_BALANCE = 10_000 * 100_000_000L;
+    /**
+     * Runtime bytecode that stores the first 32-byte word of its call data in the slot named by
+     * the second word; that is, {@code SSTORE(CALLDATALOAD(32), CALLDATALOAD(0))}.
+     */
+    public static final byte[] SSTORE_RUNTIME_CODE = {
+        0x60, 0x00, 0x35, 0x60, 0x20, 0x35, 0x55, 0x00
+    };
+
+    private static final long TREASURY_NUM = 2L;
+    private static final long AUTO_RENEW_PERIOD = 7776000L;
+
+    private ServicesStateInitializer() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void initializeState(
+            final ServicesStateLayout layout,
+            final ServicesState state,
+            final Ed25519KeyPool keys) {
+        initUserAccounts(layout, state.accounts(), keys);
+        initUniqueTokens(layout, state, keys);
+        initContracts(layout, state);
+        initTopics(layout, state.topics());
+
+        final var seqNo = state.networkCtx().seqNo();
+        while (seqNo.current() < layout.nextEntityNum()) {
+            seqNo.getAndIncrement();
+        }
+    }
+
+    private static void initUserAccounts(
+            final ServicesStateLayout layout,
+            final MerkleMap<EntityNum, MerkleAccount> accounts,
+            final Ed25519KeyPool keys) {
+        final var userAccounts = layout.userAccounts();
+        final var treasury = accounts.getForModify(EntityNum.fromLong(TREASURY_NUM));
+        treasury.setBalanceUnchecked(treasury.getBalance() - userAccounts * INITIAL_USER_BALANCE);
+
+        final var perCreationPrint = Math.max(1, userAccounts / 10);
+        for (int i = 0; i < userAccounts; i++) {
+            final var num = layout.firstAccountNum() + i;
+            final var account = new MerkleAccount();
+            account.setAccountKey(keys.keyFor(num));
+            account.setBalanceUnchecked(INITIAL_USER_BALANCE);
+            account.setExpiry(FAR_FUTURE_EXPIRY);
+            account.setAutoRenewSecs(AUTO_RENEW_PERIOD);
+            account.setMemo("");
+            accounts.put(EntityNum.fromLong(num), account);
+
+            final var created = i + 1;
+            if (created % perCreationPrint == 0) {
+                System.out.println("  -> " + created + " user accounts now created");
+            }
+        }
+    }
+
+    private static void initUniqueTokens(
+            final ServicesStateLayout layout,
+            final ServicesState state,
+            final Ed25519KeyPool keys) {
+        final var accounts = state.accounts();
+        final var tokens = state.tokens();
+        final var tokenRels = state.tokenAssociations();
+        final var nfts = state.uniqueTokens();
+        final var nftsPerToken = layout.nftsPerToken();
+        final var creationTime = new RichInstant(Constructables.SOME_TIME.getEpochSecond(), 0);
+
+        final var perCreationPrint = Math.max(1, layout.userTokens() / 10);
+        for (int i = 0; i < layout.userTokens(); i++) {
+            final var tokenNum = layout.firstTokenNum() + i;
+            final var treasuryNum = layout.treasuryNumOf(tokenNum);
+            final var token =
+                    new MerkleToken(
+                            FAR_FUTURE_EXPIRY,
+                            nftsPerToken,
+                            0,
+                            "NFT" + i,
+                            "Benchmark NFT " + i,
+                            false,
+                            true,
+                            EntityId.fromNum(treasuryNum));
+            token.setTokenType(TokenType.NON_FUNGIBLE_UNIQUE);
+            token.setSupplyType(TokenSupplyType.INFINITE);
+            token.setSupplyKey(keys.keyFor(treasuryNum));
+            token.setLastUsedSerialNumber(nftsPerToken);
+            token.setMemo("");
+            tokens.put(EntityNum.fromLong(tokenNum), token);
+
+            // Treasury-owned NFTs are not linked into their owner's list of NFTs
+            for (int serialNo = 1; serialNo <= nftsPerToken; serialNo++) {
+                nfts.put(
+                        EntityNumPair.fromLongs(tokenNum, serialNo),
+                        new MerkleUniqueToken(
+                                MISSING_ENTITY_ID, Longs.toByteArray(serialNo), creationTime));
+            }
+            tokenRels.put(
+                    EntityNumPair.fromLongs(treasuryNum, tokenNum),
+                    new MerkleTokenRelStatus(nftsPerToken, false, true, false));
+
+            final var treasury = accounts.getForModify(EntityNum.fromLong(treasuryNum));
+            treasury.setNumTreasuryTitles(1);
+            treasury.setNumAssociations(1);
+            treasury.setNumPositiveBalances(nftsPerToken > 0 ? 1 : 0);
+            treasury.setHeadTokenId(tokenNum);
+            treasury.setNftsOwned(nftsPerToken);
+
+            final var created = i + 1;
+            if (created % perCreationPrint == 0) {
+                System.out.println(
+                        "  -> "
+                                + created
+                                + " unique tokens now created ("
+                                + ((long) created * nftsPerToken)
+                                + " NFTs)");
+            }
+        }
+    }
+
+    private static void initContracts(final ServicesStateLayout layout, final ServicesState state) {
+        final var accounts = state.accounts();
+        final var bytecode = state.storage();
+        final var contractStorage = state.contractStorage();
+        final var kvPairsPerContract = layout.kvPairsPerContract();
+
+        final var perCreationPrint = Math.max(1, layout.userContracts() / 10);
+        for (int i = 0; i < layout.userContracts(); i++) {
+            final var num = layout.firstContractNum() + i;
+            ContractKey firstKey = null;
+            IterableContractValue firstValue = null;
+            for (int j = 0; j < kvPairsPerContract; j++) {
+                final var evmKey = EvmKeyValueSource.uniqueKey(j);
+                final var vmKey = ContractKey.from(num, evmKey);
+                final var vmValue = IterableContractValue.from(evmKey);
+                firstKey =
+                        overwritingUpsertMapping(
+                                vmKey, vmValue, firstKey, firstValue, contractStorage);
+                firstValue = vmValue;
+            }
+
+            final var contract = new MerkleAccount();
+            contract.setSmartContract(true);
+            contract.setAccountKey(STATIC_PROPERTIES.scopedContractKeyWith(num));
+            contract.setExpiry(FAR_FUTURE_EXPIRY);
+            contract.setAutoRenewSecs(AUTO_RENEW_PERIOD);
+            contract.setMemo("");
+            contract.setNumContractKvPairs(kvPairsPerContract);
+            if (firstKey != null) {
+                contract.setFirstUint256StorageKey(firstKey.getKey());
+            }
+            accounts.put(EntityNum.fromLong(num), contract);
+            bytecode.put(
+                    new VirtualBlobKey(VirtualBlobKey.Type.CONTRACT_BYTECODE, (int) num),
+                    new VirtualBlobValue(SSTORE_RUNTIME_CODE));
+
+            final var created = i + 1;
+            if (created % perCreationPrint == 0) {
+                System.out.println(
+                        "  -> "
+                                + created
+                                + " contracts now created ("
+                                + ((long) created * kvPairsPerContract)
+                                + " K/V pairs)");
+            }
+        }
+    }
+
+    private static void initTopics(
+            final ServicesStateLayout layout, final MerkleMap<EntityNum, MerkleTopic> topics) {
+        final var expiry = new RichInstant(FAR_FUTURE_EXPIRY, 0);
+        for (int i = 0; i < layout.userTopics(); i++) {
+            final var num = layout.firstTopicNum() + i;
+            topics.put(
+                    EntityNum.fromLong(num),
+                    new MerkleTopic("", null, null, AUTO_RENEW_PERIOD, null, expiry));
+        }
+        System.out.println("  -> " + layout.userTopics() + " topics now created");
+    }
+}
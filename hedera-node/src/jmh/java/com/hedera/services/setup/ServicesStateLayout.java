@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import java.util.Map;
+
+/**
+ * The user entities a benchmark {@link com.hedera.services.ServicesState} is populated with. They
+ * are numbered contiguously from {@link Constructables#FIRST_USER_I}: first the accounts, then the
+ * non-fungible tokens (the {@code i}-th token's treasury being the {@code i}-th account), then the
+ * contracts, and finally the topics.
+ *
+ * @param userAccounts the number of user accounts
+ * @param userTokens the number of non-fungible unique tokens
+ * @param nftsPerToken the number of NFTs already minted for each token
+ * @param userContracts the number of contracts
+ * @param kvPairsPerContract the number of storage slots used by each contract
+ * @param userTopics the number of consensus topics
+ */
+public record ServicesStateLayout(
+        int userAccounts,
+        int userTokens,
+        int nftsPerToken,
+        int userContracts,
+        int kvPairsPerContract,
+        int userTopics) {
+    // Midnight of Jan 1, 2200
+    public static final long FAR_FUTURE_EXPIRY = 7258118400L;
+
+    public ServicesStateLayout {
+        if (userTokens > userAccounts) {
+            throw new IllegalArgumentException(
+                    "Cannot give " + userTokens + " tokens distinct treasuries");
+        }
+    }
+
+    public long firstAccountNum() {
+        return Constructables.FIRST_USER_I;
+    }
+
+    public long firstTokenNum() {
+        return firstAccountNum() + userAccounts;
+    }
+
+    public long firstContractNum() {
+        return firstTokenNum() + userTokens;
+    }
+
+    public long firstTopicNum() {
+        return firstContractNum() + userContracts;
+    }
+
+    public long nextEntityNum() {
+        return firstTopicNum() + userTopics;
+    }
+
+    public long treasuryNumOf(final long tokenNum) {
+        return firstAccountNum() + (tokenNum - firstTokenNum());
+    }
+
+    public Map<String, Object> asConfig() {
+        return Map.of(
+                "userAccounts", userAccounts,
+                "userTokens", userTokens,
+                "nftsPerToken", nftsPerToken,
+                "userContracts", userContracts,
+                "kvPairsPerContract", kvPairsPerContract,
+                "userTopics", userTopics);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import static com.hedera.services.context.AppsManager.APPS;
+import static com.hedera.services.context.properties.SemanticVersions.SEMANTIC_VERSIONS;
+import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
+import static com.hedera.services.setup.InfrastructureManager.CRYPTO;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.primitives.Ints;
+import com.hedera.services.DaggerServicesApp;
+import com.hedera.services.ServicesApp;
+import com.hedera.services.ServicesState;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.ChainedSources;
+import com.hedera.services.context.properties.SupplierMapPropertySource;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.SerializablePublicKey;
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.system.InitTrigger;
+import com.swirlds.common.system.NodeId;
+import com.swirlds.common.system.Platform;
+import com.swirlds.common.system.address.Address;
+import com.swirlds.common.system.address.AddressBook;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.commons.io.FileUtils;
+import org.mockito.Mockito;
+
+/**
+ * Creates a {@link ServicesState} populated per a {@link ServicesStateLayout}, saves it to disk,
+ * and loads it back with a live {@link ServicesApp} for benchmarks that drive the full handle
+ * pipeline. Since populating millions of entities takes a while, a saved state is reused by every
+ * later run with the same layout.
+ */
+public class ServicesStateManager {
+    public static final long SELF_ID = 0L;
+
+    private static final String BASE_STORAGE_DIR = "databases";
+    private static final String STATE_FILE_NAME = "services.state";
+    private static final String SELF_ACCOUNT_MEMO = "0.0.3";
+
+    private ServicesStateManager() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Loads the saved state with the given layout (first creating and saving it, if necessary) and
+     * initializes it with an app whose bootstrap properties include the given overrides. All user
+     * accounts are made throttle-exempt, so that the throttles do not bound what is measured.
+     *
+     * @param layout the entities the state should contain
+     * @param propertyOverrides bootstrap properties to override, with values of their parsed types
+     * @return the initialized, mutable state
+     */
+    public static ServicesState loadOrCreateState(
+            final ServicesStateLayout layout, final Map<String, Object> propertyOverrides) {
+        Constructables.registerForServicesState();
+        final var dir = stateDirFor(layout);
+        ensure(dir);
+        final var platform = newPlatform();
+        if (new File(stateLocWithin(dir)).exists()) {
+            System.out.println("\n- Found saved state in " + dir + ", loading...");
+        } else {
+            System.out.println("\n- No saved state at " + dir + ", creating now...");
+            createAndSave(layout, dir, platform, propertyOverrides);
+        }
+        final var state = load(dir, platform, propertyOverrides);
+        STATIC_PROPERTIES.configureNumbers(
+                new HederaNumbers(new BootstrapProperties()), Long.MAX_VALUE);
+        System.out.println("- done.");
+        return state;
+    }
+
+    public static ServicesApp currentApp() {
+        return APPS.get(SELF_ID);
+    }
+
+    /**
+     * Emulates the platform's handling of a round boundary: the given state becomes immutable and
+     * is hashed and released, while handling continues in its returned copy.
+     *
+     * @param state the state of the round that just ended
+     * @return the state for the next round
+     */
+    public static ServicesState newRound(final ServicesState state) {
+        final var next = state.copy();
+        CRYPTO.digestTreeSync(state);
+        state.release();
+        return next;
+    }
+
+    private static void createAndSave(
+            final ServicesStateLayout layout,
+            final String dir,
+            final Platform platform,
+            final Map<String, Object> propertyOverrides) {
+        try {
+            FileUtils.cleanDirectory(new File(dir));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        installApp(platform, propertyOverrides, ServicesState.EMPTY_HASH);
+        final var genesis = new ServicesState();
+        genesis.init(platform, newAddressBook(), null, InitTrigger.GENESIS, null);
+
+        System.out.println("\n- And initializing state at " + dir + "...");
+        ServicesStateInitializer.initializeState(layout, genesis, new Ed25519KeyPool());
+
+        System.out.println("  -> Serializing state");
+        final var mutable = genesis.copy();
+        CRYPTO.digestTreeSync(genesis);
+        try (final var fout =
+                new MerkleDataOutputStream(Files.newOutputStream(Paths.get(stateLocWithin(dir))))) {
+            fout.writeProtocolVersion();
+            fout.writeMerkleTree(Paths.get(dir), genesis);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        genesis.release();
+        mutable.release();
+    }
+
+    private static ServicesState load(
+            final String dir,
+            final Platform platform,
+            final Map<String, Object> propertyOverrides) {
+        final ServicesState state;
+        try (final var fin =
+                new MerkleDataInputStream(Files.newInputStream(Paths.get(stateLocWithin(dir))))) {
+            fin.readProtocolVersion();
+            state = fin.readMerkleTree(Paths.get(dir), Integer.MAX_VALUE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final var initialHash = state.runningHashLeaf().getRunningHash().getHash();
+        installApp(platform, propertyOverrides, initialHash);
+        state.init(
+                platform,
+                newAddressBook(),
+                null,
+                InitTrigger.RESTART,
+                SEMANTIC_VERSIONS.deployedSoftwareVersion());
+        return state;
+    }
+
+    private static void installApp(
+            final Platform platform, final Map<String, Object> propertyOverrides, final Hash hash) {
+        final Map<String, Supplier<Object>> overrides = new HashMap<>();
+        propertyOverrides.forEach((name, value) -> overrides.put(name, () -> value));
+        final var app =
+                DaggerServicesApp.builder()
+                        .staticAccountMemo(SELF_ACCOUNT_MEMO)
+                        .bootstrapProps(
+                                new ChainedSources(
+                                        new SupplierMapPropertySource(overrides),
+                                        new BootstrapProperties()))
+                        .initialHash(hash)
+                        .platform(platform)
+                        .crypto(CryptoFactory.getInstance())
+                        .selfId(SELF_ID)
+                        .build();
+        APPS.clear(SELF_ID);
+        APPS.save(SELF_ID, app);
+    }
+
+    private static Platform newPlatform() {
+        final var platform = mock(Platform.class, Mockito.withSettings().stubOnly());
+        given(platform.getSelfId()).willReturn(new NodeId(false, SELF_ID));
+        given(platform.getCryptography()).willReturn(CRYPTO);
+        return platform;
+    }
+
+    private static AddressBook newAddressBook() {
+        final KeyPairGenerator generator;
+        try {
+            generator = KeyPairGenerator.getInstance("RSA");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final var publicKey = new SerializablePublicKey(generator.generateKeyPair().getPublic());
+        final var address =
+                new Address(
+                        SELF_ID,
+                        "",
+                        "",
+                        1L,
+                        false,
+                        null,
+                        -1,
+                        Ints.toByteArray(123456789),
+                        -1,
+                        null,
+                        -1,
+                        null,
+                        -1,
+                        publicKey,
+                        null,
+                        publicKey,
+                        SELF_ACCOUNT_MEMO);
+        return new AddressBook(List.of(address));
+    }
+
+    private static String stateLocWithin(final String dir) {
+        return dir + File.separator + STATE_FILE_NAME;
+    }
+
+    private static String stateDirFor(final ServicesStateLayout layout) {
+        final var config = layout.asConfig();
+        final var sb = new StringBuilder("state");
+        config.keySet().stream()
+                .sorted()
+                .forEach(key -> sb.append("_").append(key).append(config.get(key)));
+        return BASE_STORAGE_DIR + File.separator + sb;
+    }
+
+    private static void ensure(final String loc) {
+        final var f = new File(loc);
+        if (!f.exists()) {
+            if (!f.mkdirs()) {
+                throw new IllegalStateException(
+                        "Failed to create directory " + f.getAbsolutePath());
+            }
+        } else if (!f.isDirectory()) {
+            throw new IllegalStateException(f.getAbsolutePath() + " is not a directory");
+        }
+    }
+}
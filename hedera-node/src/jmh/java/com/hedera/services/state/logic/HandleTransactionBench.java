@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.logic;
+
+import static com.hedera.services.setup.ServicesStateManager.SELF_ID;
+import static com.hedera.services.setup.ServicesStateManager.currentApp;
+import static com.hedera.services.setup.ServicesStateManager.loadOrCreateState;
+import static com.hedera.services.utils.Units.MIN_TRANS_TIMESTAMP_INCR_NANOS;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.properties.PropertyNames;
+import com.hedera.services.setup.Ed25519KeyPool;
+import com.hedera.services.setup.ServicesStateLayout;
+import com.hedera.services.setup.ServicesStateManager;
+import com.hedera.services.sigs.EventExpansion;
+import com.hedera.services.txns.ProcessLogic;
+import com.swirlds.common.system.events.Event;
+import com.swirlds.common.system.transaction.Transaction;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays a configurable {@link TxnMix} through the full {@link
+ * StandardProcessLogic#incorporateConsensusTxn} pipeline of a {@link ServicesState} loaded from
+ * disk, one round of {@link #TXNS_PER_ROUND} transactions per invocation; so the reported score is
+ * handled transactions per second for each mix.
+ *
+ * <p>Run with the GC profiler to also get the allocation rate per mix, e.g. {@code java -jar
+ * hedera-node/build/libs/hedera-node-*-jmh.jar HandleTransactionBench -prof gc}; the {@code
+ * gc.alloc.rate.norm} line is then the bytes allocated per handled transaction.
+ *
+ * <p>Everything the platform would do off the handle thread is done in the per-invocation setup,
+ * and hence is not measured: signing the transactions, hashing the state of the previous round,
+ * and (if {@code preHandle} is set) the {@link EventExpansion} that starts signature verification.
+ * User accounts are throttle-exempt and the record stream is not written to disk.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 30)
+@Measurement(iterations = 3, time = 30)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HandleTransactionBench {
+    private static final int TXNS_PER_ROUND = 1_000;
+
+    @Param({
+        "CryptoTransfer:100",
+        "TokenMint:100",
+        "ContractCall:100",
+        "ConsensusSubmitMessage:100",
+        "CryptoTransfer:70/TokenMint:10/ContractCall:10/ConsensusSubmitMessage:10"
+    })
+    String mix;
+
+    @Param("1000000")
+    int userAccounts;
+
+    @Param("10000")
+    int userTokens;
+
+    @Param("100")
+    int nftsPerToken;
+
+    @Param("1000")
+    int userContracts;
+
+    @Param("1000")
+    int kvPairsPerContract;
+
+    @Param("1000")
+    int userTopics;
+
+    @Param("10000")
+    int consensusTps;
+
+    @Param("true")
+    boolean preHandle;
+
+    private long rounds;
+    private long nanosPerTxn;
+    private Instant consensusNow;
+    private Event event;
+    private ProcessLogic processLogic;
+    private EventExpansion eventExpansion;
+    private ServicesState state;
+    private ServicesStateLayout layout;
+    private SignedTxnFactory txnFactory;
+    private final Instant[] consensusTimes = new Instant[TXNS_PER_ROUND];
+    private final SwirldTransaction[] platformTxns = new SwirldTransaction[TXNS_PER_ROUND];
+
+    // --- Fixtures ---
+    @Setup(Level.Trial)
+    public void setupState() {
+        layout =
+                new ServicesStateLayout(
+                        userAccounts,
+                        userTokens,
+                        nftsPerToken,
+                        userContracts,
+                        kvPairsPerContract,
+                        userTopics);
+        state = loadOrCreateState(layout, propertyOverrides());
+        final var app = currentApp();
+        processLogic = app.logic();
+        eventExpansion = app.eventExpansion();
+        txnFactory = new SignedTxnFactory(TxnMix.parse(mix), new Ed25519KeyPool(), layout);
+
+        nanosPerTxn = Math.max(MIN_TRANS_TIMESTAMP_INCR_NANOS, 1_000_000_000L / consensusTps);
+        consensusNow = Instant.now();
+        final var lastHandled = state.networkCtx().consensusTimeOfLastHandledTxn();
+        if (lastHandled != null && !consensusNow.isAfter(lastHandled)) {
+            consensusNow = lastHandled.plusSeconds(1);
+        }
+        event = eventWithPlatformTxns();
+        rounds = 0;
+    }
+
+    @Setup(Level.Invocation)
+    public void simulateRoundBoundary() {
+        if (rounds > 0) {
+            state = ServicesStateManager.newRound(state);
+        }
+        for (int i = 0; i < TXNS_PER_ROUND; i++) {
+            consensusNow = consensusNow.plusNanos(nanosPerTxn);
+            consensusTimes[i] = consensusNow;
+            final var validStart = consensusNow.minusSeconds(1);
+            platformTxns[i] = new SwirldTransaction(txnFactory.nextTxnBytes(validStart));
+        }
+        if (preHandle) {
+            eventExpansion.expandAllSigs(event, state);
+        }
+        rounds++;
+    }
+
+    @TearDown(Level.Trial)
+    public void reportEffects() {
+        var nftsMinted = 0L;
+        for (final var token : state.tokens().values()) {
+            nftsMinted += Math.max(0, token.getLastUsedSerialNumber() - nftsPerToken);
+        }
+        var messagesSubmitted = 0L;
+        for (final var topic : state.topics().values()) {
+            messagesSubmitted += topic.getSequenceNumber();
+        }
+        System.out.println(
+                "\n- Handled "
+                        + rounds
+                        + " rounds, minting "
+                        + nftsMinted
+                        + "/"
+                        + txnFactory.numCreated(TokenMint)
+                        + " NFTs and submitting "
+                        + messagesSubmitted
+                        + "/"
+                        + txnFactory.numCreated(ConsensusSubmitMessage)
+                        + " messages");
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    @OperationsPerInvocation(TXNS_PER_ROUND)
+    public void handleRound() {
+        for (int i = 0; i < TXNS_PER_ROUND; i++) {
+            processLogic.incorporateConsensusTxn(platformTxns[i], consensusTimes[i], SELF_ID);
+        }
+    }
+
+    // --- Helpers ---
+    @SuppressWarnings("unchecked")
+    private Event eventWithPlatformTxns() {
+        final var platformEvent = mock(Event.class, Mockito.withSettings().stubOnly());
+        given(platformEvent.getCreatorId()).willReturn(SELF_ID);
+        doAnswer(
+                        invocation -> {
+                            final var consumer = (Consumer<Transaction>) invocation.getArgument(0);
+                            for (final var platformTxn : platformTxns) {
+                                consumer.accept(platformTxn);
+                            }
+                            return null;
+                        })
+                .when(platformEvent)
+                .forEachTransaction(any());
+        return platformEvent;
+    }
+
+    private Map<String, Object> propertyOverrides() {
+        return Map.of(PropertyNames.HEDERA_RECORD_STREAM_IS_ENABLED, false);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.logic;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.legacy.proto.utils.SignatureGenerator;
+import com.hedera.services.setup.Constructables;
+import com.hedera.services.setup.Ed25519KeyPool;
+import com.hedera.services.setup.EvmKeyValueSource;
+import com.hedera.services.setup.ServicesStateLayout;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractCallTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenMintTransactionBody;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Creates signed, serialized HAPI transactions of the types in a {@link TxnMix}, each acting on
+ * entities chosen uniformly at random from a {@link ServicesStateLayout}. Every transaction is
+ * paid for and signed by a user account; a {@code TokenMint} is paid for by the token's treasury,
+ * whose key is also the token's supply key.
+ */
+public class SignedTxnFactory {
+    private static final long MAX_TXN_FEE = 100 * 100_000_000L;
+    private static final long CONTRACT_CALL_GAS = 100_000L;
+    private static final int NFT_METADATA_BYTES = 32;
+    private static final int SUBMITTED_MESSAGE_BYTES = 100;
+    private static final AccountID NODE_ACCOUNT_ID = accountIdWith(3L);
+    private static final Duration VALID_DURATION = Duration.newBuilder().setSeconds(120).build();
+
+    private final TxnMix mix;
+    private final Ed25519KeyPool keys;
+    private final ServicesStateLayout layout;
+    private final SplittableRandom r = new SplittableRandom(Constructables.SEED);
+    private final Map<HederaFunctionality, Long> numCreated =
+            new EnumMap<>(HederaFunctionality.class);
+
+    public SignedTxnFactory(
+            final TxnMix mix, final Ed25519KeyPool keys, final ServicesStateLayout layout) {
+        assertLayoutSupports(mix, layout);
+        this.mix = mix;
+        this.keys = keys;
+        this.layout = layout;
+    }
+
+    /**
+     * Returns the serialized form of a new signed transaction from the mix.
+     *
+     * @param validStart the valid start time of the new transaction's id
+     * @return the bytes of the new {@link Transaction}
+     */
+    public byte[] nextTxnBytes(final Instant validStart) {
+        final var body = TransactionBody.newBuilder();
+        final long payerNum;
+        final var function = mix.next(r);
+        numCreated.merge(function, 1L, Long::sum);
+        switch (function) {
+            case CryptoTransfer -> {
+                payerNum = randomNum(layout.firstAccountNum(), layout.userAccounts());
+                final var receiverNum = otherAccountNum(payerNum);
+                body.setCryptoTransfer(
+                        CryptoTransferTransactionBody.newBuilder()
+                                .setTransfers(
+                                        TransferList.newBuilder()
+                                                .addAccountAmounts(adjust(payerNum, -1))
+                                                .addAccountAmounts(adjust(receiverNum, +1))));
+            }
+            case TokenMint -> {
+                final var tokenNum = randomNum(layout.firstTokenNum(), layout.userTokens());
+                payerNum = layout.treasuryNumOf(tokenNum);
+                body.setTokenMint(
+                        TokenMintTransactionBody.newBuilder()
+                                .setToken(TokenID.newBuilder().setTokenNum(tokenNum))
+                                .addMetadata(randomBytes(NFT_METADATA_BYTES)));
+            }
+            case ContractCall -> {
+                payerNum = randomNum(layout.firstAccountNum(), layout.userAccounts());
+                final var contractNum =
+                        randomNum(layout.firstContractNum(), layout.userContracts());
+                body.setContractCall(
+                        ContractCallTransactionBody.newBuilder()
+                                .setContractID(ContractID.newBuilder().setContractNum(contractNum))
+                                .setGas(CONTRACT_CALL_GAS)
+                                .setFunctionParameters(randomSstoreParams()));
+            }
+            case ConsensusSubmitMessage -> {
+                payerNum = randomNum(layout.firstAccountNum(), layout.userAccounts());
+                final var topicNum = randomNum(layout.firstTopicNum(), layout.userTopics());
+                body.setConsensusSubmitMessage(
+                        ConsensusSubmitMessageTransactionBody.newBuilder()
+                                .setTopicID(TopicID.newBuilder().setTopicNum(topicNum))
+                                .setMessage(randomBytes(SUBMITTED_MESSAGE_BYTES)));
+            }
+            default -> throw new IllegalStateException("Mix includes an unsupported function");
+        }
+        final var txnId =
+                TransactionID.newBuilder()
+                        .setAccountID(accountIdWith(payerNum))
+                        .setTransactionValidStart(
+                                Timestamp.newBuilder()
+                                        .setSeconds(validStart.getEpochSecond())
+                                        .setNanos(validStart.getNano()));
+        body.setTransactionID(txnId)
+                .setNodeAccountID(NODE_ACCOUNT_ID)
+                .setTransactionFee(MAX_TXN_FEE)
+                .setTransactionValidDuration(VALID_DURATION);
+        return signedByPayer(body.build().toByteString(), payerNum).toByteArray();
+    }
+
+    public long numCreated(final HederaFunctionality function) {
+        return numCreated.getOrDefault(function, 0L);
+    }
+
+    private Transaction signedByPayer(final ByteString bodyBytes, final long payerNum) {
+        final var privateKey = keys.privateKeyFor(payerNum);
+        final byte[] sig;
+        try {
+            sig = SignatureGenerator.signBytes(bodyBytes.toByteArray(), privateKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        final var sigMap =
+                SignatureMap.newBuilder()
+                        .addSigPair(
+                                SignaturePair.newBuilder()
+                                        .setPubKeyPrefix(
+                                                ByteString.copyFrom(keys.publicKeyFor(payerNum)))
+                                        .setEd25519(ByteString.copyFrom(sig)));
+        final var signedTxn =
+                SignedTransaction.newBuilder().setBodyBytes(bodyBytes).setSigMap(sigMap).build();
+        return Transaction.newBuilder().setSignedTransactionBytes(signedTxn.toByteString()).build();
+    }
+
+    private ByteString randomSstoreParams() {
+        final var params = new byte[64];
+        r.nextBytes(params);
+        // Never store zero, so no call removes a slot
+        params[31] |= 1;
+        final var slot = EvmKeyValueSource.uniqueKey(r.nextInt(layout.kvPairsPerContract()));
+        System.arraycopy(slot.toArrayUnsafe(), 0, params, 32, 32);
+        return ByteString.copyFrom(params);
+    }
+
+    private long otherAccountNum(final long num) {
+        final var offset = 1 + r.nextInt(layout.userAccounts() - 1);
+        return layout.firstAccountNum()
+                + (num - layout.firstAccountNum() + offset) % layout.userAccounts();
+    }
+
+    private long randomNum(final long firstNum, final int count) {
+        return firstNum + r.nextInt(count);
+    }
+
+    private ByteString randomBytes(final int n) {
+        final var bytes = new byte[n];
+        r.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+
+    private static AccountAmount adjust(final long num, final long amount) {
+        return AccountAmount.newBuilder()
+                .setAccountID(accountIdWith(num))
+                .setAmount(amount)
+                .build();
+    }
+
+    private static AccountID accountIdWith(final long num) {
+        return AccountID.newBuilder().setAccountNum(num).build();
+    }
+
+    private static void assertLayoutSupports(final TxnMix mix, final ServicesStateLayout layout) {
+        if (layout.userAccounts() < 2) {
+            throw new IllegalArgumentException("At least two user accounts are needed");
+        }
+        if (mix.includes(TokenMint) && layout.userTokens() == 0) {
+            throw new IllegalArgumentException("Cannot mint without any unique tokens");
+        }
+        if (mix.includes(ContractCall)
+                && (layout.userContracts() == 0 || layout.kvPairsPerContract() == 0)) {
+            throw new IllegalArgumentException("Cannot call without any contract storage");
+        }
+        if (mix.includes(ConsensusSubmitMessage) && layout.userTopics() == 0) {
+            throw new IllegalArgumentException("Cannot submit messages without any topics");
+        }
+    }
+}
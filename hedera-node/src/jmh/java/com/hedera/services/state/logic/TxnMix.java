@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.logic;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * A weighted mix of transaction types, parsed from a spec like {@code
+ * "CryptoTransfer:70/TokenMint:10/ContractCall:10/ConsensusSubmitMessage:10"}. (Entries are
+ * separated by {@code /} because JMH splits command line {@code -p} values on commas.)
+ */
+public class TxnMix {
+    private static final Set<HederaFunctionality> SUPPORTED_FUNCTIONS =
+            EnumSet.of(CryptoTransfer, TokenMint, ContractCall, ConsensusSubmitMessage);
+
+    private final int totalWeight;
+    private final int[] cumulativeWeights;
+    private final HederaFunctionality[] functions;
+
+    private TxnMix(final HederaFunctionality[] functions, final int[] cumulativeWeights) {
+        this.functions = functions;
+        this.cumulativeWeights = cumulativeWeights;
+        this.totalWeight = cumulativeWeights[cumulativeWeights.length - 1];
+    }
+
+    public static TxnMix parse(final String spec) {
+        final var entries = spec.split("/");
+        final var functions = new HederaFunctionality[entries.length];
+        final var cumulativeWeights = new int[entries.length];
+        var totalWeight = 0;
+        for (int i = 0; i < entries.length; i++) {
+            final var parts = entries[i].split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed mix entry '" + entries[i] + "'");
+            }
+            functions[i] = HederaFunctionality.valueOf(parts[0].trim());
+            if (!SUPPORTED_FUNCTIONS.contains(functions[i])) {
+                throw new IllegalArgumentException("No benchmark support for " + functions[i]);
+            }
+            final var weight = Integer.parseInt(parts[1].trim());
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Non-positive weight in '" + entries[i] + "'");
+            }
+            totalWeight += weight;
+            cumulativeWeights[i] = totalWeight;
+        }
+        return new TxnMix(functions, cumulativeWeights);
+    }
+
+    public HederaFunctionality next(final SplittableRandom r) {
+        final var choice = r.nextInt(totalWeight);
+        var i = 0;
+        while (cumulativeWeights[i] <= choice) {
+            i++;
+        }
+        return functions[i];
+    }
+
+    public boolean includes(final HederaFunctionality function) {
+        for (final var included : functions) {
+            if (included == function) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
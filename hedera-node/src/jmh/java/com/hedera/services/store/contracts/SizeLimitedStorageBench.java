@@ -45,6 +45,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 
 @State(Scope.Benchmark)
 @Fork(1)
@@ -75,6 +76,10 @@ public class SizeLimitedStorageBench {
     @Param("0.25")
     double removalProb;
 
+    // Config for read load profile
+    @Param("4")
+    int sloadsPerSlot;
+
     private int batchI;
     private KvMutationBatch mutationBatch;
     private InfrastructureBundle bundle;
@@ -90,6 +95,8 @@ public class SizeLimitedStorageBench {
                 new SizeLimitedStorage(
                         new NoopStorageFeeCharging(),
                         new MockStorageLimits(),
+                        IterableStorageUtils::batchUpsertMappings,
+                        IterableStorageUtils::batchRemoveMappings,
                         IterableStorageUtils::overwritingUpsertMapping,
                         IterableStorageUtils::removeMapping,
                         bundle.getterFor(ACCOUNTS_MM),
@@ -132,6 +139,20 @@ public class SizeLimitedStorageBench {
         ledger.commit();
     }
 
+    @Benchmark
+    public void simulateSloadHeavyContractTransaction(final Blackhole blackhole) {
+        subject.beginSession();
+        for (int j = 0;
+                j < mutationsPerInvocation;
+                j++, batchI = (batchI + 1) % uniqueMutationsPerIteration) {
+            final var contractId = mutationBatch.contracts()[batchI];
+            final var key = mutationBatch.keys()[batchI];
+            for (int k = 0; k < sloadsPerSlot; k++) {
+                blackhole.consume(subject.getStorage(contractId, key));
+            }
+        }
+    }
+
     // --- Helpers ---
     private void registerConstructables() {
         try {
@@ -21,40 +21,78 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import org.mockito.Mockito;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Compares one-object-per-wakeup handoff ({@code batchSize=1}, the previous behavior) with batched
+ * draining, both for a single round-trip and for a burst of {@link #BURST_SIZE} records pushed
+ * through the handoff as fast as the producer can go.
+ */
 @State(Scope.Benchmark)
 @Fork(1)
 @Warmup(iterations = 1, time = 10)
 @Measurement(iterations = 10, time = 30)
 public class NonBlockingHandoffBench {
+    private static final int BURST_SIZE = 2_000_000;
+
+    @Param({"1", "256"})
+    int batchSize;
+
+    @Param({"true", "false"})
+    boolean blockWhenFull;
 
     private NonBlockingHandoff nonBlockingHandoff;
     private NodeLocalProperties nodeLocalProperties;
     private RecordStreamManager recordStreamManager;
     private BlockingQueue<RecordStreamObject> receivingQueue;
+    private final AtomicLong numReceived = new AtomicLong();
+    private final RecordStreamObject burstRso = new RecordStreamObject();
 
     @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
     public void setupInfrastructure() {
         receivingQueue = new LinkedBlockingQueue<>();
         nodeLocalProperties = mock(NodeLocalProperties.class, Mockito.withSettings().stubOnly());
         recordStreamManager = mock(RecordStreamManager.class, Mockito.withSettings().stubOnly());
         when(nodeLocalProperties.recordStreamQueueCapacity()).thenReturn(5000);
-        doAnswer(val -> receivingQueue.add(val.getArgument(0, RecordStreamObject.class)))
+        when(nodeLocalProperties.recordStreamHandoffBatchSize()).thenReturn(batchSize);
+        when(nodeLocalProperties.recordStreamHandoffBlockWhenFull()).thenReturn(blockWhenFull);
+        doAnswer(
+                        invocation -> {
+                            final List<RecordStreamObject> batch = invocation.getArgument(0);
+                            if (batch.get(0) != burstRso) {
+                                receivingQueue.addAll(batch);
+                            }
+                            numReceived.addAndGet(batch.size());
+                            return null;
+                        })
                 .when(recordStreamManager)
-                .addRecordStreamObject(any());
-        nonBlockingHandoff = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+                .addRecordStreamObjects(any(List.class));
+        nonBlockingHandoff =
+                new NonBlockingHandoff(
+                        recordStreamManager,
+                        nodeLocalProperties,
+                        mock(MiscRunningAvgs.class, Mockito.withSettings().stubOnly()),
+                        mock(MiscSpeedometers.class, Mockito.withSettings().stubOnly()));
     }
 
     @TearDown(Level.Trial)
@@ -64,7 +102,20 @@ public class NonBlockingHandoffBench {
 
     @Benchmark
     public void simpleProcessing() throws InterruptedException {
-        nonBlockingHandoff.offer(new RecordStreamObject());
+        nonBlockingHandoff.put(new RecordStreamObject());
         receivingQueue.take();
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OperationsPerInvocation(BURST_SIZE)
+    public void burstProcessing() {
+        final var target = numReceived.get() + BURST_SIZE;
+        for (int i = 0; i < BURST_SIZE; i++) {
+            nonBlockingHandoff.put(burstRso);
+        }
+        while (numReceived.get() < target) {
+            Thread.onSpinWait();
+        }
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.schedule;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.virtual.schedule.ScheduleSecondVirtualValue;
+import com.hedera.services.state.virtual.schedule.ScheduleVirtualValue;
+import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.throttles.DeterministicThrottle;
+import com.hedera.services.throttling.TimedFunctionalityThrottling;
+import com.hedera.services.utils.accessors.TxnAccessor;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.ScheduleID;
+import java.util.List;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates a burst of {@link #BURST_SIZE} schedules that all expire in the same second, which
+ * already holds {@code numExisting} schedules; so the cost of each {@link
+ * ScheduleProcessing#checkFutureThrottlesForCreate(ScheduleID, ScheduleVirtualValue)} can be
+ * compared as the second fills up.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class ScheduleFutureThrottlesBench {
+    private static final int BURST_SIZE = 1_000;
+    private static final long SECOND = 1_234_567L;
+    private static final RichInstant EXPIRY = new RichInstant(SECOND, 0);
+
+    @Param({"0", "1000", "5000"})
+    int numExisting;
+
+    private long nextNum;
+    private ScheduleProcessing subject;
+    private ScheduleVirtualValue schedule;
+    private ScheduleSecondVirtualValue bySecond;
+
+    @Setup(Level.Trial)
+    public void setupProcessing() throws InvalidProtocolBufferException {
+        final var throttle = DeterministicThrottle.withTps(1_000_000);
+        final var throttles = List.of(throttle);
+        final var throttling =
+                mock(TimedFunctionalityThrottling.class, Mockito.withSettings().stubOnly());
+        when(throttling.allActiveThrottles()).thenReturn(throttles);
+        when(throttling.shouldThrottleTxn(any(), any()))
+                .thenAnswer(invocation -> !throttle.allow(1, invocation.getArgument(1)));
+        Mockito.doAnswer(
+                        invocation -> {
+                            throttle.resetUsage();
+                            return null;
+                        })
+                .when(throttling)
+                .resetUsage();
+
+        final var dynamicProperties =
+                mock(GlobalDynamicProperties.class, Mockito.withSettings().stubOnly());
+        when(dynamicProperties.schedulingLongTermEnabled()).thenReturn(true);
+
+        schedule = mock(ScheduleVirtualValue.class, Mockito.withSettings().stubOnly());
+        when(schedule.calculatedExpirationTime()).thenReturn(EXPIRY);
+        final var accessor = mock(TxnAccessor.class, Mockito.withSettings().stubOnly());
+        when(accessor.getFunction()).thenReturn(HederaFunctionality.ConsensusSubmitMessage);
+        final var executor = mock(ScheduleExecutor.class, Mockito.withSettings().stubOnly());
+        when(executor.getTxnAccessor(any(), any(), anyBoolean())).thenReturn(accessor);
+
+        final var store = mock(ScheduleStore.class, Mockito.withSettings().stubOnly());
+        when(store.getNoError(any())).thenReturn(schedule);
+        when(store.getBySecond(anyLong())).thenAnswer(invocation -> bySecond);
+
+        subject =
+                new ScheduleProcessing(
+                        null,
+                        store,
+                        executor,
+                        dynamicProperties,
+                        mock(ScheduleSigsVerifier.class),
+                        throttling,
+                        null);
+    }
+
+    @Setup(Level.Invocation)
+    public void fillSecond() {
+        bySecond = new ScheduleSecondVirtualValue();
+        nextNum = 1_001L;
+        final var existing = new LongArrayList(numExisting);
+        for (int i = 0; i < numExisting; i++) {
+            existing.add(nextNum++);
+        }
+        bySecond.add(EXPIRY, existing);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST_SIZE)
+    public void createBurstInOneSecond() {
+        for (int i = 0; i < BURST_SIZE; i++) {
+            final var num = nextNum++;
+            final var id = ScheduleID.newBuilder().setScheduleNum(num).build();
+            subject.checkFutureThrottlesForCreate(id, schedule);
+            bySecond.add(EXPIRY, LongArrayList.newListWith(num));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.span;
+
+import static com.hedera.services.grpc.marshalling.ImpliedTransfers.NO_CUSTOM_FEES;
+import static com.hedera.services.grpc.marshalling.ImpliedTransfers.NO_CUSTOM_FEE_META;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hedera.services.grpc.marshalling.ImpliedTransfers;
+import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
+import com.hedera.services.grpc.marshalling.ImpliedTransfersMeta;
+import com.hedera.services.mocks.MockDynamicProperties;
+import com.hedera.services.utils.accessors.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import java.util.Collections;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-transaction cost of the span map as a {@code CryptoTransfer} moves through
+ * {@link SpanMapManager#expandSpan(com.hedera.services.utils.accessors.TxnAccessor)} (which
+ * includes creating the accessor and its span) and {@link
+ * SpanMapManager#rationalizeSpan(com.hedera.services.utils.accessors.TxnAccessor)} (which reads
+ * back the expanded {@link ImpliedTransfers} and confirms they are still valid).
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class SpanMapManagerBench {
+    private static final int NUM_ACCESSORS = 10_000;
+
+    private SpanMapManager subject;
+    private Transaction[] txns;
+    private SignedTxnAccessor[] expandedAccessors;
+
+    @Setup(Level.Trial)
+    public void setupManager() {
+        final var dynamicProperties = MockDynamicProperties.mockPropertiesWith(0, 0);
+        // Matches the (default) values of the mock properties, so rationalization is a no-op
+        final var validationProps =
+                new ImpliedTransfersMeta.ValidationProps(0, 0, 0, 0, 0, false, false, false);
+        final var impliedTransfers =
+                ImpliedTransfers.valid(
+                        validationProps,
+                        Collections.emptyList(),
+                        NO_CUSTOM_FEE_META,
+                        NO_CUSTOM_FEES);
+        final var impliedTransfersMarshal =
+                mock(ImpliedTransfersMarshal.class, Mockito.withSettings().stubOnly());
+        when(impliedTransfersMarshal.unmarshalFromGrpc(any(), any())).thenReturn(impliedTransfers);
+        subject =
+                new SpanMapManager(
+                        null,
+                        null,
+                        new ExpandHandleSpanMapAccessor(),
+                        impliedTransfersMarshal,
+                        dynamicProperties,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null);
+
+        txns = new Transaction[NUM_ACCESSORS];
+        expandedAccessors = new SignedTxnAccessor[NUM_ACCESSORS];
+        for (int i = 0; i < NUM_ACCESSORS; i++) {
+            txns[i] = cryptoTransferWith(1001 + i, 2001 + i);
+            expandedAccessors[i] = SignedTxnAccessor.uncheckedFrom(txns[i]);
+            subject.expandSpan(expandedAccessors[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ACCESSORS)
+    public void expandSpan(final Blackhole blackhole) {
+        for (int i = 0; i < NUM_ACCESSORS; i++) {
+            final var accessor = SignedTxnAccessor.uncheckedFrom(txns[i]);
+            subject.expandSpan(accessor);
+            blackhole.consume(accessor);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ACCESSORS)
+    public void rationalizeSpan(final Blackhole blackhole) {
+        for (int i = 0; i < NUM_ACCESSORS; i++) {
+            final var accessor = expandedAccessors[i];
+            subject.rationalizeSpan(accessor);
+            blackhole.consume(accessor.getSpanMap());
+        }
+    }
+
+    private static Transaction cryptoTransferWith(final long sender, final long receiver) {
+        final var payer = AccountID.newBuilder().setAccountNum(sender).build();
+        final var op =
+                CryptoTransferTransactionBody.newBuilder()
+                        .setTransfers(
+                                TransferList.newBuilder()
+                                        .addAccountAmounts(
+                                                AccountAmount.newBuilder()
+                                                        .setAccountID(payer)
+                                                        .setAmount(-1))
+                                        .addAccountAmounts(
+                                                AccountAmount.newBuilder()
+                                                        .setAccountID(
+                                                                AccountID.newBuilder()
+                                                                        .setAccountNum(receiver))
+                                                        .setAmount(+1)));
+        final var body =
+                TransactionBody.newBuilder()
+                        .setTransactionID(
+                                TransactionID.newBuilder()
+                                        .setAccountID(payer)
+                                        .setTransactionValidStart(
+                                                Timestamp.newBuilder().setSeconds(1_234_567L)))
+                        .setCryptoTransfer(op)
+                        .build();
+        final var signedTxn =
+                SignedTransaction.newBuilder().setBodyBytes(body.toByteString()).build();
+        return Transaction.newBuilder()
+                .setSignedTransactionBytes(signedTxn.toByteString())
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.utils.accessors;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.extractTransactionBody;
+import static com.hedera.services.mocks.MockDynamicProperties.mockPropertiesWith;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.FileAppendTransactionBody;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds accessors for a signed {@code FileAppend} with a payload of the given size, along the
+ * expand path ({@link AccessorFactory#nonTriggeredTxn(byte[])}, then the record's hash) and the
+ * precheck path (no hash). The {@code previousExpandPath} benchmark repeats the copying parse of
+ * the wrapper and the extra body parse that the factory used to do, as a baseline.
+ *
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, the bytes allocated per
+ * transaction.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class SignedTxnAccessorBench {
+    @Param({"100", "1024", "5120"})
+    int payloadBytes;
+
+    private byte[] wrapperBytes;
+    private AccessorFactory accessorFactory;
+
+    @Setup(Level.Trial)
+    public void setupTransaction() {
+        final var r = new Random(payloadBytes);
+        final var body =
+                TransactionBody.newBuilder()
+                        .setTransactionID(
+                                TransactionID.newBuilder()
+                                        .setAccountID(AccountID.newBuilder().setAccountNum(1234))
+                                        .setTransactionValidStart(
+                                                Timestamp.newBuilder().setSeconds(1_234_567L)))
+                        .setNodeAccountID(AccountID.newBuilder().setAccountNum(3))
+                        .setTransactionFee(100_000_000L)
+                        .setMemo("Eternal sunshine of the spotless mind")
+                        .setFileAppend(
+                                FileAppendTransactionBody.newBuilder()
+                                        .setFileID(FileID.newBuilder().setFileNum(1001))
+                                        .setContents(randomBytes(r, payloadBytes)))
+                        .build();
+        final var sigMap =
+                SignatureMap.newBuilder()
+                        .addSigPair(
+                                SignaturePair.newBuilder()
+                                        .setPubKeyPrefix(randomBytes(r, 32))
+                                        .setEd25519(randomBytes(r, 64)));
+        final var signedTxn =
+                SignedTransaction.newBuilder()
+                        .setBodyBytes(body.toByteString())
+                        .setSigMap(sigMap)
+                        .build();
+        wrapperBytes =
+                Transaction.newBuilder()
+                        .setSignedTransactionBytes(signedTxn.toByteString())
+                        .build()
+                        .toByteArray();
+        accessorFactory = new AccessorFactory(mockPropertiesWith(0, 0));
+    }
+
+    @Benchmark
+    public byte[] previousExpandPath() throws InvalidProtocolBufferException {
+        final var txn = Transaction.parseFrom(wrapperBytes);
+        extractTransactionBody(txn);
+        return SignedTxnAccessor.from(wrapperBytes, txn).getHash();
+    }
+
+    @Benchmark
+    public byte[] expandPath() throws InvalidProtocolBufferException {
+        return accessorFactory.nonTriggeredTxn(wrapperBytes).getHash();
+    }
+
+    @Benchmark
+    public SignedTxnAccessor precheckPath() throws InvalidProtocolBufferException {
+        return SignedTxnAccessor.from(wrapperBytes);
+    }
+
+    private static ByteString randomBytes(final Random r, final int n) {
+        final var bytes = new byte[n];
+        r.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+}
@@ -18,6 +18,8 @@ package com.hedera.services.context.init;
 import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.ledger.backing.BackingStore;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
+import com.hedera.services.state.expiry.classification.SignedStatePreClassifier;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
@@ -38,6 +40,8 @@ public class StoreInitializationFlow {
 
     private final UsageLimits usageLimits;
     private final AliasManager aliasManager;
+    private final EntityExpiryIndex expiryIndex;
+    private final SignedStatePreClassifier preClassifier;
     private final MutableStateChildren workingState;
     private final BackingStore<AccountID, MerkleAccount> backingAccounts;
     private final BackingStore<TokenID, MerkleToken> backingTokens;
@@ -52,8 +56,12 @@ public class StoreInitializationFlow {
             final BackingStore<AccountID, MerkleAccount> backingAccounts,
             final BackingStore<TokenID, MerkleToken> backingTokens,
             final BackingStore<NftId, MerkleUniqueToken> backingNfts,
-            final BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels) {
+            final BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels,
+            final EntityExpiryIndex expiryIndex,
+            final SignedStatePreClassifier preClassifier) {
         this.usageLimits = usageLimits;
+        this.expiryIndex = expiryIndex;
+        this.preClassifier = preClassifier;
         this.backingAccounts = backingAccounts;
         this.backingTokens = backingTokens;
         this.workingState = workingState;
@@ -70,13 +78,16 @@ public class StoreInitializationFlow {
         log.info("Backing stores rebuilt");
 
         usageLimits.resetNumContracts();
+        expiryIndex.clear();
+        preClassifier.clear();
         aliasManager.rebuildAliasesMap(
                 workingState.accounts(),
                 (num, account) -> {
                     if (account.isSmartContract()) {
                         usageLimits.recordContracts(1);
                     }
+                    expiryIndex.track(num.longValue(), account.getExpiry());
                 });
-        log.info("Account aliases map rebuilt");
+        log.info("Account aliases map and expiry index rebuilt");
     }
 }
@@ -18,6 +18,7 @@ package com.hedera.services.context.primitives;
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
 import static com.hedera.services.ledger.accounts.AliasManager.tryAddressRecovery;
 import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
 import static com.hedera.services.store.models.Id.MISSING_ID;
 import static com.hedera.services.store.schedule.ScheduleStore.MISSING_SCHEDULE;
 import static com.hedera.services.txns.crypto.helpers.AllowanceHelpers.getCryptoGrantedAllowancesList;
@@ -36,12 +37,11 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.ByteString;
 import com.hedera.services.config.NetworkInfo;
 import com.hedera.services.context.StateChildren;
-import com.hedera.services.contracts.sources.AddressKeyedMapFactory;
 import com.hedera.services.ethereum.EthTxSigs;
 import com.hedera.services.files.DataMapFactory;
 import com.hedera.services.files.HFileMeta;
 import com.hedera.services.files.MetadataMapFactory;
-import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.ledger.accounts.staking.RewardCalculator;
 import com.hedera.services.ledger.backing.BackingAccounts;
@@ -106,6 +106,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -129,7 +130,7 @@ public class StateView {
     private final StateChildren stateChildren;
     private final NetworkInfo networkInfo;
 
-    Map<byte[], byte[]> contractBytecode;
+    VirtualBlobStore blobStore;
     Map<FileID, byte[]> fileContents;
     Map<FileID, HFileMeta> fileAttrs;
 
@@ -146,11 +147,10 @@ public class StateView {
         this.stateChildren = stateChildren;
         this.networkInfo = networkInfo;
 
-        final Map<String, byte[]> blobStore = unmodifiableMap(new FcBlobsBytesStore(this::storage));
+        blobStore = new VirtualBlobStore(this::storage);
 
-        fileContents = DataMapFactory.dataMapFrom(blobStore);
-        fileAttrs = MetadataMapFactory.metaMapFrom(blobStore);
-        contractBytecode = AddressKeyedMapFactory.bytecodeMapFrom(blobStore);
+        fileContents = unmodifiableMap(DataMapFactory.dataMapFrom(blobStore));
+        fileAttrs = unmodifiableMap(MetadataMapFactory.metaMapFrom(blobStore));
     }
 
     public Optional<HFileMeta> attrOf(final FileID id) {
@@ -167,7 +167,7 @@ public class StateView {
     }
 
     public Optional<byte[]> bytecodeOf(final EntityNum contractId) {
-        return Optional.ofNullable(contractBytecode.get(contractId.toRawEvmAddress()));
+        return Optional.ofNullable(blobStore.get(CONTRACT_BYTECODE, contractId.longValue()));
     }
 
     public Optional<MerkleToken> tokenWith(final TokenID id) {
@@ -343,28 +343,114 @@ public class StateView {
             return Optional.empty();
         }
         final var targetNft = currentNfts.get(targetKey);
-        var accountId = targetNft.getOwner().toGrpcAccountId();
+        return Optional.ofNullable(nftInfoFrom(target, targetNft, tokenId));
+    }
+
+    /**
+     * Returns the infos of the NFTs at positions {@code [start, end)} of the given account's
+     * owned-NFT list; that is, the "map-value-linked-list" of unique tokens maintained by the
+     * {@link com.hedera.services.ledger.interceptors.UniqueTokensLinkManager}, iterated from the
+     * account's head NFT key in reverse chronological order of acquisition. (NFTs held by an
+     * account as treasury are not linked into this list.)
+     *
+     * <p>The walk visits the first {@code end} links, and only builds infos for the last {@code
+     * end - start} of them; so callers must bound {@code end} itself to bound the work done.
+     *
+     * @param target the account of interest
+     * @param start the inclusive start position in the owned-NFT list
+     * @param end the exclusive end position in the owned-NFT list
+     * @return the infos of the NFTs in the range, or empty if the account does not exist
+     */
+    public Optional<List<TokenNftInfo>> infoForAccountNfts(
+            final AccountID target, final long start, final long end) {
+        final var account = accounts().get(fromAccountId(target));
+        if (account == null) {
+            return Optional.empty();
+        }
+        final var currentNfts = uniqueTokens();
+        final List<TokenNftInfo> infos = new ArrayList<>();
+        var key = account.getHeadNftKey();
+        for (long i = 0; i < end && key.getHiOrderAsLong() != MISSING_ID.num(); i++) {
+            final var nft = currentNfts.get(key);
+            if (nft == null) {
+                break;
+            }
+            if (i >= start) {
+                final var nftId =
+                        NftID.newBuilder()
+                                .setTokenID(key.getHiOrderAsNum().toGrpcTokenId())
+                                .setSerialNumber(key.getLowOrderAsLong())
+                                .build();
+                addIfNotNull(infos, nftInfoFrom(nftId, nft, key.getHiOrderAsNum()));
+            }
+            key = nft.getNext().asEntityNumPair();
+        }
+        return Optional.of(infos);
+    }
+
+    /**
+     * Returns the infos of the existing NFTs of the given token with serial numbers in the range
+     * {@code (start, end]}; that is, the NFTs at positions {@code [start, end)} of the token's
+     * serial-number index. Since the unique tokens map is keyed by {@code (tokenNum, serialNo)},
+     * each position is a direct lookup and the work done is proportional to {@code end - start}.
+     * Serial numbers that were burned (or never minted) are skipped.
+     *
+     * @param target the token of interest
+     * @param start the inclusive start position in the serial-number index
+     * @param end the exclusive end position in the serial-number index
+     * @return the infos of the NFTs in the range, or empty if the token does not exist
+     */
+    public Optional<List<TokenNftInfo>> infoForTokenNfts(
+            final TokenID target, final long start, final long end) {
+        final var tokenNum = EntityNum.fromTokenId(target);
+        final var token = tokens().get(tokenNum);
+        if (token == null) {
+            return Optional.empty();
+        }
+        final var currentNfts = uniqueTokens();
+        final List<TokenNftInfo> infos = new ArrayList<>();
+        final var lastSerialNo = Math.min(end, token.getLastUsedSerialNumber());
+        for (long serialNo = start + 1; serialNo <= lastSerialNo; serialNo++) {
+            final var key = EntityNumPair.fromLongs(tokenNum.longValue(), serialNo);
+            final var nft = currentNfts.get(key);
+            if (nft != null) {
+                final var nftId =
+                        NftID.newBuilder().setTokenID(target).setSerialNumber(serialNo).build();
+                addIfNotNull(infos, nftInfoFrom(nftId, nft, tokenNum));
+            }
+        }
+        return Optional.of(infos);
+    }
+
+    @Nullable
+    private TokenNftInfo nftInfoFrom(
+            final NftID id, final MerkleUniqueToken nft, final EntityNum tokenNum) {
+        var accountId = nft.getOwner().toGrpcAccountId();
 
         if (WILDCARD_OWNER.equals(accountId)) {
-            var merkleToken = tokens().get(tokenId);
+            var merkleToken = tokens().get(tokenNum);
             if (merkleToken == null) {
-                return Optional.empty();
+                return null;
             }
             accountId = merkleToken.treasury().toGrpcAccountId();
         }
 
-        final var spenderId = targetNft.getSpender().toGrpcAccountId();
+        final var spenderId = nft.getSpender().toGrpcAccountId();
 
-        final var info =
-                TokenNftInfo.newBuilder()
-                        .setLedgerId(networkInfo.ledgerId())
-                        .setNftID(target)
-                        .setAccountID(accountId)
-                        .setCreationTime(targetNft.getCreationTime().toGrpc())
-                        .setMetadata(ByteString.copyFrom(targetNft.getMetadata()))
-                        .setSpenderId(spenderId)
-                        .build();
-        return Optional.of(info);
+        return TokenNftInfo.newBuilder()
+                .setLedgerId(networkInfo.ledgerId())
+                .setNftID(id)
+                .setAccountID(accountId)
+                .setCreationTime(nft.getCreationTime().toGrpc())
+                .setMetadata(ByteString.copyFrom(nft.getMetadata()))
+                .setSpenderId(spenderId)
+                .build();
+    }
+
+    private static void addIfNotNull(final List<TokenNftInfo> infos, final TokenNftInfo info) {
+        if (info != null) {
+            infos.add(info);
+        }
     }
 
     public boolean nftExists(final NftID id) {
@@ -215,6 +215,7 @@ public final class BootstrapProperties implements PropertySource {
                     BALANCES_EXPORT_PERIOD_SECS,
                     BALANCES_EXPORT_TOKEN_BALANCES,
                     BALANCES_NODE_BALANCE_WARN_THRESHOLD,
+                    BALANCES_STREAMING_EXPORT_ENABLED,
                     CACHE_RECORDS_TTL,
                     CONTRACTS_DEFAULT_LIFETIME,
                     CONTRACTS_KNOWN_BLOCK_HASH,
@@ -257,6 +258,7 @@ public final class BootstrapProperties implements PropertySource {
                     AUTO_RENEW_NUM_OF_ENTITIES_TO_SCAN,
                     AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE,
                     AUTO_RENEW_GRACE_PERIOD,
+                    AUTO_RENEW_SCAN_EXPIRY_INDEX,
                     LEDGER_CHANGE_HIST_MEM_SECS,
                     LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION,
                     LEDGER_AUTO_RENEW_PERIOD_MIN_DURATION,
@@ -298,6 +300,7 @@ public final class BootstrapProperties implements PropertySource {
                     TOKENS_NFTS_MAX_BATCH_SIZE_MINT,
                     TOKENS_NFTS_MAX_ALLOWED_MINTS,
                     TOKENS_NFTS_MAX_QUERY_RANGE,
+                    TOKENS_NFTS_MAX_ACCOUNT_WALK_LENGTH,
                     TOKENS_NFTS_MINT_THORTTLE_SCALE_FACTOR,
                     TOKENS_NFTS_USE_VIRTUAL_MERKLE,
                     TOPICS_MAX_NUM,
@@ -315,6 +318,7 @@ public final class BootstrapProperties implements PropertySource {
 
     static final Set<String> NODE_PROPS =
             Set.of(
+                    AUTO_RENEW_PRE_CLASSIFY_LOOKAHEAD_SECS,
                     DEV_ONLY_DEFAULT_NODE_LISTENS,
                     DEV_DEFAULT_LISTENING_NODE_ACCOUNT,
                     GRPC_PORT,
@@ -324,12 +328,15 @@ public final class BootstrapProperties implements PropertySource {
                     HEDERA_PREFETCH_QUEUE_CAPACITY,
                     HEDERA_PREFETCH_THREAD_POOL_SIZE,
                     HEDERA_PREFETCH_CODE_CACHE_TTL_SECS,
+                    HEDERA_PREFETCH_CODE_CACHE_MAX_STRONG_BYTES,
                     HEDERA_PROFILES_ACTIVE,
                     HEDERA_RECORD_STREAM_IS_ENABLED,
                     HEDERA_RECORD_STREAM_LOG_DIR,
                     HEDERA_RECORD_STREAM_SIDE_CAR_DIR,
                     HEDERA_RECORD_STREAM_LOG_PERIOD,
                     HEDERA_RECORD_STREAM_QUEUE_CAPACITY,
+                    HEDERA_RECORD_STREAM_HANDOFF_BATCH_SIZE,
+                    HEDERA_RECORD_STREAM_HANDOFF_BLOCK_WHEN_FULL,
                     ISS_RESET_PERIOD,
                     ISS_ROUNDS_TO_LOG,
                     NETTY_MODE,
@@ -385,6 +392,7 @@ public final class BootstrapProperties implements PropertySource {
                     entry(BALANCES_EXPORT_ENABLED, AS_BOOLEAN),
                     entry(BALANCES_EXPORT_PERIOD_SECS, AS_INT),
                     entry(BALANCES_NODE_BALANCE_WARN_THRESHOLD, AS_LONG),
+                    entry(BALANCES_STREAMING_EXPORT_ENABLED, AS_BOOLEAN),
                     entry(CACHE_RECORDS_TTL, AS_INT),
                     entry(DEV_ONLY_DEFAULT_NODE_LISTENS, AS_BOOLEAN),
                     entry(BALANCES_EXPORT_TOKEN_BALANCES, AS_BOOLEAN),
@@ -407,6 +415,7 @@ public final class BootstrapProperties implements PropertySource {
                     entry(HEDERA_PREFETCH_QUEUE_CAPACITY, AS_INT),
                     entry(HEDERA_PREFETCH_THREAD_POOL_SIZE, AS_INT),
                     entry(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS, AS_INT),
+                    entry(HEDERA_PREFETCH_CODE_CACHE_MAX_STRONG_BYTES, AS_LONG),
                     entry(HEDERA_PROFILES_ACTIVE, AS_PROFILE),
                     entry(HEDERA_REALM, AS_LONG),
                     entry(HEDERA_RECORD_STREAM_LOG_PERIOD, AS_LONG),
@@ -414,6 +423,8 @@ public final class BootstrapProperties implements PropertySource {
                     entry(HEDERA_RECORD_STREAM_RECORD_FILE_VERSION, AS_INT),
                     entry(HEDERA_RECORD_STREAM_SIG_FILE_VERSION, AS_INT),
                     entry(HEDERA_RECORD_STREAM_QUEUE_CAPACITY, AS_INT),
+                    entry(HEDERA_RECORD_STREAM_HANDOFF_BATCH_SIZE, AS_INT),
+                    entry(HEDERA_RECORD_STREAM_HANDOFF_BLOCK_WHEN_FULL, AS_BOOLEAN),
                     entry(HEDERA_RECORD_STREAM_SIDECAR_MAX_SIZE_MB, AS_INT),
                     entry(HEDERA_RECORD_STREAM_ENABLE_TRACEABILITY_MIGRATION, AS_BOOLEAN),
                     entry(HEDERA_RECORD_STREAM_COMPRESS_FILES_ON_CREATION, AS_BOOLEAN),
@@ -427,6 +438,8 @@ public final class BootstrapProperties implements PropertySource {
                     entry(AUTO_RENEW_NUM_OF_ENTITIES_TO_SCAN, AS_INT),
                     entry(AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE, AS_INT),
                     entry(AUTO_RENEW_GRACE_PERIOD, AS_LONG),
+                    entry(AUTO_RENEW_SCAN_EXPIRY_INDEX, AS_BOOLEAN),
+                    entry(AUTO_RENEW_PRE_CLASSIFY_LOOKAHEAD_SECS, AS_LONG),
                     entry(LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION, AS_LONG),
                     entry(LEDGER_AUTO_RENEW_PERIOD_MIN_DURATION, AS_LONG),
                     entry(NETTY_MODE, AS_PROFILE),
@@ -485,6 +498,7 @@ public final class BootstrapProperties implements PropertySource {
                     entry(TOKENS_NFTS_MAX_BATCH_SIZE_MINT, AS_INT),
                     entry(TOKENS_NFTS_MAX_ALLOWED_MINTS, AS_LONG),
                     entry(TOKENS_NFTS_MAX_QUERY_RANGE, AS_LONG),
+                    entry(TOKENS_NFTS_MAX_ACCOUNT_WALK_LENGTH, AS_LONG),
                     entry(TOKENS_NFTS_USE_TREASURY_WILD_CARDS, AS_BOOLEAN),
                     entry(TOKENS_NFTS_USE_VIRTUAL_MERKLE, AS_BOOLEAN),
                     entry(TOPICS_MAX_NUM, AS_LONG),
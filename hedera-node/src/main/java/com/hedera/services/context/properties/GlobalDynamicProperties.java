@@ -48,6 +48,7 @@ public class GlobalDynamicProperties {
     private int maxNftTransfersLen;
     private int maxBatchSizeWipe;
     private long maxNftQueryRange;
+    private long maxNftAccountWalkLength;
     private boolean allowTreasuryToOwnNfts;
     private int maxTokensPerAccount;
     private int maxTokenRelsPerInfoQuery;
@@ -62,6 +63,7 @@ public class GlobalDynamicProperties {
     private String pathToBalancesExportDir;
     private boolean shouldExportBalances;
     private boolean shouldExportTokenBalances;
+    private boolean shouldStreamBalancesExport;
     private AccountID fundingAccount;
     private int maxTransfersLen;
     private int maxTokenTransfersLen;
@@ -80,6 +82,7 @@ public class GlobalDynamicProperties {
     private int autoRenewNumberOfEntitiesToScan;
     private int autoRenewMaxNumberOfEntitiesToRenewOrDelete;
     private long autoRenewGracePeriod;
+    private boolean shouldScanAutoRenewExpiryIndex;
     private long maxAutoRenewDuration;
     private long minAutoRenewDuration;
     private Duration grpcMinAutoRenewDuration;
@@ -161,6 +164,7 @@ public class GlobalDynamicProperties {
         maxBatchSizeMint = properties.getIntProperty(TOKENS_NFTS_MAX_BATCH_SIZE_MINT);
         maxBatchSizeWipe = properties.getIntProperty(TOKENS_NFTS_MAX_BATCH_SIZE_WIPE);
         maxNftQueryRange = properties.getLongProperty(TOKENS_NFTS_MAX_QUERY_RANGE);
+        maxNftAccountWalkLength = properties.getLongProperty(TOKENS_NFTS_MAX_ACCOUNT_WALK_LENGTH);
         allowTreasuryToOwnNfts = properties.getBooleanProperty(TOKENS_NFTS_USE_TREASURY_WILDCARDS);
         maxTokensPerAccount = properties.getIntProperty(TOKENS_MAX_PER_ACCOUNT);
         maxTokenRelsPerInfoQuery = properties.getIntProperty(TOKENS_MAX_RELS_PER_INFO_QUERY);
@@ -182,6 +186,8 @@ public class GlobalDynamicProperties {
                 properties.getLongProperty(BALANCES_NODE_BALANCE_WARN_THRESHOLD);
         pathToBalancesExportDir = properties.getStringProperty(BALANCES_EXPORT_DIR_PATH);
         shouldExportTokenBalances = properties.getBooleanProperty(BALANCES_EXPORT_TOKEN_BALANCES);
+        shouldStreamBalancesExport =
+                properties.getBooleanProperty(BALANCES_STREAMING_EXPORT_ENABLED);
         maxTransfersLen = properties.getIntProperty(LEDGER_TRANSFERS_MAX_LEN);
         maxTokenTransfersLen = properties.getIntProperty(LEDGER_TOKEN_TRANSFERS_MAX_LEN);
         maxNftTransfersLen = properties.getIntProperty(LEDGER_NFT_TRANSFERS_MAX_LEN);
@@ -201,6 +207,8 @@ public class GlobalDynamicProperties {
         autoRenewMaxNumberOfEntitiesToRenewOrDelete =
                 properties.getIntProperty(AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE);
         autoRenewGracePeriod = properties.getLongProperty(AUTO_RENEW_GRACE_PERIOD);
+        shouldScanAutoRenewExpiryIndex =
+                properties.getBooleanProperty(AUTO_RENEW_SCAN_EXPIRY_INDEX);
         maxAutoRenewDuration = properties.getLongProperty(LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION);
         minAutoRenewDuration = properties.getLongProperty(LEDGER_AUTO_RENEW_PERIOD_MIN_DURATION);
         grpcMinAutoRenewDuration = Duration.newBuilder().setSeconds(minAutoRenewDuration).build();
@@ -333,6 +341,10 @@ public class GlobalDynamicProperties {
         return maxNftQueryRange;
     }
 
+    public long maxNftAccountWalkLength() {
+        return maxNftAccountWalkLength;
+    }
+
     public boolean treasuryNftAllowance() {
         return allowTreasuryToOwnNfts;
     }
@@ -381,6 +393,10 @@ public class GlobalDynamicProperties {
         return shouldExportTokenBalances;
     }
 
+    public boolean shouldStreamBalancesExport() {
+        return shouldStreamBalancesExport;
+    }
+
     public int maxTransferListSize() {
         return maxTransfersLen;
     }
@@ -441,6 +457,10 @@ public class GlobalDynamicProperties {
         return autoRenewGracePeriod;
     }
 
+    public boolean shouldScanAutoRenewExpiryIndex() {
+        return shouldScanAutoRenewExpiryIndex;
+    }
+
     public long maxAutoRenewDuration() {
         return maxAutoRenewDuration;
     }
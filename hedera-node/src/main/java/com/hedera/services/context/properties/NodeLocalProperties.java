@@ -15,16 +15,20 @@
  */
 package com.hedera.services.context.properties;
 
+import static com.hedera.services.context.properties.PropertyNames.AUTO_RENEW_PRE_CLASSIFY_LOOKAHEAD_SECS;
 import static com.hedera.services.context.properties.PropertyNames.DEV_DEFAULT_LISTENING_NODE_ACCOUNT;
 import static com.hedera.services.context.properties.PropertyNames.DEV_ONLY_DEFAULT_NODE_LISTENS;
 import static com.hedera.services.context.properties.PropertyNames.GRPC_PORT;
 import static com.hedera.services.context.properties.PropertyNames.GRPC_TLS_PORT;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_ACCOUNTS_EXPORT_PATH;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_EXPORT_ACCOUNTS_ON_STARTUP;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_MAX_STRONG_BYTES;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_TTL_SECS;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_QUEUE_CAPACITY;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_THREAD_POOL_SIZE;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PROFILES_ACTIVE;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_HANDOFF_BATCH_SIZE;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_HANDOFF_BLOCK_WHEN_FULL;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_IS_ENABLED;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_LOG_DIR;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_LOG_PERIOD;
@@ -75,6 +79,8 @@ public class NodeLocalProperties {
     private long recordLogPeriod;
     private boolean recordStreamEnabled;
     private int recordStreamQueueCapacity;
+    private int recordStreamHandoffBatchSize;
+    private boolean recordStreamHandoffBlockWhenFull;
     private int queryBlobLookupRetries;
     private long nettyProdKeepAliveTime;
     private String nettyTlsCrtPath;
@@ -98,6 +104,8 @@ public class NodeLocalProperties {
     private int prefetchQueueCapacity;
     private int prefetchThreadPoolSize;
     private int prefetchCodeCacheTtlSecs;
+    private long prefetchCodeCacheMaxStrongBytes;
+    private long autoRenewPreClassifyLookaheadSecs;
     private List<String> consThrottlesToSample;
     private List<String> hapiThrottlesToSample;
     private String sidecarDir;
@@ -124,6 +132,10 @@ public class NodeLocalProperties {
         recordLogPeriod = properties.getLongProperty(HEDERA_RECORD_STREAM_LOG_PERIOD);
         recordStreamEnabled = properties.getBooleanProperty(HEDERA_RECORD_STREAM_IS_ENABLED);
         recordStreamQueueCapacity = properties.getIntProperty(HEDERA_RECORD_STREAM_QUEUE_CAPACITY);
+        recordStreamHandoffBatchSize =
+                properties.getIntProperty(HEDERA_RECORD_STREAM_HANDOFF_BATCH_SIZE);
+        recordStreamHandoffBlockWhenFull =
+                properties.getBooleanProperty(HEDERA_RECORD_STREAM_HANDOFF_BLOCK_WHEN_FULL);
         queryBlobLookupRetries = properties.getIntProperty(QUERIES_BLOB_LOOK_UP_RETRIES);
         nettyProdKeepAliveTime = properties.getLongProperty(NETTY_PROD_KEEP_ALIVE_TIME);
         nettyTlsCrtPath = properties.getStringProperty(NETTY_TLS_CERT_PATH);
@@ -148,6 +160,10 @@ public class NodeLocalProperties {
         prefetchQueueCapacity = properties.getIntProperty(HEDERA_PREFETCH_QUEUE_CAPACITY);
         prefetchThreadPoolSize = properties.getIntProperty(HEDERA_PREFETCH_THREAD_POOL_SIZE);
         prefetchCodeCacheTtlSecs = properties.getIntProperty(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS);
+        prefetchCodeCacheMaxStrongBytes =
+                properties.getLongProperty(HEDERA_PREFETCH_CODE_CACHE_MAX_STRONG_BYTES);
+        autoRenewPreClassifyLookaheadSecs =
+                properties.getLongProperty(AUTO_RENEW_PRE_CLASSIFY_LOOKAHEAD_SECS);
         consThrottlesToSample = properties.getStringsProperty(STATS_CONS_THROTTLES_TO_SAMPLE);
         hapiThrottlesToSample = properties.getStringsProperty(STATS_HAPI_THROTTLES_TO_SAMPLE);
         entityUtilStatsUpdateIntervalMs =
@@ -200,6 +216,14 @@ public class NodeLocalProperties {
         return recordStreamQueueCapacity;
     }
 
+    public int recordStreamHandoffBatchSize() {
+        return recordStreamHandoffBatchSize;
+    }
+
+    public boolean recordStreamHandoffBlockWhenFull() {
+        return recordStreamHandoffBlockWhenFull;
+    }
+
     public int queryBlobLookupRetries() {
         return queryBlobLookupRetries;
     }
@@ -292,6 +316,14 @@ public class NodeLocalProperties {
         return prefetchCodeCacheTtlSecs;
     }
 
+    public long prefetchCodeCacheMaxStrongBytes() {
+        return prefetchCodeCacheMaxStrongBytes;
+    }
+
+    public long autoRenewPreClassifyLookaheadSecs() {
+        return autoRenewPreClassifyLookaheadSecs;
+    }
+
     public List<String> consThrottlesToSample() {
         return consThrottlesToSample;
     }
@@ -80,6 +80,8 @@ public class PropertyNames {
     public static final String BALANCES_EXPORT_TOKEN_BALANCES = "balances.exportTokenBalances";
     public static final String BALANCES_NODE_BALANCE_WARN_THRESHOLD =
             "balances.nodeBalanceWarningThreshold";
+    public static final String BALANCES_STREAMING_EXPORT_ENABLED =
+            "balances.streamingExportEnabled";
     public static final String CACHE_RECORDS_TTL = "cache.records.ttl";
     public static final String CONTRACTS_ITEMIZE_STORAGE_FEES = "contracts.itemizeStorageFees";
     public static final String CONTRACTS_REFERENCE_SLOT_LIFETIME =
@@ -142,6 +144,9 @@ public class PropertyNames {
             "autorenew.numberOfEntitiesToScan";
     public static final String AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE =
             "autorenew.maxNumberOfEntitiesToRenewOrDelete";
+    public static final String AUTO_RENEW_SCAN_EXPIRY_INDEX = "autorenew.scanExpiryIndex";
+    public static final String AUTO_RENEW_PRE_CLASSIFY_LOOKAHEAD_SECS =
+            "autorenew.preClassifyLookaheadSecs";
     public static final String EXPIRY_THROTTLE_RESOURCE = "expiry.throttleResource";
     public static final String AUTO_RENEW_GRACE_PERIOD = "autorenew.gracePeriod";
     public static final String LEDGER_CHANGE_HIST_MEM_SECS = "ledger.changeHistorian.memorySecs";
@@ -196,6 +201,8 @@ public class PropertyNames {
     public static final String TOKENS_NFTS_MAX_BATCH_SIZE_MINT = "tokens.nfts.maxBatchSizeMint";
     public static final String TOKENS_NFTS_MAX_ALLOWED_MINTS = "tokens.nfts.maxAllowedMints";
     public static final String TOKENS_NFTS_MAX_QUERY_RANGE = "tokens.nfts.maxQueryRange";
+    public static final String TOKENS_NFTS_MAX_ACCOUNT_WALK_LENGTH =
+            "tokens.nfts.maxAccountWalkLength";
     public static final String TOKENS_NFTS_USE_TREASURY_WILDCARDS =
             "tokens.nfts.useTreasuryWildcards";
     public static final String TOKENS_NFTS_MINT_THORTTLE_SCALE_FACTOR =
@@ -236,6 +243,8 @@ public class PropertyNames {
     public static final String HEDERA_PREFETCH_THREAD_POOL_SIZE = "hedera.prefetch.threadPoolSize";
     public static final String HEDERA_PREFETCH_CODE_CACHE_TTL_SECS =
             "hedera.prefetch.codeCacheTtlSecs";
+    public static final String HEDERA_PREFETCH_CODE_CACHE_MAX_STRONG_BYTES =
+            "hedera.prefetch.codeCacheMaxStrongBytes";
     public static final String HEDERA_PROFILES_ACTIVE = "hedera.profiles.active";
     public static final String HEDERA_RECORD_STREAM_IS_ENABLED = "hedera.recordStream.isEnabled";
     public static final String HEDERA_RECORD_STREAM_LOG_DIR = "hedera.recordStream.logDir";
@@ -243,6 +252,10 @@ public class PropertyNames {
     public static final String HEDERA_RECORD_STREAM_LOG_PERIOD = "hedera.recordStream.logPeriod";
     public static final String HEDERA_RECORD_STREAM_QUEUE_CAPACITY =
             "hedera.recordStream.queueCapacity";
+    public static final String HEDERA_RECORD_STREAM_HANDOFF_BATCH_SIZE =
+            "hedera.recordStream.handoffBatchSize";
+    public static final String HEDERA_RECORD_STREAM_HANDOFF_BLOCK_WHEN_FULL =
+            "hedera.recordStream.handoffBlockWhenFull";
     public static final String ISS_RESET_PERIOD = "iss.resetPeriod";
     public static final String ISS_ROUNDS_TO_LOG = "iss.roundsToLog";
     public static final String NETTY_MODE = "netty.mode";
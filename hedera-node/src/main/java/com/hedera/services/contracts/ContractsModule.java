@@ -42,6 +42,7 @@ import com.hedera.services.contracts.operation.HederaSLoadOperation;
 import com.hedera.services.contracts.operation.HederaSStoreOperation;
 import com.hedera.services.contracts.operation.HederaSelfDestructOperation;
 import com.hedera.services.contracts.operation.HederaStaticCallOperation;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.accounts.AliasManager;
@@ -107,10 +108,22 @@ public interface ContractsModule {
 
     @Provides
     @Singleton
-    static Map<EntityId, Long> provideEntityExpiries(Map<String, byte[]> blobStore) {
+    static Map<EntityId, Long> provideEntityExpiries(VirtualBlobStore blobStore) {
         return entityExpiryMapFrom(blobStore);
     }
 
+    @Provides
+    @Singleton
+    static SizeLimitedStorage.IterableStorageBatchUpserter provideStorageBatchUpserter() {
+        return IterableStorageUtils::batchUpsertMappings;
+    }
+
+    @Provides
+    @Singleton
+    static SizeLimitedStorage.IterableStorageBatchRemover provideStorageBatchRemover() {
+        return IterableStorageUtils::batchRemoveMappings;
+    }
+
     @Provides
     @Singleton
     static SizeLimitedStorage.IterableStorageUpserter provideStorageUpserter() {
@@ -53,6 +53,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -73,6 +74,8 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
     private final UsagePricesProvider usagePrices;
     private final PricedUsageCalculator pricedUsageCalculator;
     private final List<QueryResourceUsageEstimator> queryUsageEstimators;
+    private final Map<Query.QueryCase, QueryResourceUsageEstimator> queryUsageEstimatorsByCase =
+            new ConcurrentHashMap<>();
     private final Map<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators;
 
     @Inject
@@ -255,15 +258,27 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
         }
     }
 
+    /**
+     * Returns the estimator for the given query. Every estimator is applicable to exactly one type
+     * of query, so the first estimator found for a query type is remembered for all later queries
+     * of that type.
+     */
     private QueryResourceUsageEstimator getQueryUsageEstimator(Query query) {
+        final var estimator =
+                queryUsageEstimatorsByCase.computeIfAbsent(
+                        query.getQueryCase(), ignore -> findQueryUsageEstimator(query));
+        if (estimator != null) {
+            return estimator;
+        }
+        throw new NoSuchElementException("No estimator exists for the given query");
+    }
+
+    private QueryResourceUsageEstimator findQueryUsageEstimator(Query query) {
         Optional<QueryResourceUsageEstimator> usageEstimator =
                 queryUsageEstimators.stream()
                         .filter(estimator -> estimator.applicableTo(query))
                         .findAny();
-        if (usageEstimator.isPresent()) {
-            return usageEstimator.get();
-        }
-        throw new NoSuchElementException("No estimator exists for the given query");
+        return usageEstimator.orElse(null);
     }
 
     private TxnResourceUsageEstimator getTxnUsageEstimator(TxnAccessor accessor) {
@@ -20,8 +20,10 @@ import static com.hederahashgraph.api.proto.java.HederaFunctionality.*;
 import com.hedera.services.fees.annotations.FunctionKey;
 import com.hedera.services.fees.calculation.QueryResourceUsageEstimator;
 import com.hedera.services.fees.calculation.TxnResourceUsageEstimator;
+import com.hedera.services.fees.calculation.token.queries.GetAccountNftInfosResourceUsage;
 import com.hedera.services.fees.calculation.token.queries.GetTokenInfoResourceUsage;
 import com.hedera.services.fees.calculation.token.queries.GetTokenNftInfoResourceUsage;
+import com.hedera.services.fees.calculation.token.queries.GetTokenNftInfosResourceUsage;
 import com.hedera.services.fees.calculation.token.txns.*;
 import com.hedera.services.usage.EstimatorFactory;
 import com.hedera.services.usage.TxnUsageEstimator;
@@ -38,8 +40,14 @@ public final class TokenFeesModule {
     @ElementsIntoSet
     public static Set<QueryResourceUsageEstimator> provideTokenQueryEstimators(
             final GetTokenInfoResourceUsage getTokenInfoResourceUsage,
-            final GetTokenNftInfoResourceUsage getTokenNftInfoResourceUsage) {
-        return Set.of(getTokenInfoResourceUsage, getTokenNftInfoResourceUsage);
+            final GetTokenNftInfoResourceUsage getTokenNftInfoResourceUsage,
+            final GetTokenNftInfosResourceUsage getTokenNftInfosResourceUsage,
+            final GetAccountNftInfosResourceUsage getAccountNftInfosResourceUsage) {
+        return Set.of(
+                getTokenInfoResourceUsage,
+                getTokenNftInfoResourceUsage,
+                getTokenNftInfosResourceUsage,
+                getAccountNftInfosResourceUsage);
     }
 
     @Provides
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.fees.calculation.token.queries;
+
+import static com.hedera.services.queries.token.GetTokenNftInfosAnswer.TOKEN_NFT_INFOS_CTX_KEY;
+import static com.hedera.services.utils.MiscUtils.putIfNotNull;
+
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.fees.calculation.QueryResourceUsageEstimator;
+import com.hedera.services.usage.token.TokenGetNftInfosUsage;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.TokenNftInfo;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Singleton
+public final class GetTokenNftInfosResourceUsage implements QueryResourceUsageEstimator {
+    private static final Function<Query, TokenGetNftInfosUsage> factory =
+            TokenGetNftInfosUsage::newEstimate;
+
+    @Inject
+    public GetTokenNftInfosResourceUsage() {
+        /* No-op */
+    }
+
+    @Override
+    public boolean applicableTo(final Query query) {
+        return query.hasTokenGetNftInfos();
+    }
+
+    @Override
+    public FeeData usageGiven(
+            final Query query, final StateView view, @Nullable final Map<String, Object> queryCtx) {
+        final var op = query.getTokenGetNftInfos();
+        final var optionalInfos =
+                view.infoForTokenNfts(op.getTokenID(), op.getStart(), op.getEnd());
+        if (optionalInfos.isPresent()) {
+            final var infos = optionalInfos.get();
+            putIfNotNull(queryCtx, TOKEN_NFT_INFOS_CTX_KEY, infos);
+            final var metadata = infos.stream().map(TokenNftInfo::getMetadata).toList();
+            return factory.apply(query).givenMetadata(metadata).get();
+        } else {
+            return FeeData.getDefaultInstance();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files;
+
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
+
+import com.hedera.services.files.store.BlobStoreAdapter;
+import com.hedera.services.files.store.VirtualBlobStore;
+import com.hederahashgraph.api.proto.java.FileID;
+import java.util.function.Function;
+
+/**
+ * A file data map over a {@link VirtualBlobStore} that can also measure and append to a file
+ * without materializing its full contents.
+ */
+public final class AppendableDataMap extends BlobStoreAdapter<FileID, byte[]> {
+    AppendableDataMap(final VirtualBlobStore blobStore) {
+        super(
+                FileID.class,
+                FILE_DATA,
+                FileID::getFileNum,
+                Function.identity(),
+                Function.identity(),
+                blobStore);
+    }
+
+    public int sizeOf(final FileID fid) {
+        return delegate.sizeOfFile(fid.getFileNum());
+    }
+
+    public void append(final FileID fid, final byte[] moreContents) {
+        delegate.appendToFile(fid.getFileNum(), moreContents);
+    }
+}
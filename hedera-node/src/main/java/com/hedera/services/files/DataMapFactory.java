@@ -16,6 +16,7 @@
 package com.hedera.services.files;
 
 import com.hedera.services.files.store.BytesStoreAdapter;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hederahashgraph.api.proto.java.FileID;
 import java.util.Map;
 import java.util.function.Function;
@@ -31,6 +32,10 @@ public class DataMapFactory {
         throw new IllegalStateException();
     }
 
+    public static AppendableDataMap dataMapFrom(final VirtualBlobStore store) {
+        return new AppendableDataMap(store);
+    }
+
     public static Map<FileID, byte[]> dataMapFrom(Map<String, byte[]> store) {
         return new BytesStoreAdapter<>(
                 FileID.class,
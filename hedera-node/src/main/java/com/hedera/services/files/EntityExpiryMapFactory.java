@@ -15,8 +15,12 @@
  */
 package com.hedera.services.files;
 
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.SYSTEM_DELETED_ENTITY_EXPIRY;
+
 import com.google.common.primitives.Longs;
+import com.hedera.services.files.store.BlobStoreAdapter;
 import com.hedera.services.files.store.BytesStoreAdapter;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.state.submerkle.EntityId;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -31,6 +35,16 @@ public final class EntityExpiryMapFactory {
         throw new IllegalStateException();
     }
 
+    public static Map<EntityId, Long> entityExpiryMapFrom(final VirtualBlobStore store) {
+        return new BlobStoreAdapter<>(
+                EntityId.class,
+                SYSTEM_DELETED_ENTITY_EXPIRY,
+                EntityId::num,
+                EntityExpiryMapFactory::toLong,
+                Longs::toByteArray,
+                store);
+    }
+
     public static Map<EntityId, Long> entityExpiryMapFrom(Map<String, byte[]> store) {
         return new BytesStoreAdapter<>(
                 EntityId.class,
@@ -32,6 +32,7 @@ import com.hedera.services.files.interceptors.ThrottleDefsManager;
 import com.hedera.services.files.interceptors.TxnAwareRatesManager;
 import com.hedera.services.files.interceptors.ValidatingCallbackInterceptor;
 import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
@@ -59,20 +60,26 @@ public interface FilesModule {
 
     @Provides
     @Singleton
-    static Map<String, byte[]> provideBlobStore(
+    static VirtualBlobStore provideVirtualBlobStore(
             Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> storage) {
-        return new FcBlobsBytesStore(storage);
+        return new VirtualBlobStore(storage);
     }
 
     @Provides
     @Singleton
-    static Map<FileID, byte[]> provideDataMap(Map<String, byte[]> blobStore) {
+    static Map<String, byte[]> provideBlobStore(VirtualBlobStore blobStore) {
+        return new FcBlobsBytesStore(blobStore);
+    }
+
+    @Provides
+    @Singleton
+    static Map<FileID, byte[]> provideDataMap(VirtualBlobStore blobStore) {
         return dataMapFrom(blobStore);
     }
 
     @Provides
     @Singleton
-    static Map<FileID, HFileMeta> provideMetadataMap(Map<String, byte[]> blobStore) {
+    static Map<FileID, HFileMeta> provideMetadataMap(VirtualBlobStore blobStore) {
         return metaMapFrom(blobStore);
     }
 
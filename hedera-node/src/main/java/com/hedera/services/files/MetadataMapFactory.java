@@ -16,8 +16,11 @@
 package com.hedera.services.files;
 
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_METADATA;
 
+import com.hedera.services.files.store.BlobStoreAdapter;
 import com.hedera.services.files.store.BytesStoreAdapter;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hederahashgraph.api.proto.java.FileID;
 import com.swirlds.common.utility.CommonUtils;
 import java.io.IOException;
@@ -38,6 +41,16 @@ public final class MetadataMapFactory {
         throw new UnsupportedOperationException("Factory Class");
     }
 
+    public static Map<FileID, HFileMeta> metaMapFrom(final VirtualBlobStore store) {
+        return new BlobStoreAdapter<>(
+                FileID.class,
+                FILE_METADATA,
+                FileID::getFileNum,
+                MetadataMapFactory::toAttr,
+                MetadataMapFactory::toValueBytes,
+                store);
+    }
+
     public static Map<FileID, HFileMeta> metaMapFrom(final Map<String, byte[]> store) {
         return new BytesStoreAdapter<>(
                 FileID.class,
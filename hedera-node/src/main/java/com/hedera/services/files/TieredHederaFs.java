@@ -190,6 +190,18 @@ public final class TieredHederaFs implements HederaFs {
             return new SimpleUpdateResult(false, true, SUCCESS);
         } else {
             assertUsable(id);
+            if (data instanceof AppendableDataMap appendableData && interceptorsFor(id).isEmpty()) {
+                // No interceptor needs the new contents, so only the appended bytes are written
+                final var newLength = appendableData.sizeOf(id) + moreContents.length;
+                log.debug(
+                        "Appending {} bytes to file num {} :: new file will have {} bytes.",
+                        moreContents.length,
+                        id.getFileNum(),
+                        newLength);
+                assertWithinSizeLimits(newLength);
+                appendableData.append(id, moreContents);
+                return new SimpleUpdateResult(false, true, SUCCESS);
+            }
             final var contents = data.get(id);
             var newContents = ArrayUtils.addAll(contents, moreContents);
             log.debug(
@@ -309,7 +321,11 @@ public final class TieredHederaFs implements HederaFs {
     }
 
     private void assertWithinSizeLimits(final byte[] data) {
-        if (data.length > properties.maxFileSizeKb() * BYTES_PER_KB) {
+        assertWithinSizeLimits(data.length);
+    }
+
+    private void assertWithinSizeLimits(final int length) {
+        if (length > properties.maxFileSizeKb() * BYTES_PER_KB) {
             throwIllegal(OVERSIZE_CONTENTS);
         }
     }
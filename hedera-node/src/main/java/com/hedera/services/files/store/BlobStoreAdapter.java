@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files.store;
+
+import com.hedera.services.state.virtual.VirtualBlobKey;
+import java.util.AbstractMap;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A map view of one type of blob in a {@link VirtualBlobStore}, keyed by any id that names an
+ * entity number. Unlike a {@link BytesStoreAdapter} over the legacy {@link FcBlobsBytesStore}, no
+ * string path is formatted or parsed on each access.
+ *
+ * <p>As with the legacy store, {@code put()} and {@code remove()} do not return prior values, and
+ * the entries of the view cannot be listed.
+ *
+ * @param <K> the type of id
+ * @param <V> the type of value stored in the blobs
+ */
+public class BlobStoreAdapter<K, V> extends AbstractMap<K, V> {
+    private final Class<K> kType;
+    private final VirtualBlobKey.Type blobType;
+    private final ToLongFunction<K> toNum;
+    private final Function<byte[], V> toV;
+    private final Function<V, byte[]> fromV;
+    protected final VirtualBlobStore delegate;
+
+    public BlobStoreAdapter(
+            final Class<K> kType,
+            final VirtualBlobKey.Type blobType,
+            final ToLongFunction<K> toNum,
+            final Function<byte[], V> toV,
+            final Function<V, byte[]> fromV,
+            final VirtualBlobStore delegate) {
+        this.kType = kType;
+        this.blobType = blobType;
+        this.toNum = toNum;
+        this.toV = toV;
+        this.fromV = fromV;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return delegate.contains(blobType, numOf(key));
+    }
+
+    @Override
+    public V get(final Object key) {
+        return toV.apply(delegate.get(blobType, numOf(key)));
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        delegate.put(blobType, toNum.applyAsLong(key), fromV.apply(value));
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        delegate.remove(blobType, numOf(key));
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        throw new UnsupportedOperationException();
+    }
+
+    private long numOf(final Object key) {
+        return toNum.applyAsLong(kType.cast(key));
+    }
+}
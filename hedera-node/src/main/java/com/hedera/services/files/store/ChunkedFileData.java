@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files.store;
+
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA_MANIFEST;
+import static com.hedera.services.state.virtual.VirtualBlobKey.chunkKey;
+
+import com.google.common.primitives.Ints;
+import com.hedera.services.state.virtual.VirtualBlobKey;
+import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * Reads and writes the contents of a regular file in the blobs {@link VirtualMap}.
+ *
+ * <p>A file of at most {@link #CHUNK_SIZE} bytes is stored exactly as before, as a single {@link
+ * VirtualBlobKey.Type#FILE_DATA} blob. A larger file is split into fixed-size chunks. Chunk zero
+ * stays under the {@code FILE_DATA} key, later chunks go under {@link VirtualBlobKey#chunkKey(int,
+ * int)} keys, and a {@link VirtualBlobKey.Type#FILE_DATA_MANIFEST} blob records the total length.
+ * An append to a chunked file then rewrites only its last chunk and the manifest (plus any new
+ * chunks), instead of the whole file.
+ *
+ * <p>Every chunk but the last is full; so a {@code FILE_DATA} blob whose length is not exactly
+ * {@code CHUNK_SIZE} cannot start a chunked file, and reading a small (or legacy) file never has to
+ * look for a manifest.
+ */
+public final class ChunkedFileData {
+    public static final int CHUNK_SIZE = 16 * 1024;
+    static final int MAX_CHUNKS = VirtualBlobKey.MAX_CHUNK_INDEX + 1;
+
+    private static final int NOT_CHUNKED = -1;
+
+    private ChunkedFileData() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Returns the contents of the file with the given number code, or {@code null} if it has no
+     * data blob.
+     *
+     * @param blobs the blobs map
+     * @param fileNumCode the code of the file number
+     * @return the file contents, if present
+     */
+    @Nullable
+    public static byte[] read(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs, final int fileNumCode) {
+        final var firstBlob = blobs.get(new VirtualBlobKey(FILE_DATA, fileNumCode));
+        if (firstBlob == null) {
+            return null;
+        }
+        final var firstChunk = firstBlob.getData();
+        if (firstChunk.length != CHUNK_SIZE) {
+            return firstChunk;
+        }
+        final var length = chunkedLength(blobs, fileNumCode);
+        if (length == NOT_CHUNKED) {
+            return firstChunk;
+        }
+        final var contents = new byte[length];
+        System.arraycopy(firstChunk, 0, contents, 0, CHUNK_SIZE);
+        final var numChunks = numChunksFor(length);
+        for (int i = 1; i < numChunks; i++) {
+            final var chunk = requiredChunk(blobs, fileNumCode, i);
+            System.arraycopy(chunk, 0, contents, i * CHUNK_SIZE, chunk.length);
+        }
+        return contents;
+    }
+
+    /**
+     * Returns the length of the file with the given number code, reading only its manifest if it
+     * is chunked.
+     *
+     * @param blobs the blobs map
+     * @param fileNumCode the code of the file number
+     * @return the file length, or zero if it has no data blob
+     */
+    public static int sizeOf(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs, final int fileNumCode) {
+        final var length = chunkedLength(blobs, fileNumCode);
+        if (length != NOT_CHUNKED) {
+            return length;
+        }
+        final var blob = blobs.get(new VirtualBlobKey(FILE_DATA, fileNumCode));
+        return blob == null ? 0 : blob.getData().length;
+    }
+
+    /**
+     * Replaces the contents of the file with the given number code, chunking them if they are
+     * larger than {@link #CHUNK_SIZE} and removing any chunks the new contents no longer use.
+     *
+     * @param blobs the blobs map
+     * @param fileNumCode the code of the file number
+     * @param contents the new contents
+     */
+    public static void write(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs,
+            final int fileNumCode,
+            final byte[] contents) {
+        final var oldLength = chunkedLength(blobs, fileNumCode);
+        final var numChunks = numChunksFor(contents.length);
+        if (contents.length <= CHUNK_SIZE || numChunks > MAX_CHUNKS) {
+            if (oldLength != NOT_CHUNKED) {
+                removeChunks(blobs, fileNumCode, 1, numChunksFor(oldLength));
+                blobs.remove(new VirtualBlobKey(FILE_DATA_MANIFEST, fileNumCode));
+            }
+            blobs.put(new VirtualBlobKey(FILE_DATA, fileNumCode), new VirtualBlobValue(contents));
+        } else {
+            if (oldLength != NOT_CHUNKED) {
+                removeChunks(blobs, fileNumCode, numChunks, numChunksFor(oldLength));
+            }
+            putChunks(blobs, fileNumCode, 0, contents);
+            putLength(blobs, fileNumCode, contents.length);
+        }
+    }
+
+    /**
+     * Appends the given bytes to the file with the given number code. If the file is already
+     * chunked, only reads and rewrites its last chunk.
+     *
+     * @param blobs the blobs map
+     * @param fileNumCode the code of the file number
+     * @param moreContents the bytes to append
+     */
+    public static void append(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs,
+            final int fileNumCode,
+            final byte[] moreContents) {
+        final var length = chunkedLength(blobs, fileNumCode);
+        if (length == NOT_CHUNKED) {
+            final var blob = blobs.get(new VirtualBlobKey(FILE_DATA, fileNumCode));
+            final var contents =
+                    (blob == null) ? moreContents : concat(blob.getData(), moreContents);
+            write(blobs, fileNumCode, contents);
+            return;
+        }
+        final var newLength = length + moreContents.length;
+        if (numChunksFor(newLength) > MAX_CHUNKS) {
+            final var contents =
+                    Objects.requireNonNull(read(blobs, fileNumCode), "Missing file data");
+            write(blobs, fileNumCode, concat(contents, moreContents));
+            return;
+        }
+        final var tailChunk = length / CHUNK_SIZE;
+        final var tail =
+                (length % CHUNK_SIZE == 0)
+                        ? moreContents
+                        : concat(requiredChunk(blobs, fileNumCode, tailChunk), moreContents);
+        putChunks(blobs, fileNumCode, tailChunk, tail);
+        putLength(blobs, fileNumCode, newLength);
+    }
+
+    static int numChunksFor(final int length) {
+        return (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    private static int chunkedLength(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs, final int fileNumCode) {
+        final var manifest = blobs.get(new VirtualBlobKey(FILE_DATA_MANIFEST, fileNumCode));
+        return manifest == null ? NOT_CHUNKED : Ints.fromByteArray(manifest.getData());
+    }
+
+    private static void putLength(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs,
+            final int fileNumCode,
+            final int length) {
+        blobs.put(
+                new VirtualBlobKey(FILE_DATA_MANIFEST, fileNumCode),
+                new VirtualBlobValue(Ints.toByteArray(length)));
+    }
+
+    private static void putChunks(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs,
+            final int fileNumCode,
+            final int firstChunk,
+            final byte[] bytes) {
+        for (int i = firstChunk, from = 0; from < bytes.length; i++, from += CHUNK_SIZE) {
+            final var to = Math.min(bytes.length, from + CHUNK_SIZE);
+            final var chunk = Arrays.copyOfRange(bytes, from, to);
+            blobs.put(keyOf(fileNumCode, i), new VirtualBlobValue(chunk));
+        }
+    }
+
+    private static void removeChunks(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs,
+            final int fileNumCode,
+            final int fromChunk,
+            final int toChunk) {
+        for (int i = fromChunk; i < toChunk; i++) {
+            blobs.remove(chunkKey(fileNumCode, i));
+        }
+    }
+
+    private static byte[] requiredChunk(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs,
+            final int fileNumCode,
+            final int chunk) {
+        final var key = keyOf(fileNumCode, chunk);
+        return Objects.requireNonNull(blobs.get(key), () -> "Missing file data chunk " + key)
+                .getData();
+    }
+
+    private static VirtualBlobKey keyOf(final int fileNumCode, final int chunk) {
+        return chunk == 0
+                ? new VirtualBlobKey(FILE_DATA, fileNumCode)
+                : chunkKey(fileNumCode, chunk);
+    }
+
+    private static byte[] concat(final byte[] a, final byte[] b) {
+        final var ab = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, ab, a.length, b.length);
+        return ab;
+    }
+}
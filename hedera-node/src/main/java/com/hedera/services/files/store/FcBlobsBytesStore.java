@@ -15,6 +15,7 @@
  */
 package com.hedera.services.files.store;
 
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
 import static java.lang.Long.parseLong;
 
 import com.hedera.services.state.merkle.internals.BlobKey;
@@ -22,19 +23,27 @@ import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.swirlds.virtualmap.VirtualMap;
 import java.util.AbstractMap;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
+/**
+ * A compatibility view of a {@link VirtualBlobStore} as a map keyed by legacy string paths. New
+ * code should use the typed {@link VirtualBlobStore} API directly, which neither formats nor parses
+ * a path on each access.
+ */
 public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
-    public static final VirtualBlobValue EMPTY_BLOB = new VirtualBlobValue(new byte[0]);
+    public static final VirtualBlobValue EMPTY_BLOB = VirtualBlobStore.EMPTY_BLOB;
 
-    private final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> blobSupplier;
+    private final VirtualBlobStore blobStore;
 
     public static final int LEGACY_BLOB_CODE_INDEX = 3;
 
     public FcBlobsBytesStore(Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> blobSupplier) {
-        this.blobSupplier = blobSupplier;
+        this(new VirtualBlobStore(blobSupplier));
+    }
+
+    public FcBlobsBytesStore(final VirtualBlobStore blobStore) {
+        this.blobStore = blobStore;
     }
 
     /**
@@ -74,7 +83,7 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
      */
     @Override
     public byte[] remove(Object path) {
-        blobSupplier.get().put(at(path), EMPTY_BLOB);
+        blobStore.remove(at(path));
         return null;
     }
 
@@ -90,26 +99,54 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
      */
     @Override
     public byte[] put(String path, byte[] value) {
-        final VirtualBlobValue blob = new VirtualBlobValue(value);
-        blobSupplier.get().put(at(path), blob);
+        blobStore.put(at(path), value);
         return null;
     }
 
+    /**
+     * Appends the given bytes to the file data at the given path, without reading or rewriting
+     * more than the last chunk of a large file.
+     *
+     * @param path the path of the file data blob
+     * @param moreContents the bytes to append
+     * @throws IllegalArgumentException if the path is not for file data
+     */
+    public void append(final String path, final byte[] moreContents) {
+        blobStore.appendToFileCode(fileDataCodeAt(path), moreContents);
+    }
+
+    /**
+     * Returns the length of the file data at the given path.
+     *
+     * @param path the path of the file data blob
+     * @return the length of the file data, or zero if there is none
+     * @throws IllegalArgumentException if the path is not for file data
+     */
+    public int sizeOf(final String path) {
+        return blobStore.sizeOfFileCode(fileDataCodeAt(path));
+    }
+
     @Override
     public byte[] get(Object path) {
-        return Optional.ofNullable(blobSupplier.get().get(at(path)))
-                .map(VirtualBlobValue::getData)
-                .orElse(null);
+        return blobStore.get(at(path));
+    }
+
+    private int fileDataCodeAt(final String path) {
+        final var key = at(path);
+        if (key.getType() != FILE_DATA) {
+            throw new IllegalArgumentException("Path '" + path + "' is not for file data");
+        }
+        return key.getEntityNumCode();
     }
 
     @Override
     public boolean containsKey(Object path) {
-        return blobSupplier.get().containsKey(at(path));
+        return blobStore.contains(at(path));
     }
 
     @Override
     public boolean isEmpty() {
-        return blobSupplier.get().isEmpty();
+        return blobStore.isEmpty();
     }
 
     @Override
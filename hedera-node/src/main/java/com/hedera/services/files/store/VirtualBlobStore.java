@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files.store;
+
+import static com.hedera.services.state.merkle.internals.BitPackUtils.codeFromNum;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
+
+import com.hedera.services.state.virtual.VirtualBlobKey;
+import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Reads and writes the blobs {@link VirtualMap} by (blob type, entity number), without the string
+ * paths of the legacy {@link FcBlobsBytesStore} view; which is now only an adapter over this store.
+ *
+ * <p>A {@link VirtualBlobKey.Type#FILE_DATA} blob is read and written through {@link
+ * ChunkedFileData}, so callers see the whole contents of a file no matter how it is stored. Every
+ * other type is a single blob. The arrays returned by {@link #get(VirtualBlobKey.Type, long)} are
+ * shared with the map's values, and must not be modified.
+ */
+public class VirtualBlobStore {
+    public static final VirtualBlobValue EMPTY_BLOB = new VirtualBlobValue(new byte[0]);
+
+    private final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> blobSupplier;
+
+    public VirtualBlobStore(
+            final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> blobSupplier) {
+        this.blobSupplier = blobSupplier;
+    }
+
+    /**
+     * Returns the fixed-size map key for the given blob type and entity number.
+     *
+     * @param type the type of blob
+     * @param num the entity number
+     * @return the key of the blob
+     */
+    public static VirtualBlobKey keyOf(final VirtualBlobKey.Type type, final long num) {
+        return new VirtualBlobKey(type, codeFromNum(num));
+    }
+
+    /**
+     * Returns the contents of the blob of the given type for the given entity, or {@code null} if
+     * there is no such blob.
+     *
+     * @param type the type of blob
+     * @param num the entity number
+     * @return the (shared) contents of the blob, if present
+     */
+    @Nullable
+    public byte[] get(final VirtualBlobKey.Type type, final long num) {
+        return get(keyOf(type, num));
+    }
+
+    /**
+     * Replaces the contents of the blob of the given type for the given entity.
+     *
+     * @param type the type of blob
+     * @param num the entity number
+     * @param contents the new contents
+     */
+    public void put(final VirtualBlobKey.Type type, final long num, final byte[] contents) {
+        put(keyOf(type, num), contents);
+    }
+
+    /**
+     * Empties the blob of the given type for the given entity. (As with the legacy string paths,
+     * the key stays in the map with an empty value.)
+     *
+     * @param type the type of blob
+     * @param num the entity number
+     */
+    public void remove(final VirtualBlobKey.Type type, final long num) {
+        remove(keyOf(type, num));
+    }
+
+    /**
+     * Returns whether there is a blob of the given type for the given entity.
+     *
+     * @param type the type of blob
+     * @param num the entity number
+     * @return whether the blob exists
+     */
+    public boolean contains(final VirtualBlobKey.Type type, final long num) {
+        return contains(keyOf(type, num));
+    }
+
+    /**
+     * Returns the length of the data of the given file, reading only its manifest if it is chunked.
+     *
+     * @param fileNum the file number
+     * @return the length of the file data, or zero if there is none
+     */
+    public int sizeOfFile(final long fileNum) {
+        return sizeOfFileCode(codeFromNum(fileNum));
+    }
+
+    /**
+     * Appends the given bytes to the data of the given file, without reading or rewriting more than
+     * the last chunk of a large file.
+     *
+     * @param fileNum the file number
+     * @param moreContents the bytes to append
+     */
+    public void appendToFile(final long fileNum, final byte[] moreContents) {
+        appendToFileCode(codeFromNum(fileNum), moreContents);
+    }
+
+    public boolean isEmpty() {
+        return blobSupplier.get().isEmpty();
+    }
+
+    @Nullable
+    byte[] get(final VirtualBlobKey key) {
+        if (key.getType() == FILE_DATA) {
+            return ChunkedFileData.read(blobSupplier.get(), key.getEntityNumCode());
+        }
+        final var blob = blobSupplier.get().get(key);
+        return (blob == null) ? null : blob.getData();
+    }
+
+    void put(final VirtualBlobKey key, final byte[] contents) {
+        if (key.getType() == FILE_DATA) {
+            ChunkedFileData.write(blobSupplier.get(), key.getEntityNumCode(), contents);
+        } else {
+            blobSupplier.get().put(key, new VirtualBlobValue(contents));
+        }
+    }
+
+    void remove(final VirtualBlobKey key) {
+        if (key.getType() == FILE_DATA) {
+            ChunkedFileData.write(blobSupplier.get(), key.getEntityNumCode(), EMPTY_BLOB.getData());
+        } else {
+            blobSupplier.get().put(key, EMPTY_BLOB);
+        }
+    }
+
+    boolean contains(final VirtualBlobKey key) {
+        return blobSupplier.get().containsKey(key);
+    }
+
+    int sizeOfFileCode(final int fileNumCode) {
+        return ChunkedFileData.sizeOf(blobSupplier.get(), fileNumCode);
+    }
+
+    void appendToFileCode(final int fileNumCode, final byte[] moreContents) {
+        ChunkedFileData.append(blobSupplier.get(), fileNumCode, moreContents);
+    }
+}
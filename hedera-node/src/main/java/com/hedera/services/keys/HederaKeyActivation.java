@@ -44,6 +44,9 @@ public final class HederaKeyActivation {
 
     private static final byte PARITY_MASK = (byte) 0x01;
 
+    // Up to this many sigs, a linear scan is cheaper than building an index
+    static final int MAX_SIGS_TO_SCAN = 8;
+
     public static final TransactionSignature VALID_IMPLICIT_SIG = new ValidSignature();
     public static final TransactionSignature INVALID_MISSING_SIG = new InvalidSignature();
 
@@ -128,13 +131,18 @@ public final class HederaKeyActivation {
     }
 
     /**
-     * Factory for a source of platform signatures backed by a list.
+     * Factory for a source of platform signatures backed by a list. For more than {@link
+     * #MAX_SIGS_TO_SCAN} sigs, the source is an index built once here, so that activating a large
+     * multi-sig key does not cost O(keys &times; sigs) key comparisons.
      *
      * @param sigs the backing list of platform sigs
      * @return a supplier that produces the backing list sigs by public key
      */
     public static Function<byte[], TransactionSignature> pkToSigMapFrom(
             final List<TransactionSignature> sigs) {
+        if (sigs.size() > MAX_SIGS_TO_SCAN) {
+            return new SigsByPublicKey(sigs);
+        }
         return pk -> {
             for (var sig : sigs) {
                 if (keysMatch(pk, sig.getExpandedPublicKeyDirect())) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.keys;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.keysMatch;
+
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An open-addressed index of a transaction's platform signatures by the leading bytes of their
+ * public keys; that is, by the first 8 bytes of an Ed25519 key, or of the x-coordinate of an
+ * uncompressed ECDSA(secp256k1) key. It is built once per transaction, after which looking up the
+ * signature for a primitive key costs an expected O(1) calls to {@link
+ * HederaKeyActivation#keysMatch(byte[], byte[])} and allocates nothing.
+ *
+ * <p>Because a run of colliding entries is probed in insertion order, a lookup returns the same
+ * signature as a linear scan of the backing list; that is, the first one whose key matches.
+ */
+final class SigsByPublicKey implements Function<byte[], TransactionSignature> {
+    private static final int ED25519_PUBLIC_KEY_LEN = 32;
+    private static final int COMPRESSED_SECP256K1_PUBLIC_KEY_LEN = 33;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final int mask;
+    private final int shift;
+    private final byte[][] sigKeys;
+    private final TransactionSignature[] sigs;
+
+    SigsByPublicKey(final List<TransactionSignature> sigs) {
+        final var n = sigs.size();
+        final var capacity = Integer.highestOneBit(Math.max(2, n) * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        this.sigKeys = new byte[capacity][];
+        this.sigs = new TransactionSignature[capacity];
+        for (final var sig : sigs) {
+            final var sigKey = sig.getExpandedPublicKeyDirect();
+            // Too short to match any Ed25519 or ECDSA(secp256k1) key
+            if (sigKey == null || sigKey.length < ED25519_PUBLIC_KEY_LEN) {
+                continue;
+            }
+            var i = slotFor(sigKey, 0);
+            while (this.sigs[i] != null) {
+                i = (i + 1) & mask;
+            }
+            this.sigKeys[i] = sigKey;
+            this.sigs[i] = sig;
+        }
+    }
+
+    @Override
+    public TransactionSignature apply(final byte[] pk) {
+        final int offset;
+        if (pk.length == ED25519_PUBLIC_KEY_LEN) {
+            offset = 0;
+        } else if (pk.length == COMPRESSED_SECP256K1_PUBLIC_KEY_LEN) {
+            // Skip the parity byte; keysMatch() checks it against the y-coordinate
+            offset = 1;
+        } else {
+            return INVALID_MISSING_SIG;
+        }
+        for (var i = slotFor(pk, offset); sigs[i] != null; i = (i + 1) & mask) {
+            if (keysMatch(pk, sigKeys[i])) {
+                return sigs[i];
+            }
+        }
+        return INVALID_MISSING_SIG;
+    }
+
+    private int slotFor(final byte[] key, final int offset) {
+        long prefix = 0;
+        for (int j = offset, end = offset + Long.BYTES; j < end; j++) {
+            prefix = (prefix << 8) | (key[j] & 0xFF);
+        }
+        return (int) ((prefix * HASH_MULTIPLIER) >>> shift);
+    }
+}
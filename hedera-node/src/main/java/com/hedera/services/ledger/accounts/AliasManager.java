@@ -31,6 +31,8 @@ import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.Key;
 import com.swirlds.merkle.map.MerkleMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
@@ -158,41 +160,54 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
      * each account in accountsMap and add an entry to autoAccountsMap if {@code alias} exists on
      * the account.
      *
+     * <p>The traversal itself is sequential, but the EVM addresses of ECDSA(secp256k1) key aliases
+     * are recovered in parallel afterwards, since that is the only expensive part of the rebuild.
+     * All links are then made in traversal order, so the result is the same as linking each
+     * account's alias and EVM address as it is visited.
+     *
      * @param accounts the current accounts
      * @param observer an observer to be called with each traversed account
      */
     public void rebuildAliasesMap(
             final MerkleMap<EntityNum, MerkleAccount> accounts,
             final BiConsumer<EntityNum, MerkleAccount> observer) {
+        rebuildAliasesMap(accounts, observer, ADDRESS_RECOVERY_FN);
+    }
+
+    void rebuildAliasesMap(
+            final MerkleMap<EntityNum, MerkleAccount> accounts,
+            final BiConsumer<EntityNum, MerkleAccount> observer,
+            final UnaryOperator<byte[]> addressRecovery) {
         final var numCreate2Aliases = new AtomicInteger();
         final var numEOAliases = new AtomicInteger();
-        final var workingAliases = curAliases();
-        workingAliases.clear();
+        final List<AliasedAccount> aliasedAccounts = new ArrayList<>();
         forEach(
                 accounts,
                 (k, v) -> {
                     final var alias = v.getAlias();
                     observer.accept(k, v);
                     if (!alias.isEmpty()) {
-                        workingAliases.put(alias, k);
+                        aliasedAccounts.add(new AliasedAccount(alias, k));
                         if (v.isSmartContract()) {
                             numCreate2Aliases.getAndIncrement();
                         }
-                        if (alias.size() > EVM_ADDRESS_LEN) {
-                            try {
-                                final Key key = Key.parseFrom(v.getAlias());
-                                final JKey jKey = JKey.mapKey(key);
-                                if (maybeLinkEvmAddress(jKey, v.getKey())) {
-                                    numEOAliases.incrementAndGet();
-                                }
-                            } catch (InvalidProtocolBufferException
-                                    | DecoderException
-                                    | IllegalArgumentException ignore) {
-                                // any expected exception means no eth mapping
-                            }
-                        }
                     }
                 });
+        final var evmAddresses =
+                aliasedAccounts.parallelStream()
+                        .map(aliased -> evmAddressFromKeyAlias(aliased.alias(), addressRecovery))
+                        .toArray(byte[][]::new);
+
+        final var workingAliases = curAliases();
+        workingAliases.clear();
+        for (int i = 0, n = aliasedAccounts.size(); i < n; i++) {
+            final var aliased = aliasedAccounts.get(i);
+            workingAliases.put(aliased.alias(), aliased.num());
+            if (evmAddresses[i] != null) {
+                link(ByteStringUtils.wrapUnsafely(evmAddresses[i]), aliased.num());
+                numEOAliases.incrementAndGet();
+            }
+        }
         log.info(
                 "Rebuild complete, re-mapped {} aliases ({} from CREATE2, {} externally owned"
                         + " accounts)",
@@ -201,6 +216,25 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
                 numEOAliases::get);
     }
 
+    @Nullable
+    private static byte[] evmAddressFromKeyAlias(
+            final ByteString alias, final UnaryOperator<byte[]> addressRecovery) {
+        if (alias.size() > EVM_ADDRESS_LEN) {
+            try {
+                final Key key = Key.parseFrom(alias);
+                final JKey jKey = JKey.mapKey(key);
+                return tryAddressRecovery(jKey, addressRecovery);
+            } catch (InvalidProtocolBufferException
+                    | DecoderException
+                    | IllegalArgumentException ignore) {
+                // any expected exception means no eth mapping
+            }
+        }
+        return null;
+    }
+
+    private record AliasedAccount(ByteString alias, EntityNum num) {}
+
     /**
      * Ensures an alias is no longer in use, returning whether it previously was.
      *
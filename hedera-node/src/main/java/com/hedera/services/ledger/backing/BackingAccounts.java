@@ -15,11 +15,13 @@
  */
 package com.hedera.services.ledger.backing;
 
+import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
 import static com.hedera.services.utils.EntityNum.fromAccountId;
 import static com.hedera.services.utils.MiscUtils.forEach;
 
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.utils.EntityNum;
+import com.hedera.services.utils.PagedBitSet;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.merkle.map.MerkleMap;
 import java.util.HashSet;
@@ -28,9 +30,14 @@ import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+/**
+ * A store that provides efficient access to the mutable representations of accounts, indexed by
+ * {@code AccountID}. Existence checks are answered from a compact bitmap of the account numbers in
+ * the delegate map, rebuilt by {@link #rebuildFromSources()}, so they never allocate.
+ */
 @Singleton
 public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
-    private Set<AccountID> existingAccounts = new HashSet<>();
+    private final PagedBitSet existingAccounts = new PagedBitSet();
     private final Supplier<MerkleMap<EntityNum, MerkleAccount>> delegate;
 
     @Inject
@@ -42,7 +49,7 @@ public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
     public void rebuildFromSources() {
         existingAccounts.clear();
         final var curAccounts = delegate.get();
-        forEach(curAccounts, (id, account) -> existingAccounts.add(id.toGrpcAccountId()));
+        forEach(curAccounts, (num, account) -> existingAccounts.add(num.longValue()));
     }
 
     @Override
@@ -52,26 +59,30 @@ public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
 
     @Override
     public void put(final AccountID id, final MerkleAccount account) {
-        if (!existingAccounts.contains(id)) {
+        if (!contains(id)) {
             delegate.get().put(fromAccountId(id), account);
-            existingAccounts.add(id);
+            existingAccounts.add(id.getAccountNum());
         }
     }
 
     @Override
     public boolean contains(final AccountID id) {
-        return existingAccounts.contains(id);
+        return isInScope(id) && existingAccounts.contains(id.getAccountNum());
     }
 
     @Override
     public void remove(final AccountID id) {
-        existingAccounts.remove(id);
+        if (isInScope(id)) {
+            existingAccounts.remove(id.getAccountNum());
+        }
         delegate.get().remove(fromAccountId(id));
     }
 
     @Override
     public Set<AccountID> idSet() {
-        return existingAccounts;
+        final Set<AccountID> ids = new HashSet<>();
+        existingAccounts.forEach(num -> ids.add(STATIC_PROPERTIES.scopedAccountWith(num)));
+        return ids;
     }
 
     @Override
@@ -84,8 +95,13 @@ public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
         return delegate.get().get(fromAccountId(id));
     }
 
+    private boolean isInScope(final AccountID id) {
+        return id.getShardNum() == STATIC_PROPERTIES.getShard()
+                && id.getRealmNum() == STATIC_PROPERTIES.getRealm();
+    }
+
     /* ---  Only used for unit tests --- */
-    Set<AccountID> getExistingAccounts() {
+    PagedBitSet getExistingAccounts() {
         return existingAccounts;
     }
 
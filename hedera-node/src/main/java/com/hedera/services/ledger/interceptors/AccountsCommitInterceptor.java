@@ -15,12 +15,14 @@
  */
 package com.hedera.services.ledger.interceptors;
 
+import static com.hedera.services.ledger.properties.AccountProperty.EXPIRY;
 import static com.hedera.services.ledger.properties.AccountProperty.IS_SMART_CONTRACT;
 
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.ledger.CommitInterceptor;
 import com.hedera.services.ledger.EntityChangeSet;
 import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.validation.AccountUsageTracking;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -41,17 +43,25 @@ public class AccountsCommitInterceptor
     private int numNewAccounts;
     private int numNewContracts;
     @Nullable private final AccountUsageTracking usageTracking;
+    @Nullable private final EntityExpiryIndex expiryIndex;
     private final SideEffectsTracker sideEffectsTracker;
 
     public AccountsCommitInterceptor(
-            final AccountUsageTracking usageTracking, final SideEffectsTracker sideEffectsTracker) {
+            final AccountUsageTracking usageTracking,
+            final SideEffectsTracker sideEffectsTracker,
+            final EntityExpiryIndex expiryIndex) {
         this.usageTracking = usageTracking;
+        this.expiryIndex = expiryIndex;
         this.sideEffectsTracker = sideEffectsTracker;
     }
 
+    public AccountsCommitInterceptor(
+            final AccountUsageTracking usageTracking, final SideEffectsTracker sideEffectsTracker) {
+        this(usageTracking, sideEffectsTracker, null);
+    }
+
     public AccountsCommitInterceptor(final SideEffectsTracker sideEffectsTracker) {
-        this.usageTracking = null;
-        this.sideEffectsTracker = sideEffectsTracker;
+        this(null, sideEffectsTracker, null);
     }
 
     /**
@@ -80,6 +90,10 @@ public class AccountsCommitInterceptor
                 }
             }
             trackBalanceChangeIfAny(pendingChanges.id(i).getAccountNum(), account, changes);
+            // Tracking an expiry that is then not committed is harmless, the index re-checks state
+            if (expiryIndex != null && changes.containsKey(EXPIRY)) {
+                expiryIndex.track(pendingChanges.id(i).getAccountNum(), (long) changes.get(EXPIRY));
+            }
         }
 
         assertZeroSum();
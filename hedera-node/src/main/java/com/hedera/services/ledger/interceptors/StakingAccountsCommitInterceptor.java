@@ -41,6 +41,7 @@ import com.hedera.services.ledger.accounts.staking.StakeChangeManager;
 import com.hedera.services.ledger.accounts.staking.StakeInfoManager;
 import com.hedera.services.ledger.accounts.staking.StakePeriodManager;
 import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.validation.AccountUsageTracking;
@@ -96,8 +97,9 @@ public class StakingAccountsCommitInterceptor extends AccountsCommitInterceptor
             final StakeInfoManager stakeInfoManager,
             final AccountNumbers accountNumbers,
             final TransactionContext txnCtx,
-            final AccountUsageTracking usageTracking) {
-        super(usageTracking, sideEffectsTracker);
+            final AccountUsageTracking usageTracking,
+            final EntityExpiryIndex expiryIndex) {
+        super(usageTracking, sideEffectsTracker, expiryIndex);
         this.txnCtx = txnCtx;
         this.networkCtx = networkCtx;
         this.accountNumbers = accountNumbers;
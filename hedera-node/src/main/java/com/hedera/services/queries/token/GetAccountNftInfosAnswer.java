@@ -15,73 +15,200 @@
  */
 package com.hedera.services.queries.token;
 
-import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetAccountNftInfos;
-import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.NOT_SUPPORTED;
+import static com.hedera.services.utils.EntityNum.fromAccountId;
+import static com.hedera.services.utils.accessors.SignedTxnAccessor.uncheckedFrom;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_QUERY_RANGE;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
 
 import com.hedera.services.context.primitives.StateView;
-import com.hedera.services.queries.AbstractAnswer;
+import com.hedera.services.queries.AnswerService;
+import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
-import com.hederahashgraph.api.proto.java.ResponseType;
 import com.hederahashgraph.api.proto.java.TokenGetAccountNftInfosQuery;
 import com.hederahashgraph.api.proto.java.TokenGetAccountNftInfosResponse;
-import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TokenNftInfo;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+/**
+ * Answers a page {@code [start, end)} of the NFTs owned by an account, walking the account's
+ * owned-NFT list from its head NFT key. The length of the page is capped at {@code
+ * tokens.nfts.maxQueryRange}; and since the walk visits every link before the page, its end is
+ * separately capped at {@code tokens.nfts.maxAccountWalkLength}, with the query priced by that end.
+ * The page must also lie within the account's number of owned NFTs.
+ */
 @Singleton
-public class GetAccountNftInfosAnswer extends AbstractAnswer {
-    public static final Function<Query, Transaction> IRRELEVANT_PAYMENT_EXTRACTOR = q -> null;
-    public static final Function<Query, ResponseType> IRRELEVANT_RESPONSE_TYPE_EXTRACTOR =
-            q -> null;
+public class GetAccountNftInfosAnswer implements AnswerService {
+    public static final String ACCOUNT_NFT_INFOS_CTX_KEY =
+            GetAccountNftInfosAnswer.class.getSimpleName() + "_accountNftInfos";
+
+    private final OptionValidator optionValidator;
 
     @Inject
-    public GetAccountNftInfosAnswer() {
-        super(
-                TokenGetAccountNftInfos,
-                IRRELEVANT_PAYMENT_EXTRACTOR,
-                IRRELEVANT_RESPONSE_TYPE_EXTRACTOR,
-                response ->
-                        response.getTokenGetAccountNftInfos()
-                                .getHeader()
-                                .getNodeTransactionPrecheckCode(),
-                (query, view) -> NOT_SUPPORTED);
+    public GetAccountNftInfosAnswer(final OptionValidator optionValidator) {
+        this.optionValidator = optionValidator;
+    }
+
+    @Override
+    public boolean needsAnswerOnlyCost(final Query query) {
+        return COST_ANSWER == query.getTokenGetAccountNftInfos().getHeader().getResponseType();
+    }
+
+    @Override
+    public boolean requiresNodePayment(final Query query) {
+        return typicallyRequiresNodePayment(
+                query.getTokenGetAccountNftInfos().getHeader().getResponseType());
     }
 
     @Override
     public Response responseGiven(
-            Query query, @Nullable StateView view, ResponseCodeEnum validity, long cost) {
-        TokenGetAccountNftInfosQuery op = query.getTokenGetAccountNftInfos();
-        TokenGetAccountNftInfosResponse.Builder response =
-                TokenGetAccountNftInfosResponse.newBuilder();
-
-        ResponseType type = op.getHeader().getResponseType();
-        if (type == COST_ANSWER) {
-            response.setHeader(costAnswerHeader(NOT_SUPPORTED, 0L));
-        } else {
-            response.setHeader(answerOnlyHeader(NOT_SUPPORTED));
+            final Query query,
+            @Nullable final StateView view,
+            final ResponseCodeEnum validity,
+            final long cost) {
+        return responseFor(query, view, validity, cost, NO_QUERY_CTX);
+    }
+
+    @Override
+    public Response responseGiven(
+            final Query query,
+            final StateView view,
+            final ResponseCodeEnum validity,
+            final long cost,
+            final Map<String, Object> queryCtx) {
+        return responseFor(query, view, validity, cost, Optional.of(queryCtx));
+    }
+
+    @Override
+    public ResponseCodeEnum checkValidity(final Query query, final StateView view) {
+        final var op = query.getTokenGetAccountNftInfos();
+        if (!op.hasAccountID()) {
+            return INVALID_ACCOUNT_ID;
         }
-        return Response.newBuilder().setTokenGetAccountNftInfos(response).build();
+        final var accounts = view.accounts();
+        final var accountStatus =
+                optionValidator.queryableAccountStatus(op.getAccountID(), accounts);
+        if (accountStatus != OK) {
+            return accountStatus;
+        }
+        final var rangeValidity = checkWalkRange(op.getStart(), op.getEnd(), optionValidator);
+        if (rangeValidity != OK) {
+            return rangeValidity;
+        }
+        final var account = accounts.get(fromAccountId(op.getAccountID()));
+        return (op.getEnd() > account.getNftsOwned()) ? INVALID_QUERY_RANGE : OK;
     }
 
     @Override
-    public Optional<SignedTxnAccessor> extractPaymentFrom(Query query) {
-        return Optional.empty();
+    public HederaFunctionality canonicalFunction() {
+        return HederaFunctionality.TokenGetAccountNftInfos;
     }
 
     @Override
-    public boolean needsAnswerOnlyCost(Query query) {
-        return false;
+    public ResponseCodeEnum extractValidityFrom(final Response response) {
+        return response.getTokenGetAccountNftInfos().getHeader().getNodeTransactionPrecheckCode();
     }
 
     @Override
-    public boolean requiresNodePayment(Query query) {
-        return false;
+    public Optional<SignedTxnAccessor> extractPaymentFrom(final Query query) {
+        final var paymentTxn = query.getTokenGetAccountNftInfos().getHeader().getPayment();
+        return Optional.ofNullable(uncheckedFrom(paymentTxn));
+    }
+
+    /**
+     * Checks that {@code [start, end)} is a usable page whose end is also no later than the
+     * network's maximum owned-NFT list walk length. Reaching position {@code start} of an owned-NFT
+     * list means walking all the links before it, so it is {@code end}, not {@code end - start},
+     * that bounds the work done to answer (or price) the query.
+     *
+     * @param start the inclusive start of the range
+     * @param end the exclusive end of the range
+     * @param optionValidator the validator enforcing the maximum range and walk length
+     * @return {@code OK} if the range is usable, {@code INVALID_QUERY_RANGE} otherwise
+     */
+    static ResponseCodeEnum checkWalkRange(
+            final long start, final long end, final OptionValidator optionValidator) {
+        final var pageValidity = checkPageRange(start, end, optionValidator);
+        if (pageValidity != OK) {
+            return pageValidity;
+        }
+        return optionValidator.nftAccountWalkLengthCheck(end);
+    }
+
+    /**
+     * Checks that {@code [start, end)} is a non-empty range of non-negative positions no longer
+     * than the network's maximum NFT query range.
+     *
+     * @param start the inclusive start of the range
+     * @param end the exclusive end of the range
+     * @param optionValidator the validator enforcing the maximum range
+     * @return {@code OK} if the range is usable, {@code INVALID_QUERY_RANGE} otherwise
+     */
+    static ResponseCodeEnum checkPageRange(
+            final long start, final long end, final OptionValidator optionValidator) {
+        if (start < 0 || start >= end) {
+            return INVALID_QUERY_RANGE;
+        }
+        return optionValidator.nftMaxQueryRangeCheck(start, end);
+    }
+
+    private Response responseFor(
+            final Query query,
+            final StateView view,
+            final ResponseCodeEnum validity,
+            final long cost,
+            final Optional<Map<String, Object>> queryCtx) {
+        final var op = query.getTokenGetAccountNftInfos();
+        final var response = TokenGetAccountNftInfosResponse.newBuilder();
+
+        final var type = op.getHeader().getResponseType();
+        if (validity != OK) {
+            response.setHeader(header(validity, type, cost));
+        } else {
+            if (type == COST_ANSWER) {
+                response.setHeader(costAnswerHeader(OK, cost));
+            } else {
+                setAnswerOnly(response, view, op, cost, queryCtx);
+            }
+        }
+
+        return Response.newBuilder().setTokenGetAccountNftInfos(response).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setAnswerOnly(
+            final TokenGetAccountNftInfosResponse.Builder response,
+            final StateView view,
+            final TokenGetAccountNftInfosQuery op,
+            final long cost,
+            final Optional<Map<String, Object>> queryCtx) {
+        if (queryCtx.isPresent()) {
+            final var ctx = queryCtx.get();
+            if (!ctx.containsKey(ACCOUNT_NFT_INFOS_CTX_KEY)) {
+                response.setHeader(answerOnlyHeader(INVALID_ACCOUNT_ID));
+            } else {
+                response.setHeader(answerOnlyHeader(OK, cost));
+                response.addAllNfts((List<TokenNftInfo>) ctx.get(ACCOUNT_NFT_INFOS_CTX_KEY));
+            }
+        } else {
+            final var infos =
+                    view.infoForAccountNfts(op.getAccountID(), op.getStart(), op.getEnd());
+            if (infos.isEmpty()) {
+                response.setHeader(answerOnlyHeader(INVALID_ACCOUNT_ID));
+            } else {
+                response.setHeader(answerOnlyHeader(OK, cost));
+                response.addAllNfts(infos.get());
+            }
+        }
     }
 }
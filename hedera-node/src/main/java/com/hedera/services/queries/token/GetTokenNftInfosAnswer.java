@@ -15,66 +15,169 @@
  */
 package com.hedera.services.queries.token;
 
-import static com.hedera.services.queries.token.GetAccountNftInfosAnswer.IRRELEVANT_PAYMENT_EXTRACTOR;
-import static com.hedera.services.queries.token.GetAccountNftInfosAnswer.IRRELEVANT_RESPONSE_TYPE_EXTRACTOR;
+import static com.hedera.services.queries.token.GetAccountNftInfosAnswer.checkPageRange;
+import static com.hedera.services.state.enums.TokenType.NON_FUNGIBLE_UNIQUE;
+import static com.hedera.services.utils.accessors.SignedTxnAccessor.uncheckedFrom;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_QUERY_RANGE;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TOKEN_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.NOT_SUPPORTED;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.TOKEN_WAS_DELETED;
 import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
 
 import com.hedera.services.context.primitives.StateView;
-import com.hedera.services.queries.AbstractAnswer;
+import com.hedera.services.queries.AnswerService;
+import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
-import com.hederahashgraph.api.proto.java.ResponseType;
 import com.hederahashgraph.api.proto.java.TokenGetNftInfosQuery;
 import com.hederahashgraph.api.proto.java.TokenGetNftInfosResponse;
+import com.hederahashgraph.api.proto.java.TokenNftInfo;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+/**
+ * Answers a page {@code [start, end)} of a unique token's serial-number index; that is, the NFTs
+ * with serial numbers in {@code (start, end]} that have not been burned. Pages are capped at
+ * {@code tokens.nfts.maxQueryRange} entries, and must lie within the token's minted serial numbers.
+ */
 @Singleton
-public class GetTokenNftInfosAnswer extends AbstractAnswer {
+public class GetTokenNftInfosAnswer implements AnswerService {
+    public static final String TOKEN_NFT_INFOS_CTX_KEY =
+            GetTokenNftInfosAnswer.class.getSimpleName() + "_tokenNftInfos";
+
+    private final OptionValidator optionValidator;
+
     @Inject
-    public GetTokenNftInfosAnswer() {
-        super(
-                HederaFunctionality.TokenGetNftInfos,
-                IRRELEVANT_PAYMENT_EXTRACTOR,
-                IRRELEVANT_RESPONSE_TYPE_EXTRACTOR,
-                response ->
-                        response.getTokenGetNftInfos().getHeader().getNodeTransactionPrecheckCode(),
-                (query, view) -> NOT_SUPPORTED);
+    public GetTokenNftInfosAnswer(final OptionValidator optionValidator) {
+        this.optionValidator = optionValidator;
+    }
+
+    @Override
+    public boolean needsAnswerOnlyCost(final Query query) {
+        return COST_ANSWER == query.getTokenGetNftInfos().getHeader().getResponseType();
+    }
+
+    @Override
+    public boolean requiresNodePayment(final Query query) {
+        return typicallyRequiresNodePayment(
+                query.getTokenGetNftInfos().getHeader().getResponseType());
     }
 
     @Override
     public Response responseGiven(
-            Query query, @Nullable StateView view, ResponseCodeEnum validity, long cost) {
-        TokenGetNftInfosQuery op = query.getTokenGetNftInfos();
-        TokenGetNftInfosResponse.Builder response = TokenGetNftInfosResponse.newBuilder();
+            final Query query,
+            @Nullable final StateView view,
+            final ResponseCodeEnum validity,
+            final long cost) {
+        return responseFor(query, view, validity, cost, NO_QUERY_CTX);
+    }
 
-        ResponseType type = op.getHeader().getResponseType();
-        if (type == COST_ANSWER) {
-            response.setHeader(costAnswerHeader(NOT_SUPPORTED, 0L));
-        } else {
-            response.setHeader(answerOnlyHeader(NOT_SUPPORTED));
+    @Override
+    public Response responseGiven(
+            final Query query,
+            final StateView view,
+            final ResponseCodeEnum validity,
+            final long cost,
+            final Map<String, Object> queryCtx) {
+        return responseFor(query, view, validity, cost, Optional.of(queryCtx));
+    }
+
+    @Override
+    public ResponseCodeEnum checkValidity(final Query query, final StateView view) {
+        final var op = query.getTokenGetNftInfos();
+        if (!op.hasTokenID()) {
+            return INVALID_TOKEN_ID;
         }
-        return Response.newBuilder().setTokenGetNftInfos(response).build();
+        final var optionalToken = view.tokenWith(op.getTokenID());
+        if (optionalToken.isEmpty()) {
+            return INVALID_TOKEN_ID;
+        }
+        final var token = optionalToken.get();
+        if (token.isDeleted()) {
+            return TOKEN_WAS_DELETED;
+        }
+        if (token.tokenType() != NON_FUNGIBLE_UNIQUE) {
+            return NOT_SUPPORTED;
+        }
+        final var rangeValidity = checkPageRange(op.getStart(), op.getEnd(), optionValidator);
+        if (rangeValidity != OK) {
+            return rangeValidity;
+        }
+        return (op.getEnd() > token.getLastUsedSerialNumber()) ? INVALID_QUERY_RANGE : OK;
     }
 
     @Override
-    public Optional<SignedTxnAccessor> extractPaymentFrom(Query query) {
-        return Optional.empty();
+    public HederaFunctionality canonicalFunction() {
+        return HederaFunctionality.TokenGetNftInfos;
     }
 
     @Override
-    public boolean needsAnswerOnlyCost(Query query) {
-        return false;
+    public ResponseCodeEnum extractValidityFrom(final Response response) {
+        return response.getTokenGetNftInfos().getHeader().getNodeTransactionPrecheckCode();
     }
 
     @Override
-    public boolean requiresNodePayment(Query query) {
-        return false;
+    public Optional<SignedTxnAccessor> extractPaymentFrom(final Query query) {
+        final var paymentTxn = query.getTokenGetNftInfos().getHeader().getPayment();
+        return Optional.ofNullable(uncheckedFrom(paymentTxn));
+    }
+
+    private Response responseFor(
+            final Query query,
+            final StateView view,
+            final ResponseCodeEnum validity,
+            final long cost,
+            final Optional<Map<String, Object>> queryCtx) {
+        final var op = query.getTokenGetNftInfos();
+        final var response = TokenGetNftInfosResponse.newBuilder();
+
+        final var type = op.getHeader().getResponseType();
+        if (validity != OK) {
+            response.setHeader(header(validity, type, cost));
+        } else {
+            if (type == COST_ANSWER) {
+                response.setHeader(costAnswerHeader(OK, cost));
+            } else {
+                setAnswerOnly(response, view, op, cost, queryCtx);
+            }
+        }
+
+        return Response.newBuilder().setTokenGetNftInfos(response).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setAnswerOnly(
+            final TokenGetNftInfosResponse.Builder response,
+            final StateView view,
+            final TokenGetNftInfosQuery op,
+            final long cost,
+            final Optional<Map<String, Object>> queryCtx) {
+        if (queryCtx.isPresent()) {
+            final var ctx = queryCtx.get();
+            if (!ctx.containsKey(TOKEN_NFT_INFOS_CTX_KEY)) {
+                response.setHeader(answerOnlyHeader(INVALID_TOKEN_ID));
+            } else {
+                response.setHeader(answerOnlyHeader(OK, cost));
+                response.setTokenId(op.getTokenID());
+                response.addAllNfts((List<TokenNftInfo>) ctx.get(TOKEN_NFT_INFOS_CTX_KEY));
+            }
+        } else {
+            final var infos = view.infoForTokenNfts(op.getTokenID(), op.getStart(), op.getEnd());
+            if (infos.isEmpty()) {
+                response.setHeader(answerOnlyHeader(INVALID_TOKEN_ID));
+            } else {
+                response.setHeader(answerOnlyHeader(OK, cost));
+                response.setTokenId(op.getTokenID());
+                response.addAllNfts(infos.get());
+            }
+        }
     }
 }
@@ -32,7 +32,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import javax.inject.Inject;
@@ -47,11 +46,10 @@ public class RecordCache {
 
     private EntityCreator creator;
     private Cache<TransactionID, Boolean> timedReceiptCache;
-    private Map<TransactionID, TxnIdRecentHistory> histories;
+    private TxnIdRecentHistories histories;
 
     @Inject
-    public RecordCache(
-            Cache<TransactionID, Boolean> cache, Map<TransactionID, TxnIdRecentHistory> histories) {
+    public RecordCache(Cache<TransactionID, Boolean> cache, TxnIdRecentHistories histories) {
         this.histories = histories;
         this.timedReceiptCache = cache;
     }
@@ -69,8 +67,7 @@ public class RecordCache {
             final TransactionID txnId,
             final ResponseCodeEnum status,
             final ExpirableTxnRecord expirableTxnRecord) {
-        final var recentHistory =
-                histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+        final var recentHistory = histories.getOrCreate(txnId);
         recentHistory.observe(expirableTxnRecord, status);
     }
 
@@ -87,13 +84,12 @@ public class RecordCache {
                         consensusTimestamp.getEpochSecond(),
                         submittingMember);
 
-        final var recentHistory =
-                histories.computeIfAbsent(accessor.getTxnId(), ignore -> new TxnIdRecentHistory());
+        final var recentHistory = histories.getOrCreate(accessor.getTxnId());
         recentHistory.observe(expiringRecord, FAIL_INVALID);
     }
 
     public boolean isReceiptPresent(final TransactionID txnId) {
-        return histories.containsKey(txnId) || timedReceiptCache.getIfPresent(txnId) == MARKER;
+        return histories.contains(txnId) || timedReceiptCache.getIfPresent(txnId) == MARKER;
     }
 
     public TxnReceipt getPriorityReceipt(final TransactionID txnId) {
@@ -105,11 +101,12 @@ public class RecordCache {
     }
 
     public List<TransactionRecord> getDuplicateRecords(final TransactionID txnId) {
-        return duplicatesOf(txnId);
+        return transformedDuplicatesOf(txnId, ExpirableTxnRecord::asGrpc);
     }
 
     public List<TransactionReceipt> getDuplicateReceipts(final TransactionID txnId) {
-        return duplicatesOf(txnId).stream().map(TransactionRecord::getReceipt).toList();
+        return transformedDuplicatesOf(
+                txnId, duplicateRecord -> duplicateRecord.getReceipt().toGrpc());
     }
 
     public List<TransactionReceipt> getChildReceipts(final TransactionID txnId) {
@@ -132,8 +129,7 @@ public class RecordCache {
             } else {
                 final List<T> children = new ArrayList<>();
                 for (short i = 1; i <= numChildren; i++) {
-                    final var childTxnId = txnId.toBuilder().setNonce(i).build();
-                    final var childRecord = getPriorityRecord(childTxnId);
+                    final var childRecord = priorityRecordOf(histories.getChild(txnId, i));
                     /* It will be extraordinarily rare for a parent record to still be available
                     while a child has expired. But it could happen, so we silently work around it. */
                     if (childRecord != null) {
@@ -145,14 +141,21 @@ public class RecordCache {
         }
     }
 
-    private List<TransactionRecord> duplicatesOf(final TransactionID txnId) {
+    private <T> List<T> transformedDuplicatesOf(
+            final TransactionID txnId, final Function<ExpirableTxnRecord, T> transform) {
         final var recentHistory = histories.get(txnId);
         if (recentHistory == null) {
             return Collections.emptyList();
         } else {
-            return recentHistory.allDuplicateRecords().stream()
-                    .map(ExpirableTxnRecord::asGrpc)
-                    .toList();
+            final var duplicates = recentHistory.allDuplicateRecords();
+            if (duplicates.isEmpty()) {
+                return Collections.emptyList();
+            }
+            final List<T> transformed = new ArrayList<>(duplicates.size());
+            for (final var duplicate : duplicates) {
+                transformed.add(transform.apply(duplicate));
+            }
+            return transformed;
         }
     }
 
@@ -163,10 +166,10 @@ public class RecordCache {
     }
 
     public ExpirableTxnRecord getPriorityRecord(final TransactionID txnId) {
-        final var history = histories.get(txnId);
-        if (history != null) {
-            return Optional.ofNullable(history.priorityRecord()).orElse(null);
-        }
-        return null;
+        return priorityRecordOf(histories.get(txnId));
+    }
+
+    private ExpirableTxnRecord priorityRecordOf(final TxnIdRecentHistory history) {
+        return (history == null) ? null : history.priorityRecord();
     }
 }
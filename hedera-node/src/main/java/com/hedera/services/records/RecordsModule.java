@@ -31,8 +31,6 @@ import dagger.Module;
 import dagger.Provides;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Singleton;
 
 @Module
@@ -47,8 +45,8 @@ public interface RecordsModule {
 
     @Provides
     @Singleton
-    static Map<TransactionID, TxnIdRecentHistory> txnHistories() {
-        return new ConcurrentHashMap<>();
+    static TxnIdRecentHistories txnHistories() {
+        return new TxnIdRecentHistories();
     }
 
     @Provides
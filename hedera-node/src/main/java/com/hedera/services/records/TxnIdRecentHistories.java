@@ -0,0 +1,371 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.records;
+
+import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
+import static com.hedera.services.state.merkle.internals.BitPackUtils.isValidNum;
+
+import com.hedera.services.state.submerkle.TxnId;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * The recent histories of all {@code TransactionID}s with an unexpired record, keyed by the
+ * transaction id packed into primitives.
+ *
+ * <p>Almost every id has a payer in this node's shard and realm with a valid, non-zero entity
+ * number and no alias, a valid-start nanos in {@code [0, 10^9)}, and a small non-negative nonce;
+ * such an id is packed into its valid-start seconds, a {@code long} with the payer number in the
+ * high word and the nanos in the low word, and an {@code int} with the nonce and scheduled flag.
+ * These keys live in an open-addressed, linearly-probed table; so a lookup never builds or hashes
+ * a protobuf, and looking up a child record just substitutes its nonce. Removing an entry uses
+ * backward-shift deletion, so purging expired histories (which the {@link
+ * com.hedera.services.state.expiry.ExpiryManager} does in expiry order) never allocates. Any other
+ * id (for example, one whose payer is only known by alias) is kept in a fallback map keyed by its
+ * {@link TransactionID}.
+ *
+ * <p>Only the handle thread mutates the histories; but query threads look up receipts and records
+ * concurrently, so lookups are optimistic reads that fall back to a read lock if they overlap a
+ * write.
+ */
+public class TxnIdRecentHistories {
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final int MAX_PACKED_NANOS = 999_999_999;
+    private static final int MAX_PACKED_NONCE = (1 << 30) - 1;
+    private static final long NUM_MASK = 0xFFFFFFFFL;
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<TransactionID, TxnIdRecentHistory> unpackable = new ConcurrentHashMap<>();
+
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private volatile int size = 0;
+
+    public TxnIdRecentHistory get(final TransactionID txnId) {
+        return get(txnId, txnId.getNonce());
+    }
+
+    /**
+     * Returns the recent history of the child with the given nonce of the given (user) transaction
+     * id, without building the child's id.
+     *
+     * @param parentId the id of the parent transaction
+     * @param nonce the nonce of the child
+     * @return the child's recent history, or null if it has none
+     */
+    public TxnIdRecentHistory getChild(final TransactionID parentId, final int nonce) {
+        return get(parentId, nonce);
+    }
+
+    public TxnIdRecentHistory get(final TxnId txnId) {
+        final var payer = txnId.getPayerAccount();
+        final var validStart = txnId.getValidStart();
+        if (!isPackable(
+                payer.shard(),
+                payer.realm(),
+                payer.num(),
+                validStart.getNanos(),
+                txnId.getNonce())) {
+            return unpackable.get(txnId.toGrpc());
+        }
+        return find(
+                validStart.getSeconds(),
+                packedPayerAndNanos(payer.num(), validStart.getNanos()),
+                packedNonceAndFlag(txnId.getNonce(), txnId.isScheduled()));
+    }
+
+    public boolean contains(final TransactionID txnId) {
+        return get(txnId) != null;
+    }
+
+    /**
+     * Returns the recent history of the given transaction id, first creating an empty history for
+     * it if necessary.
+     *
+     * @param txnId the transaction id
+     * @return its (possibly new) recent history
+     */
+    public TxnIdRecentHistory getOrCreate(final TransactionID txnId) {
+        final var validStart = txnId.getTransactionValidStart();
+        final var payer = txnId.getAccountID();
+        if (!isPackable(payer, validStart.getNanos(), txnId.getNonce())) {
+            return unpackable.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+        }
+        return getOrCreate(
+                validStart.getSeconds(),
+                packedPayerAndNanos(payer.getAccountNum(), validStart.getNanos()),
+                packedNonceAndFlag(txnId.getNonce(), txnId.getScheduled()));
+    }
+
+    public TxnIdRecentHistory getOrCreate(final TxnId txnId) {
+        final var payer = txnId.getPayerAccount();
+        final var validStart = txnId.getValidStart();
+        if (!isPackable(
+                payer.shard(),
+                payer.realm(),
+                payer.num(),
+                validStart.getNanos(),
+                txnId.getNonce())) {
+            return unpackable.computeIfAbsent(
+                    txnId.toGrpc(), ignore -> new TxnIdRecentHistory());
+        }
+        return getOrCreate(
+                validStart.getSeconds(),
+                packedPayerAndNanos(payer.num(), validStart.getNanos()),
+                packedNonceAndFlag(txnId.getNonce(), txnId.isScheduled()));
+    }
+
+    public void remove(final TxnId txnId) {
+        final var payer = txnId.getPayerAccount();
+        final var validStart = txnId.getValidStart();
+        if (!isPackable(
+                payer.shard(),
+                payer.realm(),
+                payer.num(),
+                validStart.getNanos(),
+                txnId.getNonce())) {
+            unpackable.remove(txnId.toGrpc());
+            return;
+        }
+        final var seconds = validStart.getSeconds();
+        final var payerAndNanos = packedPayerAndNanos(payer.num(), validStart.getNanos());
+        final var nonceAndFlag = packedNonceAndFlag(txnId.getNonce(), txnId.isScheduled());
+        final var stamp = lock.writeLock();
+        try {
+            final var t = table;
+            final var i = t.slotOf(seconds, payerAndNanos, nonceAndFlag);
+            if (t.histories[i] != null) {
+                removeAt(t, i);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        final var stamp = lock.writeLock();
+        try {
+            table = new Table(INITIAL_CAPACITY);
+            size = 0;
+            unpackable.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Passes every recent history to the given consumer, in no particular order. Must only be
+     * called from the thread that mutates the histories.
+     *
+     * @param consumer the consumer of the histories
+     */
+    public void forEach(final Consumer<TxnIdRecentHistory> consumer) {
+        for (final var history : table.histories) {
+            if (history != null) {
+                consumer.accept(history);
+            }
+        }
+        unpackable.values().forEach(consumer);
+    }
+
+    public int size() {
+        return size + unpackable.size();
+    }
+
+    private TxnIdRecentHistory get(final TransactionID txnId, final int nonce) {
+        final var validStart = txnId.getTransactionValidStart();
+        final var payer = txnId.getAccountID();
+        if (!isPackable(payer, validStart.getNanos(), nonce)) {
+            return unpackable.get(
+                    nonce == txnId.getNonce() ? txnId : txnId.toBuilder().setNonce(nonce).build());
+        }
+        return find(
+                validStart.getSeconds(),
+                packedPayerAndNanos(payer.getAccountNum(), validStart.getNanos()),
+                packedNonceAndFlag(nonce, txnId.getScheduled()));
+    }
+
+    private TxnIdRecentHistory find(
+            final long seconds, final long payerAndNanos, final int nonceAndFlag) {
+        var stamp = lock.tryOptimisticRead();
+        var history = table.historyAt(seconds, payerAndNanos, nonceAndFlag);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                history = table.historyAt(seconds, payerAndNanos, nonceAndFlag);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return history;
+    }
+
+    private TxnIdRecentHistory getOrCreate(
+            final long seconds, final long payerAndNanos, final int nonceAndFlag) {
+        final var stamp = lock.writeLock();
+        try {
+            var t = table;
+            var i = t.slotOf(seconds, payerAndNanos, nonceAndFlag);
+            if (t.histories[i] != null) {
+                return t.histories[i];
+            }
+            if (2 * (size + 1) > t.histories.length) {
+                t = grown(t);
+                table = t;
+                i = t.slotOf(seconds, payerAndNanos, nonceAndFlag);
+            }
+            final var history = new TxnIdRecentHistory();
+            t.seconds[i] = seconds;
+            t.payerAndNanos[i] = payerAndNanos;
+            t.nonceAndFlags[i] = nonceAndFlag;
+            t.histories[i] = history;
+            size++;
+            return history;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private Table grown(final Table t) {
+        final var bigger = new Table(2 * t.histories.length);
+        for (int i = 0; i < t.histories.length; i++) {
+            if (t.histories[i] != null) {
+                final var j = bigger.slotOf(t.seconds[i], t.payerAndNanos[i], t.nonceAndFlags[i]);
+                bigger.copyFrom(t, i, j);
+            }
+        }
+        return bigger;
+    }
+
+    private void removeAt(final Table t, final int i) {
+        final var mask = t.histories.length - 1;
+        var hole = i;
+        var j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (t.histories[j] == null) {
+                break;
+            }
+            final var home = t.homeOf(j);
+            // The entry at j can fill the hole unless its home slot lies cyclically in (hole, j]
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                t.copyFrom(t, j, hole);
+                hole = j;
+            }
+        }
+        t.histories[hole] = null;
+        size--;
+    }
+
+    private static boolean isPackable(final AccountID payer, final int nanos, final int nonce) {
+        // An aliased payer has no account number, so only its alias tells two such ids apart
+        return payer.getAlias().isEmpty()
+                && isPackable(
+                        payer.getShardNum(),
+                        payer.getRealmNum(),
+                        payer.getAccountNum(),
+                        nanos,
+                        nonce);
+    }
+
+    private static boolean isPackable(
+            final long shard, final long realm, final long num, final int nanos, final int nonce) {
+        return shard == STATIC_PROPERTIES.getShard()
+                && realm == STATIC_PROPERTIES.getRealm()
+                && num != 0
+                && isValidNum(num)
+                && nanos >= 0
+                && nanos <= MAX_PACKED_NANOS
+                && nonce >= 0
+                && nonce <= MAX_PACKED_NONCE;
+    }
+
+    private static long packedPayerAndNanos(final long num, final int nanos) {
+        return (num << 32) | (nanos & NUM_MASK);
+    }
+
+    private static int packedNonceAndFlag(final int nonce, final boolean scheduled) {
+        return (nonce << 1) | (scheduled ? 1 : 0);
+    }
+
+    private static final class Table {
+        private final long[] seconds;
+        private final long[] payerAndNanos;
+        private final int[] nonceAndFlags;
+        private final TxnIdRecentHistory[] histories;
+
+        private Table(final int capacity) {
+            seconds = new long[capacity];
+            payerAndNanos = new long[capacity];
+            nonceAndFlags = new int[capacity];
+            histories = new TxnIdRecentHistory[capacity];
+        }
+
+        /**
+         * Returns the slot holding the given key, or the empty slot where it would be inserted.
+         * Probes at most once around the table, so a reader racing a writer always terminates (and
+         * then fails validation).
+         */
+        private int slotOf(final long secs, final long payerNanos, final int nonceFlag) {
+            final var mask = histories.length - 1;
+            var i = hash(secs, payerNanos, nonceFlag) & mask;
+            for (int probes = 0; probes <= mask; probes++, i = (i + 1) & mask) {
+                if (histories[i] == null
+                        || (seconds[i] == secs
+                                && payerAndNanos[i] == payerNanos
+                                && nonceAndFlags[i] == nonceFlag)) {
+                    return i;
+                }
+            }
+            return i;
+        }
+
+        private TxnIdRecentHistory historyAt(
+                final long secs, final long payerNanos, final int nonceFlag) {
+            final var i = slotOf(secs, payerNanos, nonceFlag);
+            final var history = histories[i];
+            if (history != null
+                    && seconds[i] == secs
+                    && payerAndNanos[i] == payerNanos
+                    && nonceAndFlags[i] == nonceFlag) {
+                return history;
+            }
+            return null;
+        }
+
+        private int homeOf(final int i) {
+            return hash(seconds[i], payerAndNanos[i], nonceAndFlags[i]) & (histories.length - 1);
+        }
+
+        private void copyFrom(final Table source, final int from, final int to) {
+            seconds[to] = source.seconds[from];
+            payerAndNanos[to] = source.payerAndNanos[from];
+            nonceAndFlags[to] = source.nonceAndFlags[from];
+            histories[to] = source.histories[from];
+        }
+
+        private static int hash(final long secs, final long payerNanos, final int nonceFlag) {
+            var h = secs * 0x9E3779B97F4A7C15L;
+            h ^= payerNanos * 0xC2B2AE3D27D4EB4FL;
+            h ^= nonceFlag * 0x165667B19E3779F9L;
+            h ^= h >>> 29;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -28,6 +28,7 @@ import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.txns.diligence.DuplicateClassification;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.LinkedList;
@@ -101,6 +102,10 @@ public class TxnIdRecentHistory {
      * @return all the duplicate historical records in chronological order
      */
     public List<ExpirableTxnRecord> allDuplicateRecords() {
+        if (numRecords(classifiableRecords) + numRecords(unclassifiableRecords) <= 1) {
+            // By far the most common case, so skip building and sorting a stream
+            return Collections.emptyList();
+        }
         return Stream.concat(duplicateClassifiableRecords(), duplicateUnclassifiableRecords())
                 .sorted(CONSENSUS_TIME_COMPARATOR)
                 .toList();
@@ -245,6 +250,10 @@ public class TxnIdRecentHistory {
         unclassifiableRecords.add(expirableTxnRecord);
     }
 
+    private int numRecords(final List<ExpirableTxnRecord> records) {
+        return (records == null) ? 0 : records.size();
+    }
+
     private boolean areForgotten(final List<ExpirableTxnRecord> records) {
         return records == null || records.isEmpty();
     }
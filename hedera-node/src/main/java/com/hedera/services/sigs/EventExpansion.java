@@ -18,6 +18,7 @@ package com.hedera.services.sigs;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.ServicesState;
 import com.hedera.services.sigs.order.SigReqsManager;
+import com.hedera.services.sigs.verification.PrecheckVerifiedSigs;
 import com.hedera.services.txns.prefetch.PrefetchProcessor;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.swirlds.common.crypto.Cryptography;
@@ -35,20 +36,28 @@ public class EventExpansion {
     private final SigReqsManager sigReqsManager;
     private final ExpandHandleSpan expandHandleSpan;
     private final PrefetchProcessor prefetchProcessor;
+    private final PrecheckVerifiedSigs precheckVerifiedSigs;
+    private final long selfId;
 
     @Inject
     public EventExpansion(
             final Cryptography engine,
             final SigReqsManager sigReqsManager,
             final ExpandHandleSpan expandHandleSpan,
-            final PrefetchProcessor prefetchProcessor) {
+            final PrefetchProcessor prefetchProcessor,
+            final PrecheckVerifiedSigs precheckVerifiedSigs,
+            final long selfId) {
         this.engine = engine;
         this.sigReqsManager = sigReqsManager;
         this.expandHandleSpan = expandHandleSpan;
         this.prefetchProcessor = prefetchProcessor;
+        this.precheckVerifiedSigs = precheckVerifiedSigs;
+        this.selfId = selfId;
     }
 
     public void expandAllSigs(final Event event, final ServicesState sourceState) {
+        // Only this node's own events can contain transactions it prechecked
+        final var isSelfCreated = event.getCreatorId() == selfId;
         event.forEachTransaction(
                 txn -> {
                     try {
@@ -59,7 +68,11 @@ public class EventExpansion {
                         // synchronous signature expansion
                         prefetchProcessor.submit(accessor);
                         sigReqsManager.expandSigs(sourceState, accessor);
-                        engine.verifyAsync(txn.getSignatures());
+                        final var sigs = txn.getSignatures();
+                        engine.verifyAsync(
+                                isSelfCreated
+                                        ? precheckVerifiedSigs.unverifiedAmong(accessor, sigs)
+                                        : sigs);
                     } catch (final InvalidProtocolBufferException e) {
                         log.warn("Event contained a non-GRPC transaction", e);
                     } catch (final Exception race) {
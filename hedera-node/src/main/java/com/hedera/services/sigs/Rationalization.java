@@ -15,20 +15,25 @@
  */
 package com.hedera.services.sigs;
 
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNKNOWN;
 import static com.hedera.services.sigs.PlatformSigOps.createCryptoSigsFrom;
 import static com.hedera.services.sigs.factories.PlatformSigFactory.allVaryingMaterialEquals;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.varyingMaterialEquals;
 import static com.hedera.services.sigs.order.CodeOrderResultFactory.CODE_ORDER_RESULT_FACTORY;
 import static com.hedera.services.utils.RationalizedSigMeta.forPayerAndOthers;
 import static com.hedera.services.utils.RationalizedSigMeta.forPayerOnly;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.ledger.SigImpactHistorian.ChangeStatus;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.sigs.annotations.WorkingStateSigReqs;
 import com.hedera.services.sigs.factories.ReusableBodySigningFactory;
 import com.hedera.services.sigs.order.SigRequirements;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
+import com.hedera.services.sigs.verification.PrecheckVerifiedSigs;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.utils.RationalizedSigMeta;
 import com.hedera.services.utils.accessors.SwirldsTxnAccessor;
@@ -50,12 +55,14 @@ public class Rationalization {
     private final SigRequirements sigReqs;
     private final SigImpactHistorian sigImpactHistorian;
     private final ReusableBodySigningFactory bodySigningFactory;
+    private final PrecheckVerifiedSigs precheckVerifiedSigs;
 
     private SwirldsTxnAccessor txnAccessor;
     private PubKeyToSigBytes pkToSigFn;
 
     private JKey reqPayerSig;
     private boolean verifiedSync;
+    private ChangeStatus fallbackCause;
     private List<JKey> reqOthersSigs;
     private ResponseCodeEnum finalStatus;
     private List<TransactionSignature> txnSigs;
@@ -68,16 +75,22 @@ public class Rationalization {
             final SyncVerifier syncVerifier,
             final SigImpactHistorian sigImpactHistorian,
             final @WorkingStateSigReqs SigRequirements sigReqs,
-            final ReusableBodySigningFactory bodySigningFactory) {
+            final ReusableBodySigningFactory bodySigningFactory,
+            final PrecheckVerifiedSigs precheckVerifiedSigs) {
         this.sigReqs = sigReqs;
         this.syncVerifier = syncVerifier;
         this.sigImpactHistorian = sigImpactHistorian;
         this.bodySigningFactory = bodySigningFactory;
+        this.precheckVerifiedSigs = precheckVerifiedSigs;
     }
 
     public void performFor(final SwirldsTxnAccessor txnAccessor) {
         final var linkedRefs = txnAccessor.getLinkedRefs();
-        if (linkedRefs != null && linkedRefs.haveNoChangesAccordingTo(sigImpactHistorian)) {
+        final var refsStatus =
+                (linkedRefs == null)
+                        ? UNKNOWN
+                        : linkedRefs.changeStatusAccordingTo(sigImpactHistorian);
+        if (refsStatus == UNCHANGED) {
             finalStatus = txnAccessor.getExpandedSigStatus();
             if (finalStatus == null) {
                 log.warn(
@@ -85,11 +98,13 @@ public class Rationalization {
                         txnAccessor.getSignedTxnWrapper());
             } else {
                 verifiedSync = false;
+                fallbackCause = null;
                 return;
             }
         }
 
         resetFor(txnAccessor);
+        fallbackCause = (refsStatus == UNCHANGED) ? UNKNOWN : refsStatus;
         execute();
     }
 
@@ -101,6 +116,18 @@ public class Rationalization {
         return verifiedSync;
     }
 
+    /**
+     * If the last call to {@link Rationalization#performFor(SwirldsTxnAccessor)} could not simply
+     * re-use the expanded signatures, returns why; that is, {@code CHANGED} if some linked entity
+     * or alias changed since the source state was signed, or {@code UNKNOWN} if the change status
+     * could not be determined. Returns null if the expanded signatures were re-used as-is.
+     *
+     * @return the cause of the last re-expansion, if any
+     */
+    public ChangeStatus fallbackCause() {
+        return fallbackCause;
+    }
+
     void resetFor(final SwirldsTxnAccessor txnAccessor) {
         this.pkToSigFn = txnAccessor.getPkToSigsFn();
         this.txnAccessor = txnAccessor;
@@ -114,6 +141,7 @@ public class Rationalization {
 
         finalStatus = null;
         verifiedSync = false;
+        fallbackCause = null;
 
         reqPayerSig = null;
         reqOthersSigs = null;
@@ -152,7 +180,6 @@ public class Rationalization {
             txnSigs = new ArrayList<>();
             txnSigs.addAll(rationalizedPayerSigs);
             txnSigs.addAll(rationalizedOtherPartySigs);
-            verifiedSync = true;
         }
 
         makeRationalizedMetaAccessible();
@@ -180,11 +207,42 @@ public class Rationalization {
                 return candidateSigs;
             }
         }
-        /* Otherwise we must synchronously verify these signatures for the rationalized keys */
-        syncVerifier.verifySync(realSigs);
+        /* Otherwise re-use the (possibly still pending) verification of any expanded signature
+        with the same key material, and synchronously verify only the genuinely new signatures */
+        List<TransactionSignature> newSigs = null;
+        for (int i = 0, n = realSigs.size(); i < n; i++) {
+            final var realSig = realSigs.get(i);
+            final var expandedSig = expandedMatchFor(realSig);
+            if (expandedSig != null) {
+                realSigs.set(i, expandedSig);
+            } else {
+                if (newSigs == null) {
+                    newSigs = new ArrayList<>();
+                }
+                newSigs.add(realSig);
+            }
+        }
+        if (newSigs != null) {
+            // Signatures this node already verified in precheck need not be verified again
+            final var unverifiedSigs = precheckVerifiedSigs.unverifiedAmong(txnAccessor, newSigs);
+            if (!unverifiedSigs.isEmpty()) {
+                syncVerifier.verifySync(unverifiedSigs);
+                verifiedSync = true;
+            }
+        }
         return realSigs;
     }
 
+    private TransactionSignature expandedMatchFor(final TransactionSignature realSig) {
+        for (final var expandedSig : txnSigs) {
+            if (expandedSig.getSignatureType() == realSig.getSignatureType()
+                    && varyingMaterialEquals(expandedSig, realSig)) {
+                return expandedSig;
+            }
+        }
+        return null;
+    }
+
     private ResponseCodeEnum expandIn(
             List<TransactionSignature> target, Expansion.SigReqsFunction keysFn) {
         lastOrderResult =
@@ -271,6 +329,6 @@ public class Rationalization {
             final SyncVerifier syncVerifier,
             final SigRequirements sigReqs,
             final ReusableBodySigningFactory bodySigningFactory) {
-        this(syncVerifier, null, sigReqs, bodySigningFactory);
+        this(syncVerifier, null, sigReqs, bodySigningFactory, new PrecheckVerifiedSigs());
     }
 }
@@ -35,7 +35,7 @@ import com.hedera.services.config.FileNumbers;
 import com.hedera.services.context.StateChildren;
 import com.hedera.services.files.HFileMeta;
 import com.hedera.services.files.MetadataMapFactory;
-import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.legacy.core.jproto.JContractIDKey;
 import com.hedera.services.legacy.core.jproto.JKey;
@@ -72,7 +72,7 @@ public final class StateChildrenSigMetadataLookup implements SigMetadataLookup {
         this.tokenMetaTransform = tokenMetaTransform;
         this.aliasManager = new AliasManager(stateChildren::aliases);
 
-        final var blobStore = new FcBlobsBytesStore(stateChildren::storage);
+        final var blobStore = new VirtualBlobStore(stateChildren::storage);
         this.metaMap = MetadataMapFactory.metaMapFrom(blobStore);
     }
 
@@ -20,6 +20,7 @@ import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANG
 import com.google.common.base.MoreObjects;
 import com.google.protobuf.ByteString;
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.ledger.SigImpactHistorian.ChangeStatus;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,19 +44,35 @@ public class LinkedRefs {
     }
 
     public boolean haveNoChangesAccordingTo(final SigImpactHistorian historian) {
+        return changeStatusAccordingTo(historian) == UNCHANGED;
+    }
+
+    /**
+     * Returns the combined change status of all linked entities and aliases since the source state
+     * was signed. This is {@code UNCHANGED} only if every linked reference is unchanged; otherwise
+     * it is the status of the first linked reference found to be {@code CHANGED} or {@code
+     * UNKNOWN}, which lets callers distinguish a genuine change from a source state that has
+     * fallen outside the historian's tracking window.
+     *
+     * @param historian the historian to consult
+     * @return the combined change status of the linked references
+     */
+    public ChangeStatus changeStatusAccordingTo(final SigImpactHistorian historian) {
         for (int j = 0; j < linkedNums.length && linkedNums[j] != 0; j++) {
-            if (historian.entityStatusSince(sourceSignedAt, linkedNums[j]) != UNCHANGED) {
-                return false;
+            final var status = historian.entityStatusSince(sourceSignedAt, linkedNums[j]);
+            if (status != UNCHANGED) {
+                return status;
             }
         }
         if (linkedAliases != null) {
             for (final var alias : linkedAliases) {
-                if (historian.aliasStatusSince(sourceSignedAt, alias) != UNCHANGED) {
-                    return false;
+                final var status = historian.aliasStatusSince(sourceSignedAt, alias);
+                if (status != UNCHANGED) {
+                    return status;
                 }
             }
         }
-        return true;
+        return UNCHANGED;
     }
 
     /**
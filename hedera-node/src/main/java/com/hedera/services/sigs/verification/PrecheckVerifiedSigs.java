@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.sigs.verification;
+
+import static com.swirlds.common.crypto.VerificationStatus.VALID;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.hedera.services.utils.accessors.TxnAccessor;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Remembers which signatures were found valid while this node prechecked a transaction, so the
+ * crypto engine doesn't have to verify them again when the transaction comes back in one of this
+ * node's events.
+ *
+ * <p>A result is keyed by the hash of the signed transaction bytes together with the signature
+ * type, the (expanded) public key, and the signature bytes. Since the hash also fixes the signed
+ * body, a hit is for exactly the same verification the engine would repeat; and since that
+ * verification is a pure function of its inputs, skipping it cannot change any node's outcome.
+ * Only {@code VALID} results are remembered.
+ */
+@Singleton
+public class PrecheckVerifiedSigs {
+    // Self-submitted transactions normally reach consensus within seconds of precheck
+    static final int MAX_REMEMBERED_SIGS = 50_000;
+
+    private final Cache<ByteString, Boolean> validSigs;
+
+    @Inject
+    public PrecheckVerifiedSigs() {
+        this(MAX_REMEMBERED_SIGS);
+    }
+
+    @VisibleForTesting
+    PrecheckVerifiedSigs(final int maxRememberedSigs) {
+        validSigs = Caffeine.newBuilder().maximumSize(maxRememberedSigs).build();
+    }
+
+    /**
+     * Remembers every signature in the given list that was verified as {@code VALID}.
+     *
+     * @param accessor the prechecked transaction
+     * @param sigs its (verified) signatures
+     */
+    public void rememberValid(final TxnAccessor accessor, final List<TransactionSignature> sigs) {
+        if (sigs.isEmpty()) {
+            return;
+        }
+        final var hash = accessor.getHash();
+        for (final var sig : sigs) {
+            if (sig.getSignatureStatus() == VALID) {
+                validSigs.put(keyFor(hash, sig), Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Marks as {@code VALID} any not-yet-verified signature in the given list that this node
+     * already verified during precheck, and returns the signatures that still need verifying.
+     *
+     * @param accessor the transaction being expanded or rationalized
+     * @param sigs its signatures
+     * @return the signatures that still need verifying (the given list itself if none were known)
+     */
+    public List<TransactionSignature> unverifiedAmong(
+            final TxnAccessor accessor, final List<TransactionSignature> sigs) {
+        if (sigs.isEmpty() || validSigs.estimatedSize() == 0) {
+            return sigs;
+        }
+        final var hash = accessor.getHash();
+        List<TransactionSignature> unverified = null;
+        for (int i = 0, n = sigs.size(); i < n; i++) {
+            final var sig = sigs.get(i);
+            if (validSigs.getIfPresent(keyFor(hash, sig)) != null) {
+                sig.setSignatureStatus(VALID);
+                if (unverified == null) {
+                    unverified = new ArrayList<>(sigs.subList(0, i));
+                }
+            } else if (unverified != null) {
+                unverified.add(sig);
+            }
+        }
+        return unverified == null ? sigs : unverified;
+    }
+
+    @VisibleForTesting
+    long numRemembered() {
+        validSigs.cleanUp();
+        return validSigs.estimatedSize();
+    }
+
+    private static ByteString keyFor(final byte[] hash, final TransactionSignature sig) {
+        final var pk = sig.getExpandedPublicKeyDirect();
+        final var sigOffset = sig.getSignatureOffset();
+        final var sigLen = sig.getSignatureLength();
+        final var key = new byte[hash.length + 1 + pk.length + sigLen];
+        System.arraycopy(hash, 0, key, 0, hash.length);
+        key[hash.length] = (byte) sig.getSignatureType().ordinal();
+        System.arraycopy(pk, 0, key, hash.length + 1, pk.length);
+        System.arraycopy(
+                sig.getContentsDirect(), sigOffset, key, hash.length + 1 + pk.length, sigLen);
+        // The key array never escapes, so wrapping it without a copy is safe
+        return UnsafeByteOperations.unsafeWrap(key);
+    }
+}
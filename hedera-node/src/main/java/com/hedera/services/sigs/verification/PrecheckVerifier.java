@@ -40,17 +40,28 @@ import javax.inject.Singleton;
  *       referenced accounts.
  * </ul>
  *
- * Note that this component verifies cryptographic signatures synchronously.
+ * Note that this component verifies cryptographic signatures synchronously; and remembers the
+ * valid ones in {@link PrecheckVerifiedSigs}, so they need not be verified again when the
+ * transaction reaches consensus in one of this node's events.
  */
 @Singleton
 public class PrecheckVerifier {
     private final SyncVerifier syncVerifier;
     private final PrecheckKeyReqs precheckKeyReqs;
+    private final PrecheckVerifiedSigs verifiedSigs;
 
     @Inject
-    public PrecheckVerifier(SyncVerifier syncVerifier, PrecheckKeyReqs precheckKeyReqs) {
+    public PrecheckVerifier(
+            final SyncVerifier syncVerifier,
+            final PrecheckKeyReqs precheckKeyReqs,
+            final PrecheckVerifiedSigs verifiedSigs) {
         this.syncVerifier = syncVerifier;
         this.precheckKeyReqs = precheckKeyReqs;
+        this.verifiedSigs = verifiedSigs;
+    }
+
+    public PrecheckVerifier(SyncVerifier syncVerifier, PrecheckKeyReqs precheckKeyReqs) {
+        this(syncVerifier, precheckKeyReqs, new PrecheckVerifiedSigs());
     }
 
     /**
@@ -67,7 +78,12 @@ public class PrecheckVerifier {
             List<TransactionSignature> availSigs = getAvailSigs(reqKeys, accessor);
             syncVerifier.verifySync(availSigs);
             Function<byte[], TransactionSignature> sigsFn = pkToSigMapFrom(availSigs);
-            return reqKeys.stream().allMatch(key -> isActive(key, sigsFn, ONLY_IF_SIG_IS_VALID));
+            final var hasNecessarySigs =
+                    reqKeys.stream().allMatch(key -> isActive(key, sigsFn, ONLY_IF_SIG_IS_VALID));
+            if (hasNecessarySigs) {
+                verifiedSigs.rememberValid(accessor, availSigs);
+            }
+            return hasNecessarySigs;
         } catch (InvalidPayerAccountException ignore) {
             return false;
         }
@@ -15,18 +15,24 @@
  */
 package com.hedera.services.state.expiry;
 
+import static com.hedera.services.state.expiry.EntityExpiryIndex.NO_DUE_NUM;
 import static com.hedera.services.state.expiry.EntityProcessResult.DONE;
 import static com.hedera.services.state.expiry.EntityProcessResult.NOTHING_TO_DO;
 
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.records.ConsensusTimeTracker;
+import com.hedera.services.state.expiry.classification.EntityLookup;
+import com.hedera.services.state.expiry.classification.SignedStatePreClassifier;
 import com.hedera.services.state.logic.NetworkCtxManager;
+import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.throttling.ExpiryThrottle;
+import com.hedera.services.utils.EntityNum;
 import java.time.Instant;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -44,6 +50,11 @@ public class EntityAutoExpiry {
     private final Supplier<MerkleNetworkContext> networkCtx;
     private final Supplier<SequenceNumber> seqNo;
     private final ConsensusTimeTracker consensusTimeTracker;
+    private final EntityExpiryIndex expiryIndex;
+    private final EntityLookup lookup;
+    private final SignedStatePreClassifier preClassifier;
+
+    @Nullable private ParkingRules parkingRules;
 
     @Inject
     public EntityAutoExpiry(
@@ -54,8 +65,14 @@ public class EntityAutoExpiry {
             final NetworkCtxManager networkCtxManager,
             final Supplier<MerkleNetworkContext> networkCtx,
             final ConsensusTimeTracker consensusTimeTracker,
-            final Supplier<SequenceNumber> seqNo) {
+            final Supplier<SequenceNumber> seqNo,
+            final EntityExpiryIndex expiryIndex,
+            final EntityLookup lookup,
+            final SignedStatePreClassifier preClassifier) {
         this.seqNo = seqNo;
+        this.lookup = lookup;
+        this.preClassifier = preClassifier;
+        this.expiryIndex = expiryIndex;
         this.networkCtx = networkCtx;
         this.networkCtxManager = networkCtxManager;
         this.expiryThrottle = expiryThrottle;
@@ -76,6 +93,7 @@ public class EntityAutoExpiry {
         if (!dynamicProps.shouldAutoRenewSomeEntityType()) {
             return;
         }
+        preClassifier.refreshIfStale(currentConsTime);
 
         final long wrapNum = seqNo.get().current();
         if (wrapNum == firstEntityToScan) {
@@ -97,6 +115,10 @@ public class EntityAutoExpiry {
             curNetworkCtx.clearAutoRenewSummaryCounts();
         }
         autoExpiryCycle.beginCycle(currentConsTime);
+        if (dynamicProps.shouldScanAutoRenewExpiryIndex()) {
+            scanExpiryIndex(currentConsTime, curNetworkCtx, maxEntitiesToScan, maxEntitiesToTouch);
+            return;
+        }
 
         int i = 1;
         int entitiesTouched = 0;
@@ -136,7 +158,132 @@ public class EntityAutoExpiry {
                 curNetworkCtx.getEntitiesTouchedThisSecond());
     }
 
+    /**
+     * Like the linear scan, but only visits the entity numbers that are due according to the
+     * {@link EntityExpiryIndex}, still in ascending order from the last scanned entity and wrapping
+     * around at most once per cycle. Numbers the index reports as due are first confirmed against
+     * state (without using expiry throttle capacity), so every node visits exactly the accounts
+     * whose expiry has passed, regardless of how stale its index is.
+     *
+     * <p>Expired accounts whose type is not being auto-renewed are parked in the index instead of
+     * being visited on every lap. Whether an account is parked is a function only of its type and
+     * the {@link ParkingRules}, and everything parked is due again when those rules change; so a
+     * node that rebuilt its index parks exactly the accounts a long-running node already parked.
+     * Other expired accounts that processing would leave alone for now are skipped, but stay due,
+     * since what decides their fate (their balance, or whether they are a token treasury) can
+     * change through paths the index is not told about.
+     */
+    private void scanExpiryIndex(
+            final Instant currentConsTime,
+            final MerkleNetworkContext curNetworkCtx,
+            final int maxEntitiesToScan,
+            final int maxEntitiesToTouch) {
+        final var now = currentConsTime.getEpochSecond();
+        expiryIndex.advanceTo(now);
+        final var rules =
+                new ParkingRules(
+                        dynamicProps.shouldAutoRenewAccounts(),
+                        dynamicProps.shouldAutoRenewContracts());
+        if (!rules.equals(parkingRules)) {
+            expiryIndex.unparkAll();
+            parkingRules = rules;
+        }
+
+        long scanNum = curNetworkCtx.lastScannedEntity();
+        final var lapStart = Math.max(scanNum, firstEntityToScan - 1);
+        long cursor = lapStart;
+        boolean wrapped = false;
+        boolean advanceScan = true;
+        int entitiesScanned = 0;
+        int entitiesTouched = 0;
+        EntityProcessResult result;
+        while (entitiesScanned < maxEntitiesToScan) {
+            if (advanceScan) {
+                var nextNum = nextConfirmedDue(cursor, now);
+                if (nextNum == NO_DUE_NUM && !wrapped) {
+                    wrapped = true;
+                    nextNum = nextConfirmedDue(firstEntityToScan - 1, now);
+                }
+                if (nextNum == NO_DUE_NUM || (wrapped && nextNum > lapStart)) {
+                    break;
+                }
+                scanNum = cursor = nextNum;
+            }
+            entitiesScanned++;
+            if ((result = autoExpiryCycle.process(scanNum)) != NOTHING_TO_DO) {
+                entitiesTouched++;
+                advanceScan = (result == DONE);
+            } else {
+                advanceScan = true;
+            }
+            if ((entitiesTouched >= maxEntitiesToTouch)
+                    || (!consensusTimeTracker.hasMoreStandaloneRecordTime())) {
+                break;
+            }
+        }
+
+        autoExpiryCycle.endCycle();
+        curNetworkCtx.updateAutoRenewSummaryCounts(entitiesScanned, entitiesTouched);
+        curNetworkCtx.updateLastScannedEntity(advanceScan ? scanNum : scanNum - 1);
+        log.debug(
+                "Indexed auto-renew scan finished at {} with {}/{} scanned/touched",
+                scanNum,
+                entitiesScanned,
+                entitiesTouched);
+    }
+
+    private long nextConfirmedDue(final long after, final long now) {
+        long candidate = after;
+        while ((candidate = expiryIndex.nextDueAfter(candidate)) != NO_DUE_NUM) {
+            final var account = lookup.getImmutableAccount(EntityNum.fromLong(candidate));
+            if (account == null) {
+                expiryIndex.forget(candidate);
+            } else if (account.getExpiry() > now) {
+                expiryIndex.retrack(candidate, account.getExpiry());
+            } else if (!parkedAsNeverRenewed(candidate, account)
+                    && !isLeftAloneForNow(account, now)) {
+                return candidate;
+            }
+        }
+        return NO_DUE_NUM;
+    }
+
+    /**
+     * Parks the given expired account if the current {@link ParkingRules} do not auto-renew (or
+     * remove) accounts of its type.
+     *
+     * @return whether the account was parked
+     */
+    private boolean parkedAsNeverRenewed(final long num, final MerkleAccount account) {
+        final var isContract = account.isSmartContract();
+        if (isContract ? !parkingRules.renewContracts() : !parkingRules.renewAccounts()) {
+            expiryIndex.park(num);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether {@link AutoExpiryCycle#process(long)} would certainly return {@link
+     * EntityProcessResult#NOTHING_TO_DO} for the given expired account right now; that is, if it is
+     * unfunded and either still in its grace period, or a token treasury. (A contract with an
+     * auto-renew account is never skipped, since another account's balance decides whether it can
+     * renew.) This is re-checked from state on every lap.
+     */
+    private boolean isLeftAloneForNow(final MerkleAccount account, final long now) {
+        if (account.isDeleted()
+                || account.getBalance() > 0
+                || (account.isSmartContract() && account.hasAutoRenewAccount())) {
+            return false;
+        }
+        return account.getExpiry() + dynamicProps.autoRenewGracePeriod() > now
+                || account.isTokenTreasury();
+    }
+
     private long next(long scanNum, final long wrapNum) {
         return (++scanNum >= wrapNum) ? firstEntityToScan : scanNum;
     }
+
+    /** The dynamic properties that decide which expired accounts can be parked. */
+    private record ParkingRules(boolean renewAccounts, boolean renewContracts) {}
 }
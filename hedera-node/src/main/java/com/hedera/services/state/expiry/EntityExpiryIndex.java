@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry;
+
+import static com.hedera.services.state.merkle.internals.BitPackUtils.isValidNum;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.utils.PagedBitSet;
+import java.util.Arrays;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.collections.impl.map.mutable.primitive.LongIntHashMap;
+
+/**
+ * An in-memory index of account expiries that lets {@link EntityAutoExpiry} visit only the
+ * accounts that may be due for renewal or removal, instead of every entity number.
+ *
+ * <p>Each tracked account sits either in a min-heap ordered by its tracked expiry, or (once that
+ * expiry has passed) in a bitmap of <i>due</i> numbers. The index is rebuilt from state on
+ * initialization and reconnect, and told about every committed expiry change; so the tracked
+ * expiry of an account is never later than its actual expiry. It may be earlier (e.g. after a
+ * renewal, or a removal), which is why callers must confirm a due number against state, and then
+ * either {@link #retrack(long, long)} or {@link #forget(long)} it if it is not in fact due.
+ *
+ * <p>A due number whose account auto-renewal is not enabled for can also be {@link #park(long)}-ed.
+ * A parked number is due again after its expiry is tracked anew, or after {@link #unparkAll()}.
+ *
+ * <p>Heap entries pack the expiry (clamped to 32 bits) in the high word and the entity number in
+ * the low word of a single {@code long}, compared as unsigned. Only the latest expiry tracked for a
+ * number is live; an older heap entry for the same number is dropped when it reaches the top of the
+ * heap, and the heap is compacted if such stale entries come to outnumber the live ones. Not
+ * thread-safe; only used on the handle thread.
+ */
+@Singleton
+public class EntityExpiryIndex {
+    public static final long NO_DUE_NUM = -1L;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long MAX_PACKED_EXPIRY = 0xFFFFFFFFL;
+    private static final long NUM_MASK = 0xFFFFFFFFL;
+
+    private final PagedBitSet dueNums = new PagedBitSet();
+    private final PagedBitSet parkedNums = new PagedBitSet();
+    // The (clamped) expiry of the one live heap entry for each number not yet due
+    private final LongIntHashMap liveExpiries = new LongIntHashMap();
+    private long[] heap = new long[INITIAL_CAPACITY];
+    private int heapSize = 0;
+
+    @Inject
+    public EntityExpiryIndex() {
+        // Dagger2
+    }
+
+    public void clear() {
+        heapSize = 0;
+        dueNums.clear();
+        parkedNums.clear();
+        liveExpiries.clear();
+    }
+
+    /**
+     * Tracks the given expiry for the given entity number. Numbers outside the valid entity number
+     * range are ignored.
+     *
+     * @param num the entity number
+     * @param expiry its (new) expiry
+     */
+    public void track(final long num, final long expiry) {
+        if (!isValidNum(num)) {
+            return;
+        }
+        dueNums.remove(num);
+        parkedNums.remove(num);
+        push(num, expiry);
+    }
+
+    /**
+     * Moves every number whose tracked expiry is not later than the given time into the due set.
+     *
+     * @param now the current consensus second
+     */
+    public void advanceTo(final long now) {
+        final var packedNow = pack(NUM_MASK, now);
+        while (heapSize > 0 && Long.compareUnsigned(heap[0], packedNow) <= 0) {
+            final var top = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(0);
+            if (isLive(top)) {
+                final var num = top & NUM_MASK;
+                liveExpiries.remove(num);
+                dueNums.add(num);
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest due number greater than the given number, or {@link #NO_DUE_NUM}.
+     *
+     * @param num the exclusive lower bound
+     * @return the next due number
+     */
+    public long nextDueAfter(final long num) {
+        return dueNums.nextAfter(num);
+    }
+
+    /**
+     * Replaces a due number whose actual expiry turned out to be later with that expiry.
+     *
+     * @param num the entity number
+     * @param actualExpiry its expiry in state
+     */
+    public void retrack(final long num, final long actualExpiry) {
+        dueNums.remove(num);
+        track(num, actualExpiry);
+    }
+
+    /**
+     * Drops a due number that no longer exists in state.
+     *
+     * @param num the removed entity number
+     */
+    public void forget(final long num) {
+        dueNums.remove(num);
+    }
+
+    /**
+     * Sets aside a due number until its expiry is tracked anew, or {@link #unparkAll()} is called.
+     *
+     * @param num the expired entity number
+     */
+    public void park(final long num) {
+        if (dueNums.remove(num)) {
+            parkedNums.add(num);
+        }
+    }
+
+    /** Makes every parked number due again, since the rules for parking them changed. */
+    public void unparkAll() {
+        parkedNums.forEach(dueNums::add);
+        parkedNums.clear();
+    }
+
+    private void push(final long num, final long expiry) {
+        final var packed = pack(num, expiry);
+        final var packedExpiry = (int) (packed >>> 32);
+        if (liveExpiries.containsKey(num) && liveExpiries.get(num) == packedExpiry) {
+            return;
+        }
+        liveExpiries.put(num, packedExpiry);
+        if (heapSize == heap.length) {
+            if (heapSize > 2 * liveExpiries.size()) {
+                compact();
+            } else {
+                heap = Arrays.copyOf(heap, 2 * heap.length);
+            }
+        }
+        heap[heapSize] = packed;
+        siftUp(heapSize++);
+    }
+
+    private boolean isLive(final long packed) {
+        final var num = packed & NUM_MASK;
+        return liveExpiries.containsKey(num) && liveExpiries.get(num) == (int) (packed >>> 32);
+    }
+
+    private void compact() {
+        int n = 0;
+        for (int i = 0; i < heapSize; i++) {
+            if (isLive(heap[i])) {
+                heap[n++] = heap[i];
+            }
+        }
+        heapSize = n;
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    private static long pack(final long num, final long expiry) {
+        final var clampedExpiry = Math.min(MAX_PACKED_EXPIRY, Math.max(0L, expiry));
+        return (clampedExpiry << 32) | (num & NUM_MASK);
+    }
+
+    private void siftUp(int i) {
+        final var packed = heap[i];
+        while (i > 0) {
+            final var parent = (i - 1) >>> 1;
+            if (Long.compareUnsigned(heap[parent], packed) <= 0) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = packed;
+    }
+
+    private void siftDown(int i) {
+        if (heapSize == 0) {
+            return;
+        }
+        final var packed = heap[i];
+        final var half = heapSize >>> 1;
+        while (i < half) {
+            var child = 2 * i + 1;
+            final var right = child + 1;
+            if (right < heapSize && Long.compareUnsigned(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (Long.compareUnsigned(packed, heap[child]) <= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = packed;
+    }
+
+    @VisibleForTesting
+    int numPending() {
+        return heapSize;
+    }
+
+    @VisibleForTesting
+    long numDue() {
+        return dueNums.size();
+    }
+
+    @VisibleForTesting
+    long numParked() {
+        return parkedNums.size();
+    }
+}
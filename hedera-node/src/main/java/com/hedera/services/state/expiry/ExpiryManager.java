@@ -20,6 +20,7 @@ import static java.util.Comparator.comparing;
 
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.records.TxnIdRecentHistories;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.EntityId;
@@ -64,7 +65,7 @@ public class ExpiryManager {
     private final long realm;
 
     private final SigImpactHistorian sigImpactHistorian;
-    private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
+    private final TxnIdRecentHistories txnHistories;
     private final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts;
 
     private final MonotonicFullQueueExpiries<Long> payerRecordExpiries =
@@ -76,7 +77,7 @@ public class ExpiryManager {
     public ExpiryManager(
             final HederaNumbers hederaNums,
             final SigImpactHistorian sigImpactHistorian,
-            final Map<TransactionID, TxnIdRecentHistory> txnHistories,
+            final TxnIdRecentHistories txnHistories,
             final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts) {
         this.accounts = accounts;
         this.txnHistories = txnHistories;
@@ -130,7 +131,7 @@ public class ExpiryManager {
                 comparing(Map.Entry<Long, Long>::getValue).thenComparing(Map.Entry::getKey));
         payerExpiries.forEach(entry -> payerRecordExpiries.track(entry.getKey(), entry.getValue()));
 
-        txnHistories.values().forEach(TxnIdRecentHistory::observeStaged);
+        txnHistories.forEach(TxnIdRecentHistory::observeStaged);
     }
 
     /**
@@ -165,7 +166,7 @@ public class ExpiryManager {
         ExpirableTxnRecord nextRecord;
         while ((nextRecord = records.peek()) != null && nextRecord.getExpiry() <= now) {
             nextRecord = records.poll();
-            final var txnId = nextRecord.getTxnId().toGrpc();
+            final var txnId = nextRecord.getTxnId();
             final var history = txnHistories.get(txnId);
             if (history != null) {
                 history.forgetExpiredAt(now);
@@ -201,10 +202,7 @@ public class ExpiryManager {
     }
 
     private void stage(final ExpirableTxnRecord expirableTxnRecord) {
-        final var txnId = expirableTxnRecord.getTxnId().toGrpc();
-        txnHistories
-                .computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory())
-                .stage(expirableTxnRecord);
+        txnHistories.getOrCreate(expirableTxnRecord.getTxnId()).stage(expirableTxnRecord);
     }
 
     private EntityId entityWith(final long num) {
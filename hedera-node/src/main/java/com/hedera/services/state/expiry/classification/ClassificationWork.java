@@ -41,6 +41,7 @@ public class ClassificationWork {
     private final GlobalDynamicProperties dynamicProperties;
     private final EntityLookup lookup;
     private final ExpiryThrottle expiryThrottle;
+    private final SignedStatePreClassifier preClassifier;
     private EntityNum lastClassifiedNum;
     private MerkleAccount lastClassified;
     private EntityNum payerNum;
@@ -50,9 +51,11 @@ public class ClassificationWork {
     public ClassificationWork(
             final GlobalDynamicProperties dynamicProperties,
             final EntityLookup lookup,
-            final ExpiryThrottle expiryThrottle) {
+            final ExpiryThrottle expiryThrottle,
+            final SignedStatePreClassifier preClassifier) {
         this.dynamicProperties = dynamicProperties;
         this.expiryThrottle = expiryThrottle;
+        this.preClassifier = preClassifier;
         this.lookup = lookup;
     }
 
@@ -66,11 +69,14 @@ public class ClassificationWork {
         lastClassified = null;
         lastClassifiedNum = candidateNum;
 
+        final var longNow = now.getEpochSecond();
+        if (preClassifier.isKnownNotExpired(candidateNum.longValue(), longNow)) {
+            return OTHER;
+        }
         lastClassified = lookup.getImmutableAccount(lastClassifiedNum);
         if (lastClassified == null) {
             return OTHER;
         } else {
-            final var longNow = now.getEpochSecond();
             final long expiry = lastClassified.getExpiry();
             if (expiry > longNow) {
                 return OTHER;
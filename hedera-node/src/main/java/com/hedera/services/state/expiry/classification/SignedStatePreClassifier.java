@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry.classification;
+
+import static com.hedera.services.utils.MiscUtils.forEach;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.primitives.SignedStateViewFactory;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.utils.PagedBitSet;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Classifies accounts ahead of consensus time on a background thread, using the latest signed
+ * state, so that {@link ClassificationWork} can skip the state lookup for accounts that cannot
+ * have expired yet.
+ *
+ * <p>Each refresh records the numbers of all accounts whose expiry in the signed state is after
+ * a horizon {@code H}, a lookahead past the consensus time that triggered the refresh. A signed
+ * state is always an ancestor of the working state, and an account's expiry is only ever
+ * extended (or the account removed); so for every recorded number, classification at any
+ * consensus time up to {@code H} is sure to be {@link ClassificationResult#OTHER}. The handle
+ * thread still uses expiry throttle capacity for the candidate exactly as before, so scan
+ * progress, throttle usage, and all other state changes are the same on every node, no matter
+ * how fresh its snapshot is.
+ *
+ * <p>{@link #refreshIfStale(Instant)} must only be called from the handle thread.
+ */
+@Singleton
+public class SignedStatePreClassifier {
+    private static final Logger log = LogManager.getLogger(SignedStatePreClassifier.class);
+
+    record Snapshot(PagedBitSet notExpiredNums, long horizon) {}
+
+    private final long lookaheadSecs;
+    private final Executor executor;
+    private final SignedStateViewFactory stateViewFactory;
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+
+    private long nextRefreshTime = Long.MIN_VALUE;
+    @Nullable private volatile Snapshot snapshot;
+
+    @Inject
+    public SignedStatePreClassifier(
+            final NodeLocalProperties properties, final SignedStateViewFactory stateViewFactory) {
+        this(
+                properties.autoRenewPreClassifyLookaheadSecs(),
+                stateViewFactory,
+                Executors.newSingleThreadExecutor(
+                        runnable -> {
+                            final var thread = new Thread(runnable, "expiry-pre-classifier");
+                            thread.setDaemon(true);
+                            return thread;
+                        }));
+    }
+
+    @VisibleForTesting
+    SignedStatePreClassifier(
+            final long lookaheadSecs,
+            final SignedStateViewFactory stateViewFactory,
+            final Executor executor) {
+        this.lookaheadSecs = lookaheadSecs;
+        this.stateViewFactory = stateViewFactory;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a background refresh of the snapshot if pre-classification is enabled, half the
+     * lookahead has passed since the last refresh, and no refresh is in progress.
+     *
+     * @param now the current consensus time
+     */
+    public void refreshIfStale(final Instant now) {
+        if (lookaheadSecs <= 0) {
+            return;
+        }
+        final var longNow = now.getEpochSecond();
+        if (longNow < nextRefreshTime || !refreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        nextRefreshTime = longNow + Math.max(1, lookaheadSecs / 2);
+        final var horizon = longNow + lookaheadSecs;
+        executor.execute(
+                () -> {
+                    try {
+                        refresh(horizon);
+                    } finally {
+                        refreshInProgress.set(false);
+                    }
+                });
+    }
+
+    /**
+     * Returns whether the given account is known not to have expired at the given time, based on
+     * the latest snapshot.
+     *
+     * @param num the account number
+     * @param now the current consensus second
+     * @return true if the account cannot have expired yet; false if unknown
+     */
+    public boolean isKnownNotExpired(final long num, final long now) {
+        final var current = snapshot;
+        return current != null
+                && now <= current.horizon()
+                && current.notExpiredNums().contains(num);
+    }
+
+    /** Discards the current snapshot; e.g., after a reconnect replaces the working state. */
+    public void clear() {
+        snapshot = null;
+    }
+
+    @VisibleForTesting
+    void refresh(final long horizon) {
+        try {
+            final var signedChildren = stateViewFactory.childrenOfLatestSignedState();
+            if (signedChildren.isEmpty()) {
+                return;
+            }
+            final var notExpiredNums = new PagedBitSet();
+            forEach(
+                    signedChildren.get().accounts(),
+                    (num, account) -> {
+                        if (account.getExpiry() > horizon) {
+                            notExpiredNums.add(num.longValue());
+                        }
+                    });
+            snapshot = new Snapshot(notExpiredNums, horizon);
+            log.debug(
+                    "Pre-classified {} accounts as not expired until {}",
+                    notExpiredNums.size(),
+                    horizon);
+        } catch (Exception e) {
+            log.warn("Unable to pre-classify accounts from the latest signed state", e);
+        }
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Snapshot getSnapshot() {
+        return snapshot;
+    }
+}
@@ -18,20 +18,20 @@ package com.hedera.services.state.expiry.removal;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
 import static com.hedera.services.throttling.MapAccessType.*;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.virtual.ContractKey;
-import com.hedera.services.state.virtual.ContractStorageListMutation;
 import com.hedera.services.state.virtual.IterableContractValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.stats.ContractGCGauges;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.throttling.ExpiryThrottle;
 import com.hedera.services.throttling.MapAccessType;
 import com.hedera.services.utils.EntityNum;
-import com.hedera.services.utils.MapValueListUtils;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -48,20 +48,28 @@ public class ContractGC {
     private final Supplier<MerkleMap<EntityNum, MerkleAccount>> contracts;
     private final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage;
     private final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode;
+    private final MiscSpeedometers speedometers;
+    private final ContractGCGauges gauges;
 
-    private ContractGC.RemovalFacilitation removalFacilitation =
-            MapValueListUtils::removeFromMapValueList;
+    // Links walked so far in the storage list of the contract being removed, for the gauges
+    private long walkedContractNum = -1;
+    private long linksWalked;
+    private long linksOutOfOrder;
 
     @Inject
     public ContractGC(
             final ExpiryThrottle expiryThrottle,
             final Supplier<MerkleMap<EntityNum, MerkleAccount>> contracts,
             final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage,
-            final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode) {
+            final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode,
+            final MiscSpeedometers speedometers,
+            final ContractGCGauges gauges) {
         this.expiryThrottle = expiryThrottle;
         this.contracts = contracts;
         this.storage = storage;
         this.bytecode = bytecode;
+        this.speedometers = speedometers;
+        this.gauges = gauges;
     }
 
     public boolean expireBestEffort(
@@ -83,6 +91,9 @@ public class ContractGC {
                 expiryThrottle.reclaimLastAllowedUse();
                 return false;
             } else {
+                speedometers.cycleExpiredContractSlotRemovals(numRemoved);
+                gauges.updateSlotsLeft(numKvPairs - numRemoved);
+                gauges.updateLinksOutOfOrder(linksOutOfOrder, linksWalked);
                 final var mutableContract = contracts.get().getForModify(expiredContractNum);
                 mutableContract.setNumContractKvPairs(numKvPairs - numRemoved);
                 // Once we've done any auto-removal work, we make sure the contract is deleted
@@ -97,31 +108,69 @@ public class ContractGC {
         return tryToRemoveBytecode(expiredContractNum, isDeleted);
     }
 
+    /**
+     * Removes as many slots as the expiry throttle allows from the front of the contract's storage
+     * list. Since we always remove the current root, there is no need to re-link each new root as
+     * we go (as a general list removal would); the value returned by each removal is enough to find
+     * the next key. So only the first removal reserves capacity for the {@code get} and {@code put}
+     * needed to mark the final new root as the head of the list; every later removal is a single
+     * {@code remove}.
+     *
+     * <p>Each removed value also tells us whether its link to the next slot points to a lower key;
+     * we count such links (without any extra reads) so the gauges can report how far the list is
+     * from key order.
+     *
+     * @param maxKvPairs the number of slots the contract is known to use
+     * @param contractNum the number of the expired contract
+     * @param rootKey the key of the contract's first storage slot
+     * @param storage the contract storage map
+     * @return the number of slots removed and the new root key, if any slots remain
+     */
     private SlotRemovalOutcome removeKvPairs(
             final int maxKvPairs,
             final EntityNum contractNum,
             final ContractKey rootKey,
             final VirtualMap<ContractKey, IterableContractValue> storage) {
-        final var listRemoval = new ContractStorageListMutation(contractNum.longValue(), storage);
-        var i = maxKvPairs;
+        final var contractId = contractNum.longValue();
+        if (contractId != walkedContractNum) {
+            walkedContractNum = contractId;
+            linksWalked = 0;
+            linksOutOfOrder = 0;
+        }
+        var work = maxKvPairs == 1 ? ONLY_SLOT_REMOVAL_WORK : NEXT_SLOT_REMOVAL_WORK;
         var n = 0;
         var contractKey = rootKey;
-        while (contractKey != null && expiryThrottle.allow(workToRemoveFrom(i)) && i-- > 0) {
-            // We are always removing the root, hence receiving the new root
-            contractKey = removalFacilitation.removeNext(contractKey, contractKey, listRemoval);
+        while (contractKey != null && n < maxKvPairs && expiryThrottle.allow(work)) {
+            final var removedKey = contractKey;
+            final var removedValue =
+                    Objects.requireNonNull(
+                            storage.remove(removedKey), () -> "Missing key " + removedKey);
+            contractKey = removedValue.getNextKeyScopedTo(contractId);
+            if (contractKey != null) {
+                linksWalked++;
+                if (contractKey.compareTo(removedKey) < 0) {
+                    linksOutOfOrder++;
+                }
+            }
+            work = ONLY_SLOT_REMOVAL_WORK;
             n++;
         }
         if (contractKey == null) {
             // Treat all pairs as removed if we have no more non-null keys
             n = maxKvPairs;
+        } else if (n > 0) {
+            final var newRootKey = contractKey;
+            // It is ONLY safe to call copy() here because we immediately put() the mutable value
+            final var newRoot =
+                    Objects.requireNonNull(
+                                    storage.get(newRootKey), () -> "Missing key " + newRootKey)
+                            .copy();
+            newRoot.markAsRootMapping();
+            storage.put(newRootKey, newRoot);
         }
         return new SlotRemovalOutcome(n, contractKey);
     }
 
-    private List<MapAccessType> workToRemoveFrom(final int remainingPairs) {
-        return remainingPairs == 1 ? ONLY_SLOT_REMOVAL_WORK : NEXT_SLOT_REMOVAL_WORK;
-    }
-
     private boolean tryToRemoveBytecode(
             final EntityNum expiredContractNum, final boolean alreadyDeleted) {
         if (!alreadyDeleted) {
@@ -142,15 +191,4 @@ public class ContractGC {
         curBytecode.remove(bytecodeKey);
         return true;
     }
-
-    @FunctionalInterface
-    interface RemovalFacilitation {
-        ContractKey removeNext(
-                ContractKey key, ContractKey root, ContractStorageListMutation listRemoval);
-    }
-
-    @VisibleForTesting
-    void setRemovalFacilitation(final RemovalFacilitation removalFacilitation) {
-        this.removalFacilitation = removalFacilitation;
-    }
 }
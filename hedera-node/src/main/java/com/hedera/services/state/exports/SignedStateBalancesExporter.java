@@ -20,6 +20,7 @@ import static com.hedera.services.context.properties.PropertyNames.LEDGER_TOTAL_
 import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
 
+import com.google.protobuf.CodedOutputStream;
 import com.hedera.services.ServicesState;
 import com.hedera.services.context.annotations.CompositeProps;
 import com.hedera.services.context.primitives.StateView;
@@ -46,11 +47,17 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -75,6 +82,9 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 
     private static final String PROTO_FILE_EXTENSION = ".pb";
 
+    static final int STREAMING_CHUNK_SIZE = 10_000;
+    private static final int STREAMING_BUFFER_SIZE = 1 << 16;
+
     private Instant nextExportTime = null;
 
     final long expectedFloat;
@@ -141,6 +151,10 @@ public class SignedStateBalancesExporter implements BalancesExporter {
         if (!ensureExportDir(signedState.getAccountFromNodeId(nodeId))) {
             return;
         }
+        if (dynamicProperties.shouldStreamBalancesExport()) {
+            streamProtoFile(signedState, consensusTime);
+            return;
+        }
         var watch = StopWatch.createStarted();
         summary = summarized(signedState);
         final var expected = BigInteger.valueOf(expectedFloat);
@@ -164,14 +178,10 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 
         var builder = AllAccountBalances.newBuilder();
         summarizeAsProto(exportTimeStamp, builder);
-        var protoLoc =
-                lastUsedExportDir
-                        + exportTimeStamp.toString().replace(":", "_")
-                        + "_Balances"
-                        + PROTO_FILE_EXTENSION;
+        var protoLoc = protoLocFor(exportTimeStamp);
         boolean exportSucceeded = exportBalancesProtoFile(builder, protoLoc);
         if (exportSucceeded) {
-            tryToSign(protoLoc);
+            tryToSign(protoLoc, () -> hashReader.readHash(protoLoc));
         }
 
         log.info(
@@ -180,9 +190,159 @@ public class SignedStateBalancesExporter implements BalancesExporter {
                 exportTimeStamp);
     }
 
-    private void tryToSign(String fileLoc) {
+    /**
+     * Writes the balances file without ever holding all the account balances in memory. Accounts
+     * are visited in ascending number order (hence also {@link #SINGLE_ACCOUNT_BALANCES_COMPARATOR}
+     * order) in chunks, with the balances of each chunk summarized in parallel and then appended
+     * in order as {@code allAccounts} fields of an {@link AllAccountBalances} message; so the
+     * file is byte-for-byte what {@link #toProtoFile(Instant)} would have written. The SHA-384
+     * hash to sign is computed as the file is written.
+     *
+     * <p>If the total balance doesn't match the expected float, the file is deleted and the node
+     * exits just as in the non-streaming case.
+     *
+     * @param signedState the signed state to export balances from
+     * @param exportTimeStamp the consensus time of the export
+     */
+    private void streamProtoFile(final ServicesState signedState, final Instant exportTimeStamp) {
+        final var watch = StopWatch.createStarted();
+        final var protoLoc = protoLocFor(exportTimeStamp);
+        final var nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
+        final var accounts = signedState.accounts();
+        final var tokens = signedState.tokens();
+        final var tokenAssociations = signedState.tokenAssociations();
+        final var nodeBalanceWarnThreshold = dynamicProperties.nodeBalanceWarningThreshold();
+        final var exportTokenBalances = dynamicProperties.shouldExportTokenBalances();
+
+        final var nums = sortedNumsIn(accounts);
+        final var digest = newSha384Digest();
+        var totalFloat = BigInteger.ZERO;
+        try (final var fout = new DigestOutputStream(new FileOutputStream(protoLoc), digest)) {
+            final var out = CodedOutputStream.newInstance(fout, STREAMING_BUFFER_SIZE);
+            out.writeMessage(
+                    AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER,
+                    asTimestamp(exportTimeStamp));
+            for (int from = 0; from < nums.length; from += STREAMING_CHUNK_SIZE) {
+                final var to = Math.min(nums.length, from + STREAMING_CHUNK_SIZE);
+                final var chunk =
+                        Arrays.stream(nums, from, to)
+                                .parallel()
+                                .mapToObj(
+                                        num ->
+                                                balancesIfExtant(
+                                                        EntityNum.fromLong(num),
+                                                        accounts,
+                                                        tokens,
+                                                        tokenAssociations,
+                                                        exportTokenBalances))
+                                .toArray(SingleAccountBalances[]::new);
+                for (final var balances : chunk) {
+                    if (balances != null) {
+                        warnIfLowNodeBalance(balances, nodeIds, nodeBalanceWarnThreshold);
+                        totalFloat = totalFloat.add(BigInteger.valueOf(balances.getHbarBalance()));
+                        out.writeMessage(AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER, balances);
+                    }
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            log.error(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc, e);
+            return;
+        }
+
+        if (!BigInteger.valueOf(expectedFloat).equals(totalFloat)) {
+            log.error(
+                    "Signed state @ {} had total balance {} not {}; exiting",
+                    exportTimeStamp,
+                    totalFloat,
+                    expectedFloat);
+            new File(protoLoc).delete();
+            systemExits.fail(1);
+            return;
+        }
+        final var hash = digest.digest();
+        tryToSign(protoLoc, () -> hash);
+
+        log.info(
+                " -> Took {}ms to stream and sign proto balances file at {}",
+                watch.getTime(TimeUnit.MILLISECONDS),
+                exportTimeStamp);
+    }
+
+    private long[] sortedNumsIn(final MerkleMap<EntityNum, MerkleAccount> accounts) {
+        final var nums = new long[accounts.size()];
+        var i = 0;
+        for (final var num : accounts.keySet()) {
+            nums[i++] = num.longValue();
+        }
+        Arrays.sort(nums);
+        return nums;
+    }
+
+    private SingleAccountBalances balancesIfExtant(
+            final EntityNum num,
+            final MerkleMap<EntityNum, MerkleAccount> accounts,
+            final MerkleMap<EntityNum, MerkleToken> tokens,
+            final MerkleMap<EntityNumPair, MerkleTokenRelStatus> tokenAssociations,
+            final boolean exportTokenBalances) {
+        final var account = accounts.get(num);
+        if (account == null || account.isDeleted()) {
+            return null;
+        }
+        return balancesOf(
+                num.toGrpcAccountId(), account, tokens, tokenAssociations, exportTokenBalances);
+    }
+
+    private SingleAccountBalances balancesOf(
+            final AccountID accountId,
+            final MerkleAccount account,
+            final MerkleMap<EntityNum, MerkleToken> tokens,
+            final MerkleMap<EntityNumPair, MerkleTokenRelStatus> tokenAssociations,
+            final boolean exportTokenBalances) {
+        final var sabBuilder = SingleAccountBalances.newBuilder();
+        sabBuilder.setHbarBalance(account.getBalance()).setAccountID(accountId);
+        if (exportTokenBalances) {
+            addTokenBalances(account, sabBuilder, tokens, tokenAssociations);
+        }
+        return sabBuilder.build();
+    }
+
+    private void warnIfLowNodeBalance(
+            final SingleAccountBalances balances,
+            final Set<AccountID> nodeIds,
+            final long nodeBalanceWarnThreshold) {
+        final var accountId = balances.getAccountID();
+        final var balance = balances.getHbarBalance();
+        if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
+            log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL, readableId(accountId), balance);
+        }
+    }
+
+    private static MessageDigest newSha384Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-384");
+        } catch (NoSuchAlgorithmException impossible) {
+            throw new IllegalStateException("SHA-384 not supported by Java API!");
+        }
+    }
+
+    private String protoLocFor(final Instant exportTimeStamp) {
+        return lastUsedExportDir
+                + exportTimeStamp.toString().replace(":", "_")
+                + "_Balances"
+                + PROTO_FILE_EXTENSION;
+    }
+
+    private Timestamp asTimestamp(final Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private void tryToSign(String fileLoc, Supplier<byte[]> hashSource) {
         try {
-            var hash = hashReader.readHash(fileLoc);
+            var hash = hashSource.get();
             var sig = signer.apply(hash);
             var sigFileLoc = sigFileWriter.writeSigFile(fileLoc, sig, hash);
             if (log.isDebugEnabled()) {
@@ -194,10 +354,7 @@ public class SignedStateBalancesExporter implements BalancesExporter {
     }
 
     private void summarizeAsProto(Instant exportTimeStamp, AllAccountBalances.Builder builder) {
-        builder.setConsensusTimestamp(
-                Timestamp.newBuilder()
-                        .setSeconds(exportTimeStamp.getEpochSecond())
-                        .setNanos(exportTimeStamp.getNano()));
+        builder.setConsensusTimestamp(asTimestamp(exportTimeStamp));
         builder.addAllAllAccounts(summary.orderedBalances());
     }
 
@@ -231,12 +388,13 @@ public class SignedStateBalancesExporter implements BalancesExporter {
                     log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL, readableId(accountId), balance);
                 }
                 totalFloat = totalFloat.add(BigInteger.valueOf(account.getBalance()));
-                SingleAccountBalances.Builder sabBuilder = SingleAccountBalances.newBuilder();
-                sabBuilder.setHbarBalance(balance).setAccountID(accountId);
-                if (dynamicProperties.shouldExportTokenBalances()) {
-                    addTokenBalances(account, sabBuilder, tokens, tokenAssociations);
-                }
-                accountBalances.add(sabBuilder.build());
+                accountBalances.add(
+                        balancesOf(
+                                accountId,
+                                account,
+                                tokens,
+                                tokenAssociations,
+                                dynamicProperties.shouldExportTokenBalances()));
             }
         }
         accountBalances.sort(SINGLE_ACCOUNT_BALANCES_COMPARATOR);
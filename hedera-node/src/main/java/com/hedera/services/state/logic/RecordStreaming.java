@@ -112,9 +112,8 @@ public class RecordStreaming {
     }
 
     private void stream(final RecordStreamObject rso) {
-        while (!nonBlockingHandoff.offer(rso)) {
-            // Cannot proceed until we have handed off the record.
-        }
+        // Cannot proceed until we have handed off the record
+        nonBlockingHandoff.put(rso);
     }
 
     @VisibleForTesting
@@ -15,10 +15,12 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.TRANSITION;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.domain.security.HapiOpPermissions;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.txns.TransitionRunner;
 import com.hedera.services.txns.auth.SystemOpPolicies;
 import com.hedera.services.utils.accessors.TxnAccessor;
@@ -32,6 +34,7 @@ public class RequestedTransition {
     private final TransactionContext txnCtx;
     private final NetworkCtxManager networkCtxManager;
     private final HapiOpPermissions hapiOpPermissions;
+    private final HandlePhaseLatencies handlePhaseLatencies;
 
     @Inject
     public RequestedTransition(
@@ -39,12 +42,14 @@ public class RequestedTransition {
             final SystemOpPolicies opPolicies,
             final TransactionContext txnCtx,
             final NetworkCtxManager networkCtxManager,
-            final HapiOpPermissions hapiOpPermissions) {
+            final HapiOpPermissions hapiOpPermissions,
+            final HandlePhaseLatencies handlePhaseLatencies) {
         this.transitionRunner = transitionRunner;
         this.opPolicies = opPolicies;
         this.txnCtx = txnCtx;
         this.networkCtxManager = networkCtxManager;
         this.hapiOpPermissions = hapiOpPermissions;
+        this.handlePhaseLatencies = handlePhaseLatencies;
     }
 
     void finishFor(TxnAccessor accessor) {
@@ -59,7 +64,10 @@ public class RequestedTransition {
             txnCtx.setStatus(sysAuthStatus);
             return;
         }
-        if (transitionRunner.tryTransition(accessor)) {
+        final var start = System.nanoTime();
+        final var transitioned = transitionRunner.tryTransition(accessor);
+        handlePhaseLatencies.recordSince(TRANSITION, accessor.getFunction(), start);
+        if (transitioned) {
             networkCtxManager.finishIncorporating(accessor.getFunction());
         }
     }
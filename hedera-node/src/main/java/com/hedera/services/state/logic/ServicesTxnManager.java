@@ -15,6 +15,8 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.LEDGER_COMMIT;
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.RECORD_STREAMING;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 
 import com.hedera.services.context.TransactionContext;
@@ -26,6 +28,7 @@ import com.hedera.services.records.RecordsHistorian;
 import com.hedera.services.state.annotations.RunTopLevelTransition;
 import com.hedera.services.state.annotations.RunTriggeredTransition;
 import com.hedera.services.state.migration.MigrationRecordsManager;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.utils.accessors.TxnAccessor;
 import java.time.Instant;
 import javax.inject.Inject;
@@ -51,6 +54,7 @@ public class ServicesTxnManager {
     private final RecordStreaming recordStreaming;
     private final BlockManager blockManager;
     private final RewardCalculator rewardCalculator;
+    private final HandlePhaseLatencies handlePhaseLatencies;
 
     @Inject
     public ServicesTxnManager(
@@ -64,7 +68,8 @@ public class ServicesTxnManager {
             final MigrationRecordsManager migrationRecordsManager,
             final RecordStreaming recordStreaming,
             final BlockManager blockManager,
-            final RewardCalculator rewardCalculator) {
+            final RewardCalculator rewardCalculator,
+            final HandlePhaseLatencies handlePhaseLatencies) {
         this.txnCtx = txnCtx;
         this.ledger = ledger;
         this.recordCache = recordCache;
@@ -76,6 +81,7 @@ public class ServicesTxnManager {
         this.scopedTriggeredProcessing = scopedTriggeredProcessing;
         this.blockManager = blockManager;
         this.rewardCalculator = rewardCalculator;
+        this.handlePhaseLatencies = handlePhaseLatencies;
     }
 
     private boolean needToPublishMigrationRecords = true;
@@ -116,9 +122,14 @@ public class ServicesTxnManager {
         if (processFailed) {
             attemptRollback(accessor, consensusTime, submittingMember);
         } else {
+            final var function = accessor.getFunction();
+            var start = System.nanoTime();
             attemptCommit(accessor, consensusTime, submittingMember);
+            handlePhaseLatencies.recordSince(LEDGER_COMMIT, function, start);
             if (createdStreamableRecord) {
+                start = System.nanoTime();
                 attemptRecordStreaming();
+                handlePhaseLatencies.recordSince(RECORD_STREAMING, function, start);
             }
         }
     }
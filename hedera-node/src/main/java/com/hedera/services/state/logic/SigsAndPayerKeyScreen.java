@@ -15,6 +15,8 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNKNOWN;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 import com.hedera.services.context.TransactionContext;
@@ -61,6 +63,12 @@ public class SigsAndPayerKeyScreen {
         if (sigStatus == OK && rationalization.usedSyncVerification()) {
             speedometers.cycleSyncVerifications();
         }
+        final var fallbackCause = rationalization.fallbackCause();
+        if (fallbackCause == CHANGED) {
+            speedometers.cycleChangedRefsRationalizations();
+        } else if (fallbackCause == UNKNOWN) {
+            speedometers.cycleUnknownRefsRationalizations();
+        }
 
         if (hasActivePayerSig(accessor)) {
             txnCtx.payerSigIsKnownActive();
@@ -15,6 +15,8 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.SPAN_RATIONALIZATION;
+
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.primitives.StateView;
@@ -23,6 +25,7 @@ import com.hedera.services.records.ConsensusTimeTracker;
 import com.hedera.services.state.expiry.EntityAutoExpiry;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.stats.ExecutionTimeTracker;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.txns.ProcessLogic;
 import com.hedera.services.txns.schedule.ScheduleProcessing;
 import com.hedera.services.txns.span.ExpandHandleSpan;
@@ -50,6 +53,7 @@ public class StandardProcessLogic implements ProcessLogic {
     private final StateView workingView;
     private final ScheduleProcessing scheduleProcessing;
     private final RecordStreaming recordStreaming;
+    private final HandlePhaseLatencies handlePhaseLatencies;
 
     @Inject
     public StandardProcessLogic(
@@ -64,7 +68,8 @@ public class StandardProcessLogic implements ProcessLogic {
             final ScheduleProcessing scheduleProcessing,
             final ExecutionTimeTracker executionTimeTracker,
             final RecordStreaming recordStreaming,
-            final StateView workingView) {
+            final StateView workingView,
+            final HandlePhaseLatencies handlePhaseLatencies) {
         this.expiries = expiries;
         this.invariantChecks = invariantChecks;
         this.expandHandleSpan = expandHandleSpan;
@@ -77,13 +82,16 @@ public class StandardProcessLogic implements ProcessLogic {
         this.sigImpactHistorian = sigImpactHistorian;
         this.recordStreaming = recordStreaming;
         this.workingView = workingView;
+        this.handlePhaseLatencies = handlePhaseLatencies;
     }
 
     @Override
     public void incorporateConsensusTxn(
             Transaction platformTxn, Instant consensusTime, long submittingMember) {
         try {
+            final var start = System.nanoTime();
             final var accessor = expandHandleSpan.accessorFor(platformTxn);
+            handlePhaseLatencies.recordSince(SPAN_RATIONALIZATION, accessor.getFunction(), start);
             accessor.setStateView(workingView);
             if (!invariantChecks.holdFor(accessor, consensusTime, submittingMember)) {
                 return;
@@ -15,10 +15,13 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.SIG_SCREEN;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.fees.charging.TxnChargingPolicyAgent;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -46,6 +49,7 @@ public class TopLevelTransition implements Runnable {
     private final SigsAndPayerKeyScreen sigsAndPayerKeyScreen;
     private final TxnChargingPolicyAgent chargingPolicyAgent;
     private final NetworkUtilization networkUtilization;
+    private final HandlePhaseLatencies handlePhaseLatencies;
 
     @Inject
     public TopLevelTransition(
@@ -55,7 +59,8 @@ public class TopLevelTransition implements Runnable {
             final TransactionContext txnCtx,
             final NonPayerKeysScreen nonPayerKeysScreen,
             final NetworkUtilization networkUtilization,
-            final TxnChargingPolicyAgent chargingPolicyAgent) {
+            final TxnChargingPolicyAgent chargingPolicyAgent,
+            final HandlePhaseLatencies handlePhaseLatencies) {
         this.txnCtx = txnCtx;
         this.networkCtxManager = networkCtxManager;
         this.networkUtilization = networkUtilization;
@@ -63,6 +68,7 @@ public class TopLevelTransition implements Runnable {
         this.sigsAndPayerKeyScreen = sigsAndPayerKeyScreen;
         this.nonPayerKeysScreen = nonPayerKeysScreen;
         this.requestedTransition = requestedTransition;
+        this.handlePhaseLatencies = handlePhaseLatencies;
     }
 
     @Override
@@ -71,7 +77,10 @@ public class TopLevelTransition implements Runnable {
         final var now = txnCtx.consensusTime();
         networkCtxManager.advanceConsensusClockTo(now);
 
+        final var function = accessor.getFunction();
+        var start = System.nanoTime();
         final var sigStatus = sigsAndPayerKeyScreen.applyTo(accessor);
+        handlePhaseLatencies.recordSince(SIG_SCREEN, function, start);
         // We update the network utilization before we compute and charge fees b/c
         // network utilization determines the congestion pricing multiplier; so this
         // is the simplest way to guarantee a reconnected node will apply the same
@@ -83,7 +92,10 @@ public class TopLevelTransition implements Runnable {
             // If the signature status isn't ok, only work done will be fee charging
             networkUtilization.trackFeePayments(now);
         }
-        if (!chargingPolicyAgent.applyPolicyFor(accessor)) {
+        start = System.nanoTime();
+        final var feesCharged = chargingPolicyAgent.applyPolicyFor(accessor);
+        handlePhaseLatencies.recordSince(FEE_CHARGING, function, start);
+        if (!feesCharged) {
             return;
         }
         if (!nonPayerKeysScreen.reqKeysAreActiveGiven(sigStatus)) {
@@ -16,6 +16,7 @@
 package com.hedera.services.state.logic;
 
 import static com.hedera.services.context.BasicTransactionContext.EMPTY_KEY;
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.FEE_CHARGING;
 import static com.hedera.services.utils.EntityNum.fromScheduleId;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -24,6 +25,7 @@ import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.charging.FeeChargingPolicy;
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.store.schedule.ScheduleStore;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -43,6 +45,7 @@ public class TriggeredTransition implements Runnable {
     private final NetworkUtilization networkUtilization;
     private final SigImpactHistorian sigImpactHistorian;
     private final ScheduleStore scheduleStore;
+    private final HandlePhaseLatencies handlePhaseLatencies;
 
     @Inject
     public TriggeredTransition(
@@ -54,7 +57,8 @@ public class TriggeredTransition implements Runnable {
             final NetworkCtxManager networkCtxManager,
             final RequestedTransition requestedTransition,
             final ScheduleStore scheduleStore,
-            final NetworkUtilization networkUtilization) {
+            final NetworkUtilization networkUtilization,
+            final HandlePhaseLatencies handlePhaseLatencies) {
         this.currentView = currentView;
         this.fees = fees;
         this.chargingPolicy = chargingPolicy;
@@ -64,6 +68,7 @@ public class TriggeredTransition implements Runnable {
         this.scheduleStore = scheduleStore;
         this.requestedTransition = requestedTransition;
         this.sigImpactHistorian = sigImpactHistorian;
+        this.handlePhaseLatencies = handlePhaseLatencies;
     }
 
     @Override
@@ -98,8 +103,10 @@ public class TriggeredTransition implements Runnable {
 
         networkUtilization.trackUserTxn(accessor, now);
 
+        final var start = System.nanoTime();
         final var fee = fees.computeFee(accessor, payerKeyForFeeCompute, currentView, now);
         final var chargingOutcome = chargingPolicy.applyForTriggered(fee);
+        handlePhaseLatencies.recordSince(FEE_CHARGING, accessor.getFunction(), start);
         if (chargingOutcome != OK) {
             txnCtx.setStatus(chargingOutcome);
             return;
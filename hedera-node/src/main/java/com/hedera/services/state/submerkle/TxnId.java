@@ -67,6 +67,14 @@ public class TxnId implements SelfSerializable {
         return validStart;
     }
 
+    public int getNonce() {
+        return nonce;
+    }
+
+    public boolean isScheduled() {
+        return scheduled;
+    }
+
     /* --- SelfSerializable --- */
     @Override
     public long getClassId() {
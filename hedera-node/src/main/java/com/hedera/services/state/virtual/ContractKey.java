@@ -86,6 +86,19 @@ public final class ContractKey implements VirtualKey<ContractKey> {
         return KeyPackingUtils.asPackedInts(evmKey.toArrayUnsafe());
     }
 
+    /**
+     * Packs the given EVM word into an existing {@code int[8]}, using the same layout as {@link
+     * #asPackedInts(UInt256)}; so a caller can probe maps with a reusable key array.
+     *
+     * @param evmKey the EVM word to pack
+     * @param packed the array to receive the packed ints
+     */
+    public static void packInto(final UInt256 evmKey, final int[] packed) {
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = evmKey.getInt(i * Integer.BYTES);
+        }
+    }
+
     public long getContractId() {
         return contractId;
     }
@@ -23,6 +23,12 @@ import com.swirlds.common.utility.CommonUtils;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import javax.annotation.Nullable;
 import org.jetbrains.annotations.NotNull;
@@ -156,6 +162,200 @@ public class IterableStorageUtils {
                 key, root, new ContractStorageListMutation(key.getContractId(), storage));
     }
 
+    /**
+     * Upserts a batch of key/value pairs for a <b>single</b> contract in the given {@code
+     * VirtualMap}, leaving the map (if all the keys it links to exist) in exactly the state that
+     * calling {@link
+     * #overwritingUpsertMapping(ContractKey, IterableContractValue, ContractKey,
+     * IterableContractValue, VirtualMap)} for each key in iteration order would; but with less
+     * write amplification:
+     *
+     * <ol>
+     *   <li>Keys already present simply have their values updated.
+     *   <li>All new keys are linked into a single chain locally, each {@code put()} exactly once
+     *       with its final prev/next keys; and the chain is attached in front of the existing root
+     *       with a single update.
+     * </ol>
+     *
+     * <p>All reads happen before any writes (or copies); so if the existing root is missing, this
+     * throws without changing the map at all. (The per-key calls would instead store each new value
+     * before failing to link it.) Callers that must not lose the values should then fall back to
+     * the per-key calls.
+     *
+     * @param keys the keys to upsert, all scoped to the same contract
+     * @param values the new values of (at least) the given keys
+     * @param rootKey the key of the root mapping in the storage list, if any
+     * @param storage the working copy of the storage map
+     * @return the new root key, for convenience
+     */
+    public static @Nullable ContractKey batchUpsertMappings(
+            @NotNull final Collection<ContractKey> keys,
+            @NotNull final Map<ContractKey, IterableContractValue> values,
+            @Nullable final ContractKey rootKey,
+            @NotNull final VirtualMap<ContractKey, IterableContractValue> storage) {
+        final List<ContractKey> newKeys = new ArrayList<>();
+        final Map<ContractKey, IterableContractValue> extantValues = new LinkedHashMap<>();
+        for (final var key : keys) {
+            final var extantValue = storage.get(key);
+            if (extantValue == null) {
+                newKeys.add(key);
+            } else {
+                extantValues.put(key, extantValue);
+            }
+        }
+        final var linkToRoot = rootKey != null && !newKeys.isEmpty();
+        if (linkToRoot) {
+            lookUpLinked(rootKey, extantValues, storage);
+        }
+
+        // Every lookup succeeded, so it is now safe to copy() values---making those in the
+        // map immutable!---since the mutable copies are all put() below
+        final Map<ContractKey, IterableContractValue> updatedValues = new LinkedHashMap<>();
+        for (final var key : keys) {
+            if (extantValues.containsKey(key)) {
+                final var mutableValue = mutableCopyOf(key, extantValues, updatedValues);
+                mutableValue.setValue(values.get(key).getValue());
+            }
+        }
+        final var mutableRootValue =
+                linkToRoot ? mutableCopyOf(rootKey, extantValues, updatedValues) : null;
+
+        // Each new key becomes the root in turn, so the last one ends up at the front
+        final var n = newKeys.size();
+        for (int i = 0; i < n; i++) {
+            final var key = newKeys.get(i);
+            final var value = values.get(key);
+            if (i > 0) {
+                value.setNextKey(newKeys.get(i - 1).getKey());
+            } else if (rootKey != null) {
+                value.setNextKey(rootKey.getKey());
+                mutableRootValue.setPrevKey(key.getKey());
+            }
+            if (i < n - 1) {
+                value.setPrevKey(newKeys.get(i + 1).getKey());
+            }
+            storage.put(key, value);
+        }
+        updatedValues.forEach(storage::put);
+        return (n == 0) ? rootKey : newKeys.get(n - 1);
+    }
+
+    /**
+     * Removes a batch of key/value pairs for a <b>single</b> contract from the given {@code
+     * VirtualMap}, leaving the doubly-linked list of the contract's storage (if all the keys it
+     * re-links exist) in exactly the state that calling {@link #removeMapping(ContractKey,
+     * ContractKey, VirtualMap)} for each key would; but with less write amplification. Removed
+     * keys are grouped into runs of adjacent list entries, and only the surviving neighbours of
+     * each run are re-linked, each with a single update even if it borders two runs.
+     *
+     * <p>Keys with no mapping are ignored. All reads happen before any writes (or copies); so if a
+     * surviving neighbour is missing, this throws without changing the map at all. Callers that
+     * must not keep the mappings should then fall back to the per-key calls.
+     *
+     * @param keys the keys to remove, all scoped to the same contract
+     * @param rootKey the key of the root mapping in the storage list, if known
+     * @param storage the working copy of the storage map
+     * @return the new root key, for convenience
+     */
+    public static @Nullable ContractKey batchRemoveMappings(
+            @NotNull final Collection<ContractKey> keys,
+            @Nullable final ContractKey rootKey,
+            @NotNull final VirtualMap<ContractKey, IterableContractValue> storage) {
+        final Map<ContractKey, IterableContractValue> removedValues = new HashMap<>();
+        for (final var key : keys) {
+            final var value = storage.get(key);
+            if (value != null) {
+                removedValues.put(key, value);
+            }
+        }
+        if (removedValues.isEmpty()) {
+            return rootKey;
+        }
+
+        var newRootKey = rootKey;
+        final List<Splice> splices = new ArrayList<>();
+        final Map<ContractKey, IterableContractValue> neighbourValues = new HashMap<>();
+        for (final var key : keys) {
+            final var value = removedValues.get(key);
+            if (value == null) {
+                continue;
+            }
+            final var contractId = key.getContractId();
+            final var prevKey = value.getPrevKeyScopedTo(contractId);
+            if (prevKey != null && removedValues.containsKey(prevKey)) {
+                // This key is inside a run that will be re-linked from its first key
+                continue;
+            }
+            var nextKey = value.getNextKeyScopedTo(contractId);
+            for (int i = 0; nextKey != null && i < removedValues.size(); i++) {
+                final var nextValue = removedValues.get(nextKey);
+                if (nextValue == null) {
+                    break;
+                }
+                nextKey = nextValue.getNextKeyScopedTo(contractId);
+            }
+            if (key.equals(rootKey)) {
+                newRootKey = nextKey;
+            }
+            if (prevKey != null) {
+                lookUpLinked(prevKey, neighbourValues, storage);
+            }
+            if (nextKey != null) {
+                lookUpLinked(nextKey, neighbourValues, storage);
+            }
+            splices.add(new Splice(prevKey, nextKey));
+        }
+
+        // Every lookup succeeded, so it is now safe to copy() values---making those in the
+        // map immutable!---since the mutable copies are all put() below
+        final Map<ContractKey, IterableContractValue> relinkedValues = new LinkedHashMap<>();
+        for (final var splice : splices) {
+            final var prevKey = splice.prevKey();
+            final var nextKey = splice.nextKey();
+            if (prevKey != null) {
+                final var prevValue = mutableCopyOf(prevKey, neighbourValues, relinkedValues);
+                if (nextKey == null) {
+                    prevValue.markAsLastMapping();
+                } else {
+                    prevValue.setNextKey(nextKey.getKey());
+                }
+            }
+            if (nextKey != null) {
+                final var nextValue = mutableCopyOf(nextKey, neighbourValues, relinkedValues);
+                if (prevKey == null) {
+                    nextValue.markAsRootMapping();
+                } else {
+                    nextValue.setPrevKey(prevKey.getKey());
+                }
+            }
+        }
+
+        removedValues.keySet().forEach(storage::remove);
+        relinkedValues.forEach(storage::put);
+        return newRootKey;
+    }
+
+    /** Looks up (once) the value of a key that must be linked in the list, without copying it. */
+    private static void lookUpLinked(
+            final ContractKey key,
+            final Map<ContractKey, IterableContractValue> values,
+            final VirtualMap<ContractKey, IterableContractValue> storage) {
+        if (!values.containsKey(key)) {
+            values.put(
+                    key,
+                    Objects.requireNonNull(storage.get(key), () -> "Missing linked key " + key));
+        }
+    }
+
+    private static IterableContractValue mutableCopyOf(
+            final ContractKey key,
+            final Map<ContractKey, IterableContractValue> extantValues,
+            final Map<ContractKey, IterableContractValue> mutableValues) {
+        return mutableValues.computeIfAbsent(key, k -> extantValues.get(k).copy());
+    }
+
+    private record Splice(@Nullable ContractKey prevKey, @Nullable ContractKey nextKey) {}
+
     private static ContractKey internalUpsertMapping(
             @NotNull final ContractKey key,
             @NotNull final IterableContractValue value,
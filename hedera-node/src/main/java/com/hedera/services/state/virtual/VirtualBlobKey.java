@@ -31,6 +31,14 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
     static final int CURRENT_VERSION = 1;
     static final int BYTES_IN_SERIALIZED_FORM = 5;
     static final long CLASS_ID = 0x11b982c14217d523L;
+    /**
+     * The serialized type byte of a {@link Type#FILE_DATA_CHUNK} key also carries its chunk index;
+     * chunk {@code i} is written as {@code FIRST_CHUNK_CODE + i - 1}. So every byte value from this
+     * code up is reserved for chunks, and the key keeps its fixed five-byte form.
+     */
+    static final int FIRST_CHUNK_CODE = 16;
+
+    public static final int MAX_CHUNK_INDEX = 0xff - FIRST_CHUNK_CODE + 1;
 
     private static final Type[] BLOB_TYPES = Type.values();
 
@@ -38,11 +46,14 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
         FILE_DATA,
         FILE_METADATA,
         CONTRACT_BYTECODE,
-        SYSTEM_DELETED_ENTITY_EXPIRY
+        SYSTEM_DELETED_ENTITY_EXPIRY,
+        FILE_DATA_MANIFEST,
+        FILE_DATA_CHUNK
     }
 
     private Type type;
     private int entityNumCode;
+    private int chunk;
 
     public VirtualBlobKey() {
         /* Required by deserialization facility */
@@ -53,6 +64,23 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
         this.entityNumCode = entityNumCode;
     }
 
+    /**
+     * Returns the key of the given chunk of a file's data. (Chunk zero of a chunked file is stored
+     * under the file's {@link Type#FILE_DATA} key, so chunk indices here start at one.)
+     *
+     * @param entityNumCode the code of the file number
+     * @param chunk the index of the chunk, from 1 to {@link #MAX_CHUNK_INDEX}
+     * @return the key of the requested chunk
+     */
+    public static VirtualBlobKey chunkKey(final int entityNumCode, final int chunk) {
+        if (chunk < 1 || chunk > MAX_CHUNK_INDEX) {
+            throw new IllegalArgumentException("Invalid file data chunk index " + chunk);
+        }
+        final var key = new VirtualBlobKey(Type.FILE_DATA_CHUNK, entityNumCode);
+        key.chunk = chunk;
+        return key;
+    }
+
     public static VirtualBlobKey fromPath(final String path) {
         final var code = path.charAt(LEGACY_BLOB_CODE_INDEX);
         final var packedNum =
@@ -74,19 +102,19 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
 
     @Override
     public void serialize(final ByteBuffer buffer) throws IOException {
-        buffer.put((byte) type.ordinal());
+        buffer.put((byte) typeCode());
         buffer.putInt(entityNumCode);
     }
 
     @Override
     public void deserialize(ByteBuffer buffer, int version) throws IOException {
-        type = BLOB_TYPES[0xff & buffer.get()];
+        setTypeCode(0xff & buffer.get());
         entityNumCode = buffer.getInt();
     }
 
     @Override
     public void deserialize(SerializableDataInputStream in, int version) throws IOException {
-        type = BLOB_TYPES[0xff & in.readByte()];
+        setTypeCode(0xff & in.readByte());
         entityNumCode = in.readInt();
     }
 
@@ -97,7 +125,7 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
 
     @Override
     public void serialize(SerializableDataOutputStream out) throws IOException {
-        out.writeByte(type.ordinal());
+        out.writeByte(typeCode());
         out.writeInt(entityNumCode);
     }
 
@@ -117,12 +145,14 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
 
         var that = (VirtualBlobKey) o;
 
-        return this.type == that.type && this.entityNumCode == that.entityNumCode;
+        return this.type == that.type
+                && this.entityNumCode == that.entityNumCode
+                && this.chunk == that.chunk;
     }
 
     @Override
     public int hashCode() {
-        return (int) MiscUtils.perm64(entityNumCode | ((long) type.ordinal()) << 4);
+        return (int) MiscUtils.perm64(entityNumCode | ((long) typeCode()) << 4);
     }
 
     public static int sizeInBytes() {
@@ -137,6 +167,24 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
         return entityNumCode;
     }
 
+    public int getChunk() {
+        return chunk;
+    }
+
+    int typeCode() {
+        return type == Type.FILE_DATA_CHUNK ? FIRST_CHUNK_CODE + chunk - 1 : type.ordinal();
+    }
+
+    private void setTypeCode(final int code) {
+        if (code >= FIRST_CHUNK_CODE) {
+            type = Type.FILE_DATA_CHUNK;
+            chunk = code - FIRST_CHUNK_CODE + 1;
+        } else {
+            type = BLOB_TYPES[code];
+            chunk = 0;
+        }
+    }
+
     @Override
     public int compareTo(@NotNull final VirtualBlobKey that) {
         if (this == that) {
@@ -146,7 +194,11 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
         if (order != 0) {
             return order;
         }
-        return this.type.compareTo(that.type);
+        order = this.type.compareTo(that.type);
+        if (order != 0) {
+            return order;
+        }
+        return Integer.compare(this.chunk, that.chunk);
     }
 
     @Override
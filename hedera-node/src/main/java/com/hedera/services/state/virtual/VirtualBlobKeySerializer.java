@@ -51,7 +51,7 @@ public class VirtualBlobKeySerializer implements KeySerializer<VirtualBlobKey> {
 
     @Override
     public boolean equals(ByteBuffer buffer, int version, VirtualBlobKey key) throws IOException {
-        return key.getType().ordinal() == (0xff & buffer.get())
+        return key.typeCode() == (0xff & buffer.get())
                 && key.getEntityNumCode() == buffer.getInt();
     }
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.GAUGE_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Read-only gauges for the removal of an expired contract's storage. Both are set from values the
+ * removal walk already has in hand, so they cost no extra storage reads.
+ */
+@Singleton
+public class ContractGCGauges {
+    static final String SLOTS_LEFT_NAME = "expiredContractSlotsLeft";
+    static final String SLOTS_LEFT_DESCRIPTION =
+            "slots left to remove from the expired contract now being removed";
+    static final String LINKS_OUT_OF_ORDER_NAME = "expiredContractLinksOutOfKeyOrder";
+    static final String LINKS_OUT_OF_ORDER_DESCRIPTION =
+            "% of walked storage list links in the expired contract now being removed that point"
+                    + " to a lower key";
+
+    private final DoubleGauge slotsLeft;
+    private final DoubleGauge linksOutOfOrder;
+
+    @Inject
+    public ContractGCGauges() {
+        slotsLeft =
+                new DoubleGauge(
+                        STAT_CATEGORY, SLOTS_LEFT_NAME, SLOTS_LEFT_DESCRIPTION, GAUGE_FORMAT);
+        linksOutOfOrder =
+                new DoubleGauge(
+                        STAT_CATEGORY,
+                        LINKS_OUT_OF_ORDER_NAME,
+                        LINKS_OUT_OF_ORDER_DESCRIPTION,
+                        GAUGE_FORMAT);
+    }
+
+    public void registerWith(final Platform platform) {
+        platform.addAppMetrics(slotsLeft, linksOutOfOrder);
+    }
+
+    public void updateSlotsLeft(final long n) {
+        slotsLeft.set(n);
+    }
+
+    public void updateLinksOutOfOrder(final long outOfOrder, final long walked) {
+        if (walked > 0) {
+            linksOutOfOrder.set(100.0 * outOfOrder / walked);
+        }
+    }
+
+    double getSlotsLeft() {
+        return slotsLeft.get();
+    }
+
+    double getPercentLinksOutOfOrder() {
+        return linksOutOfOrder.get();
+    }
+}
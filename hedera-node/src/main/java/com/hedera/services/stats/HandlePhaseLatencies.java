@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsConfig.IGNORED_FUNCTIONS;
+import static com.hedera.services.stats.ServicesStatsManager.GAUGE_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+import static com.hedera.services.utils.MiscUtils.QUERY_FUNCTIONS;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a latency histogram for each phase of {@code handleTransaction} and each handled {@link
+ * HederaFunctionality}; and exposes the median and 99th percentile latency of each histogram
+ * since the last update as platform gauges.
+ *
+ * <p>Each histogram has four buckets per power of two of nanoseconds, so a reported percentile
+ * overstates the true value by at most 25%. Recording a latency never allocates; it is just one
+ * increment of a preallocated counter. Since only the handle thread records latencies, this
+ * increment does not need to be atomic, only visible to the stats update thread.
+ */
+public class HandlePhaseLatencies {
+    public enum Phase {
+        SPAN_RATIONALIZATION("SpanRtnl", "rationalizing the expanded span"),
+        SIG_SCREEN("SigScreen", "screening signatures and the payer key"),
+        FEE_CHARGING("FeeCharge", "computing and charging fees"),
+        TRANSITION("Transition", "running the transition logic"),
+        LEDGER_COMMIT("Commit", "committing the ledgers"),
+        RECORD_STREAMING("RecStream", "creating and streaming records");
+
+        private final String statName;
+        private final String description;
+
+        Phase(final String statName, final String description) {
+            this.statName = statName;
+            this.description = description;
+        }
+    }
+
+    static Supplier<HederaFunctionality[]> allFunctions =
+            HederaFunctionality.class::getEnumConstants;
+
+    static final int SUB_BUCKETS_PER_POWER = 4;
+    static final int MAX_NANOS_MSB = 36;
+    static final int NUM_BUCKETS = SUB_BUCKETS_PER_POWER * MAX_NANOS_MSB;
+
+    private static final int UNTRACKED = -1;
+    private static final Phase[] PHASES = Phase.values();
+    private static final String P50_NAME_TPL = "%s%sP50Us";
+    private static final String P99_NAME_TPL = "%s%sP99Us";
+    private static final String P50_DESC_TPL =
+            "median time in micros spent %s of a %s, since the last update";
+    private static final String P99_DESC_TPL =
+            "99th percentile time in micros spent %s of a %s, since the last update";
+
+    private final int[] slots;
+    private final int numSlots;
+    private final long[] window = new long[NUM_BUCKETS];
+    private final long[][] lastCounts = new long[PHASES.length][];
+    private final AtomicLongArray[] counts = new AtomicLongArray[PHASES.length];
+    private final DoubleGauge[][] p50s = new DoubleGauge[PHASES.length][];
+    private final DoubleGauge[][] p99s = new DoubleGauge[PHASES.length][];
+
+    public HandlePhaseLatencies(final Function<HederaFunctionality, String> statNameFn) {
+        final var functions = allFunctions.get();
+        slots = new int[HederaFunctionality.values().length];
+        Arrays.fill(slots, UNTRACKED);
+        final var tracked =
+                Arrays.stream(functions)
+                        .filter(f -> !IGNORED_FUNCTIONS.contains(f) && !QUERY_FUNCTIONS.contains(f))
+                        .toArray(HederaFunctionality[]::new);
+        numSlots = tracked.length;
+        for (int i = 0; i < numSlots; i++) {
+            slots[tracked[i].ordinal()] = i;
+        }
+        for (final var phase : PHASES) {
+            final var p = phase.ordinal();
+            counts[p] = new AtomicLongArray(numSlots * NUM_BUCKETS);
+            lastCounts[p] = new long[numSlots * NUM_BUCKETS];
+            p50s[p] = new DoubleGauge[numSlots];
+            p99s[p] = new DoubleGauge[numSlots];
+            for (int i = 0; i < numSlots; i++) {
+                final var baseName = statNameFn.apply(tracked[i]);
+                p50s[p][i] = gaugeFor(phase, baseName, P50_NAME_TPL, P50_DESC_TPL);
+                p99s[p][i] = gaugeFor(phase, baseName, P99_NAME_TPL, P99_DESC_TPL);
+            }
+        }
+    }
+
+    public void registerWith(final Platform platform) {
+        for (final var phase : PHASES) {
+            platform.addAppMetrics(p50s[phase.ordinal()]);
+            platform.addAppMetrics(p99s[phase.ordinal()]);
+        }
+    }
+
+    /**
+     * Records the time elapsed since the given {@link System#nanoTime()} as one latency of the
+     * given phase of handling a transaction of the given type.
+     *
+     * @param phase the phase that just finished
+     * @param function the type of the handled transaction
+     * @param startNanos the value of {@link System#nanoTime()} when the phase began
+     */
+    public void recordSince(
+            final Phase phase, final HederaFunctionality function, final long startNanos) {
+        record(phase, function, System.nanoTime() - startNanos);
+    }
+
+    public void record(
+            final Phase phase, final HederaFunctionality function, final long elapsedNanos) {
+        final var slot = slots[function.ordinal()];
+        if (slot == UNTRACKED) {
+            return;
+        }
+        final var phaseCounts = counts[phase.ordinal()];
+        final var i = slot * NUM_BUCKETS + bucketOf(elapsedNanos);
+        phaseCounts.setRelease(i, phaseCounts.getPlain(i) + 1);
+    }
+
+    /**
+     * Sets each gauge to the corresponding percentile of the latencies recorded since the last
+     * call; leaving unchanged the gauges of histograms with no new latencies. Only to be called
+     * from the stats update thread.
+     */
+    public void updateAll() {
+        for (final var phase : PHASES) {
+            final var p = phase.ordinal();
+            final var phaseCounts = counts[p];
+            final var phaseLastCounts = lastCounts[p];
+            for (int slot = 0; slot < numSlots; slot++) {
+                long total = 0;
+                for (int b = 0, i = slot * NUM_BUCKETS; b < NUM_BUCKETS; b++, i++) {
+                    final var count = phaseCounts.getAcquire(i);
+                    window[b] = count - phaseLastCounts[i];
+                    phaseLastCounts[i] = count;
+                    total += window[b];
+                }
+                if (total > 0) {
+                    p50s[p][slot].set(percentileMicros(window, total, 50));
+                    p99s[p][slot].set(percentileMicros(window, total, 99));
+                }
+            }
+        }
+    }
+
+    static int bucketOf(final long nanos) {
+        if (nanos < SUB_BUCKETS_PER_POWER) {
+            return (int) Math.max(0, nanos);
+        }
+        final var msb = 63 - Long.numberOfLeadingZeros(nanos);
+        if (msb > MAX_NANOS_MSB) {
+            return NUM_BUCKETS - 1;
+        }
+        final var sub = (int) (nanos >>> (msb - 2)) & (SUB_BUCKETS_PER_POWER - 1);
+        return SUB_BUCKETS_PER_POWER * (msb - 1) + sub;
+    }
+
+    static long lowerBoundNanos(final int bucket) {
+        if (bucket < SUB_BUCKETS_PER_POWER) {
+            return bucket;
+        }
+        final var msb = bucket / SUB_BUCKETS_PER_POWER + 1;
+        final var sub = bucket % SUB_BUCKETS_PER_POWER;
+        return (long) (SUB_BUCKETS_PER_POWER + sub) << (msb - 2);
+    }
+
+    static double percentileMicros(final long[] buckets, final long total, final int percent) {
+        final var rank = (total * percent + 99) / 100;
+        long seen = 0;
+        int b = 0;
+        for (; b < NUM_BUCKETS - 1; b++) {
+            seen += buckets[b];
+            if (seen >= rank) {
+                break;
+            }
+        }
+        return lowerBoundNanos(b + 1) / 1_000.0;
+    }
+
+    private static DoubleGauge gaugeFor(
+            final Phase phase,
+            final String baseName,
+            final String nameTpl,
+            final String descTpl) {
+        return new DoubleGauge(
+                STAT_CATEGORY,
+                String.format(nameTpl, baseName, phase.statName),
+                String.format(descTpl, phase.description, baseName),
+                GAUGE_FORMAT);
+    }
+
+    @VisibleForTesting
+    DoubleGauge p50For(final Phase phase, final HederaFunctionality function) {
+        return p50s[phase.ordinal()][slots[function.ordinal()]];
+    }
+
+    @VisibleForTesting
+    DoubleGauge p99For(final Phase phase, final HederaFunctionality function) {
+        return p99s[phase.ordinal()][slots[function.ordinal()]];
+    }
+}
@@ -29,6 +29,14 @@ public class MiscRunningAvgs {
     private RunningAverageMetric handledSubmitMessageSize;
     private RunningAverageMetric writeQueueSizeRecordStream;
     private RunningAverageMetric hashQueueSizeRecordStream;
+    private RunningAverageMetric prefetchQueueLatencyMs;
+    private RunningAverageMetric recordFileHashWaitMs;
+    private RunningAverageMetric recordFileWriteMs;
+    private RunningAverageMetric recordFileSyncMs;
+    private RunningAverageMetric recordFileSignMs;
+    private RunningAverageMetric handoffQueueSizeRecordStream;
+    private RunningAverageMetric recordStreamHandoffLatencyMs;
+    private RunningAverageMetric recordStreamHandoffBatchSize;
 
     public MiscRunningAvgs(final double halfLife) {
         gasPerConsSec =
@@ -73,6 +81,62 @@ public class MiscRunningAvgs {
                         Descriptions.HASH_QUEUE_SIZE_RECORD_STREAM,
                         RUNNING_AVG_FORMAT,
                         halfLife);
+        prefetchQueueLatencyMs =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.PREFETCH_QUEUE_LATENCY_MS,
+                        Descriptions.PREFETCH_QUEUE_LATENCY_MS,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        recordFileHashWaitMs =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.RECORD_FILE_HASH_WAIT_MS,
+                        Descriptions.RECORD_FILE_HASH_WAIT_MS,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        recordFileWriteMs =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.RECORD_FILE_WRITE_MS,
+                        Descriptions.RECORD_FILE_WRITE_MS,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        recordFileSyncMs =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.RECORD_FILE_SYNC_MS,
+                        Descriptions.RECORD_FILE_SYNC_MS,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        recordFileSignMs =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.RECORD_FILE_SIGN_MS,
+                        Descriptions.RECORD_FILE_SIGN_MS,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        handoffQueueSizeRecordStream =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+                        Descriptions.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        recordStreamHandoffLatencyMs =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.RECORD_STREAM_HANDOFF_LATENCY_MS,
+                        Descriptions.RECORD_STREAM_HANDOFF_LATENCY_MS,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        recordStreamHandoffBatchSize =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.RECORD_STREAM_HANDOFF_BATCH_SIZE,
+                        Descriptions.RECORD_STREAM_HANDOFF_BATCH_SIZE,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
     }
 
     public void registerWith(final Platform platform) {
@@ -82,7 +146,15 @@ public class MiscRunningAvgs {
                 accountLookupRetries,
                 handledSubmitMessageSize,
                 writeQueueSizeRecordStream,
-                hashQueueSizeRecordStream);
+                hashQueueSizeRecordStream,
+                prefetchQueueLatencyMs,
+                recordFileHashWaitMs,
+                recordFileWriteMs,
+                recordFileSyncMs,
+                recordFileSignMs,
+                handoffQueueSizeRecordStream,
+                recordStreamHandoffLatencyMs,
+                recordStreamHandoffBatchSize);
     }
 
     public void recordAccountLookupRetries(final int num) {
@@ -109,6 +181,38 @@ public class MiscRunningAvgs {
         gasPerConsSec.recordValue(gas);
     }
 
+    public void recordPrefetchQueueLatencyMs(final double time) {
+        prefetchQueueLatencyMs.recordValue(time);
+    }
+
+    public void recordFileHashWaitMs(final double time) {
+        recordFileHashWaitMs.recordValue(time);
+    }
+
+    public void recordFileWriteMs(final double time) {
+        recordFileWriteMs.recordValue(time);
+    }
+
+    public void recordFileSyncMs(final double time) {
+        recordFileSyncMs.recordValue(time);
+    }
+
+    public void recordFileSignMs(final double time) {
+        recordFileSignMs.recordValue(time);
+    }
+
+    public void handoffQueueSizeRecordStream(final int num) {
+        handoffQueueSizeRecordStream.recordValue(num);
+    }
+
+    public void recordStreamHandoffLatencyMs(final double time) {
+        recordStreamHandoffLatencyMs.recordValue(time);
+    }
+
+    public void recordStreamHandoffBatchSize(final int num) {
+        recordStreamHandoffBatchSize.recordValue(num);
+    }
+
     public static final class Names {
         static final String GAS_PER_CONSENSUS_SEC = "gasPerConsSec";
         static final String ACCOUNT_RETRY_WAIT_MS = "avgAcctRetryWaitMs";
@@ -117,6 +221,14 @@ public class MiscRunningAvgs {
 
         static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
         static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
+        static final String PREFETCH_QUEUE_LATENCY_MS = "avgPrefetchQueueLatencyMs";
+        static final String RECORD_FILE_HASH_WAIT_MS = "avgRecordFileHashWaitMs";
+        static final String RECORD_FILE_WRITE_MS = "avgRecordFileWriteMs";
+        static final String RECORD_FILE_SYNC_MS = "avgRecordFileSyncMs";
+        static final String RECORD_FILE_SIGN_MS = "avgRecordFileSignMs";
+        static final String HANDOFF_QUEUE_SIZE_RECORD_STREAM = "handoffQueueSizeRecordStream";
+        static final String RECORD_STREAM_HANDOFF_LATENCY_MS = "avgRecordStreamHandoffLatencyMs";
+        static final String RECORD_STREAM_HANDOFF_BATCH_SIZE = "avgRecordStreamHandoffBatchSize";
 
         private Names() {
             throw new UnsupportedOperationException("Utility Class");
@@ -137,6 +249,22 @@ public class MiscRunningAvgs {
                 "size of the queue from which we take records and write to RecordStream file";
         static final String HASH_QUEUE_SIZE_RECORD_STREAM =
                 "size of working queue for calculating hash and runningHash";
+        static final String PREFETCH_QUEUE_LATENCY_MS =
+                "average time in millis a pre-fetch task waits in the queue before it starts";
+        static final String RECORD_FILE_HASH_WAIT_MS =
+                "average time in millis spent waiting for the end running hash of a record file";
+        static final String RECORD_FILE_WRITE_MS =
+                "average time in millis spent serializing, compressing and writing a record file";
+        static final String RECORD_FILE_SYNC_MS =
+                "average time in millis spent syncing a written record file to disk";
+        static final String RECORD_FILE_SIGN_MS =
+                "average time in millis spent signing a record file and writing its signature";
+        static final String HANDOFF_QUEUE_SIZE_RECORD_STREAM =
+                "size of the queue from which records are handed off to the record stream manager";
+        static final String RECORD_STREAM_HANDOFF_LATENCY_MS =
+                "average time in millis the oldest record in a handoff batch waited in the queue";
+        static final String RECORD_STREAM_HANDOFF_BATCH_SIZE =
+                "average number of records handed off to the record stream manager per wakeup";
 
         private Descriptions() {
             throw new UnsupportedOperationException("Utility Class");
@@ -172,4 +300,44 @@ public class MiscRunningAvgs {
     void setHashQueueSizeRecordStream(RunningAverageMetric hashQueueSizeRecordStream) {
         this.hashQueueSizeRecordStream = hashQueueSizeRecordStream;
     }
+
+    @VisibleForTesting
+    void setPrefetchQueueLatencyMs(RunningAverageMetric prefetchQueueLatencyMs) {
+        this.prefetchQueueLatencyMs = prefetchQueueLatencyMs;
+    }
+
+    @VisibleForTesting
+    void setRecordFileHashWaitMs(RunningAverageMetric recordFileHashWaitMs) {
+        this.recordFileHashWaitMs = recordFileHashWaitMs;
+    }
+
+    @VisibleForTesting
+    void setRecordFileWriteMs(RunningAverageMetric recordFileWriteMs) {
+        this.recordFileWriteMs = recordFileWriteMs;
+    }
+
+    @VisibleForTesting
+    void setRecordFileSyncMs(RunningAverageMetric recordFileSyncMs) {
+        this.recordFileSyncMs = recordFileSyncMs;
+    }
+
+    @VisibleForTesting
+    void setRecordFileSignMs(RunningAverageMetric recordFileSignMs) {
+        this.recordFileSignMs = recordFileSignMs;
+    }
+
+    @VisibleForTesting
+    void setHandoffQueueSizeRecordStream(RunningAverageMetric handoffQueueSizeRecordStream) {
+        this.handoffQueueSizeRecordStream = handoffQueueSizeRecordStream;
+    }
+
+    @VisibleForTesting
+    void setRecordStreamHandoffLatencyMs(RunningAverageMetric recordStreamHandoffLatencyMs) {
+        this.recordStreamHandoffLatencyMs = recordStreamHandoffLatencyMs;
+    }
+
+    @VisibleForTesting
+    void setRecordStreamHandoffBatchSize(RunningAverageMetric recordStreamHandoffBatchSize) {
+        this.recordStreamHandoffBatchSize = recordStreamHandoffBatchSize;
+    }
 }
@@ -25,6 +25,16 @@ import com.swirlds.common.system.Platform;
 public class MiscSpeedometers {
     private SpeedometerMetric syncVerifications;
     private SpeedometerMetric platformTxnRejections;
+    private SpeedometerMetric changedRefsRationalizations;
+    private SpeedometerMetric unknownRefsRationalizations;
+    private SpeedometerMetric prefetchDrops;
+    private SpeedometerMetric prefetchHits;
+    private SpeedometerMetric prefetchMisses;
+    private SpeedometerMetric recordStreamHandoffsWhenFull;
+    private SpeedometerMetric codeCacheHits;
+    private SpeedometerMetric codeCacheMisses;
+    private SpeedometerMetric codeCacheEvictions;
+    private SpeedometerMetric expiredContractSlotRemovals;
 
     public MiscSpeedometers(final double halfLife) {
         syncVerifications =
@@ -41,10 +51,92 @@ public class MiscSpeedometers {
                         Descriptions.PLATFORM_TXN_REJECTIONS,
                         SPEEDOMETER_FORMAT,
                         halfLife);
+        changedRefsRationalizations =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.CHANGED_REFS_RATIONALIZATIONS,
+                        Descriptions.CHANGED_REFS_RATIONALIZATIONS,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        unknownRefsRationalizations =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.UNKNOWN_REFS_RATIONALIZATIONS,
+                        Descriptions.UNKNOWN_REFS_RATIONALIZATIONS,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        prefetchDrops =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.PREFETCH_DROPS,
+                        Descriptions.PREFETCH_DROPS,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        prefetchHits =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.PREFETCH_HITS,
+                        Descriptions.PREFETCH_HITS,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        prefetchMisses =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.PREFETCH_MISSES,
+                        Descriptions.PREFETCH_MISSES,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        recordStreamHandoffsWhenFull =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.RECORD_STREAM_HANDOFFS_WHEN_FULL,
+                        Descriptions.RECORD_STREAM_HANDOFFS_WHEN_FULL,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        codeCacheHits =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.CODE_CACHE_HITS,
+                        Descriptions.CODE_CACHE_HITS,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        codeCacheMisses =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.CODE_CACHE_MISSES,
+                        Descriptions.CODE_CACHE_MISSES,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        codeCacheEvictions =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.CODE_CACHE_EVICTIONS,
+                        Descriptions.CODE_CACHE_EVICTIONS,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
+        expiredContractSlotRemovals =
+                new SpeedometerMetric(
+                        STAT_CATEGORY,
+                        Names.EXPIRED_CONTRACT_SLOT_REMOVALS,
+                        Descriptions.EXPIRED_CONTRACT_SLOT_REMOVALS,
+                        SPEEDOMETER_FORMAT,
+                        halfLife);
     }
 
     public void registerWith(final Platform platform) {
-        platform.addAppMetrics(syncVerifications, platformTxnRejections);
+        platform.addAppMetrics(
+                syncVerifications,
+                platformTxnRejections,
+                changedRefsRationalizations,
+                unknownRefsRationalizations,
+                prefetchDrops,
+                prefetchHits,
+                prefetchMisses,
+                recordStreamHandoffsWhenFull,
+                codeCacheHits,
+                codeCacheMisses,
+                codeCacheEvictions,
+                expiredContractSlotRemovals);
     }
 
     public void cycleSyncVerifications() {
@@ -55,9 +147,59 @@ public class MiscSpeedometers {
         platformTxnRejections.update(1);
     }
 
+    public void cycleChangedRefsRationalizations() {
+        changedRefsRationalizations.update(1);
+    }
+
+    public void cycleUnknownRefsRationalizations() {
+        unknownRefsRationalizations.update(1);
+    }
+
+    public void cyclePrefetchDrops() {
+        prefetchDrops.update(1);
+    }
+
+    public void cyclePrefetchHits() {
+        prefetchHits.update(1);
+    }
+
+    public void cyclePrefetchMisses() {
+        prefetchMisses.update(1);
+    }
+
+    public void cycleRecordStreamHandoffsWhenFull() {
+        recordStreamHandoffsWhenFull.update(1);
+    }
+
+    public void cycleCodeCacheHits() {
+        codeCacheHits.update(1);
+    }
+
+    public void cycleCodeCacheMisses() {
+        codeCacheMisses.update(1);
+    }
+
+    public void cycleCodeCacheEvictions() {
+        codeCacheEvictions.update(1);
+    }
+
+    public void cycleExpiredContractSlotRemovals(final int n) {
+        expiredContractSlotRemovals.update(n);
+    }
+
     public static final class Names {
         static final String SYNC_VERIFICATIONS = "sigVerifySync/sec";
         static final String PLATFORM_TXN_REJECTIONS = "platformTxnNotCreated/sec";
+        static final String CHANGED_REFS_RATIONALIZATIONS = "sigReExpandChanged/sec";
+        static final String UNKNOWN_REFS_RATIONALIZATIONS = "sigReExpandUnknown/sec";
+        static final String PREFETCH_DROPS = "prefetchDropped/sec";
+        static final String PREFETCH_HITS = "prefetchHits/sec";
+        static final String PREFETCH_MISSES = "prefetchMisses/sec";
+        static final String RECORD_STREAM_HANDOFFS_WHEN_FULL = "recordStreamHandoffFull/sec";
+        static final String CODE_CACHE_HITS = "codeCacheHits/sec";
+        static final String CODE_CACHE_MISSES = "codeCacheMisses/sec";
+        static final String CODE_CACHE_EVICTIONS = "codeCacheEvictions/sec";
+        static final String EXPIRED_CONTRACT_SLOT_REMOVALS = "expiredContractSlotsRemoved/sec";
 
         private Names() {
             throw new UnsupportedOperationException("Utility Class");
@@ -70,6 +212,34 @@ public class MiscSpeedometers {
                         + " handleTransaction";
         static final String PLATFORM_TXN_REJECTIONS =
                 "number of platform transactions not created per second";
+        static final String CHANGED_REFS_RATIONALIZATIONS =
+                "number of transactions per second whose signatures were re-expanded in"
+                        + " handleTransaction because a linked entity or alias changed";
+        static final String UNKNOWN_REFS_RATIONALIZATIONS =
+                "number of transactions per second whose signatures were re-expanded in"
+                        + " handleTransaction because their linked entities' change status was"
+                        + " unknown";
+        static final String PREFETCH_DROPS =
+                "number of queued pre-fetch tasks dropped per second to make room for newer ones";
+        static final String PREFETCH_HITS =
+                "number of pre-fetched contract bytecodes per second that were already cached when"
+                        + " first executed";
+        static final String PREFETCH_MISSES =
+                "number of pre-fetched contract bytecodes per second that still had to be loaded"
+                        + " when first executed";
+        static final String RECORD_STREAM_HANDOFFS_WHEN_FULL =
+                "number of records per second that had to wait for room in the full record"
+                        + " stream handoff queue";
+        static final String CODE_CACHE_HITS =
+                "number of contract bytecode lookups per second served from the code cache";
+        static final String CODE_CACHE_MISSES =
+                "number of contract bytecode lookups per second that had to load and analyze"
+                        + " bytecode from state";
+        static final String CODE_CACHE_EVICTIONS =
+                "number of analyzed bytecodes evicted per second from the strong tier of the code"
+                        + " cache";
+        static final String EXPIRED_CONTRACT_SLOT_REMOVALS =
+                "number of storage slots per second removed from expired contracts";
 
         private Descriptions() {
             throw new UnsupportedOperationException("Utility Class");
@@ -86,6 +256,56 @@ public class MiscSpeedometers {
         this.platformTxnRejections = platformTxnRejections;
     }
 
+    @VisibleForTesting
+    void setChangedRefsRationalizations(final SpeedometerMetric changedRefsRationalizations) {
+        this.changedRefsRationalizations = changedRefsRationalizations;
+    }
+
+    @VisibleForTesting
+    void setUnknownRefsRationalizations(final SpeedometerMetric unknownRefsRationalizations) {
+        this.unknownRefsRationalizations = unknownRefsRationalizations;
+    }
+
+    @VisibleForTesting
+    void setPrefetchDrops(final SpeedometerMetric prefetchDrops) {
+        this.prefetchDrops = prefetchDrops;
+    }
+
+    @VisibleForTesting
+    void setPrefetchHits(final SpeedometerMetric prefetchHits) {
+        this.prefetchHits = prefetchHits;
+    }
+
+    @VisibleForTesting
+    void setPrefetchMisses(final SpeedometerMetric prefetchMisses) {
+        this.prefetchMisses = prefetchMisses;
+    }
+
+    @VisibleForTesting
+    void setRecordStreamHandoffsWhenFull(final SpeedometerMetric recordStreamHandoffsWhenFull) {
+        this.recordStreamHandoffsWhenFull = recordStreamHandoffsWhenFull;
+    }
+
+    @VisibleForTesting
+    void setCodeCacheHits(final SpeedometerMetric codeCacheHits) {
+        this.codeCacheHits = codeCacheHits;
+    }
+
+    @VisibleForTesting
+    void setCodeCacheMisses(final SpeedometerMetric codeCacheMisses) {
+        this.codeCacheMisses = codeCacheMisses;
+    }
+
+    @VisibleForTesting
+    void setCodeCacheEvictions(final SpeedometerMetric codeCacheEvictions) {
+        this.codeCacheEvictions = codeCacheEvictions;
+    }
+
+    @VisibleForTesting
+    void setExpiredContractSlotRemovals(final SpeedometerMetric expiredContractSlotRemovals) {
+        this.expiredContractSlotRemovals = expiredContractSlotRemovals;
+    }
+
     @VisibleForTesting
     SpeedometerMetric getSyncVerifications() {
         return syncVerifications;
@@ -95,4 +315,54 @@ public class MiscSpeedometers {
     SpeedometerMetric getPlatformTxnRejections() {
         return platformTxnRejections;
     }
+
+    @VisibleForTesting
+    SpeedometerMetric getChangedRefsRationalizations() {
+        return changedRefsRationalizations;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getUnknownRefsRationalizations() {
+        return unknownRefsRationalizations;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getPrefetchDrops() {
+        return prefetchDrops;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getPrefetchHits() {
+        return prefetchHits;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getPrefetchMisses() {
+        return prefetchMisses;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getRecordStreamHandoffsWhenFull() {
+        return recordStreamHandoffsWhenFull;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getCodeCacheHits() {
+        return codeCacheHits;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getCodeCacheMisses() {
+        return codeCacheMisses;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getCodeCacheEvictions() {
+        return codeCacheEvictions;
+    }
+
+    @VisibleForTesting
+    SpeedometerMetric getExpiredContractSlotRemovals() {
+        return expiredContractSlotRemovals;
+    }
 }
@@ -57,6 +57,8 @@ public class ServicesStatsManager {
     private final NodeLocalProperties localProperties;
     private final ThrottleGauges throttleGauges;
     private final EntityUtilGauges entityUtilGauges;
+    private final ContractGCGauges contractGCGauges;
+    private final HandlePhaseLatencies handlePhaseLatencies;
     private final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage;
     private final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode;
 
@@ -66,8 +68,10 @@ public class ServicesStatsManager {
             final ThrottleGauges throttleGauges,
             final MiscRunningAvgs runningAvgs,
             final EntityUtilGauges entityUtilGauges,
+            final ContractGCGauges contractGCGauges,
             final MiscSpeedometers speedometers,
             final HapiOpSpeedometers opSpeedometers,
+            final HandlePhaseLatencies handlePhaseLatencies,
             final NodeLocalProperties localProperties,
             final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage,
             final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode) {
@@ -80,6 +84,8 @@ public class ServicesStatsManager {
         this.opSpeedometers = opSpeedometers;
         this.throttleGauges = throttleGauges;
         this.entityUtilGauges = entityUtilGauges;
+        this.contractGCGauges = contractGCGauges;
+        this.handlePhaseLatencies = handlePhaseLatencies;
     }
 
     public void initializeFor(final Platform platform) {
@@ -89,6 +95,8 @@ public class ServicesStatsManager {
         throttleGauges.registerWith(platform);
         opSpeedometers.registerWith(platform);
         entityUtilGauges.registerWith(platform);
+        contractGCGauges.registerWith(platform);
+        handlePhaseLatencies.registerWith(platform);
         storage.get().registerStatistics(platform::addAppMetrics);
         bytecode.get().registerStatistics(platform::addAppMetrics);
 
@@ -122,6 +130,7 @@ public class ServicesStatsManager {
                             final var n = numPauses.incrementAndGet();
                             if (n % pausesBetweenHapiOpsUpdate == 0) {
                                 opSpeedometers.updateAll();
+                                handlePhaseLatencies.updateAll();
                             }
                             if (n % pausesBetweenThrottleUtilUpdate == 0) {
                                 throttleGauges.updateAll();
@@ -57,6 +57,12 @@ public final class StatsModule {
         return new HapiOpSpeedometers(counters, nodeLocalProperties, MiscUtils::baseStatNameOf);
     }
 
+    @Provides
+    @Singleton
+    public static HandlePhaseLatencies provideHandlePhaseLatencies() {
+        return new HandlePhaseLatencies(MiscUtils::baseStatNameOf);
+    }
+
     @Provides
     @Singleton
     public static HapiOpCounters provideHapiOpCounters(
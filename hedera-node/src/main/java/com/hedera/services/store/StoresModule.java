@@ -42,6 +42,7 @@ import com.hedera.services.ledger.properties.ChangeSummaryManager;
 import com.hedera.services.ledger.properties.NftProperty;
 import com.hedera.services.ledger.properties.TokenProperty;
 import com.hedera.services.ledger.properties.TokenRelProperty;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleToken;
@@ -158,7 +159,8 @@ public interface StoresModule {
             final StakeInfoManager stakeInfoManager,
             final AccountNumbers accountNumbers,
             final TransactionContext txnCtx,
-            final UsageLimits usageLimits) {
+            final UsageLimits usageLimits,
+            final EntityExpiryIndex expiryIndex) {
         final var accountsLedger =
                 new TransactionalLedger<>(
                         AccountProperty.class,
@@ -176,7 +178,8 @@ public interface StoresModule {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageLimits);
+                        usageLimits,
+                        expiryIndex);
         accountsLedger.setCommitInterceptor(accountsCommitInterceptor);
         return accountsLedger;
     }
@@ -20,11 +20,15 @@ import static com.hedera.services.utils.EntityIdUtils.accountIdFromEvmAddress;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.utils.BytesKey;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.evm.Code;
@@ -36,66 +40,205 @@ import org.hyperledger.besu.evm.Code;
  * reads from the underlying store if the contract is called repeatedly during a short period of
  * time.
  *
+ * <p>Behind the soft-valued tier is a strong tier that survives GC pressure. It maps each recently
+ * loaded address to the Keccak hash of its bytecode, and each code hash to a {@link Code} whose
+ * jump destinations were already analyzed. The analyzed code is content-addressed, so contracts
+ * deployed with identical bytecode share one entry; and the tier is bounded by the total byte
+ * length of the code it holds, not by its number of entries.
+ *
  * <p>This cache assumes that the bytecode values are immutable, hence no logic to determine whether
  * a value is stale is present.
  */
 @Singleton
 public class CodeCache {
+    static final long DEFAULT_MAX_STRONG_BYTES = 32L * 1024 * 1024;
+    // Bounds the strongly-held mappings from addresses to code hashes (roughly 100 bytes each)
+    static final int MAX_STRONG_ADDRESSES = 1 << 16;
+
     private final EntityAccess entityAccess;
+    @Nullable private final MiscSpeedometers speedometers;
     private final Cache<BytesKey, Code> cache;
+    private final Cache<BytesKey, Hash> codeHashes;
+    private final Cache<Hash, Code> analyzedCode;
+    // Addresses warmed by a pre-fetch, but not yet looked up by the EVM
+    private final Cache<BytesKey, Boolean> prefetched;
 
     @Inject
+    public CodeCache(
+            final NodeLocalProperties properties,
+            final EntityAccess entityAccess,
+            final MiscSpeedometers speedometers) {
+        this(
+                properties.prefetchCodeCacheTtlSecs(),
+                properties.prefetchCodeCacheMaxStrongBytes(),
+                entityAccess,
+                speedometers);
+    }
+
     public CodeCache(final NodeLocalProperties properties, final EntityAccess entityAccess) {
-        this(properties.prefetchCodeCacheTtlSecs(), entityAccess);
+        this(
+                properties.prefetchCodeCacheTtlSecs(),
+                properties.prefetchCodeCacheMaxStrongBytes(),
+                entityAccess,
+                null);
     }
 
     public CodeCache(final int cacheTTL, final EntityAccess entityAccess) {
+        this(cacheTTL, DEFAULT_MAX_STRONG_BYTES, entityAccess, null);
+    }
+
+    public CodeCache(
+            final int cacheTTL,
+            final long maxStrongBytes,
+            final EntityAccess entityAccess,
+            @Nullable final MiscSpeedometers speedometers) {
         this.entityAccess = entityAccess;
+        this.speedometers = speedometers;
         this.cache =
                 Caffeine.newBuilder()
                         .expireAfterAccess(cacheTTL, TimeUnit.SECONDS)
                         .softValues()
                         .build();
+        this.codeHashes = Caffeine.newBuilder().maximumSize(MAX_STRONG_ADDRESSES).build();
+        this.analyzedCode =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxStrongBytes)
+                        .weigher((Hash codeHash, Code code) -> code.getBytes().size())
+                        .evictionListener(
+                                (Hash codeHash, Code code, RemovalCause cause) ->
+                                        onStrongEviction(cause))
+                        .build();
+        this.prefetched =
+                Caffeine.newBuilder()
+                        .expireAfterWrite(cacheTTL, TimeUnit.SECONDS)
+                        .maximumSize(MAX_STRONG_ADDRESSES)
+                        .build();
     }
 
     public Code getIfPresent(final Address address) {
         final var cacheKey = new BytesKey(address.toArray());
 
-        var code = cache.getIfPresent(cacheKey);
-
-        if (code != null) {
-            return code;
+        final var code = cachedCode(cacheKey);
+        if (speedometers != null) {
+            recordLookup(cacheKey, code != null);
         }
+        return (code != null) ? code : load(cacheKey, address);
+    }
 
-        if (entityAccess.isTokenAccount(address)) {
-            final var interpolatedBytecode = proxyBytecodeFor(address);
-            code = Code.createLegacyCode(interpolatedBytecode, Hash.hash(interpolatedBytecode));
-            cache.put(cacheKey, code);
-            return code;
+    /**
+     * Warms the cache with the code at the given address, without counting as a code cache lookup.
+     * The next {@link #getIfPresent(Address)} for the address then counts as a pre-fetch hit if the
+     * code was still cached, and as a pre-fetch miss otherwise (say, if this warming had not yet
+     * finished, or its code was already evicted).
+     *
+     * @param address the address whose code should be warmed
+     */
+    public void prefetch(final Address address) {
+        final var cacheKey = new BytesKey(address.toArray());
+        if (speedometers != null) {
+            prefetched.put(cacheKey, Boolean.TRUE);
+        }
+        if (cachedCode(cacheKey) == null) {
+            load(cacheKey, address);
         }
+    }
 
-        final var bytecode = entityAccess.fetchCodeIfPresent(accountIdFromEvmAddress(address));
-        if (bytecode != null) {
-            code = Code.createLegacyCode(bytecode, Hash.hash(bytecode));
-            cache.put(cacheKey, code);
+    @Nullable
+    private Code cachedCode(final BytesKey cacheKey) {
+        final var code = cache.getIfPresent(cacheKey);
+        return (code != null) ? code : strongTierGet(cacheKey);
+    }
+
+    private void recordLookup(final BytesKey cacheKey, final boolean hit) {
+        if (hit) {
+            speedometers.cycleCodeCacheHits();
+        } else {
+            speedometers.cycleCodeCacheMisses();
+        }
+        if (prefetched.asMap().remove(cacheKey) != null) {
+            if (hit) {
+                speedometers.cyclePrefetchHits();
+            } else {
+                speedometers.cyclePrefetchMisses();
+            }
         }
+    }
 
+    @Nullable
+    private Code load(final BytesKey cacheKey, final Address address) {
+        final var bytecode =
+                entityAccess.isTokenAccount(address)
+                        ? proxyBytecodeFor(address)
+                        : entityAccess.fetchCodeIfPresent(accountIdFromEvmAddress(address));
+        if (bytecode == null) {
+            return null;
+        }
+        final var code = analyzed(bytecode);
+        cacheForAddress(cacheKey, code);
         return code;
     }
 
     public void invalidate(Address address) {
-        cache.invalidate(new BytesKey(address.toArray()));
+        final var cacheKey = new BytesKey(address.toArray());
+        cache.invalidate(cacheKey);
+        codeHashes.invalidate(cacheKey);
+        prefetched.invalidate(cacheKey);
     }
 
     public long size() {
         return cache.estimatedSize();
     }
 
+    @Nullable
+    private Code strongTierGet(final BytesKey cacheKey) {
+        final var codeHash = codeHashes.getIfPresent(cacheKey);
+        if (codeHash == null) {
+            return null;
+        }
+        final var code = analyzedCode.getIfPresent(codeHash);
+        if (code != null) {
+            cache.put(cacheKey, code);
+        }
+        return code;
+    }
+
+    private void cacheForAddress(final BytesKey cacheKey, final Code code) {
+        cache.put(cacheKey, code);
+        codeHashes.put(cacheKey, code.getCodeHash());
+    }
+
+    private Code analyzed(final Bytes bytecode) {
+        return analyzedCode.get(
+                Hash.hash(bytecode),
+                codeHash -> {
+                    final var code = Code.createLegacyCode(bytecode, codeHash);
+                    // Forces the (memoized) jump destination analysis, so that when this is a
+                    // pre-fetch it happens off the handle thread; and is never repeated while
+                    // the code stays in the strong tier
+                    code.isJumpDestInvalid(0);
+                    return code;
+                });
+    }
+
+    private void onStrongEviction(final RemovalCause cause) {
+        if (speedometers != null && cause.wasEvicted()) {
+            speedometers.cycleCodeCacheEvictions();
+        }
+    }
+
     /* --- Only used by unit tests --- */
     Cache<BytesKey, Code> getCache() {
         return cache;
     }
 
+    Cache<Hash, Code> getAnalyzedCode() {
+        return analyzedCode;
+    }
+
+    Cache<BytesKey, Hash> getCodeHashes() {
+        return codeHashes;
+    }
+
     void cacheValue(BytesKey key, Code value) {
         cache.put(key, value);
     }
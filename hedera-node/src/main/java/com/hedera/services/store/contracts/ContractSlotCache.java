@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.store.contracts;
+
+import com.hedera.services.state.virtual.ContractKey;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import org.apache.tuweni.units.bigints.UInt256;
+
+/**
+ * A fixed-capacity, open-addressed cache of <i>committed</i> contract storage values, keyed by
+ * {@code (contractNum, packed 256-bit key)}. Lets {@link SizeLimitedStorage} answer repeated SLOADs
+ * of the same slot without allocating a {@link ContractKey}, re-reading the storage {@code
+ * VirtualMap}, or touching the linked-list pointers of an {@code IterableContractValue}.
+ *
+ * <p>Because every entry must mirror a value in one specific source map, the cache is bound to the
+ * identity of that map and is cleared whenever a different instance is presented via {@link
+ * #useSource(Object)}; in practice, at least once per round when the mutable state is copied. It is
+ * also simply cleared when it fills up, which keeps its memory and probe lengths bounded.
+ */
+final class ContractSlotCache {
+    static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private static final int INTS_PER_KEY = 8;
+
+    private final int mask;
+    private final int maxSize;
+    private final long[] contractNums;
+    private final int[] packedKeys;
+    // A null value marks an empty slot; a slot known to be unmapped holds UInt256.ZERO
+    private final UInt256[] values;
+
+    private int size;
+    private Object source;
+
+    ContractSlotCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    ContractSlotCache(final int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity must be a power of two greater than one, not " + capacity);
+        }
+        mask = capacity - 1;
+        maxSize = capacity / 2;
+        contractNums = new long[capacity];
+        packedKeys = new int[capacity * INTS_PER_KEY];
+        values = new UInt256[capacity];
+    }
+
+    /**
+     * Binds the cache to the given source of committed values, clearing it if this is not the
+     * source it was already bound to.
+     *
+     * @param source the map the cached values must mirror
+     */
+    void useSource(final Object source) {
+        if (this.source != source) {
+            clear();
+            this.source = source;
+        }
+    }
+
+    /**
+     * Returns the cached value of the given slot, if present.
+     *
+     * @param contractNum the number of the contract owning the slot
+     * @param packedKey the slot's key, packed as by {@link ContractKey#asPackedInts(UInt256)}
+     * @return the cached value (zero if the slot is known to be unmapped), or null on a miss
+     */
+    @Nullable
+    UInt256 get(final long contractNum, final int[] packedKey) {
+        final var i = indexOf(contractNum, packedKey);
+        return (i < 0) ? null : values[i];
+    }
+
+    /**
+     * Caches the committed value of the given slot, evicting everything first if the cache is full.
+     *
+     * @param contractNum the number of the contract owning the slot
+     * @param packedKey the slot's key; its contents are copied, so the array may be reused
+     * @param value the committed value, or zero if the slot is unmapped
+     */
+    void put(final long contractNum, final int[] packedKey, final UInt256 value) {
+        var i = indexOf(contractNum, packedKey);
+        if (i >= 0) {
+            values[i] = value;
+            return;
+        }
+        if (size == maxSize) {
+            clear();
+        }
+        i = homeOf(contractNum, packedKey, 0);
+        while (values[i] != null) {
+            i = (i + 1) & mask;
+        }
+        contractNums[i] = contractNum;
+        System.arraycopy(packedKey, 0, packedKeys, i * INTS_PER_KEY, INTS_PER_KEY);
+        values[i] = value;
+        size++;
+    }
+
+    /**
+     * Removes any cached value of the given slot.
+     *
+     * @param contractNum the number of the contract owning the slot
+     * @param packedKey the slot's key
+     */
+    void evict(final long contractNum, final int[] packedKey) {
+        var i = indexOf(contractNum, packedKey);
+        if (i < 0) {
+            return;
+        }
+        values[i] = null;
+        size--;
+        // Shift back any later entries in this probe run that can no longer be reached
+        var j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == null) {
+                return;
+            }
+            final var home = homeOf(contractNums[j], packedKeys, j * INTS_PER_KEY);
+            final var reachable = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+            if (!reachable) {
+                contractNums[i] = contractNums[j];
+                System.arraycopy(
+                        packedKeys, j * INTS_PER_KEY, packedKeys, i * INTS_PER_KEY, INTS_PER_KEY);
+                values[i] = values[j];
+                values[j] = null;
+                i = j;
+            }
+        }
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(final long contractNum, final int[] packedKey) {
+        var i = homeOf(contractNum, packedKey, 0);
+        while (values[i] != null) {
+            if (contractNums[i] == contractNum && keyMatchesAt(i, packedKey)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean keyMatchesAt(final int i, final int[] packedKey) {
+        final var offset = i * INTS_PER_KEY;
+        for (int j = 0; j < INTS_PER_KEY; j++) {
+            if (packedKeys[offset + j] != packedKey[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int homeOf(final long contractNum, final int[] ints, final int offset) {
+        long h = contractNum;
+        for (int j = 0; j < INTS_PER_KEY; j++) {
+            h = h * 31 + ints[offset + j];
+        }
+        h *= 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+}
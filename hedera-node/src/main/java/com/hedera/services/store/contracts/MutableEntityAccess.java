@@ -15,6 +15,7 @@
  */
 package com.hedera.services.store.contracts;
 
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
 import static com.hedera.services.store.contracts.StaticEntityAccess.explicitCodeFetch;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCreate;
@@ -23,6 +24,7 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.TransactionContext;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.accounts.AliasManager;
@@ -143,8 +145,7 @@ public class MutableEntityAccess implements EntityAccess {
 
     @Override
     public void storeCode(final AccountID id, final Bytes code) {
-        final var key =
-                new VirtualBlobKey(VirtualBlobKey.Type.CONTRACT_BYTECODE, (int) id.getAccountNum());
+        final var key = VirtualBlobStore.keyOf(CONTRACT_BYTECODE, id.getAccountNum());
         final var value = new VirtualBlobValue(code.toArray());
         bytecode.get().put(key, value);
     }
@@ -34,6 +34,7 @@ import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
@@ -65,9 +66,13 @@ public class SizeLimitedStorage {
 
     // Used to charge storage fees before committing changes
     private final StorageFeeCharging storageFeeCharging;
-    // Used to upsert to a contract's doubly-linked list of storage mappings
+    // Used to splice a contract's new mappings into its doubly-linked list of storage mappings
+    private final IterableStorageBatchUpserter storageBatchUpserter;
+    // Used to splice a contract's removed mappings out of its doubly-linked list
+    private final IterableStorageBatchRemover storageBatchRemover;
+    // Used to upsert to a contract's doubly-linked list one mapping at a time, if a batch fails
     private final IterableStorageUpserter storageUpserter;
-    // Used to remove from a contract's doubly-linked list of storage mappings
+    // Used to remove from a contract's doubly-linked list one mapping at a time, if a batch fails
     private final IterableStorageRemover storageRemover;
     private final Function<Long, KvUsageInfo> usageInfoLookup;
 
@@ -82,16 +87,26 @@ public class SizeLimitedStorage {
     private final Map<Long, TreeSet<ContractKey>> removedKeys = new TreeMap<>();
     private final Map<ContractKey, IterableContractValue> newMappings = new HashMap<>();
 
+    // Committed values of recently read or written slots, valid across sessions in a round
+    private final ContractSlotCache slotCache = new ContractSlotCache();
+    // Reusable probe for the session buffers and the slot cache on the getStorage() path
+    private final int[] probeInts = new int[8];
+    private final ContractKey probeKey = new ContractKey();
+
     private long totalKvPairs;
 
     @Inject
     public SizeLimitedStorage(
             final StorageFeeCharging storageFeeCharging,
             final ContractStorageLimits usageLimits,
+            final IterableStorageBatchUpserter storageBatchUpserter,
+            final IterableStorageBatchRemover storageBatchRemover,
             final IterableStorageUpserter storageUpserter,
             final IterableStorageRemover storageRemover,
             final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts,
             final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage) {
+        this.storageBatchRemover = storageBatchRemover;
+        this.storageBatchUpserter = storageBatchUpserter;
         this.storageRemover = storageRemover;
         this.storageUpserter = storageUpserter;
         this.storageFeeCharging = storageFeeCharging;
@@ -160,23 +175,41 @@ public class SizeLimitedStorage {
      * Returns the requested storage value for the given contract, <i>taking into account</i> all
      * changes buffered so far in the session.
      *
+     * <p>Committed values are served from a slot cache when possible, so repeated reads of a slot
+     * (in this or an earlier session against the same storage map) neither allocate a {@link
+     * ContractKey} nor touch the {@link VirtualMap}.
+     *
      * @param id the contract of interest
      * @param key the key of the desired storage value
      * @return the value if it exists, zero if it does not
      */
     public UInt256 getStorage(final AccountID id, final UInt256 key) {
-        final var contractKey = ContractKey.from(id, key);
-
-        final var zeroedOut = removedKeys.get(id.getAccountNum());
-        if (zeroedOut != null && zeroedOut.contains(contractKey)) {
-            return ZERO;
+        final var contractNum = id.getAccountNum();
+        ContractKey.packInto(key, probeInts);
+
+        if (!removedKeys.isEmpty() || !newMappings.isEmpty()) {
+            probeKey.setContractId(contractNum);
+            probeKey.setKey(probeInts);
+            final var zeroedOut = removedKeys.get(contractNum);
+            if (zeroedOut != null && zeroedOut.contains(probeKey)) {
+                return ZERO;
+            }
+            final var pendingValue = newMappings.get(probeKey);
+            if (pendingValue != null) {
+                return pendingValue.asUInt256();
+            }
         }
 
-        var effectiveValue = newMappings.get(contractKey);
-        if (effectiveValue == null) {
-            effectiveValue = storage.get().get(contractKey);
+        final var curStorage = storage.get();
+        slotCache.useSource(curStorage);
+        var value = slotCache.get(contractNum, probeInts);
+        if (value == null) {
+            final var committedValue =
+                    curStorage.get(new ContractKey(contractNum, probeInts.clone()));
+            value = (committedValue == null) ? ZERO : committedValue.asUInt256();
+            slotCache.put(contractNum, probeInts, value);
         }
-        return (effectiveValue == null) ? ZERO : effectiveValue.asUInt256();
+        return value;
     }
 
     /**
@@ -226,6 +259,33 @@ public class SizeLimitedStorage {
                 VirtualMap<ContractKey, IterableContractValue> storage);
     }
 
+    /**
+     * Upserts all of a contract's changed mappings at once. Must leave the storage map unchanged if
+     * it throws, so the changes can still be made one mapping at a time.
+     */
+    @FunctionalInterface
+    public interface IterableStorageBatchUpserter {
+
+        ContractKey upsertMappings(
+                Collection<ContractKey> keys,
+                Map<ContractKey, IterableContractValue> values,
+                ContractKey rootKey,
+                VirtualMap<ContractKey, IterableContractValue> storage);
+    }
+
+    /**
+     * Removes all of a contract's zeroed-out mappings at once. Must leave the storage map unchanged
+     * if it throws, so the changes can still be made one mapping at a time.
+     */
+    @FunctionalInterface
+    public interface IterableStorageBatchRemover {
+
+        ContractKey removeMappings(
+                Collection<ContractKey> keys,
+                ContractKey rootKey,
+                VirtualMap<ContractKey, IterableContractValue> storage);
+    }
+
     private int kvPairsLookup(final Long num) {
         final var account = accounts.get().get(fromLong(num));
         if (account == null) {
@@ -356,70 +416,123 @@ public class SizeLimitedStorage {
             return;
         }
         final var curStorage = storage.get();
+        slotCache.useSource(curStorage);
         updatedKeys.forEach(
                 (id, changeSet) -> {
-                    IterableContractValue firstValue = null;
                     // We can't use newFirstKeys.computeIfAbsent() below, since that method treats
                     // an id->null mapping as ABSENT(!); but if newFirstKeys contains an id->null
-                    // mapping,
-                    // it means that all the existing key/value pairs were removed for that
-                    // contract, and
-                    // we must ignore any existing first key in the accounts map
-                    var firstKey =
+                    // mapping, it means that all the existing key/value pairs were removed for
+                    // that contract, and we must ignore any existing first key in the accounts map
+                    final var firstKey =
                             newFirstKeys.containsKey(id)
                                     ? newFirstKeys.get(id)
                                     : firstKeyLookup(id);
-                    for (final var changedKey : changeSet) {
-                        final var newValue = newMappings.get(changedKey);
-                        final var preInsertSize = curStorage.size();
-                        try {
-                            firstKey =
-                                    storageUpserter.upsertMapping(
-                                            changedKey, newValue, firstKey, firstValue, curStorage);
-                        } catch (Exception irreparable) {
-                            log.error(
-                                    "Failed link management when upserting {} -> {}; will be unable"
-                                            + " to expire all slots for this contract",
-                                    changedKey,
-                                    newValue,
-                                    irreparable);
+                    try {
+                        newFirstKeys.put(
+                                id,
+                                storageBatchUpserter.upsertMappings(
+                                        changeSet, newMappings, firstKey, curStorage));
+                        for (final var changedKey : changeSet) {
+                            slotCache.put(
+                                    id,
+                                    changedKey.getKey(),
+                                    newMappings.get(changedKey).asUInt256());
                         }
-                        // If newValue was just added to the map, it is the mutable root value; but
-                        // if we only updated the existing root, newValue is NOT the mutable root
-                        // value
-                        firstValue =
-                                (changedKey.equals(firstKey) && curStorage.size() > preInsertSize)
-                                        ? newValue
-                                        : null;
+                    } catch (Exception batchFailure) {
+                        log.warn(
+                                "Failed link management when upserting {} mappings for contract"
+                                        + " {} at once; upserting them one at a time",
+                                changeSet.size(),
+                                id,
+                                batchFailure);
+                        newFirstKeys.put(id, upsertOneByOne(id, changeSet, firstKey, curStorage));
                     }
-                    newFirstKeys.put(id, firstKey);
                 });
     }
 
+    private ContractKey upsertOneByOne(
+            final long id,
+            final TreeSet<ContractKey> changeSet,
+            ContractKey firstKey,
+            final VirtualMap<ContractKey, IterableContractValue> curStorage) {
+        IterableContractValue firstValue = null;
+        for (final var changedKey : changeSet) {
+            final var newValue = newMappings.get(changedKey);
+            final var preInsertSize = curStorage.size();
+            try {
+                firstKey =
+                        storageUpserter.upsertMapping(
+                                changedKey, newValue, firstKey, firstValue, curStorage);
+                slotCache.put(id, changedKey.getKey(), newValue.asUInt256());
+            } catch (Exception irreparable) {
+                slotCache.evict(id, changedKey.getKey());
+                log.error(
+                        "Failed link management when upserting {} -> {}; will be unable to expire"
+                                + " all slots for this contract",
+                        changedKey,
+                        newValue,
+                        irreparable);
+            }
+            // If newValue was just added to the map, it is the mutable root value; but if we only
+            // updated the existing root, newValue is NOT the mutable root value
+            firstValue =
+                    (changedKey.equals(firstKey) && curStorage.size() > preInsertSize)
+                            ? newValue
+                            : null;
+        }
+        return firstKey;
+    }
+
     private void commitPendingRemovals() {
         if (removedKeys.isEmpty()) {
             return;
         }
         final var curStorage = storage.get();
+        slotCache.useSource(curStorage);
         removedKeys.forEach(
                 (id, zeroedOut) -> {
-                    var firstKey = firstKeyLookup(id);
-                    for (final var removedKey : zeroedOut) {
-                        try {
-                            firstKey =
-                                    storageRemover.removeMapping(removedKey, firstKey, curStorage);
-                        } catch (Exception irreparable) {
-                            log.error(
-                                    "Failed link management when removing {}; will be unable to"
-                                            + " expire all slots for this contract",
-                                    removedKey,
-                                    irreparable);
+                    final var firstKey = firstKeyLookup(id);
+                    try {
+                        newFirstKeys.put(
+                                id,
+                                storageBatchRemover.removeMappings(
+                                        zeroedOut, firstKey, curStorage));
+                        for (final var removedKey : zeroedOut) {
+                            slotCache.put(id, removedKey.getKey(), ZERO);
                         }
+                    } catch (Exception batchFailure) {
+                        log.warn(
+                                "Failed link management when removing {} mappings for contract {}"
+                                        + " at once; removing them one at a time",
+                                zeroedOut.size(),
+                                id,
+                                batchFailure);
+                        newFirstKeys.put(id, removeOneByOne(id, zeroedOut, firstKey, curStorage));
                     }
-                    newFirstKeys.put(id, firstKey);
                 });
     }
 
+    private ContractKey removeOneByOne(
+            final long id,
+            final TreeSet<ContractKey> zeroedOut,
+            ContractKey firstKey,
+            final VirtualMap<ContractKey, IterableContractValue> curStorage) {
+        for (final var removedKey : zeroedOut) {
+            try {
+                firstKey = storageRemover.removeMapping(removedKey, firstKey, curStorage);
+                slotCache.put(id, removedKey.getKey(), ZERO);
+            } catch (Exception irreparable) {
+                slotCache.evict(id, removedKey.getKey());
+                log.error(
+                        "Failed link management when removing {}; will be unable to expire all"
+                                + " slots for this contract",
+                        removedKey,
+                        irreparable);
+            }
+        }
+        return firstKey;
+    }
+
     static Function<Long, TreeSet<ContractKey>> treeSetFactory = ignore -> new TreeSet<>();
 
     private static IterableContractValue virtualValueFrom(final UInt256 evmWord) {
@@ -456,4 +569,9 @@ public class SizeLimitedStorage {
     Map<ContractKey, IterableContractValue> getNewMappings() {
         return newMappings;
     }
+
+    @VisibleForTesting
+    ContractSlotCache getSlotCache() {
+        return slotCache;
+    }
 }
@@ -17,8 +17,8 @@ package com.hedera.services.store.contracts;
 
 import static com.hedera.services.exceptions.ValidationUtils.validateTrue;
 import static com.hedera.services.exceptions.ValidationUtils.validateTrueOrRevert;
-import static com.hedera.services.state.merkle.internals.BitPackUtils.codeFromNum;
 import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
 import static com.hedera.services.utils.EntityNum.fromAccountId;
 import static com.hedera.services.utils.EntityNumPair.fromAccountTokenRel;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
@@ -29,6 +29,7 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.accounts.ContractAliases;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
@@ -171,9 +172,7 @@ public class StaticEntityAccess implements EntityAccess {
     @Nullable
     public static Bytes explicitCodeFetch(
             final VirtualMap<VirtualBlobKey, VirtualBlobValue> bytecode, final long contractNum) {
-        final var key =
-                new VirtualBlobKey(VirtualBlobKey.Type.CONTRACT_BYTECODE, codeFromNum(contractNum));
-        final var value = bytecode.get(key);
+        final var value = bytecode.get(VirtualBlobStore.keyOf(CONTRACT_BYTECODE, contractNum));
         return (value != null) ? Bytes.of(value.getData()) : null;
     }
 
@@ -18,51 +18,142 @@ package com.hedera.services.stream;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+/**
+ * Hands off {@link RecordStreamObject}s from any number of producer threads to a single consumer
+ * thread that feeds the {@link RecordStreamManager}.
+ *
+ * <p>The consumer blocks for the first available object, and then drains whatever else is queued
+ * in the same pass, up to a batch of {@code hedera.recordStream.handoffBatchSize} objects in all;
+ * so under load it pays for one wakeup and one queue lock acquisition per batch, not per object.
+ * Each object carries its own handoff time, so nothing is allocated per object to wrap it.
+ *
+ * <p>When the queue is full, {@link #put(RecordStreamObject)} applies back-pressure to the
+ * producer, either by parking until there is room (if {@code
+ * hedera.recordStream.handoffBlockWhenFull=true}) or by busy-spinning. Every such wait is counted
+ * in the {@code recordStreamHandoffFull/sec} speedometer; and the consumer also reports the queue
+ * depth, the batch size, and the time the oldest object in each batch spent in the queue.
+ */
 @Singleton
 public class NonBlockingHandoff {
     private static final int MIN_CAPACITY = 5_000;
+    private static final int MIN_BATCH_SIZE = 1;
+    private static final long FULL_QUEUE_PARK_MS = 1L;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
 
     private ExecutorService executor = newSingleThreadExecutor();
 
+    private final int maxBatchSize;
+    private final boolean blockWhenFull;
     private final AtomicBoolean timeToStop = new AtomicBoolean(false);
+    private final MiscRunningAvgs runningAvgs;
+    private final MiscSpeedometers speedometers;
     private final RecordStreamManager recordStreamManager;
     private final BlockingQueue<RecordStreamObject> queue;
 
     @Inject
     public NonBlockingHandoff(
             final RecordStreamManager recordStreamManager,
-            final NodeLocalProperties nodeLocalProperties) {
+            final NodeLocalProperties nodeLocalProperties,
+            final MiscRunningAvgs runningAvgs,
+            final MiscSpeedometers speedometers) {
+        this.runningAvgs = runningAvgs;
+        this.speedometers = speedometers;
         this.recordStreamManager = recordStreamManager;
         final int capacity =
                 Math.max(MIN_CAPACITY, nodeLocalProperties.recordStreamQueueCapacity());
         queue = new ArrayBlockingQueue<>(capacity);
+        maxBatchSize =
+                Math.max(MIN_BATCH_SIZE, nodeLocalProperties.recordStreamHandoffBatchSize());
+        blockWhenFull = nodeLocalProperties.recordStreamHandoffBlockWhenFull();
         executor.execute(this::handoff);
         Runtime.getRuntime().addShutdownHook(new Thread(getShutdownHook()));
     }
 
-    public boolean offer(RecordStreamObject rso) {
+    /**
+     * Tries to hand off the given object without waiting.
+     *
+     * @param rso the object to hand off
+     * @return whether there was room in the queue
+     */
+    public boolean offer(final RecordStreamObject rso) {
+        rso.setHandoffNanos(System.nanoTime());
         return queue.offer(rso);
     }
 
+    /**
+     * Hands off the given object, waiting for room in the queue if necessary.
+     *
+     * @param rso the object to hand off
+     */
+    public void put(final RecordStreamObject rso) {
+        rso.setHandoffNanos(System.nanoTime());
+        if (queue.offer(rso)) {
+            return;
+        }
+        speedometers.cycleRecordStreamHandoffsWhenFull();
+        if (blockWhenFull) {
+            parkUntilOffered(rso);
+        } else {
+            while (!queue.offer(rso)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void parkUntilOffered(final RecordStreamObject rso) {
+        var interrupted = false;
+        while (true) {
+            try {
+                if (queue.offer(rso, FULL_QUEUE_PARK_MS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (final InterruptedException ignore) {
+                // We cannot drop the record, so finish the handoff and restore the flag after
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void handoff() {
+        final List<RecordStreamObject> batch = new ArrayList<>(maxBatchSize);
         while (!timeToStop.get()) {
             try {
-                recordStreamManager.addRecordStreamObject(queue.take());
+                batch.add(queue.take());
             } catch (final InterruptedException e) {
                 // Thread interrupted because of shutdown.
                 Thread.currentThread().interrupt();
                 break;
             }
+            // The object just taken counts towards the batch size
+            queue.drainTo(batch, maxBatchSize - 1);
+            handOffBatch(batch);
         }
     }
 
+    private void handOffBatch(final List<RecordStreamObject> batch) {
+        runningAvgs.recordStreamHandoffLatencyMs(
+                (System.nanoTime() - batch.get(0).getHandoffNanos()) / NANOS_PER_MILLI);
+        runningAvgs.recordStreamHandoffBatchSize(batch.size());
+        runningAvgs.handoffQueueSizeRecordStream(queue.size());
+        recordStreamManager.addRecordStreamObjects(batch);
+        batch.clear();
+    }
+
     ExecutorService getExecutor() {
         return executor;
     }
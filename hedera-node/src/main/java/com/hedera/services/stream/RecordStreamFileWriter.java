@@ -28,6 +28,7 @@ import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Message;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.legacy.proto.utils.ByteStringUtils;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stream.proto.HashAlgorithm;
 import com.hedera.services.stream.proto.HashObject;
 import com.hedera.services.stream.proto.RecordStreamFile;
@@ -51,6 +52,7 @@ import com.swirlds.common.stream.Signer;
 import com.swirlds.common.stream.StreamAligned;
 import com.swirlds.logging.LogMarker;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -68,6 +70,7 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
 
     private static final DigestType currentDigestType = DigestType.SHA_384;
     private static final String COMPRESSION_EXTENSION = ".gz";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
 
     /** < * the current record stream type; used to obtain file extensions and versioning */
     private final RecordStreamType streamType;
@@ -150,10 +153,21 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
     private final String sidecarDirPath;
 
     private int recordFileVersion;
+    /**
+     * Holds every field of the current record file <b>except</b> its record stream items, which
+     * are serialized into {@code recordItemsBytes} as they arrive; since protobuf serializes fields
+     * in field number order, the record file is the concatenation of the fields before the items,
+     * the items, and the fields after them
+     */
     private RecordStreamFile.Builder recordStreamFileBuilder;
+    /** the serialized record stream items of the current record file */
+    private final ByteArrayOutputStream recordItemsBytes = new ByteArrayOutputStream();
+
+    private CodedOutputStream recordItemsOut;
     private SidecarFile.Builder sidecarFileBuilder;
     private final EnumSet<SidecarType> sidecarTypesInCurrentSidecar;
     private final GlobalDynamicProperties dynamicProperties;
+    private final MiscRunningAvgs runningAvgs;
 
     public RecordStreamFileWriter(
             final String dirPath,
@@ -163,7 +177,8 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
             final RecordStreamType streamType,
             final String sidecarDirPath,
             final int maxSidecarFileSize,
-            final GlobalDynamicProperties globalDynamicProperties)
+            final GlobalDynamicProperties globalDynamicProperties,
+            final MiscRunningAvgs runningAvgs)
             throws NoSuchAlgorithmException {
         this.dirPath = dirPath;
         this.logPeriodMs = logPeriodMs;
@@ -178,6 +193,7 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
         this.sidecarFileId = 1;
         this.maxSidecarFileSize = maxSidecarFileSize;
         this.dynamicProperties = globalDynamicProperties;
+        this.runningAvgs = runningAvgs;
     }
 
     @Override
@@ -262,7 +278,6 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
     public void closeCurrentAndSign() {
         if (recordStreamFileBuilder != null) {
             // generate record file name
-            assertFirstTxnInstantIsKnown();
             final var uncompressedRecordFilePath = generateRecordFilePath(firstTxnInstant);
             final var recordFile =
                     new File(
@@ -278,7 +293,9 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
             } else {
                 try {
                     // write endRunningHash
+                    final var hashWaitStart = System.nanoTime();
                     final var endRunningHash = runningHash.getFutureHash().get();
+                    runningAvgs.recordFileHashWaitMs(msSince(hashWaitStart));
                     recordStreamFileBuilder.setEndObjectRunningHash(
                             toProto(endRunningHash.getValue()));
                     dosMeta.write(endRunningHash.getValue());
@@ -348,8 +365,9 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
 
                     // write contents of record file - record file version and serialized RecordFile
                     // protobuf
+                    final var writeStart = System.nanoTime();
                     dos.writeInt(recordFileVersion);
-                    dos.write(serialize(recordStreamFileBuilder));
+                    writeRecordStreamFile(dos);
 
                     // make sure the whole file is written to disk
                     dos.flush();
@@ -359,8 +377,11 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
                     } else {
                         stream.flush();
                     }
+                    runningAvgs.recordFileWriteMs(msSince(writeStart));
+                    final var syncStart = System.nanoTime();
                     stream.getChannel().force(true);
                     stream.getFD().sync();
+                    runningAvgs.recordFileSyncMs(msSince(syncStart));
                     LOG.debug(
                             OBJECT_STREAM_FILE.getMarker(),
                             "Stream file written successfully {}",
@@ -388,7 +409,9 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
 
                 // if this line is reached, record file has been created successfully, so create its
                 // signature
+                final var signStart = System.nanoTime();
                 createSignatureFileFor(uncompressedRecordFilePath);
+                runningAvgs.recordFileSignMs(msSince(signStart));
             }
         }
     }
@@ -407,6 +430,7 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
         firstTxnInstant = null;
         resetSidecarFields();
         sidecarFileId = 1;
+        resetRecordItems();
         recordStreamFileBuilder =
                 RecordStreamFile.newBuilder().setBlockNumber(object.getStreamAlignment());
         recordStreamFileBuilder.setHapiProtoVersion(
@@ -450,11 +474,27 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
      * @param object object to be added to the record stream file
      */
     private void consume(final RecordStreamObject object) {
-        recordStreamFileBuilder.addRecordStreamItems(
+        final var item =
                 RecordStreamItem.newBuilder()
                         .setTransaction(object.getTransaction())
                         .setRecord(object.getTransactionRecord())
-                        .build());
+                        .build();
+        if (firstTxnInstant == null) {
+            final var firstTxnTimestamp = item.getRecord().getConsensusTimestamp();
+            firstTxnInstant =
+                    Instant.ofEpochSecond(
+                            firstTxnTimestamp.getSeconds(), firstTxnTimestamp.getNanos());
+        }
+        try {
+            recordItemsOut.writeMessage(RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER, item);
+        } catch (IOException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn(
+                    EXCEPTION.getMarker(),
+                    "consume :: IOException when serializing record stream item",
+                    e);
+            return;
+        }
 
         final var sidecars = object.getSidecars();
         if (!sidecars.isEmpty()) {
@@ -465,7 +505,6 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
                 final var sidecar = sidecarBuilder.build();
                 final var sidecarSizeInBytes = sidecar.getSerializedSize();
                 if (currentSidecarFileSize + sidecarSizeInBytes >= maxSidecarFileSize) {
-                    assertFirstTxnInstantIsKnown();
                     try {
                         finalizeCurrentSidecar();
                     } catch (IOException e) {
@@ -555,6 +594,7 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
             }
         }
         recordStreamFileBuilder = null;
+        resetRecordItems();
         LOG.debug(OBJECT_STREAM.getMarker(), "RecordStreamFileWriter::clear executed.");
     }
 
@@ -577,17 +617,40 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
         return this.startWriteAtCompleteWindow;
     }
 
-    private void assertFirstTxnInstantIsKnown() {
-        if (firstTxnInstant == null) {
-            final var firstTxnTimestamp =
-                    recordStreamFileBuilder
-                            .getRecordStreamItems(0)
-                            .getRecord()
-                            .getConsensusTimestamp();
-            firstTxnInstant =
-                    Instant.ofEpochSecond(
-                            firstTxnTimestamp.getSeconds(), firstTxnTimestamp.getNanos());
-        }
+    /**
+     * Writes the current record file to the given stream as the fields that precede its record
+     * stream items, the already-serialized items, and then the fields that follow them. The result
+     * is byte-for-byte identical to the deterministic serialization of the complete message.
+     *
+     * @param dos the stream to write the record file to
+     * @throws IOException if the stream cannot be written to
+     */
+    private void writeRecordStreamFile(final SerializableDataOutputStream dos)
+            throws IOException {
+        final var leadingFields =
+                RecordStreamFile.newBuilder()
+                        .setHapiProtoVersion(recordStreamFileBuilder.getHapiProtoVersion())
+                        .setStartObjectRunningHash(
+                                recordStreamFileBuilder.getStartObjectRunningHash());
+        final var trailingFields =
+                recordStreamFileBuilder
+                        .clone()
+                        .clearHapiProtoVersion()
+                        .clearStartObjectRunningHash();
+        dos.write(serialize(leadingFields));
+        recordItemsOut.flush();
+        recordItemsBytes.writeTo(dos);
+        dos.write(serialize(trailingFields));
+    }
+
+    private void resetRecordItems() {
+        recordItemsBytes.reset();
+        recordItemsOut = CodedOutputStream.newInstance(recordItemsBytes);
+        recordItemsOut.useDeterministicSerialization();
+    }
+
+    private static double msSince(final long startNanos) {
+        return (System.nanoTime() - startNanos) / NANOS_PER_MILLI;
     }
 
     /**
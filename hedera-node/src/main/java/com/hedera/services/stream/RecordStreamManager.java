@@ -128,7 +128,8 @@ public class RecordStreamManager {
                                 streamType,
                                 nodeScopedSidecarDir,
                                 globalDynamicProperties.getSidecarMaxSizeMb() * MB_TO_BYTES,
-                                globalDynamicProperties);
+                                globalDynamicProperties,
+                                runningAvgs);
             } else {
                 v5StreamFileWriter =
                         new TimestampStreamFileWriter<>(
@@ -220,6 +221,24 @@ public class RecordStreamManager {
      * @param recordStreamObject the {@link RecordStreamObject} object to be added
      */
     public void addRecordStreamObject(final RecordStreamObject recordStreamObject) {
+        stream(recordStreamObject);
+        updateQueueSizes();
+    }
+
+    /**
+     * Adds a batch of {@link RecordStreamObject}s in order, updating the queue size statistics
+     * once for the whole batch.
+     *
+     * @param recordStreamObjects the objects to add, in consensus order
+     */
+    public void addRecordStreamObjects(final List<RecordStreamObject> recordStreamObjects) {
+        for (final var recordStreamObject : recordStreamObjects) {
+            stream(recordStreamObject);
+        }
+        updateQueueSizes();
+    }
+
+    private void stream(final RecordStreamObject recordStreamObject) {
         if (!inFreeze) {
             try {
                 multiStream.addObject(recordStreamObject);
@@ -227,6 +246,9 @@ public class RecordStreamManager {
                 log.warn("Unhandled exception while streaming {}", recordStreamObject, e);
             }
         }
+    }
+
+    private void updateQueueSizes() {
         if (writeQueueThread != null) {
             runningAvgs.writeQueueSizeRecordStream(getWriteQueueSize());
         }
@@ -65,6 +65,10 @@ public class RecordStreamObject extends AbstractSerializableHashable
     /* The running hash of all objects streamed up to and including this consensus time. */
     private RunningHash runningHash;
 
+    /* When (in System.nanoTime() terms) this object was handed off for streaming; NOT itself
+     * included in the record stream. */
+    private long handoffNanos;
+
     public RecordStreamObject() {}
 
     public RecordStreamObject(
@@ -97,6 +101,14 @@ public class RecordStreamObject extends AbstractSerializableHashable
         return blockNumber;
     }
 
+    long getHandoffNanos() {
+        return handoffNanos;
+    }
+
+    void setHandoffNanos(final long handoffNanos) {
+        this.handoffNanos = handoffNanos;
+    }
+
     @Override
     public void serialize(SerializableDataOutputStream out) throws IOException {
         ensureNonNullGrpcRecord();
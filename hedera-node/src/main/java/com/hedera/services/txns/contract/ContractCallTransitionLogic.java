@@ -196,7 +196,7 @@ public class ContractCallTransitionLogic implements PreFetchableTransition {
         final var address = id.toEvmAddress();
 
         try {
-            codeCache.getIfPresent(address);
+            codeCache.prefetch(address);
         } catch (Exception e) {
             log.warn("Exception while attempting to pre-fetch code for {}", address, e);
         }
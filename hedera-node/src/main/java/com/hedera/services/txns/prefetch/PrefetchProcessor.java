@@ -17,6 +17,8 @@ package com.hedera.services.txns.prefetch;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.txns.PreFetchableTransition;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.utils.accessors.SwirldsTxnAccessor;
@@ -35,6 +37,10 @@ import org.apache.logging.log4j.Logger;
  * signatures) that uses an {@code ExecutorService} to schedule the tasks to a static thread pool.
  * The tasks are responsible for fetching data that can be used during the serial execution portion
  * of the transaction (for example, loading of EVM contract bytecode).
+ *
+ * <p>When the queue is saturated, the <b>oldest</b> waiting task is dropped to make room for the
+ * newest one; since transactions are handled in order, the oldest task is the one least likely to
+ * finish before its transaction reaches {@code handleTransaction}.
  */
 @Singleton
 public class PrefetchProcessor {
@@ -44,17 +50,27 @@ public class PrefetchProcessor {
 
     @VisibleForTesting static final int MINIMUM_THREAD_POOL_SIZE = 2;
 
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
     BlockingQueue<Runnable> queue;
     ExecutorService executorService;
     TransitionLogicLookup lookup;
+    MiscRunningAvgs runningAvgs;
+    MiscSpeedometers speedometers;
 
     @Inject
-    public PrefetchProcessor(NodeLocalProperties properties, TransitionLogicLookup lookup) {
+    public PrefetchProcessor(
+            final NodeLocalProperties properties,
+            final TransitionLogicLookup lookup,
+            final MiscRunningAvgs runningAvgs,
+            final MiscSpeedometers speedometers) {
         final int queueSize = Math.max(properties.prefetchQueueCapacity(), MINIMUM_QUEUE_CAPACITY);
         final int threadPoolSize =
                 Math.max(properties.prefetchThreadPoolSize(), MINIMUM_THREAD_POOL_SIZE);
 
         this.lookup = lookup;
+        this.runningAvgs = runningAvgs;
+        this.speedometers = speedometers;
         queue = new ArrayBlockingQueue<>(queueSize);
         executorService = createExecutorService(threadPoolSize, queue);
     }
@@ -64,17 +80,27 @@ public class PrefetchProcessor {
         final var executor =
                 new ThreadPoolExecutor(
                         threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS, queue);
-        executor.setRejectedExecutionHandler(
-                (runnable, execService) -> logger.warn("Pre-fetch queue is FULL!"));
+        executor.setRejectedExecutionHandler(this::dropOldestAndRetry);
         executor.prestartAllCoreThreads();
         return executor;
     }
 
+    @VisibleForTesting
+    void dropOldestAndRetry(final Runnable runnable, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        if (executor.getQueue().poll() != null) {
+            speedometers.cyclePrefetchDrops();
+        }
+        executor.execute(runnable);
+    }
+
     /**
      * Attempts to schedule a pre-fetch task for the given transaction. A task will be created only
      * if the transition logic associated with the transaction request type implements {@code
-     * PreFetchableTransition}. If the task cannot be scheduled due to the schedule queue being
-     * full, the task will be skipped. The pre-fetch action is optional and is only intended for
+     * PreFetchableTransition}. If the schedule queue is full, the oldest queued task will be
+     * dropped in favor of this one. The pre-fetch action is optional and is only intended for
      * performance optimization; the handleTransaction portion of {@code EventFlow} will pay the
      * cost of whatever the pre-fetch operation was.
      *
@@ -86,8 +112,11 @@ public class PrefetchProcessor {
         if (opt.isPresent()) {
             final var logic = opt.get();
             if (logic instanceof PreFetchableTransition transition) {
+                final var submittedAt = System.nanoTime();
                 executorService.execute(
                         () -> {
+                            runningAvgs.recordPrefetchQueueLatencyMs(
+                                    (System.nanoTime() - submittedAt) / NANOS_PER_MILLI);
                             try {
                                 transition.preFetch(accessor);
                             } catch (RuntimeException e) {
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.schedule;
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.virtual.schedule.ScheduleSecondVirtualValue;
+import com.hedera.services.sysfiles.domain.throttling.ThrottleReqOpsScaleFactor;
+import com.hedera.services.throttles.DeterministicThrottle;
+import com.hedera.services.throttles.GasLimitDeterministicThrottle;
+import com.hedera.services.throttling.FunctionalityThrottling;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import org.eclipse.collections.api.list.primitive.ImmutableLongList;
+
+/**
+ * Remembers, for recently checked expiration seconds, the schedule throttle usage left after
+ * replaying every schedule already in that second. This lets {@link
+ * ScheduleProcessing#checkFutureThrottlesForCreate} resume from a snapshot and throttle only the
+ * new schedule, instead of re-building and re-throttling an accessor for each existing schedule on
+ * every {@code ScheduleCreate}.
+ *
+ * <p>A snapshot is reused only when it must equal the result of a full replay; that is, when the
+ * second still holds exactly the same schedule ids in the same order, the throttle instances are
+ * the ones the snapshot was taken from, and no dynamic property that affects a throttle decision
+ * has changed. (Seconds holding a scheduled {@code CryptoTransfer} with aliases are never saved,
+ * since their auto-creation count depends on the alias map at the time of the check.) So the
+ * outcome of a check never depends on what a node happens to have cached.
+ */
+class FutureThrottleUsages {
+    static final int MAX_CACHED_SECONDS = 1024;
+
+    private static final long[] NO_IDS = new long[0];
+
+    private final Map<Long, Usage> usages =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Long, Usage> eldest) {
+                    return size() > MAX_CACHED_SECONDS;
+                }
+            };
+    private long lastPurgedSecond = Long.MIN_VALUE;
+
+    /**
+     * If there is a still-valid usage snapshot for the given second, resets the throttles to it
+     * and returns the number of schedules it accounts for. Otherwise returns -1, and leaves the
+     * throttles alone.
+     *
+     * @param second the expiration second being checked
+     * @param bySecond the schedules currently in that second, if any
+     * @param candidateTime the calculated expiration time of the schedule being created
+     * @param throttling the schedule throttles
+     * @param properties the current dynamic properties
+     * @return the number of schedules already throttled in the snapshot, or -1 if none is valid
+     */
+    int resumeIfUnchanged(
+            final long second,
+            @Nullable final ScheduleSecondVirtualValue bySecond,
+            final RichInstant candidateTime,
+            final FunctionalityThrottling throttling,
+            final GlobalDynamicProperties properties) {
+        final var usage = usages.get(second);
+        if (usage == null) {
+            return -1;
+        }
+        if (!usage.isFor(throttling, properties)
+                || !isLast(candidateTime, bySecond)
+                || !sameIds(usage.ids, bySecond)) {
+            usages.remove(second);
+            return -1;
+        }
+        throttling.resetUsage();
+        final var throttles = throttling.allActiveThrottles();
+        for (int i = 0, n = throttles.size(); i < n; i++) {
+            throttles.get(i).resetUsageTo(usage.throttleSnapshots.get(i));
+        }
+        if (usage.gasThrottle != null) {
+            usage.gasThrottle.resetUsageTo(usage.gasSnapshot);
+        }
+        return usage.numThrottled;
+    }
+
+    /**
+     * Saves the current throttle usage as the snapshot for the given second; this snapshot will be
+     * reused only while the second holds exactly the given ids.
+     *
+     * @param second the expiration second
+     * @param ids the ids in the second, in replay order
+     * @param numThrottled how many of those schedules were actually throttled
+     * @param throttling the schedule throttles
+     * @param properties the current dynamic properties
+     */
+    void save(
+            final long second,
+            final long[] ids,
+            final int numThrottled,
+            final FunctionalityThrottling throttling,
+            final GlobalDynamicProperties properties) {
+        final var throttles = throttling.allActiveThrottles();
+        final List<DeterministicThrottle.UsageSnapshot> snapshots =
+                new ArrayList<>(throttles.size());
+        for (final var throttle : throttles) {
+            snapshots.add(throttle.usageSnapshot());
+        }
+        final var gasThrottle = throttling.gasLimitThrottle();
+        usages.put(
+                second,
+                new Usage(
+                        ids,
+                        numThrottled,
+                        throttles,
+                        snapshots,
+                        gasThrottle,
+                        gasThrottle == null ? null : gasThrottle.usageSnapshot(),
+                        properties.shouldThrottleByGas(),
+                        properties.isAutoCreationEnabled(),
+                        properties.nftMintScaleFactor()));
+    }
+
+    @Nullable
+    long[] idsFor(final long second) {
+        final var usage = usages.get(second);
+        return usage == null ? null : usage.ids;
+    }
+
+    /**
+     * Drops the snapshots of every second at or before the given second, since no schedule can
+     * be created to expire then.
+     *
+     * @param second the current consensus second
+     */
+    void purgeThrough(final long second) {
+        if (second <= lastPurgedSecond) {
+            return;
+        }
+        lastPurgedSecond = second;
+        usages.keySet().removeIf(cached -> cached <= second);
+    }
+
+    int size() {
+        return usages.size();
+    }
+
+    static boolean isLast(
+            final RichInstant candidateTime, @Nullable final ScheduleSecondVirtualValue bySecond) {
+        if (bySecond == null || bySecond.getIds().isEmpty()) {
+            return true;
+        }
+        return bySecond.getIds().lastKey().compareTo(candidateTime) <= 0;
+    }
+
+    static boolean sameIds(final long[] ids, @Nullable final ScheduleSecondVirtualValue bySecond) {
+        if (bySecond == null) {
+            return ids.length == 0;
+        }
+        int i = 0;
+        for (final ImmutableLongList list : bySecond.getIds().values()) {
+            final var n = list.size();
+            if (i + n > ids.length) {
+                return false;
+            }
+            for (int j = 0; j < n; j++) {
+                if (ids[i++] != list.get(j)) {
+                    return false;
+                }
+            }
+        }
+        return i == ids.length;
+    }
+
+    static long[] idsOf(@Nullable final ScheduleSecondVirtualValue bySecond) {
+        if (bySecond == null) {
+            return NO_IDS;
+        }
+        int n = 0;
+        for (final var list : bySecond.getIds().values()) {
+            n += list.size();
+        }
+        final var ids = new long[n];
+        int i = 0;
+        for (final var list : bySecond.getIds().values()) {
+            for (int j = 0, m = list.size(); j < m; j++) {
+                ids[i++] = list.get(j);
+            }
+        }
+        return ids;
+    }
+
+    static long[] append(final long[] ids, final long extraId) {
+        final var extended = Arrays.copyOf(ids, ids.length + 1);
+        extended[ids.length] = extraId;
+        return extended;
+    }
+
+    private static final class Usage {
+        private final long[] ids;
+        private final int numThrottled;
+        private final List<DeterministicThrottle> throttles;
+        private final List<DeterministicThrottle.UsageSnapshot> throttleSnapshots;
+        @Nullable private final GasLimitDeterministicThrottle gasThrottle;
+        @Nullable private final DeterministicThrottle.UsageSnapshot gasSnapshot;
+        private final boolean throttleByGas;
+        private final boolean autoCreationEnabled;
+        private final ThrottleReqOpsScaleFactor nftMintScaleFactor;
+
+        private Usage(
+                final long[] ids,
+                final int numThrottled,
+                final List<DeterministicThrottle> throttles,
+                final List<DeterministicThrottle.UsageSnapshot> throttleSnapshots,
+                @Nullable final GasLimitDeterministicThrottle gasThrottle,
+                @Nullable final DeterministicThrottle.UsageSnapshot gasSnapshot,
+                final boolean throttleByGas,
+                final boolean autoCreationEnabled,
+                final ThrottleReqOpsScaleFactor nftMintScaleFactor) {
+            this.ids = ids;
+            this.numThrottled = numThrottled;
+            this.throttles = throttles;
+            this.throttleSnapshots = throttleSnapshots;
+            this.gasThrottle = gasThrottle;
+            this.gasSnapshot = gasSnapshot;
+            this.throttleByGas = throttleByGas;
+            this.autoCreationEnabled = autoCreationEnabled;
+            this.nftMintScaleFactor = nftMintScaleFactor;
+        }
+
+        private boolean isFor(
+                final FunctionalityThrottling throttling,
+                final GlobalDynamicProperties properties) {
+            return throttles == throttling.allActiveThrottles()
+                    && gasThrottle == throttling.gasLimitThrottle()
+                    && throttleByGas == properties.shouldThrottleByGas()
+                    && autoCreationEnabled == properties.isAutoCreationEnabled()
+                    && Objects.equals(nftMintScaleFactor, properties.nftMintScaleFactor());
+        }
+    }
+}
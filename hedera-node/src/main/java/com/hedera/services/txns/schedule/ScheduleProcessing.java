@@ -34,6 +34,8 @@ package com.hedera.services.txns.schedule;
  * ‍
  */
 
+import static com.hedera.services.grpc.marshalling.AliasResolver.usesAliases;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SCHEDULE_FUTURE_GAS_LIMIT_EXCEEDED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SCHEDULE_FUTURE_THROTTLE_EXCEEDED;
@@ -79,6 +81,7 @@ public class ScheduleProcessing {
     SigMapScheduleClassifier classifier = new SigMapScheduleClassifier();
     SignatoryUtils.ScheduledSigningsWitness signingsWitness = SignatoryUtils::witnessScoped;
     Predicate<ScheduleVirtualValue> isFullySigned;
+    FutureThrottleUsages futureThrottleUsages = new FutureThrottleUsages();
 
     @Inject
     public ScheduleProcessing(
@@ -103,6 +106,7 @@ public class ScheduleProcessing {
      * consensusTime, and having an expiry before any transaction that is ready to execute.
      */
     public void expire(Instant consensusTime) {
+        futureThrottleUsages.purgeThrough(consensusTime.getEpochSecond());
 
         // we _really_ don't want to loop forever. If the database isn't working, then it's
         // possible. So we put
@@ -235,6 +239,13 @@ public class ScheduleProcessing {
     }
 
     /**
+     * Checks if the given schedule would fit in the schedule throttles of its expiration second,
+     * after all the schedules already in that second.
+     *
+     * <p>When the throttle usage left by the schedules already in the second was saved by a
+     * previous check and is still valid, resumes from that snapshot and throttles only the new
+     * schedule; otherwise replays every schedule in the second in execution order.
+     *
      * @param scheduleId the id for schedule
      * @param schedule a schedule to check the "future throttles" for.
      * @return an error code if there was an error, OK otherwise
@@ -243,15 +254,27 @@ public class ScheduleProcessing {
             final ScheduleID scheduleId, final ScheduleVirtualValue schedule) {
 
         if (dynamicProperties.schedulingLongTermEnabled()) {
+            final var expirationTime = schedule.calculatedExpirationTime();
+            final var curSecond = expirationTime.getSeconds();
+
+            final var bySecond = store.getBySecond(curSecond);
+
+            final var numResumed =
+                    futureThrottleUsages.resumeIfUnchanged(
+                            curSecond,
+                            bySecond,
+                            expirationTime,
+                            scheduleThrottling,
+                            dynamicProperties);
+            if (numResumed >= 0) {
+                return checkResumedFutureThrottles(scheduleId, schedule, curSecond, numResumed);
+            }
+
             scheduleThrottling.resetUsage();
 
             final TreeMap<RichInstant, List<TxnAccessor>> transactionsInExecutionOrder =
                     new TreeMap<>();
 
-            final var curSecond = schedule.calculatedExpirationTime().getSeconds();
-
-            final var bySecond = store.getBySecond(curSecond);
-
             if (bySecond != null) {
                 bySecond.getIds()
                         .values()
@@ -303,22 +326,43 @@ public class ScheduleProcessing {
 
             var list =
                     transactionsInExecutionOrder.computeIfAbsent(
-                            schedule.calculatedExpirationTime(), k -> new ArrayList<>());
-            list.add(getTxnAccessorForThrottleCheck(scheduleId, schedule));
-
+                            expirationTime, k -> new ArrayList<>());
+            final var candidate = getTxnAccessorForThrottleCheck(scheduleId, schedule);
+            list.add(candidate);
+
+            // Only save usage if the new schedule is throttled last, after all the others
+            var cacheable = FutureThrottleUsages.isLast(expirationTime, bySecond);
+            long[] ids = null;
+            var numThrottled = 0;
             Instant timestamp = Instant.ofEpochSecond(curSecond);
             for (var entry : transactionsInExecutionOrder.entrySet()) {
                 for (var t : entry.getValue()) {
-                    if (scheduleThrottling.shouldThrottleTxn(t, timestamp)) {
-                        if (scheduleThrottling.wasLastTxnGasThrottled()) {
-                            return SCHEDULE_FUTURE_GAS_LIMIT_EXCEEDED;
-                        } else {
-                            return SCHEDULE_FUTURE_THROTTLE_EXCEEDED;
-                        }
+                    if (t == candidate && cacheable) {
+                        ids = FutureThrottleUsages.idsOf(bySecond);
+                        futureThrottleUsages.save(
+                                curSecond,
+                                ids,
+                                numThrottled,
+                                scheduleThrottling,
+                                dynamicProperties);
+                    }
+                    final var result = futureThrottleResultFor(t, timestamp);
+                    if (result != OK) {
+                        return result;
                     }
+                    cacheable &= !hasAliasDependentUsage(t);
+                    numThrottled++;
                     timestamp = timestamp.plusNanos(1);
                 }
             }
+            if (cacheable && ids != null) {
+                futureThrottleUsages.save(
+                        curSecond,
+                        FutureThrottleUsages.append(ids, scheduleId.getScheduleNum()),
+                        numThrottled,
+                        scheduleThrottling,
+                        dynamicProperties);
+            }
         }
 
         return OK;
@@ -343,6 +387,42 @@ public class ScheduleProcessing {
         return dynamicProperties.schedulingMaxTxnPerSecond() * 10;
     }
 
+    private ResponseCodeEnum checkResumedFutureThrottles(
+            final ScheduleID scheduleId,
+            final ScheduleVirtualValue schedule,
+            final long curSecond,
+            final int numResumed) {
+        final var accessor = getTxnAccessorForThrottleCheck(scheduleId, schedule);
+        final var result =
+                futureThrottleResultFor(accessor, Instant.ofEpochSecond(curSecond, numResumed));
+        // If the schedule was throttled, the saved usage is still valid for the next check
+        if (result == OK && !hasAliasDependentUsage(accessor)) {
+            final var ids =
+                    FutureThrottleUsages.append(
+                            futureThrottleUsages.idsFor(curSecond), scheduleId.getScheduleNum());
+            futureThrottleUsages.save(
+                    curSecond, ids, numResumed + 1, scheduleThrottling, dynamicProperties);
+        }
+        return result;
+    }
+
+    private ResponseCodeEnum futureThrottleResultFor(
+            final TxnAccessor accessor, final Instant timestamp) {
+        if (scheduleThrottling.shouldThrottleTxn(accessor, timestamp)) {
+            if (scheduleThrottling.wasLastTxnGasThrottled()) {
+                return SCHEDULE_FUTURE_GAS_LIMIT_EXCEEDED;
+            } else {
+                return SCHEDULE_FUTURE_THROTTLE_EXCEEDED;
+            }
+        }
+        return OK;
+    }
+
+    private static boolean hasAliasDependentUsage(final TxnAccessor accessor) {
+        return accessor.getFunction() == CryptoTransfer
+                && usesAliases(accessor.getTxn().getCryptoTransfer());
+    }
+
     private TxnAccessor getTxnAccessorForThrottleCheck(
             final ScheduleID scheduleId, final ScheduleVirtualValue schedule) {
         try {
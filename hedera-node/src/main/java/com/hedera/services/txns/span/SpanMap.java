@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.span;
+
+import com.hedera.services.ethereum.EthTxData;
+import com.hedera.services.ethereum.EthTxSigs;
+import com.hedera.services.grpc.marshalling.ImpliedTransfers;
+import com.hedera.services.usage.crypto.CryptoApproveAllowanceMeta;
+import com.hedera.services.usage.crypto.CryptoCreateMeta;
+import com.hedera.services.usage.crypto.CryptoDeleteAllowanceMeta;
+import com.hedera.services.usage.crypto.CryptoUpdateMeta;
+import com.hedera.services.usage.token.meta.FeeScheduleUpdateMeta;
+import com.hedera.services.usage.token.meta.TokenBurnMeta;
+import com.hedera.services.usage.token.meta.TokenCreateMeta;
+import com.hedera.services.usage.token.meta.TokenFreezeMeta;
+import com.hedera.services.usage.token.meta.TokenPauseMeta;
+import com.hedera.services.usage.token.meta.TokenUnfreezeMeta;
+import com.hedera.services.usage.token.meta.TokenUnpauseMeta;
+import com.hedera.services.usage.token.meta.TokenWipeMeta;
+import com.hedera.services.usage.util.UtilPrngMeta;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+/**
+ * The work pre-computed for a transaction between {@link SpanMapManager#expandSpan} and {@link
+ * SpanMapManager#rationalizeSpan}, kept in one fixed slot per kind of expansion. (Replaces a {@code
+ * HashMap<String, Object>} keyed by string; so there is no map allocation, hashing, or casting on
+ * the per-transaction path.)
+ *
+ * <p>Once {@link #freeze()} is called, every setter throws {@link UnsupportedOperationException};
+ * this lets {@code handleTransaction} install an authoritative span that a backlogged pre-fetch
+ * thread cannot contaminate, exactly as an unmodifiable map would.
+ */
+public final class SpanMap {
+    private boolean frozen;
+
+    private ImpliedTransfers impliedTransfers;
+    private FeeScheduleUpdateMeta feeScheduleUpdateMeta;
+    private TokenCreateMeta tokenCreateMeta;
+    private TokenBurnMeta tokenBurnMeta;
+    private TokenWipeMeta tokenWipeMeta;
+    private TokenFreezeMeta tokenFreezeMeta;
+    private TokenUnfreezeMeta tokenUnfreezeMeta;
+    private TokenPauseMeta tokenPauseMeta;
+    private TokenUnpauseMeta tokenUnpauseMeta;
+    private CryptoCreateMeta cryptoCreateMeta;
+    private CryptoUpdateMeta cryptoUpdateMeta;
+    private CryptoApproveAllowanceMeta cryptoApproveMeta;
+    private CryptoDeleteAllowanceMeta cryptoDeleteAllowanceMeta;
+    private EthTxData ethTxData;
+    private EthTxSigs ethTxSigs;
+    private TransactionBody ethTxBody;
+    private EthTxExpansion ethTxExpansion;
+    private UtilPrngMeta utilPrngMeta;
+
+    /**
+     * Makes this span read-only; any later attempt to set a slot will throw {@link
+     * UnsupportedOperationException}.
+     *
+     * @return this span, for chaining
+     */
+    public SpanMap freeze() {
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    public ImpliedTransfers getImpliedTransfers() {
+        return impliedTransfers;
+    }
+
+    public void setImpliedTransfers(final ImpliedTransfers impliedTransfers) {
+        assertMutable();
+        this.impliedTransfers = impliedTransfers;
+    }
+
+    public FeeScheduleUpdateMeta getFeeScheduleUpdateMeta() {
+        return feeScheduleUpdateMeta;
+    }
+
+    public void setFeeScheduleUpdateMeta(final FeeScheduleUpdateMeta feeScheduleUpdateMeta) {
+        assertMutable();
+        this.feeScheduleUpdateMeta = feeScheduleUpdateMeta;
+    }
+
+    public TokenCreateMeta getTokenCreateMeta() {
+        return tokenCreateMeta;
+    }
+
+    public void setTokenCreateMeta(final TokenCreateMeta tokenCreateMeta) {
+        assertMutable();
+        this.tokenCreateMeta = tokenCreateMeta;
+    }
+
+    public TokenBurnMeta getTokenBurnMeta() {
+        return tokenBurnMeta;
+    }
+
+    public void setTokenBurnMeta(final TokenBurnMeta tokenBurnMeta) {
+        assertMutable();
+        this.tokenBurnMeta = tokenBurnMeta;
+    }
+
+    public TokenWipeMeta getTokenWipeMeta() {
+        return tokenWipeMeta;
+    }
+
+    public void setTokenWipeMeta(final TokenWipeMeta tokenWipeMeta) {
+        assertMutable();
+        this.tokenWipeMeta = tokenWipeMeta;
+    }
+
+    public TokenFreezeMeta getTokenFreezeMeta() {
+        return tokenFreezeMeta;
+    }
+
+    public void setTokenFreezeMeta(final TokenFreezeMeta tokenFreezeMeta) {
+        assertMutable();
+        this.tokenFreezeMeta = tokenFreezeMeta;
+    }
+
+    public TokenUnfreezeMeta getTokenUnfreezeMeta() {
+        return tokenUnfreezeMeta;
+    }
+
+    public void setTokenUnfreezeMeta(final TokenUnfreezeMeta tokenUnfreezeMeta) {
+        assertMutable();
+        this.tokenUnfreezeMeta = tokenUnfreezeMeta;
+    }
+
+    public TokenPauseMeta getTokenPauseMeta() {
+        return tokenPauseMeta;
+    }
+
+    public void setTokenPauseMeta(final TokenPauseMeta tokenPauseMeta) {
+        assertMutable();
+        this.tokenPauseMeta = tokenPauseMeta;
+    }
+
+    public TokenUnpauseMeta getTokenUnpauseMeta() {
+        return tokenUnpauseMeta;
+    }
+
+    public void setTokenUnpauseMeta(final TokenUnpauseMeta tokenUnpauseMeta) {
+        assertMutable();
+        this.tokenUnpauseMeta = tokenUnpauseMeta;
+    }
+
+    public CryptoCreateMeta getCryptoCreateMeta() {
+        return cryptoCreateMeta;
+    }
+
+    public void setCryptoCreateMeta(final CryptoCreateMeta cryptoCreateMeta) {
+        assertMutable();
+        this.cryptoCreateMeta = cryptoCreateMeta;
+    }
+
+    public CryptoUpdateMeta getCryptoUpdateMeta() {
+        return cryptoUpdateMeta;
+    }
+
+    public void setCryptoUpdateMeta(final CryptoUpdateMeta cryptoUpdateMeta) {
+        assertMutable();
+        this.cryptoUpdateMeta = cryptoUpdateMeta;
+    }
+
+    public CryptoApproveAllowanceMeta getCryptoApproveMeta() {
+        return cryptoApproveMeta;
+    }
+
+    public void setCryptoApproveMeta(final CryptoApproveAllowanceMeta cryptoApproveMeta) {
+        assertMutable();
+        this.cryptoApproveMeta = cryptoApproveMeta;
+    }
+
+    public CryptoDeleteAllowanceMeta getCryptoDeleteAllowanceMeta() {
+        return cryptoDeleteAllowanceMeta;
+    }
+
+    public void setCryptoDeleteAllowanceMeta(
+            final CryptoDeleteAllowanceMeta cryptoDeleteAllowanceMeta) {
+        assertMutable();
+        this.cryptoDeleteAllowanceMeta = cryptoDeleteAllowanceMeta;
+    }
+
+    public EthTxData getEthTxData() {
+        return ethTxData;
+    }
+
+    public void setEthTxData(final EthTxData ethTxData) {
+        assertMutable();
+        this.ethTxData = ethTxData;
+    }
+
+    public EthTxSigs getEthTxSigs() {
+        return ethTxSigs;
+    }
+
+    public void setEthTxSigs(final EthTxSigs ethTxSigs) {
+        assertMutable();
+        this.ethTxSigs = ethTxSigs;
+    }
+
+    public TransactionBody getEthTxBody() {
+        return ethTxBody;
+    }
+
+    public void setEthTxBody(final TransactionBody ethTxBody) {
+        assertMutable();
+        this.ethTxBody = ethTxBody;
+    }
+
+    public EthTxExpansion getEthTxExpansion() {
+        return ethTxExpansion;
+    }
+
+    public void setEthTxExpansion(final EthTxExpansion ethTxExpansion) {
+        assertMutable();
+        this.ethTxExpansion = ethTxExpansion;
+    }
+
+    public UtilPrngMeta getUtilPrngMeta() {
+        return utilPrngMeta;
+    }
+
+    public void setUtilPrngMeta(final UtilPrngMeta utilPrngMeta) {
+        assertMutable();
+        this.utilPrngMeta = utilPrngMeta;
+    }
+
+    private void assertMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Span has already been rationalized");
+        }
+    }
+}
@@ -31,6 +31,7 @@ import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ethereum.EthTxData;
 import com.hedera.services.ethereum.EthTxSigs;
 import com.hedera.services.files.MetadataMapFactory;
+import com.hedera.services.files.store.ChunkedFileData;
 import com.hedera.services.grpc.marshalling.ImpliedTransfers;
 import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
 import com.hedera.services.ledger.SigImpactHistorian;
@@ -46,9 +47,7 @@ import com.hedera.services.utils.accessors.TxnAccessor;
 import com.hederahashgraph.api.proto.java.FileID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.swirlds.virtualmap.VirtualMap;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -157,7 +156,7 @@ public class SpanMapManager {
         try {
             expandEthContext(accessor, signedStateChildren, accessor.getSpanMap(), linkedRefs);
         } catch (UnsupportedOperationException ignore) {
-            // Thrown if the span map is immutable; means pre-fetch is somehow backlogged and the
+            // Thrown if the span map is frozen; means pre-fetch is somehow backlogged and the
             // handleTransaction thread already rationalized and set the authoritative span map
         }
     }
@@ -181,7 +180,7 @@ public class SpanMapManager {
     private void rationalizeEthereumSpan(final TxnAccessor accessor) {
         final var expansion = spanMapAccessor.getEthTxExpansion(accessor);
         if (expansion == null || areChanged(Objects.requireNonNull(expansion.linkedRefs()))) {
-            final Map<String, Object> spanMap = new HashMap<>();
+            final var spanMap = new SpanMap();
             spanMapAccessor.setEthTxDataMeta(spanMap, spanMapAccessor.getEthTxDataMeta(accessor));
             expandEthContext(accessor, workingState, spanMap, null);
             accessor.setRationalizedSpanMap(spanMap);
@@ -195,7 +194,7 @@ public class SpanMapManager {
     private void expandEthContext(
             final TxnAccessor accessor,
             final StateChildren stateChildren,
-            final Map<String, Object> spanMap,
+            final SpanMap spanMap,
             @Nullable final LinkedRefs linkedRefs) {
         assertIsEthTxn(accessor);
         var ethTxData = spanMapAccessor.getEthTxDataMeta(spanMap);
@@ -239,7 +238,7 @@ public class SpanMapManager {
 
     @Nullable
     private EthTxExpansion expandSynthTxn(
-            final Map<String, Object> spanMap,
+            final SpanMap spanMap,
             final EthTxData ethTxData,
             @Nullable final LinkedRefs linkedRefs) {
         final var opBuilder = syntheticTxnFactory.synthContractOpFromEth(ethTxData);
@@ -256,7 +255,7 @@ public class SpanMapManager {
 
     @Nullable
     private EthTxExpansion expandEthTxSigs(
-            final Map<String, Object> spanMap,
+            final SpanMap spanMap,
             final EthTxData ethTxData,
             @Nullable final LinkedRefs linkedRefs) {
         try {
@@ -280,7 +279,7 @@ public class SpanMapManager {
             EthTxData ethTxData,
             final FileID callDataId,
             @Nullable final LinkedRefs linkedRefs,
-            final Map<String, Object> spanMap,
+            final SpanMap spanMap,
             final VirtualMap<VirtualBlobKey, VirtualBlobValue> curBlobs) {
         if (linkedRefs != null) {
             linkedRefs.link(callDataId.getFileNum());
@@ -295,7 +294,9 @@ public class SpanMapManager {
                 return Pair.of(FILE_DELETED, ethTxData);
             } else {
                 final var hexedCallData =
-                        Objects.requireNonNull(curBlobs.get(dataKeyFor(callDataId))).getData();
+                        Objects.requireNonNull(
+                                ChunkedFileData.read(
+                                        curBlobs, codeFromNum(callDataId.getFileNum())));
                 final var callData = Hex.decode(hexedCallData);
                 if (callData.length == 0) {
                     return Pair.of(CONTRACT_FILE_EMPTY, ethTxData);
@@ -308,10 +309,6 @@ public class SpanMapManager {
         return Pair.of(OK, ethTxData);
     }
 
-    private VirtualBlobKey dataKeyFor(final FileID fileId) {
-        return new VirtualBlobKey(VirtualBlobKey.Type.FILE_DATA, codeFromNum(fileId.getFileNum()));
-    }
-
     private VirtualBlobKey metadataKeyFor(final FileID fileId) {
         return new VirtualBlobKey(
                 VirtualBlobKey.Type.FILE_METADATA, codeFromNum(fileId.getFileNum()));
@@ -204,6 +204,14 @@ public class ContextOptionValidator implements OptionValidator {
                 ResponseCodeEnum.INVALID_QUERY_RANGE);
     }
 
+    @Override
+    public ResponseCodeEnum nftAccountWalkLengthCheck(long length) {
+        return lengthCheck(
+                length,
+                dynamicProperties.maxNftAccountWalkLength(),
+                ResponseCodeEnum.INVALID_QUERY_RANGE);
+    }
+
     public static ResponseCodeEnum batchSizeCheck(int length, int limit) {
         return lengthCheck(length, limit, ResponseCodeEnum.BATCH_SIZE_LIMIT_EXCEEDED);
     }
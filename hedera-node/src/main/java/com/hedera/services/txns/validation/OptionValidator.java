@@ -86,6 +86,8 @@ public interface OptionValidator {
 
     ResponseCodeEnum nftMaxQueryRangeCheck(long start, long end);
 
+    ResponseCodeEnum nftAccountWalkLengthCheck(long length);
+
     ResponseCodeEnum queryableTopicStatus(TopicID id, MerkleMap<EntityNum, MerkleTopic> topics);
 
     JKey attemptToDecodeOrThrow(Key key, ResponseCodeEnum code);
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.utils;
+
+import static com.hedera.services.state.merkle.internals.BitPackUtils.isValidNum;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A compact set of entity numbers in the range {@code [0, 2^32)}, stored as a bitmap split into
+ * 64K-bit pages that are only allocated once a number in their range is added. Since entity numbers
+ * are assigned sequentially, the pages in use are densely populated; so this costs about one bit
+ * per number in the range spanned, instead of the dozens of bytes per element of a {@code
+ * java.util.HashSet} of boxed ids.
+ *
+ * <p>Lookups never allocate. Not thread-safe.
+ */
+public class PagedBitSet {
+    private static final int PAGE_BITS = 16;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_BITS) / Long.SIZE;
+    private static final int WORD_IN_PAGE_MASK = WORDS_PER_PAGE - 1;
+    private static final int BITS_PER_WORD_SHIFT = 6;
+    private static final long[][] NO_PAGES = new long[0][];
+
+    private long[][] pages = NO_PAGES;
+    private long size = 0;
+
+    /**
+     * Adds the given number to the set.
+     *
+     * @param num the number to add
+     * @return whether the set did not already contain the number
+     * @throws IllegalArgumentException if the number is not a valid entity number
+     */
+    public boolean add(final long num) {
+        if (!isValidNum(num)) {
+            throw new IllegalArgumentException("Cannot add invalid entity number " + num);
+        }
+        final var pageNo = pageOf(num);
+        if (pageNo >= pages.length) {
+            pages = Arrays.copyOf(pages, Math.max(pageNo + 1, 2 * pages.length));
+        }
+        var page = pages[pageNo];
+        if (page == null) {
+            page = new long[WORDS_PER_PAGE];
+            pages[pageNo] = page;
+        }
+        final var wordNo = wordOf(num);
+        final var mask = maskOf(num);
+        if ((page[wordNo] & mask) != 0) {
+            return false;
+        }
+        page[wordNo] |= mask;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the given number from the set, if present.
+     *
+     * @param num the number to remove
+     * @return whether the set contained the number
+     */
+    public boolean remove(final long num) {
+        final var page = pageFor(num);
+        if (page == null) {
+            return false;
+        }
+        final var wordNo = wordOf(num);
+        final var mask = maskOf(num);
+        if ((page[wordNo] & mask) == 0) {
+            return false;
+        }
+        page[wordNo] &= ~mask;
+        size--;
+        return true;
+    }
+
+    public boolean contains(final long num) {
+        final var page = pageFor(num);
+        return page != null && (page[wordOf(num)] & maskOf(num)) != 0;
+    }
+
+    /**
+     * Returns the smallest number in the set that is greater than the given number, or {@code -1}
+     * if there is no such number.
+     *
+     * @param num the exclusive lower bound
+     * @return the next number in the set, or -1
+     */
+    public long nextAfter(final long num) {
+        final var from = Math.max(0L, num + 1);
+        if (!isValidNum(from)) {
+            return -1;
+        }
+        final var firstPageNo = pageOf(from);
+        for (int pageNo = firstPageNo; pageNo < pages.length; pageNo++) {
+            final var page = pages[pageNo];
+            if (page == null) {
+                continue;
+            }
+            var wordNo = 0;
+            var word = page[0];
+            if (pageNo == firstPageNo) {
+                wordNo = wordOf(from);
+                word = page[wordNo] & (-1L << from);
+            }
+            while (true) {
+                if (word != 0) {
+                    return ((long) pageNo << PAGE_BITS)
+                            + ((long) wordNo << BITS_PER_WORD_SHIFT)
+                            + Long.numberOfTrailingZeros(word);
+                }
+                if (++wordNo == WORDS_PER_PAGE) {
+                    break;
+                }
+                word = page[wordNo];
+            }
+        }
+        return -1;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public void clear() {
+        for (final var page : pages) {
+            if (page != null) {
+                Arrays.fill(page, 0L);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Passes every number in the set to the given consumer, in ascending order.
+     *
+     * @param consumer the consumer of the numbers
+     */
+    public void forEach(final LongConsumer consumer) {
+        for (int pageNo = 0; pageNo < pages.length; pageNo++) {
+            final var page = pages[pageNo];
+            if (page == null) {
+                continue;
+            }
+            final var pageBase = (long) pageNo << PAGE_BITS;
+            for (int wordNo = 0; wordNo < WORDS_PER_PAGE; wordNo++) {
+                var word = page[wordNo];
+                while (word != 0) {
+                    final var bit = Long.numberOfTrailingZeros(word);
+                    consumer.accept(pageBase + ((long) wordNo << BITS_PER_WORD_SHIFT) + bit);
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    private long[] pageFor(final long num) {
+        if (!isValidNum(num)) {
+            return null;
+        }
+        final var pageNo = pageOf(num);
+        return pageNo < pages.length ? pages[pageNo] : null;
+    }
+
+    private static int pageOf(final long num) {
+        return (int) (num >>> PAGE_BITS);
+    }
+
+    private static int wordOf(final long num) {
+        return (int) (num >>> BITS_PER_WORD_SHIFT) & WORD_IN_PAGE_MASK;
+    }
+
+    private static long maskOf(final long num) {
+        return 1L << num;
+    }
+
+    /* --- Only used for unit tests --- */
+    int numAllocatedPages() {
+        return (int) Arrays.stream(pages).filter(page -> page != null).count();
+    }
+}
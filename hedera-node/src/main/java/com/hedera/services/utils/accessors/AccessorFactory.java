@@ -15,12 +15,10 @@
  */
 package com.hedera.services.utils.accessors;
 
-import static com.hedera.services.legacy.proto.utils.CommonUtils.extractTransactionBody;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenAccountWipe;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
-import com.hedera.services.utils.MiscUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ScheduleID;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -37,7 +35,7 @@ public class AccessorFactory {
     public TxnAccessor nonTriggeredTxn(byte[] transactionBytes)
             throws InvalidProtocolBufferException {
         return internalSpecializedConstruction(
-                transactionBytes, Transaction.parseFrom(transactionBytes));
+                transactionBytes, SignedTxnAccessor.aliasedWrapperFrom(transactionBytes));
     }
 
     public TxnAccessor triggeredTxn(
@@ -74,12 +72,11 @@ public class AccessorFactory {
     private SignedTxnAccessor internalSpecializedConstruction(
             final byte[] transactionBytes, final Transaction transaction)
             throws InvalidProtocolBufferException {
-        final var body = extractTransactionBody(transaction);
-        final var function = MiscUtils.FUNCTION_EXTRACTOR.apply(body);
-        if (function == TokenAccountWipe) {
+        final var accessor = SignedTxnAccessor.from(transactionBytes, transaction);
+        if (accessor.getFunction() == TokenAccountWipe) {
             return new TokenWipeAccessor(transactionBytes, transaction, dynamicProperties);
         }
-        return SignedTxnAccessor.from(transactionBytes, transaction);
+        return accessor;
     }
 
     public TxnAccessor uncheckedSpecializedAccessor(final Transaction transaction) {
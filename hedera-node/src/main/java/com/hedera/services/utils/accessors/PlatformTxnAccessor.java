@@ -23,6 +23,7 @@ import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.sigs.sourcing.PojoSigMapPubKeyToSigBytes;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.services.txns.span.SpanMap;
 import com.hedera.services.usage.BaseTransactionMeta;
 import com.hedera.services.usage.SigUsage;
 import com.hedera.services.usage.consensus.SubmitMessageMeta;
@@ -38,7 +39,6 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.common.crypto.TransactionSignature;
-import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -263,12 +263,12 @@ public class PlatformTxnAccessor implements SwirldsTxnAccessor {
     }
 
     @Override
-    public void setRationalizedSpanMap(final Map<String, Object> newSpanMap) {
+    public void setRationalizedSpanMap(final SpanMap newSpanMap) {
         delegate.setRationalizedSpanMap(newSpanMap);
     }
 
     @Override
-    public Map<String, Object> getSpanMap() {
+    public SpanMap getSpanMap() {
         return delegate.getSpanMap();
     }
 
@@ -17,6 +17,7 @@ package com.hedera.services.utils.accessors;
 
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
 import static com.hedera.services.legacy.proto.utils.ByteStringUtils.unwrapUnsafelyIfPossible;
+import static com.hedera.services.legacy.proto.utils.ByteStringUtils.wrapUnsafely;
 import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
 import static com.hedera.services.usage.token.TokenOpsUsageUtils.TOKEN_OPS_USAGE_UTILS;
 import static com.hedera.services.utils.EntityIdUtils.isAlias;
@@ -51,6 +52,7 @@ import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.sigs.sourcing.PojoSigMapPubKeyToSigBytes;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.services.txns.span.SpanMap;
 import com.hedera.services.usage.BaseTransactionMeta;
 import com.hedera.services.usage.SigUsage;
 import com.hedera.services.usage.consensus.SubmitMessageMeta;
@@ -74,9 +76,6 @@ import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nullable;
 import org.apache.commons.codec.binary.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -94,12 +93,13 @@ public class SignedTxnAccessor implements TxnAccessor {
     private static final ExpandHandleSpanMapAccessor SPAN_MAP_ACCESSOR =
             new ExpandHandleSpanMapAccessor();
 
-    private Map<String, Object> spanMap = new HashMap<>();
+    private SpanMap spanMap = new SpanMap();
 
     private int sigMapSize;
     private int numSigPairs;
     private int numAutoCreations = UNKNOWN_NUM_AUTO_CREATIONS;
-    private byte[] hash;
+    private volatile byte[] hash;
+    private ByteString hashedBytes;
     private byte[] txnBytes;
     private byte[] utf8MemoBytes;
     private byte[] signedTxnWrapperBytes;
@@ -143,6 +143,22 @@ public class SignedTxnAccessor implements TxnAccessor {
         return new SignedTxnAccessor(signedTxnWrapperBytes, signedTxnWrapper);
     }
 
+    /**
+     * Parses a gRPC {@link Transaction} whose {@code bytes} fields are slices of the given array,
+     * instead of copies. The caller must never modify the array after this call.
+     *
+     * @param signedTxnWrapperBytes the serialized transaction
+     * @return the parsed transaction
+     * @throws InvalidProtocolBufferException if the bytes are not a valid transaction
+     */
+    static Transaction aliasedWrapperFrom(final byte[] signedTxnWrapperBytes)
+            throws InvalidProtocolBufferException {
+        // Only a stream over an immutable ByteString honors aliasing
+        final var input = wrapUnsafely(signedTxnWrapperBytes).newCodedInput();
+        input.enableAliasing(true);
+        return Transaction.parseFrom(input);
+    }
+
     protected SignedTxnAccessor(
             byte[] signedTxnWrapperBytes, @Nullable final Transaction transaction)
             throws InvalidProtocolBufferException {
@@ -152,7 +168,7 @@ public class SignedTxnAccessor implements TxnAccessor {
         if (transaction != null) {
             txnWrapper = transaction;
         } else {
-            txnWrapper = Transaction.parseFrom(signedTxnWrapperBytes);
+            txnWrapper = aliasedWrapperFrom(signedTxnWrapperBytes);
         }
         this.signedTxnWrapper = txnWrapper;
 
@@ -160,12 +176,12 @@ public class SignedTxnAccessor implements TxnAccessor {
         if (signedTxnBytes.isEmpty()) {
             txnBytes = unwrapUnsafelyIfPossible(signedTxnWrapper.getBodyBytes());
             sigMap = signedTxnWrapper.getSigMap();
-            hash = noThrowSha384HashOf(signedTxnWrapperBytes);
+            hashedBytes = wrapUnsafely(signedTxnWrapperBytes);
         } else {
             final var signedTxn = SignedTransaction.parseFrom(signedTxnBytes);
             txnBytes = unwrapUnsafelyIfPossible(signedTxn.getBodyBytes());
             sigMap = signedTxn.getSigMap();
-            hash = noThrowSha384HashOf(unwrapUnsafelyIfPossible(signedTxnBytes));
+            hashedBytes = signedTxnBytes;
         }
         pubKeyToSigBytes = new PojoSigMapPubKeyToSigBytes(sigMap);
 
@@ -277,8 +293,23 @@ public class SignedTxnAccessor implements TxnAccessor {
         return memo;
     }
 
+    /**
+     * Returns the SHA-384 hash of the signed transaction, computing it on first use. Query payments
+     * never need it; but transactions submitted to this node need it during precheck (to remember
+     * their verified signatures), and again when their signatures are expanded, as well as for the
+     * record in handle.
+     *
+     * <p>So the hash may first be computed on a gRPC or signature expansion thread, not the handle
+     * thread. The field is volatile so that a hash computed on one thread is seen fully built by
+     * any other. Two threads racing to compute it just compute the same bytes twice.
+     *
+     * @return the transaction hash
+     */
     @Override
     public byte[] getHash() {
+        if (hash == null) {
+            hash = noThrowSha384HashOf(hashedBytes);
+        }
         return hash;
     }
 
@@ -338,13 +369,13 @@ public class SignedTxnAccessor implements TxnAccessor {
                 .add("sigMapSize", sigMapSize)
                 .add("numSigPairs", numSigPairs)
                 .add("numAutoCreations", numAutoCreations)
-                .add("hash", hash)
+                .add("hash", getHash())
                 .add("txnBytes", txnBytes)
                 .add("utf8MemoBytes", utf8MemoBytes)
                 .add("memo", memo)
                 .add("memoHasZeroByte", memoHasZeroByte)
                 .add("signedTxnWrapper", signedTxnWrapper)
-                .add("hash", hash)
+                .add("hash", getHash())
                 .add("txnBytes", txnBytes)
                 .add("sigMap", sigMap)
                 .add("txnId", txnId)
@@ -396,14 +427,14 @@ public class SignedTxnAccessor implements TxnAccessor {
     }
 
     @Override
-    public Map<String, Object> getSpanMap() {
+    public SpanMap getSpanMap() {
         return spanMap;
     }
 
     /** {@inheritDoc} */
     @Override
-    public void setRationalizedSpanMap(final Map<String, Object> newSpanMap) {
-        spanMap = Collections.unmodifiableMap(newSpanMap);
+    public void setRationalizedSpanMap(final SpanMap newSpanMap) {
+        spanMap = newSpanMap.freeze();
     }
 
     @Override
@@ -18,6 +18,7 @@ package com.hedera.services.utils.accessors;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.services.txns.span.SpanMap;
 import com.hedera.services.usage.BaseTransactionMeta;
 import com.hedera.services.usage.SigUsage;
 import com.hedera.services.usage.consensus.SubmitMessageMeta;
@@ -31,7 +32,6 @@ import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
-import java.util.Map;
 
 /**
  * Defines a type that gives access to several commonly referenced parts of a Hedera Services gRPC
@@ -130,13 +130,13 @@ public interface TxnAccessor {
     // ---- These will be removed by using the fields in custom accessors in future PR ---
 
     /**
-     * Used in {@code handleTransaction} to reset this accessor's span map to new,
-     * <b>unmodifiable</b> map with the authoritative results of expanding from the working state.
+     * Used in {@code handleTransaction} to reset this accessor's span map to a new,
+     * <b>frozen</b> span with the authoritative results of expanding from the working state.
      * This protects the authoritative values from contamination by a pre-fetch thread.
      */
-    void setRationalizedSpanMap(Map<String, Object> newSpanMap);
+    void setRationalizedSpanMap(SpanMap newSpanMap);
 
-    Map<String, Object> getSpanMap();
+    SpanMap getSpanMap();
 
     ExpandHandleSpanMapAccessor getSpanMapAccessor();
 
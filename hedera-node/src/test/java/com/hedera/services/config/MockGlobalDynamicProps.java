@@ -31,6 +31,7 @@ public class MockGlobalDynamicProps extends GlobalDynamicProperties {
     private long gracePeriod = 604800;
     private boolean useAutoRenew = true;
     private boolean useContractAutoRenew = true;
+    private boolean scanAutoRenewExpiryIndex = false;
     private boolean schedulingLongTermEnabled = false;
     private boolean exportBalances = true;
     private CongestionMultipliers currentMultipliers = defaultMultipliers;
@@ -195,6 +196,15 @@ public class MockGlobalDynamicProps extends GlobalDynamicProperties {
         useContractAutoRenew = true;
     }
 
+    @Override
+    public boolean shouldScanAutoRenewExpiryIndex() {
+        return scanAutoRenewExpiryIndex;
+    }
+
+    public void enableAutoRenewExpiryIndexScan() {
+        scanAutoRenewExpiryIndex = true;
+    }
+
     @Override
     public int autoRenewNumberOfEntitiesToScan() {
         return 100;
@@ -23,6 +23,8 @@ import static org.mockito.Mockito.verify;
 import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.ledger.backing.BackingStore;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
+import com.hedera.services.state.expiry.classification.SignedStatePreClassifier;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
@@ -54,6 +56,8 @@ class StoreInitializationFlowTest {
     @Mock private BackingStore<TokenID, MerkleToken> backingTokens;
     @Mock private BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels;
     @Mock private MerkleMap<EntityNum, MerkleAccount> accounts;
+    @Mock private EntityExpiryIndex expiryIndex;
+    @Mock private SignedStatePreClassifier preClassifier;
 
     private StoreInitializationFlow subject;
 
@@ -67,7 +71,9 @@ class StoreInitializationFlowTest {
                         backingAccounts,
                         backingTokens,
                         backingNfts,
-                        backingTokenRels);
+                        backingTokenRels,
+                        expiryIndex,
+                        preClassifier);
     }
 
     @Test
@@ -85,11 +91,15 @@ class StoreInitializationFlowTest {
         verify(backingAccounts).rebuildFromSources();
         verify(backingNfts).rebuildFromSources();
         verify(usageLimits).resetNumContracts();
+        verify(expiryIndex).clear();
+        verify(preClassifier).clear();
         verify(aliasManager).rebuildAliasesMap(eq(accounts), captor.capture());
         final var observer = captor.getValue();
-        observer.accept(EntityNum.fromInt(1), MerkleAccountFactory.newAccount().get());
+        observer.accept(
+                EntityNum.fromInt(1), MerkleAccountFactory.newAccount().expirationTime(11L).get());
         observer.accept(EntityNum.fromInt(2), MerkleAccountFactory.newContract().get());
         observer.accept(EntityNum.fromInt(3), MerkleAccountFactory.newContract().get());
         verify(usageLimits, times(2)).recordContracts(1);
+        verify(expiryIndex).track(1L, 11L);
     }
 }
@@ -18,12 +18,12 @@ package com.hedera.services.context.primitives;
 import static com.hedera.services.context.primitives.StateView.REMOVED_TOKEN;
 import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
 import static com.hedera.services.state.submerkle.RichInstant.fromJava;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
 import static com.hedera.services.state.virtual.schedule.ScheduleVirtualValueTest.scheduleCreateTxnWith;
 import static com.hedera.services.txns.crypto.helpers.AllowanceHelpers.getCryptoGrantedAllowancesList;
 import static com.hedera.services.txns.crypto.helpers.AllowanceHelpers.getFungibleGrantedTokenAllowancesList;
 import static com.hedera.services.txns.crypto.helpers.AllowanceHelpers.getNftGrantedAllowancesList;
 import static com.hedera.services.utils.EntityIdUtils.asAccount;
-import static com.hedera.services.utils.EntityIdUtils.asEvmAddress;
 import static com.hedera.services.utils.MiscUtils.asKeyUnchecked;
 import static com.hedera.test.factories.fees.CustomFeeBuilder.fixedHbar;
 import static com.hedera.test.factories.fees.CustomFeeBuilder.fixedHts;
@@ -52,7 +52,6 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.any;
-import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -62,6 +61,7 @@ import com.hedera.services.config.NetworkInfo;
 import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.ethereum.EthTxSigs;
 import com.hedera.services.files.HFileMeta;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.ledger.accounts.staking.RewardCalculator;
 import com.hedera.services.ledger.backing.BackingAccounts;
@@ -167,7 +167,6 @@ class StateViewTest {
             EntityNumPair.fromLongs(tokenAccountId.getAccountNum(), tokenId.getTokenNum());
     private final EntityNumPair nftAssociationId =
             EntityNumPair.fromLongs(tokenAccountId.getAccountNum(), nftTokenId.getTokenNum());
-    private final byte[] cidAddress = asEvmAddress(0, 0, cid.getContractNum());
     private final AccountID autoRenew = asAccount("0.0.6");
     private final AccountID creatorAccountID = asAccount("0.0.7");
     private final long autoRenewPeriod = 1_234_567;
@@ -179,7 +178,7 @@ class StateViewTest {
     private FileGetInfoResponse.FileInfo expected;
     private FileGetInfoResponse.FileInfo expectedImmutable;
 
-    private Map<byte[], byte[]> bytecode;
+    private VirtualBlobStore blobStore;
     private Map<FileID, byte[]> contents;
     private Map<FileID, HFileMeta> attrs;
 
@@ -328,7 +327,7 @@ class StateViewTest {
 
         contents = mock(Map.class);
         attrs = mock(Map.class);
-        bytecode = mock(Map.class);
+        blobStore = mock(VirtualBlobStore.class);
         specialFiles = mock(MerkleSpecialFiles.class);
 
         uniqueTokens = new MerkleMap<>();
@@ -352,7 +351,7 @@ class StateViewTest {
         subject = new StateView(scheduleStore, children, networkInfo);
         subject.fileAttrs = attrs;
         subject.fileContents = contents;
-        subject.contractBytecode = bytecode;
+        subject.blobStore = blobStore;
     }
 
     private void setUpToken(final MerkleToken token) throws DecoderException {
@@ -1073,7 +1072,7 @@ class StateViewTest {
 
     @Test
     void getsBytecode() {
-        given(bytecode.get(argThat((byte[] bytes) -> Arrays.equals(cidAddress, bytes))))
+        given(blobStore.get(CONTRACT_BYTECODE, cid.getContractNum()))
                 .willReturn(expectedBytecode);
 
         final var actual = subject.bytecodeOf(EntityNum.fromContractId(cid));
@@ -1248,6 +1247,57 @@ class StateViewTest {
         assertArrayEquals(nftMeta, info.getMetadata().toByteArray());
     }
 
+    @Test
+    void pagesThroughAccountOwnedNftList() {
+        final var nextNftKey = EntityNumPair.fromLongs(3, 6);
+        final var nextNft =
+                new MerkleUniqueToken(
+                        EntityId.fromGrpcAccountId(nftOwnerId), nftMeta, fromJava(nftCreation));
+        targetNft.setNext(nextNftKey.asNftNumPair());
+        nextNft.setPrev(targetNftKey.asNftNumPair());
+        uniqueTokens.put(nextNftKey, nextNft);
+        final var owner = new MerkleAccount();
+        owner.setHeadNftId(targetNftKey.getHiOrderAsLong());
+        owner.setHeadNftSerialNum(targetNftKey.getLowOrderAsLong());
+        given(contracts.get(EntityNum.fromAccountId(nftOwnerId))).willReturn(owner);
+        given(networkInfo.ledgerId()).willReturn(ledgerId);
+
+        final var secondPage = subject.infoForAccountNfts(nftOwnerId, 1, 2).get();
+        final var wholeList = subject.infoForAccountNfts(nftOwnerId, 0, 5).get();
+
+        assertEquals(1, secondPage.size());
+        assertEquals(6, secondPage.get(0).getNftID().getSerialNumber());
+        assertEquals(2, wholeList.size());
+        assertEquals(targetNftId, wholeList.get(0).getNftID());
+        assertEquals(nftOwnerId, wholeList.get(1).getAccountID());
+    }
+
+    @Test
+    void accountNftInfosEmptyForMissingAccount() {
+        assertTrue(subject.infoForAccountNfts(nftOwnerId, 0, 1).isEmpty());
+    }
+
+    @Test
+    void pagesThroughTokenSerialNos() {
+        nft.setLastUsedSerialNumber(5);
+        nft.setTreasury(EntityId.fromGrpcAccountId(tokenAccountId));
+        given(tokens.get(targetNftKey.getHiOrderAsNum())).willReturn(nft);
+        given(networkInfo.ledgerId()).willReturn(ledgerId);
+
+        final var infos = subject.infoForTokenNfts(nftTokenId, 2, 10).get();
+
+        assertEquals(2, infos.size());
+        assertEquals(targetNftId, infos.get(0).getNftID());
+        assertEquals(nftOwnerId, infos.get(0).getAccountID());
+        assertEquals(5, infos.get(1).getNftID().getSerialNumber());
+        assertEquals(tokenAccountId, infos.get(1).getAccountID());
+    }
+
+    @Test
+    void tokenNftInfosEmptyForMissingToken() {
+        assertTrue(subject.infoForTokenNfts(missingTokenId, 0, 1).isEmpty());
+    }
+
     @Test
     void constructsBackingStores() {
         assertTrue(subject.asReadOnlyAccountStore() instanceof BackingAccounts);
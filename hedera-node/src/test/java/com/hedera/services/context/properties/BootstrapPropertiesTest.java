@@ -88,6 +88,7 @@ class BootstrapPropertiesTest {
                     entry(BALANCES_EXPORT_PERIOD_SECS, 900),
                     entry(BALANCES_EXPORT_TOKEN_BALANCES, true),
                     entry(BALANCES_NODE_BALANCE_WARN_THRESHOLD, 0L),
+                    entry(BALANCES_STREAMING_EXPORT_ENABLED, false),
                     entry(ACCOUNTS_EXCHANGE_RATES_ADMIN, 57L),
                     entry(ACCOUNTS_FEE_SCHEDULE_ADMIN, 56L),
                     entry(ACCOUNTS_NODE_REWARD_ACCOUNT, 801L),
@@ -140,6 +141,7 @@ class BootstrapPropertiesTest {
                     entry(HEDERA_PREFETCH_QUEUE_CAPACITY, 10000),
                     entry(HEDERA_PREFETCH_THREAD_POOL_SIZE, 2),
                     entry(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS, 120),
+                    entry(HEDERA_PREFETCH_CODE_CACHE_MAX_STRONG_BYTES, 33554432L),
                     entry(HEDERA_PROFILES_ACTIVE, Profile.PROD),
                     entry(HEDERA_REALM, 0L),
                     entry(HEDERA_RECORD_STREAM_LOG_DIR, "/opt/hgcapp/recordStreams"),
@@ -147,6 +149,8 @@ class BootstrapPropertiesTest {
                     entry(HEDERA_RECORD_STREAM_LOG_PERIOD, 2L),
                     entry(HEDERA_RECORD_STREAM_IS_ENABLED, true),
                     entry(HEDERA_RECORD_STREAM_QUEUE_CAPACITY, 5000),
+                    entry(HEDERA_RECORD_STREAM_HANDOFF_BATCH_SIZE, 256),
+                    entry(HEDERA_RECORD_STREAM_HANDOFF_BLOCK_WHEN_FULL, true),
                     entry(HEDERA_SHARD, 0L),
                     entry(HEDERA_TXN_MAX_MEMO_UTF8_BYTES, 100),
                     entry(HEDERA_TXN_MIN_VALID_DURATION, 15L),
@@ -165,6 +169,8 @@ class BootstrapPropertiesTest {
                     entry(AUTO_RENEW_NUM_OF_ENTITIES_TO_SCAN, 100),
                     entry(AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE, 2),
                     entry(AUTO_RENEW_GRACE_PERIOD, 604800L),
+                    entry(AUTO_RENEW_SCAN_EXPIRY_INDEX, false),
+                    entry(AUTO_RENEW_PRE_CLASSIFY_LOOKAHEAD_SECS, 600L),
                     entry(LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION, 8000001L),
                     entry(LEDGER_AUTO_RENEW_PERIOD_MIN_DURATION, 2592000L),
                     entry(LEDGER_SCHEDULE_TX_EXPIRY_TIME_SECS, 1800),
@@ -236,6 +242,7 @@ class BootstrapPropertiesTest {
                     entry(TOKENS_NFTS_ARE_ENABLED, true),
                     entry(TOKENS_NFTS_USE_TREASURY_WILD_CARDS, true),
                     entry(TOKENS_NFTS_MAX_QUERY_RANGE, 100L),
+                    entry(TOKENS_NFTS_MAX_ACCOUNT_WALK_LENGTH, 10_000L),
                     entry(TOKENS_NFTS_MAX_BATCH_SIZE_WIPE, 10),
                     entry(TOKENS_NFTS_MAX_BATCH_SIZE_MINT, 10),
                     entry(TOKENS_NFTS_MAX_BATCH_SIZE_BURN, 10),
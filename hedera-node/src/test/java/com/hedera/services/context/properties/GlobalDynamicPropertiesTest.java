@@ -80,6 +80,8 @@ class GlobalDynamicPropertiesTest {
         // then:
         assertTrue(subject.shouldExportBalances());
         assertTrue(subject.shouldExportTokenBalances());
+        assertFalse(subject.shouldStreamBalancesExport());
+        assertFalse(subject.shouldScanAutoRenewExpiryIndex());
         assertTrue(subject.shouldAutoRenewSomeEntityType());
         assertTrue(subject.areNftsEnabled());
         assertTrue(subject.shouldThrottleByGas());
@@ -109,6 +111,7 @@ class GlobalDynamicPropertiesTest {
         assertEquals(39, subject.maxBatchSizeWipe());
         assertEquals(40, subject.maxBatchSizeMint());
         assertEquals(41, subject.maxNftQueryRange());
+        assertEquals(100, subject.maxNftAccountWalkLength());
         assertFalse(subject.treasuryNftAllowance());
         assertEquals(42, subject.maxNftMetadataBytes());
         assertEquals(43, subject.maxTokenNameUtf8Bytes());
@@ -224,6 +227,8 @@ class GlobalDynamicPropertiesTest {
         // then:
         assertFalse(subject.shouldExportBalances());
         assertFalse(subject.shouldExportTokenBalances());
+        assertTrue(subject.shouldStreamBalancesExport());
+        assertTrue(subject.shouldScanAutoRenewExpiryIndex());
         assertTrue(subject.shouldAutoRenewSomeEntityType());
         assertFalse(subject.areNftsEnabled());
         assertFalse(subject.shouldThrottleByGas());
@@ -368,6 +373,10 @@ class GlobalDynamicPropertiesTest {
                 .willReturn(balanceExportPaths[i % 2]);
         given(properties.getBooleanProperty(BALANCES_EXPORT_TOKEN_BALANCES))
                 .willReturn((i + 13) % 2 == 0);
+        given(properties.getBooleanProperty(BALANCES_STREAMING_EXPORT_ENABLED))
+                .willReturn((i + 13) % 2 == 1);
+        given(properties.getBooleanProperty(AUTO_RENEW_SCAN_EXPIRY_INDEX))
+                .willReturn((i + 13) % 2 == 1);
         given(properties.getIntProperty(LEDGER_TRANSFERS_MAX_LEN)).willReturn(i + 14);
         given(properties.getIntProperty(LEDGER_TOKEN_TRANSFERS_MAX_LEN)).willReturn(i + 15);
         given(properties.getIntProperty(HEDERA_TXN_MAX_MEMO_UTF8_BYTES)).willReturn(i + 16);
@@ -404,6 +413,8 @@ class GlobalDynamicPropertiesTest {
         given(properties.getIntProperty(TOKENS_NFTS_MAX_BATCH_SIZE_WIPE)).willReturn(i + 38);
         given(properties.getIntProperty(TOKENS_NFTS_MAX_BATCH_SIZE_MINT)).willReturn(i + 39);
         given(properties.getLongProperty(TOKENS_NFTS_MAX_QUERY_RANGE)).willReturn(i + 40L);
+        given(properties.getLongProperty(TOKENS_NFTS_MAX_ACCOUNT_WALK_LENGTH))
+                .willReturn(i + 99L);
         given(properties.getIntProperty(TOKENS_NFTS_MAX_METADATA_BYTES)).willReturn(i + 41);
         given(properties.getIntProperty(TOKENS_MAX_TOKEN_NAME_UTF8_BYTES)).willReturn(i + 42);
         given(properties.getBooleanProperty(TOKENS_NFTS_ARE_ENABLED)).willReturn((i + 43) % 2 == 0);
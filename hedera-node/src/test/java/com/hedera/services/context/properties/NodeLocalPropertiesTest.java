@@ -18,16 +18,20 @@ package com.hedera.services.context.properties;
 import static com.hedera.services.context.properties.Profile.DEV;
 import static com.hedera.services.context.properties.Profile.PROD;
 import static com.hedera.services.context.properties.Profile.TEST;
+import static com.hedera.services.context.properties.PropertyNames.AUTO_RENEW_PRE_CLASSIFY_LOOKAHEAD_SECS;
 import static com.hedera.services.context.properties.PropertyNames.DEV_DEFAULT_LISTENING_NODE_ACCOUNT;
 import static com.hedera.services.context.properties.PropertyNames.DEV_ONLY_DEFAULT_NODE_LISTENS;
 import static com.hedera.services.context.properties.PropertyNames.GRPC_PORT;
 import static com.hedera.services.context.properties.PropertyNames.GRPC_TLS_PORT;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_ACCOUNTS_EXPORT_PATH;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_EXPORT_ACCOUNTS_ON_STARTUP;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_MAX_STRONG_BYTES;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_TTL_SECS;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_QUEUE_CAPACITY;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_THREAD_POOL_SIZE;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PROFILES_ACTIVE;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_HANDOFF_BATCH_SIZE;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_HANDOFF_BLOCK_WHEN_FULL;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_IS_ENABLED;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_LOG_DIR;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_LOG_PERIOD;
@@ -97,6 +101,9 @@ class NodeLocalPropertiesTest {
         assertEquals(28, subject.prefetchQueueCapacity());
         assertEquals(29, subject.prefetchThreadPoolSize());
         assertEquals(30, subject.prefetchCodeCacheTtlSecs());
+        assertEquals(32, subject.recordStreamHandoffBatchSize());
+        assertEquals(33L, subject.prefetchCodeCacheMaxStrongBytes());
+        assertEquals(34L, subject.autoRenewPreClassifyLookaheadSecs());
         assertEquals(List.of("80"), subject.consThrottlesToSample());
         assertEquals(List.of("81"), subject.hapiThrottlesToSample());
     }
@@ -127,6 +134,7 @@ class NodeLocalPropertiesTest {
         assertFalse(subject.exportAccountsOnStartup());
         assertEquals(Profile.PROD, subject.nettyMode());
         assertEquals(24L, subject.nettyStartRetryIntervalMs());
+        assertFalse(subject.recordStreamHandoffBlockWhenFull());
     }
 
     @Test
@@ -152,6 +160,9 @@ class NodeLocalPropertiesTest {
         assertEquals(30, subject.prefetchThreadPoolSize());
         assertEquals(31, subject.prefetchCodeCacheTtlSecs());
         assertEquals(logDir(32), subject.sidecarDir());
+        assertEquals(33, subject.recordStreamHandoffBatchSize());
+        assertEquals(34L, subject.prefetchCodeCacheMaxStrongBytes());
+        assertEquals(35L, subject.autoRenewPreClassifyLookaheadSecs());
     }
 
     @Test
@@ -185,6 +196,7 @@ class NodeLocalPropertiesTest {
         assertEquals(83L, subject.entityUtilStatsUpdateIntervalMs());
         assertEquals(84L, subject.throttleUtilStatsUpdateIntervalMs());
         assertEquals(logDir(32), subject.sidecarDir());
+        assertTrue(subject.recordStreamHandoffBlockWhenFull());
     }
 
     private void givenPropsWithSeed(int i) {
@@ -241,6 +253,14 @@ class NodeLocalPropertiesTest {
                 .willReturn(i + 82L);
         given(properties.getStringProperty(HEDERA_RECORD_STREAM_SIDE_CAR_DIR))
                 .willReturn(logDir(i + 30));
+        given(properties.getIntProperty(HEDERA_RECORD_STREAM_HANDOFF_BATCH_SIZE))
+                .willReturn(i + 31);
+        given(properties.getBooleanProperty(HEDERA_RECORD_STREAM_HANDOFF_BLOCK_WHEN_FULL))
+                .willReturn(i % 2 == 0);
+        given(properties.getLongProperty(HEDERA_PREFETCH_CODE_CACHE_MAX_STRONG_BYTES))
+                .willReturn(i + 32L);
+        given(properties.getLongProperty(AUTO_RENEW_PRE_CLASSIFY_LOOKAHEAD_SECS))
+                .willReturn(i + 33L);
     }
 
     static String logDir(int num) {
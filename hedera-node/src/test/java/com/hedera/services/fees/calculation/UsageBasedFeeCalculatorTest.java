@@ -50,6 +50,7 @@ import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.willThrow;
 
@@ -453,6 +454,23 @@ class UsageBasedFeeCalculatorTest {
         assertEquals(fees.getServiceFee(), expectedFees.getServiceFee());
     }
 
+    @Test
+    void remembersQueryEstimatorForQueryType() {
+        given(correctQueryEstimator.applicableTo(query)).willReturn(true);
+        given(incorrectQueryEstimator.applicableTo(query)).willReturn(false);
+        given(correctQueryEstimator.usageGivenType(query, view, ANSWER_ONLY))
+                .willReturn(resourceUsage);
+        given(exchange.rate(at)).willReturn(currentRate);
+        final var prices = currentPrices.get(SubType.DEFAULT);
+
+        final var firstFees = subject.estimatePayment(query, prices, view, at, ANSWER_ONLY);
+        final var secondFees = subject.estimatePayment(query, prices, view, at, ANSWER_ONLY);
+
+        assertEquals(firstFees.getServiceFee(), secondFees.getServiceFee());
+        verify(correctQueryEstimator, times(1)).applicableTo(query);
+        verify(correctQueryEstimator, times(2)).usageGivenType(query, view, ANSWER_ONLY);
+    }
+
     @Test
     void usesMultiplierAsExpected() throws Exception {
         // setup:
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.fees.calculation.token.queries;
+
+import static com.hedera.services.queries.token.GetTokenNftInfosAnswer.TOKEN_NFT_INFOS_CTX_KEY;
+import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
+import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.usage.token.TokenGetNftInfosUsage;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.NftID;
+import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.QueryHeader;
+import com.hederahashgraph.api.proto.java.ResponseType;
+import com.hederahashgraph.api.proto.java.TokenGetNftInfosQuery;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenNftInfo;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class GetTokenNftInfosResourceUsageTest {
+    private static final TokenID target = IdUtils.asToken("0.0.123");
+    private static final long start = 0;
+    private static final long end = 2;
+    private static final ByteString aMetadata = ByteString.copyFromUtf8("LMAO");
+    private static final ByteString bMetadata = ByteString.copyFromUtf8("ROFL");
+    private static final List<TokenNftInfo> infos =
+            List.of(infoWith(1, aMetadata), infoWith(2, bMetadata));
+    private static final Query satisfiableAnswerOnly = nftInfosQuery(target, ANSWER_ONLY);
+
+    private FeeData expected;
+    private TokenGetNftInfosUsage estimator;
+    private MockedStatic<TokenGetNftInfosUsage> mockedStatic;
+    private StateView view;
+
+    private GetTokenNftInfosResourceUsage subject;
+
+    @BeforeEach
+    void setup() {
+        expected = mock(FeeData.class);
+        view = mock(StateView.class);
+        estimator = mock(TokenGetNftInfosUsage.class);
+        mockedStatic = mockStatic(TokenGetNftInfosUsage.class);
+        mockedStatic
+                .when(() -> TokenGetNftInfosUsage.newEstimate(satisfiableAnswerOnly))
+                .thenReturn(estimator);
+
+        given(estimator.givenMetadata(List.of(aMetadata, bMetadata))).willReturn(estimator);
+        given(estimator.get()).willReturn(expected);
+
+        given(view.infoForTokenNfts(target, start, end)).willReturn(Optional.of(infos));
+
+        subject = new GetTokenNftInfosResourceUsage();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedStatic.close();
+    }
+
+    @Test
+    void recognizesApplicableQuery() {
+        final var applicable = nftInfosQuery(target, COST_ANSWER);
+        final var inapplicable = Query.getDefaultInstance();
+
+        assertTrue(subject.applicableTo(applicable));
+        assertFalse(subject.applicableTo(inapplicable));
+    }
+
+    @Test
+    void setsInfosInQueryCxtIfPresent() {
+        final var queryCtx = new HashMap<String, Object>();
+
+        final var usage = subject.usageGiven(satisfiableAnswerOnly, view, queryCtx);
+
+        assertSame(infos, queryCtx.get(TOKEN_NFT_INFOS_CTX_KEY));
+        assertSame(expected, usage);
+        verify(estimator).givenMetadata(List.of(aMetadata, bMetadata));
+    }
+
+    @Test
+    void onlySetsInfosInQueryCxtIfFound() {
+        final var queryCtx = new HashMap<String, Object>();
+        given(view.infoForTokenNfts(target, start, end)).willReturn(Optional.empty());
+
+        final var usage = subject.usageGiven(satisfiableAnswerOnly, view, queryCtx);
+
+        assertFalse(queryCtx.containsKey(TOKEN_NFT_INFOS_CTX_KEY));
+        assertSame(FeeData.getDefaultInstance(), usage);
+    }
+
+    @Test
+    void worksWithoutQueryContext() {
+        final var usage = subject.usageGiven(satisfiableAnswerOnly, view);
+
+        assertSame(expected, usage);
+    }
+
+    private static TokenNftInfo infoWith(final long serialNo, final ByteString metadata) {
+        return TokenNftInfo.newBuilder()
+                .setNftID(
+                        NftID.newBuilder()
+                                .setTokenID(IdUtils.asToken("0.0.123"))
+                                .setSerialNumber(serialNo))
+                .setMetadata(metadata)
+                .build();
+    }
+
+    private static Query nftInfosQuery(final TokenID target, final ResponseType type) {
+        final var op =
+                TokenGetNftInfosQuery.newBuilder()
+                        .setTokenID(target)
+                        .setStart(start)
+                        .setEnd(end)
+                        .setHeader(QueryHeader.newBuilder().setResponseType(type));
+        return Query.newBuilder().setTokenGetNftInfos(op).build();
+    }
+}
@@ -33,6 +33,7 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.records.TxnIdRecentHistories;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.logic.AwareNodeDiligenceScreen;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
@@ -44,7 +45,6 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.fee.FeeObject;
 import java.time.Instant;
-import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -83,7 +83,7 @@ class TxnChargingPolicyAgentTest {
     @Mock private FeeChargingPolicy chargingPolicy;
     @Mock private TransactionContext txnCtx;
     @Mock private AwareNodeDiligenceScreen nodeDiligenceScreen;
-    @Mock private Map<TransactionID, TxnIdRecentHistory> txnHistories;
+    @Mock private TxnIdRecentHistories txnHistories;
 
     private TxnChargingPolicyAgent subject;
 
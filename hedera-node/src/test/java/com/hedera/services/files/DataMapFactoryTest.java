@@ -18,12 +18,19 @@ package com.hedera.services.files;
 import static com.hedera.services.files.DataMapFactory.dataMapFrom;
 import static com.hedera.services.files.DataMapFactory.toFid;
 import static com.hedera.services.files.DataMapFactory.toKeyString;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
 
 import com.hedera.services.fees.calculation.FeeCalcUtilsTest;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.test.utils.IdUtils;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -46,6 +53,38 @@ class DataMapFactoryTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void blobStoreProductCanAppend() {
+        final var blobStore = mock(VirtualBlobStore.class);
+        final var fid = IdUtils.asFile("0.2.3");
+        final var moreData = "MORE".getBytes();
+        given(blobStore.sizeOfFile(3L)).willReturn(4);
+
+        final var appendableData = dataMapFrom(blobStore);
+
+        assertEquals(4, appendableData.sizeOf(fid));
+        appendableData.append(fid, moreData);
+        verify(blobStore).appendToFile(3L, moreData);
+    }
+
+    @Test
+    void blobStoreProductUsesFileDataBlobs() {
+        final var blobStore = mock(VirtualBlobStore.class);
+        final var fid = IdUtils.asFile("0.2.3");
+        final var data = "DATA".getBytes();
+        given(blobStore.get(FILE_DATA, 3L)).willReturn(data);
+        given(blobStore.contains(FILE_DATA, 3L)).willReturn(true);
+
+        final var dataMap = dataMapFrom(blobStore);
+
+        assertSame(data, dataMap.get(fid));
+        assertTrue(dataMap.containsKey(fid));
+        assertNull(dataMap.put(fid, data));
+        verify(blobStore).put(FILE_DATA, 3L, data);
+        assertNull(dataMap.remove(fid));
+        verify(blobStore).remove(FILE_DATA, 3L);
+    }
+
     @Test
     void toKeyConversionWorks() {
         // given:
@@ -15,14 +15,19 @@
  */
 package com.hedera.services.files;
 
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.SYSTEM_DELETED_ENTITY_EXPIRY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
 
 import com.google.common.primitives.Longs;
 import com.hedera.services.fees.calculation.FeeCalcUtilsTest;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.test.utils.IdUtils;
 import java.util.Comparator;
@@ -62,6 +67,21 @@ class EntityExpiryMapFactoryTest {
         return FeeCalcUtilsTest.pathOf(IdUtils.asFile(fid)).replace("f", "e");
     }
 
+    @Test
+    void typedProductUsesExpiryBlobs() {
+        final var blobStore = mock(VirtualBlobStore.class);
+        final var eid = new EntityId(0, 2, 3);
+        given(blobStore.get(SYSTEM_DELETED_ENTITY_EXPIRY, 3L)).willReturn(Longs.toByteArray(111));
+
+        final var expiryMap = EntityExpiryMapFactory.entityExpiryMapFrom(blobStore);
+
+        assertEquals(111L, expiryMap.get(eid));
+        expiryMap.put(eid, 222L);
+        verify(blobStore).put(SYSTEM_DELETED_ENTITY_EXPIRY, 3L, Longs.toByteArray(222));
+        assertNull(expiryMap.remove(eid));
+        verify(blobStore).remove(SYSTEM_DELETED_ENTITY_EXPIRY, 3L);
+    }
+
     @Test
     void productHasMapSemantics() {
         // setup:
@@ -20,6 +20,7 @@ import static com.hedera.services.files.MetadataMapFactory.toAttr;
 import static com.hedera.services.files.MetadataMapFactory.toFid;
 import static com.hedera.services.files.MetadataMapFactory.toKeyString;
 import static com.hedera.services.files.MetadataMapFactory.toValueBytes;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_METADATA;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -28,9 +29,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
 
 import com.hedera.services.fees.calculation.FeeCalcUtilsTest;
 import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.files.store.VirtualBlobStore;
 import com.hedera.test.factories.scenarios.TxnHandlingScenario;
 import com.hedera.test.utils.IdUtils;
 import java.io.IOException;
@@ -163,6 +166,24 @@ class MetadataMapFactoryTest {
         assertTrue(metaMap.isEmpty());
     }
 
+    @Test
+    void typedProductUsesMetadataBlobs() throws Exception {
+        final var blobStore = mock(VirtualBlobStore.class);
+        final var wacl = TxnHandlingScenario.MISC_FILE_WACL_KT.asJKey();
+        final var attr = new HFileMeta(false, wacl, expiry);
+        final var fid = IdUtils.asFile("0.2.3");
+        given(blobStore.get(FILE_METADATA, 3L)).willReturn(attr.serialize());
+        given(blobStore.contains(FILE_METADATA, 3L)).willReturn(true);
+
+        final var metaMap = metaMapFrom(blobStore);
+
+        assertEquals(attr.toString(), metaMap.get(fid).toString());
+        assertTrue(metaMap.containsKey(fid));
+        assertNull(metaMap.get(IdUtils.asFile("0.2.4")));
+        metaMap.put(fid, attr);
+        verify(blobStore).put(FILE_METADATA, 3L, attr.serialize());
+    }
+
     private String asLegacyPath(final String fid) {
         return FeeCalcUtilsTest.pathOfMeta(IdUtils.asFile(fid));
     }
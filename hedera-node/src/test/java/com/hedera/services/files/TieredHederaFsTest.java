@@ -220,6 +220,39 @@ class TieredHederaFsTest {
         verify(data, never()).put(fid, newContents);
     }
 
+    @Test
+    void appendsOnlyNewBytesWhenNoInterceptorNeedsContents() {
+        final var appendableData = mock(AppendableDataMap.class);
+        subject =
+                new TieredHederaFs(
+                        ids, properties, clock, appendableData, metadata, () -> specialFiles);
+        subject.register(noInterceptor);
+        given(metadata.containsKey(fid)).willReturn(true);
+        given(metadata.get(fid)).willReturn(livingAttr);
+        given(appendableData.sizeOf(fid)).willReturn(origContents.length);
+
+        final var result = subject.append(fid, moreContents);
+
+        assertEquals(SUCCESS, result.outcome());
+        assertTrue(result.fileReplaced());
+        verify(appendableData).append(fid, moreContents);
+        verify(appendableData, never()).get(fid);
+    }
+
+    @Test
+    void appendOfOnlyNewBytesStillRejectsOversizeContents() {
+        final var appendableData = mock(AppendableDataMap.class);
+        subject =
+                new TieredHederaFs(
+                        ids, properties, clock, appendableData, metadata, () -> specialFiles);
+        given(metadata.containsKey(fid)).willReturn(true);
+        given(metadata.get(fid)).willReturn(livingAttr);
+        given(appendableData.sizeOf(fid)).willReturn(BYTES_PER_KB);
+
+        assertThrows(IllegalArgumentException.class, () -> subject.append(fid, moreContents));
+        verify(appendableData, never()).append(fid, moreContents);
+    }
+
     @Test
     void appendRejectsOversizeContents() {
         final var stretchContents = new byte[BYTES_PER_KB - 1];
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files.store;
+
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_METADATA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.FileID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BlobStoreAdapterTest {
+    private static final FileID fid = IdUtils.asFile("0.0.112");
+
+    private VirtualBlobStore blobStore;
+
+    private BlobStoreAdapter<FileID, String> subject;
+
+    @BeforeEach
+    void setup() {
+        blobStore = mock(VirtualBlobStore.class);
+
+        subject =
+                new BlobStoreAdapter<>(
+                        FileID.class,
+                        FILE_METADATA,
+                        FileID::getFileNum,
+                        bytes -> (bytes == null) ? null : new String(bytes),
+                        String::getBytes,
+                        blobStore);
+    }
+
+    @Test
+    void getsAndChecksByEntityNum() {
+        given(blobStore.get(FILE_METADATA, 112L)).willReturn("A".getBytes());
+        given(blobStore.contains(FILE_METADATA, 112L)).willReturn(true);
+
+        assertEquals("A", subject.get(fid));
+        assertTrue(subject.containsKey(fid));
+        assertNull(subject.get(IdUtils.asFile("0.0.113")));
+        assertFalse(subject.containsKey(IdUtils.asFile("0.0.113")));
+    }
+
+    @Test
+    void putsAndRemovesWithoutReturningPriorValues() {
+        assertNull(subject.put(fid, "B"));
+        assertNull(subject.remove(fid));
+
+        verify(blobStore).put(FILE_METADATA, 112L, "B".getBytes());
+        verify(blobStore).remove(FILE_METADATA, 112L);
+    }
+
+    @Test
+    void delegatesIsEmpty() {
+        given(blobStore.isEmpty()).willReturn(true);
+
+        assertTrue(subject.isEmpty());
+    }
+
+    @Test
+    void rejectsKeysOfWrongType() {
+        assertThrows(ClassCastException.class, () -> subject.get("/0/k112"));
+    }
+
+    @Test
+    void cannotListOrClear() {
+        assertThrows(UnsupportedOperationException.class, subject::size);
+        assertThrows(UnsupportedOperationException.class, subject::entrySet);
+        assertThrows(UnsupportedOperationException.class, subject::clear);
+    }
+}
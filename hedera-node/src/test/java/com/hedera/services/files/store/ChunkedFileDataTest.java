@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files.store;
+
+import static com.hedera.services.files.store.ChunkedFileData.CHUNK_SIZE;
+import static com.hedera.services.files.store.ChunkedFileData.MAX_CHUNKS;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA_MANIFEST;
+import static com.hedera.services.state.virtual.VirtualBlobKey.chunkKey;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.services.state.virtual.VirtualBlobKey;
+import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.swirlds.virtualmap.VirtualMap;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedFileDataTest {
+    private static final int fileNumCode = 1234;
+    private static final VirtualBlobKey dataKey = new VirtualBlobKey(FILE_DATA, fileNumCode);
+    private static final VirtualBlobKey manifestKey =
+            new VirtualBlobKey(FILE_DATA_MANIFEST, fileNumCode);
+
+    private final SplittableRandom r = new SplittableRandom(1_234_567);
+    private final Map<VirtualBlobKey, VirtualBlobValue> backing = new HashMap<>();
+
+    @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.lenient()
+                .when(blobs.get(any()))
+                .thenAnswer(invocation -> backing.get(invocation.getArgument(0)));
+        Mockito.lenient()
+                .doAnswer(
+                        invocation ->
+                                backing.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(blobs)
+                .put(any(), any());
+        Mockito.lenient()
+                .when(blobs.remove(any()))
+                .thenAnswer(invocation -> backing.remove(invocation.getArgument(0)));
+    }
+
+    @Test
+    void smallFilesKeepSingleBlobLayout() {
+        final var contents = randomBytes(CHUNK_SIZE);
+
+        ChunkedFileData.write(blobs, fileNumCode, contents);
+
+        assertEquals(1, backing.size());
+        assertArrayEquals(contents, backing.get(dataKey).getData());
+        assertArrayEquals(contents, ChunkedFileData.read(blobs, fileNumCode));
+        assertEquals(CHUNK_SIZE, ChunkedFileData.sizeOf(blobs, fileNumCode));
+    }
+
+    @Test
+    void smallFileReadsNeverLookForManifest() {
+        backing.put(dataKey, new VirtualBlobValue(randomBytes(CHUNK_SIZE - 1)));
+
+        ChunkedFileData.read(blobs, fileNumCode);
+
+        verify(blobs, never()).get(manifestKey);
+    }
+
+    @Test
+    void missingFileHasNoContentsAndZeroSize() {
+        assertNull(ChunkedFileData.read(blobs, fileNumCode));
+        assertEquals(0, ChunkedFileData.sizeOf(blobs, fileNumCode));
+    }
+
+    @Test
+    void largeFilesAreChunked() {
+        final var contents = randomBytes(2 * CHUNK_SIZE + 1);
+
+        ChunkedFileData.write(blobs, fileNumCode, contents);
+
+        assertEquals(CHUNK_SIZE, backing.get(dataKey).getData().length);
+        assertEquals(CHUNK_SIZE, backing.get(chunkKey(fileNumCode, 1)).getData().length);
+        assertEquals(1, backing.get(chunkKey(fileNumCode, 2)).getData().length);
+        assertTrue(backing.containsKey(manifestKey));
+        assertArrayEquals(contents, ChunkedFileData.read(blobs, fileNumCode));
+        assertEquals(contents.length, ChunkedFileData.sizeOf(blobs, fileNumCode));
+    }
+
+    @Test
+    void appendsMatchConcatenationAndOnlyRewriteTheTail() {
+        final var expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 64; i++) {
+            final var more = randomBytes(4096 + r.nextInt(100));
+            expected.writeBytes(more);
+            ChunkedFileData.append(blobs, fileNumCode, more);
+        }
+        final var contents = expected.toByteArray();
+
+        assertArrayEquals(contents, ChunkedFileData.read(blobs, fileNumCode));
+        assertEquals(contents.length, ChunkedFileData.sizeOf(blobs, fileNumCode));
+
+        final var firstChunk = backing.get(dataKey);
+        Mockito.clearInvocations(blobs);
+        ChunkedFileData.append(blobs, fileNumCode, randomBytes(10));
+        assertSame(firstChunk, backing.get(dataKey));
+        verify(blobs, never()).get(dataKey);
+        verify(blobs, never()).put(eq(dataKey), any());
+    }
+
+    @Test
+    void appendToFullLastChunkStartsNewChunk() {
+        final var contents = randomBytes(2 * CHUNK_SIZE);
+        final var more = randomBytes(3);
+        ChunkedFileData.write(blobs, fileNumCode, contents);
+
+        ChunkedFileData.append(blobs, fileNumCode, more);
+
+        assertArrayEquals(more, backing.get(chunkKey(fileNumCode, 2)).getData());
+        assertEquals(contents.length + 3, ChunkedFileData.sizeOf(blobs, fileNumCode));
+    }
+
+    @Test
+    void rewritesRemoveUnusedChunks() {
+        ChunkedFileData.write(blobs, fileNumCode, randomBytes(3 * CHUNK_SIZE));
+        final var shorter = randomBytes(CHUNK_SIZE + 1);
+
+        ChunkedFileData.write(blobs, fileNumCode, shorter);
+
+        assertFalse(backing.containsKey(chunkKey(fileNumCode, 2)));
+        assertArrayEquals(shorter, ChunkedFileData.read(blobs, fileNumCode));
+
+        final var small = randomBytes(10);
+        ChunkedFileData.write(blobs, fileNumCode, small);
+
+        assertEquals(Map.of(dataKey, new VirtualBlobValue(small)), backing);
+    }
+
+    @Test
+    void filesTooLargeToChunkUseSingleBlob() {
+        ChunkedFileData.write(blobs, fileNumCode, randomBytes(MAX_CHUNKS * CHUNK_SIZE));
+        assertTrue(backing.containsKey(manifestKey));
+
+        ChunkedFileData.append(blobs, fileNumCode, randomBytes(1));
+
+        assertEquals(1, backing.size());
+        assertEquals(MAX_CHUNKS * CHUNK_SIZE + 1, ChunkedFileData.sizeOf(blobs, fileNumCode));
+    }
+
+    @Test
+    void appendingToLegacyLargeFileConvertsToChunks() {
+        final var legacy = randomBytes(3 * CHUNK_SIZE + 5);
+        backing.put(dataKey, new VirtualBlobValue(legacy));
+
+        ChunkedFileData.append(blobs, fileNumCode, randomBytes(5));
+
+        assertEquals(CHUNK_SIZE, backing.get(dataKey).getData().length);
+        assertEquals(legacy.length + 5, ChunkedFileData.sizeOf(blobs, fileNumCode));
+    }
+
+    private byte[] randomBytes(final int n) {
+        final var bytes = new byte[n];
+        r.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -145,6 +145,33 @@ class FcBlobsBytesStoreTest {
                 subject.at(expiryTimePath));
     }
 
+    @Test
+    void appendsToFileDataAndReportsSize() {
+        given(pathedBlobs.get(pathAKey)).willReturn(blobA);
+
+        assertEquals(aData.length, subject.sizeOf(dataPath));
+        subject.append(dataPath, aData);
+
+        verify(pathedBlobs).put(pathAKey, new VirtualBlobValue("BlobABlobA".getBytes()));
+    }
+
+    @Test
+    void onlyAppendsToFileData() {
+        final var bytes = new byte[1];
+        assertThrows(IllegalArgumentException.class, () -> subject.append(bytecodePath, bytes));
+        assertThrows(IllegalArgumentException.class, () -> subject.sizeOf(metadataPath));
+    }
+
+    @Test
+    void putsOtherBlobsDirectly() {
+        subject.put(bytecodePath, aData);
+        subject.remove(bytecodePath);
+
+        final var bytecodeKey = subject.at(bytecodePath);
+        verify(pathedBlobs).put(bytecodeKey, new VirtualBlobValue(aData));
+        verify(pathedBlobs).put(bytecodeKey, FcBlobsBytesStore.EMPTY_BLOB);
+    }
+
     @Test
     void validateEntityNumBasedOnPath() {
         assertEquals(112, getEntityNumFromPath(dataPath));
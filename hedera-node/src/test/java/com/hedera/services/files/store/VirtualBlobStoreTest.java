@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files.store;
+
+import static com.hedera.services.state.merkle.internals.BitPackUtils.codeFromNum;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_METADATA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+
+import com.hedera.services.state.virtual.VirtualBlobKey;
+import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.swirlds.virtualmap.VirtualMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualBlobStoreTest {
+    private static final long fileNum = 112L;
+    private static final long contractNum = 4L;
+    private static final byte[] aData = "BlobA".getBytes();
+    private static final VirtualBlobKey fileKey = new VirtualBlobKey(FILE_DATA, (int) fileNum);
+    private static final VirtualBlobKey metaKey = new VirtualBlobKey(FILE_METADATA, (int) fileNum);
+    private static final VirtualBlobKey codeKey =
+            new VirtualBlobKey(CONTRACT_BYTECODE, (int) contractNum);
+
+    private VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs;
+
+    private VirtualBlobStore subject;
+
+    @BeforeEach
+    void setup() {
+        blobs = mock(VirtualMap.class);
+
+        subject = new VirtualBlobStore(() -> blobs);
+    }
+
+    @Test
+    void keysUseEntityNumCodes() {
+        final var largeNum = 0xFFFF_FFFFL;
+
+        assertEquals(codeKey, VirtualBlobStore.keyOf(CONTRACT_BYTECODE, contractNum));
+        assertEquals(
+                new VirtualBlobKey(FILE_METADATA, codeFromNum(largeNum)),
+                VirtualBlobStore.keyOf(FILE_METADATA, largeNum));
+    }
+
+    @Test
+    void getsSharedBytecodeWithoutCopying() {
+        final var blob = new VirtualBlobValue(aData);
+        given(blobs.get(codeKey)).willReturn(blob);
+
+        assertSame(blob.getData(), subject.get(CONTRACT_BYTECODE, contractNum));
+    }
+
+    @Test
+    void getsNullForMissingBlob() {
+        assertNull(subject.get(FILE_METADATA, fileNum));
+    }
+
+    @Test
+    void getsFileDataViaChunks() {
+        given(blobs.get(fileKey)).willReturn(new VirtualBlobValue(aData));
+
+        assertSame(aData, subject.get(FILE_DATA, fileNum));
+    }
+
+    @Test
+    void putsSingleBlobForNonFileData() {
+        subject.put(FILE_METADATA, fileNum, aData);
+
+        verify(blobs).put(metaKey, new VirtualBlobValue(aData));
+    }
+
+    @Test
+    void putsFileDataViaChunks() {
+        subject.put(FILE_DATA, fileNum, aData);
+
+        verify(blobs).put(fileKey, new VirtualBlobValue(aData));
+    }
+
+    @Test
+    void removeLeavesEmptyBlobs() {
+        subject.remove(FILE_METADATA, fileNum);
+        subject.remove(FILE_DATA, fileNum);
+
+        verify(blobs).put(metaKey, VirtualBlobStore.EMPTY_BLOB);
+        verify(blobs).put(fileKey, new VirtualBlobValue(new byte[0]));
+    }
+
+    @Test
+    void delegatesContainsAndIsEmpty() {
+        given(blobs.containsKey(codeKey)).willReturn(true);
+        given(blobs.isEmpty()).willReturn(true);
+
+        assertTrue(subject.contains(CONTRACT_BYTECODE, contractNum));
+        assertTrue(subject.isEmpty());
+    }
+
+    @Test
+    void measuresAndAppendsToFiles() {
+        given(blobs.get(fileKey)).willReturn(new VirtualBlobValue(aData));
+
+        assertEquals(aData.length, subject.sizeOfFile(fileNum));
+        subject.appendToFile(fileNum, "More".getBytes());
+
+        verify(blobs).put(fileKey, new VirtualBlobValue("BlobAMore".getBytes()));
+    }
+}
@@ -30,6 +30,7 @@ import static com.hedera.test.factories.keys.NodeFactory.threshold;
 import static com.swirlds.common.utility.CommonUtils.hex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
@@ -54,6 +55,7 @@ import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import com.swirlds.common.crypto.engine.CryptoEngine;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiPredicate;
@@ -222,6 +224,25 @@ class HederaKeyActivationTest {
                 HederaKeyActivation.INVALID_MISSING_SIG.getSignatureStatus());
     }
 
+    @Test
+    void mapSupplierIndexesManySigs() {
+        final List<TransactionSignature> presentSigs = new ArrayList<>();
+        for (int i = 0; i <= HederaKeyActivation.MAX_SIGS_TO_SCAN; i++) {
+            presentSigs.add(mockSigFn.apply(i));
+        }
+        final var missingSig = mockSigFn.apply(HederaKeyActivation.MAX_SIGS_TO_SCAN + 1);
+
+        final var sigsFn = pkToSigMapFrom(presentSigs);
+
+        assertInstanceOf(SigsByPublicKey.class, sigsFn);
+        for (final var sig : presentSigs) {
+            assertEquals(sig, sigsFn.apply(sig.getExpandedPublicKeyDirect()));
+        }
+        assertEquals(
+                HederaKeyActivation.INVALID_MISSING_SIG,
+                sigsFn.apply(missingSig.getExpandedPublicKeyDirect()));
+    }
+
     @Test
     void topLevelListActivatesOnlyIfAllChildrenAreActive() {
         given(sigsFn.apply(any())).willReturn(INVALID_SIG, VALID_SIG);
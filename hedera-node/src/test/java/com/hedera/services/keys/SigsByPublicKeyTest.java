@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.keys;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ecdsaSecp256k1Sig;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SigsByPublicKeyTest {
+    private static final byte[] MEANINGLESS_SIG = "SIG".getBytes();
+    private static final byte[] MEANINGLESS_DATA = "DATA".getBytes();
+
+    @Test
+    void findsEd25519SigsByKey() {
+        final List<TransactionSignature> sigs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sigs.add(ed25519Sig(ed25519Key(i), MEANINGLESS_SIG, MEANINGLESS_DATA));
+        }
+
+        final var subject = new SigsByPublicKey(sigs);
+
+        for (int i = 0; i < 20; i++) {
+            assertSame(sigs.get(i), subject.apply(ed25519Key(i)));
+        }
+        assertSame(INVALID_MISSING_SIG, subject.apply(ed25519Key(20)));
+    }
+
+    @Test
+    void findsSecp256k1SigsByXCoordAndParity() {
+        final var evenY = uncompressedKey(1, (byte) 0x02);
+        final var oddY = uncompressedKey(2, (byte) 0x03);
+        final var sigs =
+                List.of(
+                        ecdsaSecp256k1Sig(evenY, MEANINGLESS_SIG, MEANINGLESS_DATA),
+                        ecdsaSecp256k1Sig(oddY, MEANINGLESS_SIG, MEANINGLESS_DATA));
+
+        final var subject = new SigsByPublicKey(sigs);
+
+        assertSame(sigs.get(0), subject.apply(compressed(evenY)));
+        assertSame(sigs.get(1), subject.apply(compressed(oddY)));
+        final var wrongParity = compressed(evenY);
+        wrongParity[0] = (byte) 0x03;
+        assertSame(INVALID_MISSING_SIG, subject.apply(wrongParity));
+    }
+
+    @Test
+    void returnsFirstMatchLikeLinearScan() {
+        final var pk = ed25519Key(7);
+        final var first = ed25519Sig(pk, "SIG1".getBytes(), MEANINGLESS_DATA);
+        final var second = ed25519Sig(pk, "SIG2".getBytes(), MEANINGLESS_DATA);
+
+        final var subject =
+                new SigsByPublicKey(
+                        List.of(
+                                ed25519Sig(ed25519Key(6), MEANINGLESS_SIG, MEANINGLESS_DATA),
+                                first,
+                                second));
+
+        assertSame(first, subject.apply(pk));
+    }
+
+    @Test
+    void collidingPrefixesAreDisambiguated() {
+        final var aKey = ed25519Key(1);
+        final var bKey = ed25519Key(1);
+        bKey[31] = (byte) 0xFF;
+        final var sigs =
+                List.of(
+                        ed25519Sig(aKey, MEANINGLESS_SIG, MEANINGLESS_DATA),
+                        ed25519Sig(bKey, MEANINGLESS_SIG, MEANINGLESS_DATA));
+
+        final var subject = new SigsByPublicKey(sigs);
+
+        assertSame(sigs.get(0), subject.apply(aKey));
+        assertSame(sigs.get(1), subject.apply(bKey));
+    }
+
+    @Test
+    void unsupportedKeysAndSigsAreMissing() {
+        final var shortSig = ed25519Sig(new byte[4], MEANINGLESS_SIG, MEANINGLESS_DATA);
+
+        final var subject = new SigsByPublicKey(List.of(shortSig));
+
+        assertSame(INVALID_MISSING_SIG, subject.apply(new byte[4]));
+        assertSame(INVALID_MISSING_SIG, subject.apply(new byte[48]));
+        assertSame(INVALID_MISSING_SIG, subject.apply(ed25519Key(0)));
+    }
+
+    private static byte[] ed25519Key(final int i) {
+        final var key = new byte[32];
+        Arrays.fill(key, (byte) i);
+        return key;
+    }
+
+    private static byte[] uncompressedKey(final int i, final byte prefix) {
+        final var key = new byte[64];
+        Arrays.fill(key, (byte) i);
+        key[63] = (byte) (prefix & 0x01);
+        return key;
+    }
+
+    private static byte[] compressed(final byte[] uncompressed) {
+        final var key = new byte[33];
+        key[0] = (byte) (0x02 | (uncompressed[63] & 0x01));
+        System.arraycopy(uncompressed, 0, key, 1, 32);
+        return key;
+    }
+}
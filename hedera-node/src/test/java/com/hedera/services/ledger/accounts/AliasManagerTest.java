@@ -40,9 +40,11 @@ import com.swirlds.common.constructable.ConstructableRegistry;
 import com.swirlds.common.constructable.ConstructableRegistryException;
 import com.swirlds.fchashmap.FCHashMap;
 import com.swirlds.merkle.map.MerkleMap;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
 import org.apache.commons.codec.DecoderException;
 import org.apache.tuweni.bytes.Bytes;
 import org.bouncycastle.util.encoders.Hex;
@@ -262,4 +264,53 @@ class AliasManagerTest {
         assertEquals(3, subject.getAliases().size());
         verify(mockObserver, times(6)).accept(any(), any());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildLinksEveryRecoveredEvmAddressToItsAccount()
+            throws ConstructableRegistryException {
+        ConstructableRegistry.registerConstructable(
+                new ClassConstructorPair(MerkleAccount.class, MerkleAccount::new));
+        final var n = 256;
+        final UnaryOperator<byte[]> fakeRecovery =
+                keyBytes -> Arrays.copyOfRange(keyBytes, keyBytes.length - 20, keyBytes.length);
+        final MerkleMap<EntityNum, MerkleAccount> liveAccounts = new MerkleMap<>();
+        for (int i = 1; i <= n; i++) {
+            final var account = new MerkleAccount();
+            account.setAlias(ecdsaKeyAliasEndingWith(i));
+            liveAccounts.put(EntityNum.fromInt(i), account);
+        }
+
+        subject.rebuildAliasesMap(
+                liveAccounts,
+                (BiConsumer<EntityNum, MerkleAccount>) mock(BiConsumer.class),
+                fakeRecovery);
+
+        final var finalMap = subject.getAliases();
+        assertEquals(2 * n, finalMap.size());
+        for (int i = 1; i <= n; i++) {
+            final var keyAlias = ecdsaKeyAliasEndingWith(i);
+            final var evmAddress =
+                    ByteString.copyFrom(fakeRecovery.apply(compressedKeyEndingWith(i)));
+            assertEquals(EntityNum.fromInt(i), finalMap.get(keyAlias));
+            assertEquals(EntityNum.fromInt(i), finalMap.get(evmAddress));
+        }
+    }
+
+    private static ByteString ecdsaKeyAliasEndingWith(final int i) {
+        return Key.newBuilder()
+                .setECDSASecp256K1(ByteString.copyFrom(compressedKeyEndingWith(i)))
+                .build()
+                .toByteString();
+    }
+
+    private static byte[] compressedKeyEndingWith(final int i) {
+        final var keyBytes = new byte[33];
+        keyBytes[0] = 0x02;
+        keyBytes[29] = (byte) (i >>> 24);
+        keyBytes[30] = (byte) (i >>> 16);
+        keyBytes[31] = (byte) (i >>> 8);
+        keyBytes[32] = (byte) i;
+        return keyBytes;
+    }
 }
@@ -67,23 +67,40 @@ class BackingAccountsTest {
 
         subject.rebuildFromSources();
 
-        assertTrue(idSet.contains(aKey.toGrpcAccountId()));
-        assertTrue(idSet.contains(bKey.toGrpcAccountId()));
+        assertTrue(idSet.contains(aKey.longValue()));
+        assertTrue(idSet.contains(bKey.longValue()));
 
         delegate.remove(aKey);
 
         subject.rebuildFromSources();
 
-        assertFalse(idSet.contains(aKey.toGrpcAccountId()));
-        assertTrue(idSet.contains(bKey.toGrpcAccountId()));
+        assertFalse(idSet.contains(aKey.longValue()));
+        assertTrue(idSet.contains(bKey.longValue()));
+        assertEquals(1, idSet.size());
     }
 
     @Test
-    void idSetIsDedicatedAuxiliary() {
+    void idSetIsSnapshotOfKnownAccounts() {
         final var firstIdSet = subject.idSet();
+
+        subject.remove(a);
         final var secondIdSet = subject.idSet();
 
-        assertSame(firstIdSet, secondIdSet);
+        assertEquals(Set.of(a, b), firstIdSet);
+        assertEquals(Set.of(b), secondIdSet);
+    }
+
+    @Test
+    void doesNotContainSameNumInOtherShardOrRealm() {
+        assertFalse(subject.contains(asAccount("1.0.1")));
+        assertFalse(subject.contains(asAccount("0.1.1")));
+    }
+
+    @Test
+    void removeOfOtherRealmDoesNotForgetKnownNum() {
+        subject.remove(asAccount("0.1.1"));
+
+        assertTrue(subject.getExistingAccounts().contains(1L));
     }
 
     @Test
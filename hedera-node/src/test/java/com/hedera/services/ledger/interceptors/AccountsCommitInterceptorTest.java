@@ -15,13 +15,16 @@
  */
 package com.hedera.services.ledger.interceptors;
 
+import static com.hedera.services.ledger.properties.AccountProperty.EXPIRY;
 import static com.hedera.services.ledger.properties.AccountProperty.IS_SMART_CONTRACT;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.ledger.EntityChangeSet;
 import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.validation.AccountUsageTracking;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -37,6 +40,7 @@ class AccountsCommitInterceptorTest {
 
     @Mock private AccountUsageTracking usageTracking;
     @Mock private SideEffectsTracker sideEffectsTracker;
+    @Mock private EntityExpiryIndex expiryIndex;
 
     private AccountsCommitInterceptor subject;
 
@@ -64,6 +68,22 @@ class AccountsCommitInterceptorTest {
         verifyNoInteractions(usageTracking);
     }
 
+    @Test
+    void tracksCommittedExpiriesIfIndexed() {
+        subject = new AccountsCommitInterceptor(usageTracking, sideEffectsTracker, expiryIndex);
+        final EntityChangeSet<AccountID, MerkleAccount, AccountProperty> pendingChanges =
+                new EntityChangeSet<>();
+        pendingChanges.include(idWith(1234L), null, Map.of(EXPIRY, 1_234_567L));
+        pendingChanges.include(idWith(1235L), new MerkleAccount(), Map.of(EXPIRY, 2_345_678L));
+        pendingChanges.include(idWith(1236L), new MerkleAccount(), Map.of());
+
+        subject.preview(pendingChanges);
+
+        verify(expiryIndex).track(1234L, 1_234_567L);
+        verify(expiryIndex).track(1235L, 2_345_678L);
+        verifyNoMoreInteractions(expiryIndex);
+    }
+
     private EntityChangeSet<AccountID, MerkleAccount, AccountProperty> pendingChanges(
             final boolean includeContract, final boolean includeAccounts) {
         final EntityChangeSet<AccountID, MerkleAccount, AccountProperty> pendingChanges =
@@ -32,6 +32,7 @@ import com.hedera.services.ledger.accounts.staking.StakeChangeManager;
 import com.hedera.services.ledger.accounts.staking.StakeInfoManager;
 import com.hedera.services.ledger.accounts.staking.StakePeriodManager;
 import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.validation.UsageLimits;
@@ -57,6 +58,7 @@ class StakeChangesInterceptorTest {
     @Mock private StakeInfoManager stakeInfoManager;
     @Mock private AccountNumbers accountNumbers;
     @Mock private TransactionContext txnCtx;
+    @Mock private EntityExpiryIndex expiryIndex;
     @Mock private UsageLimits usageLimits;
 
     private EntityChangeSet<AccountID, MerkleAccount, AccountProperty> changes;
@@ -76,7 +78,8 @@ class StakeChangesInterceptorTest {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageLimits);
+                        usageLimits,
+                        expiryIndex);
         given(dynamicProperties.isStakingEnabled()).willReturn(true);
     }
 
@@ -52,6 +52,7 @@ import com.hedera.services.ledger.accounts.staking.StakeChangeManager;
 import com.hedera.services.ledger.accounts.staking.StakeInfoManager;
 import com.hedera.services.ledger.accounts.staking.StakePeriodManager;
 import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.state.expiry.EntityExpiryIndex;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleStakingInfo;
@@ -78,6 +79,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class StakingAccountsCommitInterceptorTest {
     @Mock private AccountUsageTracking usageTracking;
+    @Mock private EntityExpiryIndex expiryIndex;
     @Mock private SideEffectsTracker sideEffectsTracker;
     @Mock private MerkleNetworkContext networkCtx;
     @Mock private GlobalDynamicProperties dynamicProperties;
@@ -120,7 +122,8 @@ class StakingAccountsCommitInterceptorTest {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageTracking);
+                        usageTracking,
+                        expiryIndex);
         reset();
     }
 
@@ -665,7 +668,8 @@ class StakingAccountsCommitInterceptorTest {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageTracking);
+                        usageTracking,
+                        expiryIndex);
 
         subject.preview(pendingChanges);
         verify(rewardCalculator, times(2))
@@ -720,7 +724,8 @@ class StakingAccountsCommitInterceptorTest {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageTracking);
+                        usageTracking,
+                        expiryIndex);
 
         subject.preview(pendingChanges);
         verify(rewardCalculator, times(2))
@@ -768,7 +773,8 @@ class StakingAccountsCommitInterceptorTest {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageTracking);
+                        usageTracking,
+                        expiryIndex);
 
         assertThrows(IllegalStateException.class, () -> subject.preview(pendingChanges));
     }
@@ -800,7 +806,8 @@ class StakingAccountsCommitInterceptorTest {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageTracking);
+                        usageTracking,
+                        expiryIndex);
 
         subject.getRewardsEarned()[1] = 0;
         subject.getRewardsEarned()[2] = 1;
@@ -848,7 +855,8 @@ class StakingAccountsCommitInterceptorTest {
                         stakeInfoManager,
                         accountNumbers,
                         txnCtx,
-                        usageTracking);
+                        usageTracking,
+                        expiryIndex);
 
         subject.getRewardsEarned()[0] = -1;
         subject.getRewardsEarned()[1] = -1;
@@ -15,90 +15,329 @@
  */
 package com.hedera.services.queries.token;
 
-import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_FEE;
-import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.NOT_SUPPORTED;
+import static com.hedera.test.factories.scenarios.TxnHandlingScenario.COMPLEX_KEY_ACCOUNT_KT;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hedera.test.utils.IdUtils.asToken;
+import static com.hedera.test.utils.TxnUtils.payerSponsoredTransfer;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_DELETED;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_QUERY_RANGE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.RESULT_SIZE_LIMIT_EXCEEDED;
 import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
-import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.google.protobuf.ByteString;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.hedera.services.utils.EntityNum;
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.NftID;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.QueryHeader;
 import com.hederahashgraph.api.proto.java.Response;
-import com.hederahashgraph.api.proto.java.ResponseHeader;
 import com.hederahashgraph.api.proto.java.ResponseType;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenGetAccountNftInfosQuery;
 import com.hederahashgraph.api.proto.java.TokenGetAccountNftInfosResponse;
+import com.hederahashgraph.api.proto.java.TokenNftInfo;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.swirlds.merkle.map.MerkleMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class GetAccountNftInfosAnswerTest {
-    GetAccountNftInfosAnswer subject = new GetAccountNftInfosAnswer();
-    Query query = Query.getDefaultInstance();
+    private Transaction paymentTxn;
+    private String node = "0.0.3";
+    private String payer = "0.0.12345";
+    private AccountID owner = asAccount("0.0.1234");
+    private long fee = 1_234L;
+    private long start = 1;
+    private long end = 3;
+
+    StateView view;
+    OptionValidator optionValidator;
+    MerkleMap<EntityNum, MerkleAccount> accounts;
+    MerkleAccount account;
+
+    List<TokenNftInfo> infos;
+
+    GetAccountNftInfosAnswer subject;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        infos = List.of(infoWith(1), infoWith(2));
+
+        view = mock(StateView.class);
+        optionValidator = mock(OptionValidator.class);
+        accounts = mock(MerkleMap.class);
+        account = new MerkleAccount();
+        account.setNftsOwned(10);
+
+        subject = new GetAccountNftInfosAnswer(optionValidator);
+    }
 
     @Test
-    void neverDoesOrNeedsAnything() {
-        // expect:
-        assertNull(GetAccountNftInfosAnswer.IRRELEVANT_PAYMENT_EXTRACTOR.apply(query));
-        assertNull(GetAccountNftInfosAnswer.IRRELEVANT_RESPONSE_TYPE_EXTRACTOR.apply(query));
-        assertFalse(subject.needsAnswerOnlyCost(query));
-        assertFalse(subject.requiresNodePayment(query));
-        assertFalse(subject.extractPaymentFrom(query).isPresent());
+    void getsTheInfos() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
+        given(view.infoForAccountNfts(owner, start, end)).willReturn(Optional.of(infos));
+
+        final var response = subject.responseGiven(query, view, OK, fee);
+
+        assertTrue(response.hasTokenGetAccountNftInfos());
+        final var opResponse = response.getTokenGetAccountNftInfos();
+        assertEquals(OK, opResponse.getHeader().getNodeTransactionPrecheckCode());
+        assertEquals(ANSWER_ONLY, opResponse.getHeader().getResponseType());
+        assertEquals(fee, opResponse.getHeader().getCost());
+        assertEquals(infos, opResponse.getNftsList());
     }
 
     @Test
-    void extractsValidity() {
-        // given:
-        Response response =
-                Response.newBuilder()
-                        .setTokenGetAccountNftInfos(
-                                TokenGetAccountNftInfosResponse.newBuilder()
-                                        .setHeader(
-                                                ResponseHeader.newBuilder()
-                                                        .setNodeTransactionPrecheckCode(FAIL_FEE)))
-                        .build();
+    void getsInfosFromCtxWhenAvailable() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
+        final Map<String, Object> ctx = new HashMap<>();
+        ctx.put(GetAccountNftInfosAnswer.ACCOUNT_NFT_INFOS_CTX_KEY, infos);
+
+        final var response = subject.responseGiven(query, view, OK, fee, ctx);
 
-        // expect:
-        assertEquals(FAIL_FEE, subject.extractValidityFrom(response));
+        final var opResponse = response.getTokenGetAccountNftInfos();
+        assertEquals(OK, opResponse.getHeader().getNodeTransactionPrecheckCode());
+        assertEquals(infos, opResponse.getNftsList());
+        verify(view, never()).infoForAccountNfts(any(), anyLong(), anyLong());
     }
 
     @Test
-    void respectsTypeOfUnsupportedQuery() {
-        // given:
-        Query costAnswer = getQuery(COST_ANSWER);
-        Query answerOnly = getQuery(ANSWER_ONLY);
+    void failsWithMissingCtxInfos() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
 
-        // when:
-        Response costAnswerResponse = subject.responseGiven(costAnswer, null, OK, 0L);
-        Response answerOnlyResponse = subject.responseGiven(answerOnly, null, OK, 0L);
+        final var response = subject.responseGiven(query, view, OK, fee, new HashMap<>());
 
-        // then:
         assertEquals(
-                COST_ANSWER,
-                costAnswerResponse.getTokenGetAccountNftInfos().getHeader().getResponseType());
+                INVALID_ACCOUNT_ID,
+                response.getTokenGetAccountNftInfos()
+                        .getHeader()
+                        .getNodeTransactionPrecheckCode());
+    }
+
+    @Test
+    void failsWithMissingAccount() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
+        given(view.infoForAccountNfts(owner, start, end)).willReturn(Optional.empty());
+
+        final var response = subject.responseGiven(query, view, OK, fee);
+
         assertEquals(
-                ANSWER_ONLY,
-                answerOnlyResponse.getTokenGetAccountNftInfos().getHeader().getResponseType());
-        // and:
-        assertEquals(NOT_SUPPORTED, subject.extractValidityFrom(costAnswerResponse));
-        assertEquals(NOT_SUPPORTED, subject.extractValidityFrom(answerOnlyResponse));
+                INVALID_ACCOUNT_ID,
+                response.getTokenGetAccountNftInfos()
+                        .getHeader()
+                        .getNodeTransactionPrecheckCode());
     }
 
     @Test
-    void alwaysUnsupported() {
-        // expect:
-        assertEquals(NOT_SUPPORTED, subject.checkValidity(query, null));
+    void doesNotGetInfosWithInvalidValidity() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
+
+        final var response = subject.responseGiven(query, view, INVALID_QUERY_RANGE, fee);
+
+        assertEquals(
+                INVALID_QUERY_RANGE,
+                response.getTokenGetAccountNftInfos()
+                        .getHeader()
+                        .getNodeTransactionPrecheckCode());
+        verify(view, never()).infoForAccountNfts(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void getsCostAnswerResponse() throws Throwable {
+        final var query = validQuery(COST_ANSWER, fee);
+
+        final var response = subject.responseGiven(query, view, OK, fee);
+
+        final var opResponse = response.getTokenGetAccountNftInfos();
+        assertEquals(OK, opResponse.getHeader().getNodeTransactionPrecheckCode());
+        assertEquals(COST_ANSWER, opResponse.getHeader().getResponseType());
+        assertEquals(fee, opResponse.getHeader().getCost());
+        assertEquals(0, opResponse.getNftsCount());
+    }
+
+    @Test
+    void validatesMissingAccountId() throws Throwable {
+        final var query = queryWith(ANSWER_ONLY, fee, null, start, end);
+
+        assertEquals(INVALID_ACCOUNT_ID, subject.checkValidity(query, view));
+    }
+
+    @Test
+    void validatesAccountStatus() throws Throwable {
+        givenAccounts();
+        given(optionValidator.queryableAccountStatus(owner, accounts)).willReturn(ACCOUNT_DELETED);
+
+        assertEquals(ACCOUNT_DELETED, subject.checkValidity(validQuery(ANSWER_ONLY, fee), view));
+    }
+
+    @Test
+    void validatesRangeShape() throws Throwable {
+        givenQueryableAccount();
+
+        assertEquals(
+                INVALID_QUERY_RANGE,
+                subject.checkValidity(queryWith(ANSWER_ONLY, fee, owner, -1, end), view));
+        assertEquals(
+                INVALID_QUERY_RANGE,
+                subject.checkValidity(queryWith(ANSWER_ONLY, fee, owner, end, end), view));
+    }
+
+    @Test
+    void validatesMaxRange() throws Throwable {
+        givenQueryableAccount();
+        given(optionValidator.nftMaxQueryRangeCheck(start, end)).willReturn(INVALID_QUERY_RANGE);
+
+        final var query = validQuery(ANSWER_ONLY, fee);
+
+        assertEquals(INVALID_QUERY_RANGE, subject.checkValidity(query, view));
+    }
+
+    @Test
+    void validatesRangeWithinOwnedNfts() throws Throwable {
+        givenQueryableAccount();
+        given(optionValidator.nftMaxQueryRangeCheck(start, 11)).willReturn(OK);
+        given(optionValidator.nftAccountWalkLengthCheck(11)).willReturn(OK);
+
+        final var query = queryWith(ANSWER_ONLY, fee, owner, start, 11);
+
+        assertEquals(INVALID_QUERY_RANGE, subject.checkValidity(query, view));
+    }
+
+    @Test
+    void validatesMaxLengthOfWholeWalk() throws Throwable {
+        givenQueryableAccount();
+        given(optionValidator.nftMaxQueryRangeCheck(8, 10)).willReturn(OK);
+        given(optionValidator.nftAccountWalkLengthCheck(10)).willReturn(INVALID_QUERY_RANGE);
+
+        final var query = queryWith(ANSWER_ONLY, fee, owner, 8, 10);
+
+        assertEquals(INVALID_QUERY_RANGE, subject.checkValidity(query, view));
+    }
+
+    @Test
+    void acceptsDeepPageWithinWalkLength() throws Throwable {
+        givenQueryableAccount();
+        account.setNftsOwned(1_000L);
+        given(optionValidator.nftMaxQueryRangeCheck(900, 1_000)).willReturn(OK);
+        given(optionValidator.nftAccountWalkLengthCheck(1_000)).willReturn(OK);
+
+        final var query = queryWith(ANSWER_ONLY, fee, owner, 900, 1_000);
+
+        assertEquals(OK, subject.checkValidity(query, view));
+    }
+
+    @Test
+    void acceptsValidRange() throws Throwable {
+        givenQueryableAccount();
+        given(optionValidator.nftMaxQueryRangeCheck(start, end)).willReturn(OK);
+        given(optionValidator.nftAccountWalkLengthCheck(end)).willReturn(OK);
+
+        assertEquals(OK, subject.checkValidity(validQuery(ANSWER_ONLY, fee), view));
+    }
+
+    @Test
+    void getsExpectedPayment() throws Throwable {
+        final var query = validQuery(COST_ANSWER, fee);
+
+        assertEquals(paymentTxn, subject.extractPaymentFrom(query).get().getSignedTxnWrapper());
     }
 
     @Test
     void recognizesFunction() {
-        // expect:
         assertEquals(HederaFunctionality.TokenGetAccountNftInfos, subject.canonicalFunction());
     }
 
-    private Query getQuery(ResponseType type) {
-        TokenGetAccountNftInfosQuery.Builder op = TokenGetAccountNftInfosQuery.newBuilder();
-        op.setHeader(QueryHeader.newBuilder().setResponseType(type));
+    @Test
+    void getsValidity() {
+        final var response =
+                Response.newBuilder()
+                        .setTokenGetAccountNftInfos(
+                                TokenGetAccountNftInfosResponse.newBuilder()
+                                        .setHeader(
+                                                subject.answerOnlyHeader(
+                                                        RESULT_SIZE_LIMIT_EXCEEDED)))
+                        .build();
+
+        assertEquals(RESULT_SIZE_LIMIT_EXCEEDED, subject.extractValidityFrom(response));
+    }
+
+    @Test
+    void requiresAnswerOnlyPayment() throws Throwable {
+        assertFalse(subject.requiresNodePayment(validQuery(COST_ANSWER, 0)));
+        assertTrue(subject.requiresNodePayment(validQuery(ANSWER_ONLY, 0)));
+    }
+
+    @Test
+    void requiresAnswerOnlyCostAsExpected() throws Throwable {
+        assertTrue(subject.needsAnswerOnlyCost(validQuery(COST_ANSWER, 0)));
+        assertFalse(subject.needsAnswerOnlyCost(validQuery(ANSWER_ONLY, 0)));
+    }
+
+    private void givenAccounts() {
+        given(view.accounts()).willReturn(accounts);
+    }
+
+    private void givenQueryableAccount() {
+        givenAccounts();
+        given(optionValidator.queryableAccountStatus(owner, accounts)).willReturn(OK);
+        given(accounts.get(EntityNum.fromAccountId(owner))).willReturn(account);
+    }
+
+    private TokenNftInfo infoWith(final long serialNo) {
+        return TokenNftInfo.newBuilder()
+                .setNftID(
+                        NftID.newBuilder()
+                                .setTokenID(asToken("0.0.666"))
+                                .setSerialNumber(serialNo))
+                .setCreationTime(Timestamp.newBuilder().setSeconds(1).setNanos(2))
+                .setAccountID(owner)
+                .setMetadata(ByteString.copyFromUtf8("some metadata"))
+                .build();
+    }
+
+    private Query validQuery(final ResponseType type, final long payment) throws Throwable {
+        return queryWith(type, payment, owner, start, end);
+    }
+
+    private Query queryWith(
+            final ResponseType type,
+            final long payment,
+            final AccountID target,
+            final long start,
+            final long end)
+            throws Throwable {
+        this.paymentTxn = payerSponsoredTransfer(payer, COMPLEX_KEY_ACCOUNT_KT, node, payment);
+        final var header =
+                QueryHeader.newBuilder().setPayment(this.paymentTxn).setResponseType(type);
+        final var op =
+                TokenGetAccountNftInfosQuery.newBuilder()
+                        .setHeader(header)
+                        .setStart(start)
+                        .setEnd(end);
+        if (target != null) {
+            op.setAccountID(target);
+        }
         return Query.newBuilder().setTokenGetAccountNftInfos(op).build();
     }
 }
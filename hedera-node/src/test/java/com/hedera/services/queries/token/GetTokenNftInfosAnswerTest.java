@@ -15,89 +15,297 @@
  */
 package com.hedera.services.queries.token;
 
-import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_FEE;
+import static com.hedera.test.factories.scenarios.TxnHandlingScenario.COMPLEX_KEY_ACCOUNT_KT;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hedera.test.utils.IdUtils.asToken;
+import static com.hedera.test.utils.TxnUtils.payerSponsoredTransfer;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_QUERY_RANGE;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TOKEN_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.NOT_SUPPORTED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.RESULT_SIZE_LIMIT_EXCEEDED;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.TOKEN_WAS_DELETED;
 import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.google.protobuf.ByteString;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.state.enums.TokenType;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.txns.validation.OptionValidator;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.NftID;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.QueryHeader;
 import com.hederahashgraph.api.proto.java.Response;
-import com.hederahashgraph.api.proto.java.ResponseHeader;
 import com.hederahashgraph.api.proto.java.ResponseType;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenGetNftInfosQuery;
 import com.hederahashgraph.api.proto.java.TokenGetNftInfosResponse;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenNftInfo;
+import com.hederahashgraph.api.proto.java.Transaction;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class GetTokenNftInfosAnswerTest {
-    GetTokenNftInfosAnswer subject = new GetTokenNftInfosAnswer();
-    Query query = Query.getDefaultInstance();
+    private Transaction paymentTxn;
+    private String node = "0.0.3";
+    private String payer = "0.0.12345";
+    private TokenID tokenId = asToken("0.0.666");
+    private long fee = 1_234L;
+    private long start = 1;
+    private long end = 3;
+
+    StateView view;
+    OptionValidator optionValidator;
+    MerkleToken token;
+
+    List<TokenNftInfo> infos;
+
+    GetTokenNftInfosAnswer subject;
+
+    @BeforeEach
+    void setup() {
+        infos = List.of(infoWith(2), infoWith(3));
+
+        view = mock(StateView.class);
+        optionValidator = mock(OptionValidator.class);
+        token = new MerkleToken();
+        token.setTokenType(TokenType.NON_FUNGIBLE_UNIQUE);
+        token.setLastUsedSerialNumber(10);
+
+        subject = new GetTokenNftInfosAnswer(optionValidator);
+    }
 
     @Test
-    void neverDoesOrNeedsAnything() {
-        // expect:
-        assertFalse(subject.needsAnswerOnlyCost(query));
-        assertFalse(subject.requiresNodePayment(query));
-        assertFalse(subject.extractPaymentFrom(query).isPresent());
+    void getsTheInfos() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
+        given(view.infoForTokenNfts(tokenId, start, end)).willReturn(Optional.of(infos));
+
+        final var response = subject.responseGiven(query, view, OK, fee);
+
+        assertTrue(response.hasTokenGetNftInfos());
+        final var opResponse = response.getTokenGetNftInfos();
+        assertEquals(OK, opResponse.getHeader().getNodeTransactionPrecheckCode());
+        assertEquals(ANSWER_ONLY, opResponse.getHeader().getResponseType());
+        assertEquals(fee, opResponse.getHeader().getCost());
+        assertEquals(tokenId, opResponse.getTokenId());
+        assertEquals(infos, opResponse.getNftsList());
     }
 
     @Test
-    void extractsValidity() {
-        // given:
-        Response response =
-                Response.newBuilder()
-                        .setTokenGetNftInfos(
-                                TokenGetNftInfosResponse.newBuilder()
-                                        .setHeader(
-                                                ResponseHeader.newBuilder()
-                                                        .setNodeTransactionPrecheckCode(FAIL_FEE)))
-                        .build();
+    void getsInfosFromCtxWhenAvailable() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
+        final Map<String, Object> ctx = new HashMap<>();
+        ctx.put(GetTokenNftInfosAnswer.TOKEN_NFT_INFOS_CTX_KEY, infos);
 
-        // expect:
-        assertEquals(FAIL_FEE, subject.extractValidityFrom(response));
+        final var response = subject.responseGiven(query, view, OK, fee, ctx);
+
+        final var opResponse = response.getTokenGetNftInfos();
+        assertEquals(OK, opResponse.getHeader().getNodeTransactionPrecheckCode());
+        assertEquals(tokenId, opResponse.getTokenId());
+        assertEquals(infos, opResponse.getNftsList());
+        verify(view, never()).infoForTokenNfts(any(), anyLong(), anyLong());
     }
 
     @Test
-    void respectsTypeOfUnsupportedQuery() {
-        // given:
-        Query costAnswer = getQuery(COST_ANSWER);
-        Query answerOnly = getQuery(ANSWER_ONLY);
+    void failsWithMissingCtxInfos() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
 
-        // when:
-        Response costAnswerResponse = subject.responseGiven(costAnswer, null, OK, 0L);
-        Response answerOnlyResponse = subject.responseGiven(answerOnly, null, OK, 0L);
+        final var response = subject.responseGiven(query, view, OK, fee, new HashMap<>());
 
-        // then:
         assertEquals(
-                COST_ANSWER,
-                costAnswerResponse.getTokenGetNftInfos().getHeader().getResponseType());
+                INVALID_TOKEN_ID,
+                response.getTokenGetNftInfos().getHeader().getNodeTransactionPrecheckCode());
+    }
+
+    @Test
+    void failsWithMissingToken() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
+        given(view.infoForTokenNfts(tokenId, start, end)).willReturn(Optional.empty());
+
+        final var response = subject.responseGiven(query, view, OK, fee);
+
+        assertEquals(
+                INVALID_TOKEN_ID,
+                response.getTokenGetNftInfos().getHeader().getNodeTransactionPrecheckCode());
+    }
+
+    @Test
+    void doesNotGetInfosWithInvalidValidity() throws Throwable {
+        final var query = validQuery(ANSWER_ONLY, fee);
+
+        final var response = subject.responseGiven(query, view, INVALID_QUERY_RANGE, fee);
+
         assertEquals(
-                ANSWER_ONLY,
-                answerOnlyResponse.getTokenGetNftInfos().getHeader().getResponseType());
-        // and:
-        assertEquals(NOT_SUPPORTED, subject.extractValidityFrom(costAnswerResponse));
-        assertEquals(NOT_SUPPORTED, subject.extractValidityFrom(answerOnlyResponse));
+                INVALID_QUERY_RANGE,
+                response.getTokenGetNftInfos().getHeader().getNodeTransactionPrecheckCode());
+        verify(view, never()).infoForTokenNfts(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void getsCostAnswerResponse() throws Throwable {
+        final var query = validQuery(COST_ANSWER, fee);
+
+        final var response = subject.responseGiven(query, view, OK, fee);
+
+        final var opResponse = response.getTokenGetNftInfos();
+        assertEquals(OK, opResponse.getHeader().getNodeTransactionPrecheckCode());
+        assertEquals(COST_ANSWER, opResponse.getHeader().getResponseType());
+        assertEquals(fee, opResponse.getHeader().getCost());
+        assertEquals(0, opResponse.getNftsCount());
+    }
+
+    @Test
+    void validatesMissingTokenId() throws Throwable {
+        final var query = queryWith(ANSWER_ONLY, fee, null, start, end);
+
+        assertEquals(INVALID_TOKEN_ID, subject.checkValidity(query, view));
+    }
+
+    @Test
+    void validatesTokenExists() throws Throwable {
+        given(view.tokenWith(tokenId)).willReturn(Optional.empty());
+
+        assertEquals(INVALID_TOKEN_ID, subject.checkValidity(validQuery(ANSWER_ONLY, fee), view));
     }
 
     @Test
-    void alwaysUnsupported() {
-        // expect:
-        assertEquals(NOT_SUPPORTED, subject.checkValidity(query, null));
+    void validatesTokenNotDeleted() throws Throwable {
+        token.setDeleted(true);
+        given(view.tokenWith(tokenId)).willReturn(Optional.of(token));
+
+        assertEquals(TOKEN_WAS_DELETED, subject.checkValidity(validQuery(ANSWER_ONLY, fee), view));
+    }
+
+    @Test
+    void validatesTokenIsUnique() throws Throwable {
+        token.setTokenType(TokenType.FUNGIBLE_COMMON);
+        given(view.tokenWith(tokenId)).willReturn(Optional.of(token));
+
+        assertEquals(NOT_SUPPORTED, subject.checkValidity(validQuery(ANSWER_ONLY, fee), view));
+    }
+
+    @Test
+    void validatesRangeShape() throws Throwable {
+        given(view.tokenWith(tokenId)).willReturn(Optional.of(token));
+
+        assertEquals(
+                INVALID_QUERY_RANGE,
+                subject.checkValidity(queryWith(ANSWER_ONLY, fee, tokenId, -1, end), view));
+        assertEquals(
+                INVALID_QUERY_RANGE,
+                subject.checkValidity(queryWith(ANSWER_ONLY, fee, tokenId, end, start), view));
+    }
+
+    @Test
+    void validatesMaxRange() throws Throwable {
+        given(view.tokenWith(tokenId)).willReturn(Optional.of(token));
+        given(optionValidator.nftMaxQueryRangeCheck(start, end)).willReturn(INVALID_QUERY_RANGE);
+
+        final var query = validQuery(ANSWER_ONLY, fee);
+
+        assertEquals(INVALID_QUERY_RANGE, subject.checkValidity(query, view));
+    }
+
+    @Test
+    void validatesRangeWithinMintedSerialNos() throws Throwable {
+        given(view.tokenWith(tokenId)).willReturn(Optional.of(token));
+        given(optionValidator.nftMaxQueryRangeCheck(start, 11)).willReturn(OK);
+
+        final var query = queryWith(ANSWER_ONLY, fee, tokenId, start, 11);
+
+        assertEquals(INVALID_QUERY_RANGE, subject.checkValidity(query, view));
+    }
+
+    @Test
+    void acceptsValidRange() throws Throwable {
+        given(view.tokenWith(tokenId)).willReturn(Optional.of(token));
+        given(optionValidator.nftMaxQueryRangeCheck(start, end)).willReturn(OK);
+
+        assertEquals(OK, subject.checkValidity(validQuery(ANSWER_ONLY, fee), view));
+    }
+
+    @Test
+    void getsExpectedPayment() throws Throwable {
+        final var query = validQuery(COST_ANSWER, fee);
+
+        assertEquals(paymentTxn, subject.extractPaymentFrom(query).get().getSignedTxnWrapper());
     }
 
     @Test
     void recognizesFunction() {
-        // expect:
         assertEquals(HederaFunctionality.TokenGetNftInfos, subject.canonicalFunction());
     }
 
-    private Query getQuery(ResponseType type) {
-        TokenGetNftInfosQuery.Builder op = TokenGetNftInfosQuery.newBuilder();
-        op.setHeader(QueryHeader.newBuilder().setResponseType(type));
+    @Test
+    void getsValidity() {
+        final var response =
+                Response.newBuilder()
+                        .setTokenGetNftInfos(
+                                TokenGetNftInfosResponse.newBuilder()
+                                        .setHeader(
+                                                subject.answerOnlyHeader(
+                                                        RESULT_SIZE_LIMIT_EXCEEDED)))
+                        .build();
+
+        assertEquals(RESULT_SIZE_LIMIT_EXCEEDED, subject.extractValidityFrom(response));
+    }
+
+    @Test
+    void requiresAnswerOnlyPayment() throws Throwable {
+        assertFalse(subject.requiresNodePayment(validQuery(COST_ANSWER, 0)));
+        assertTrue(subject.requiresNodePayment(validQuery(ANSWER_ONLY, 0)));
+    }
+
+    @Test
+    void requiresAnswerOnlyCostAsExpected() throws Throwable {
+        assertTrue(subject.needsAnswerOnlyCost(validQuery(COST_ANSWER, 0)));
+        assertFalse(subject.needsAnswerOnlyCost(validQuery(ANSWER_ONLY, 0)));
+    }
+
+    private TokenNftInfo infoWith(final long serialNo) {
+        return TokenNftInfo.newBuilder()
+                .setNftID(NftID.newBuilder().setTokenID(tokenId).setSerialNumber(serialNo))
+                .setCreationTime(Timestamp.newBuilder().setSeconds(1).setNanos(2))
+                .setAccountID(asAccount("0.0.1234"))
+                .setMetadata(ByteString.copyFromUtf8("some metadata"))
+                .build();
+    }
+
+    private Query validQuery(final ResponseType type, final long payment) throws Throwable {
+        return queryWith(type, payment, tokenId, start, end);
+    }
+
+    private Query queryWith(
+            final ResponseType type,
+            final long payment,
+            final TokenID target,
+            final long start,
+            final long end)
+            throws Throwable {
+        this.paymentTxn = payerSponsoredTransfer(payer, COMPLEX_KEY_ACCOUNT_KT, node, payment);
+        final var header =
+                QueryHeader.newBuilder().setPayment(this.paymentTxn).setResponseType(type);
+        final var op =
+                TokenGetNftInfosQuery.newBuilder().setHeader(header).setStart(start).setEnd(end);
+        if (target != null) {
+            op.setTokenID(target);
+        }
         return Query.newBuilder().setTokenGetNftInfos(op).build();
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.records;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hedera.test.utils.IdUtils.asAliasAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.state.submerkle.TxnId;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class TxnIdRecentHistoriesTest {
+    private final TxnIdRecentHistories subject = new TxnIdRecentHistories();
+
+    @Test
+    void grpcAndSubmerkleIdsShareHistories() {
+        final var grpcId = txnIdWith("0.0.1001", 1_234_567L, 890, false, 0);
+
+        final var history = subject.getOrCreate(grpcId);
+
+        assertSame(history, subject.getOrCreate(grpcId));
+        assertSame(history, subject.get(TxnId.fromGrpc(grpcId)));
+        assertSame(history, subject.getOrCreate(TxnId.fromGrpc(grpcId)));
+        assertTrue(subject.contains(grpcId));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void distinguishesEveryPartOfTheId() {
+        final var history = subject.getOrCreate(txnIdWith("0.0.1001", 1L, 2, false, 0));
+
+        assertNull(subject.get(txnIdWith("0.0.1002", 1L, 2, false, 0)));
+        assertNull(subject.get(txnIdWith("0.0.1001", 2L, 2, false, 0)));
+        assertNull(subject.get(txnIdWith("0.0.1001", 1L, 3, false, 0)));
+        assertNull(subject.get(txnIdWith("0.0.1001", 1L, 2, true, 0)));
+        assertNull(subject.get(txnIdWith("0.0.1001", 1L, 2, false, 1)));
+        assertNull(subject.get(txnIdWith("1.0.1001", 1L, 2, false, 0)));
+        assertSame(history, subject.get(txnIdWith("0.0.1001", 1L, 2, false, 0)));
+    }
+
+    @Test
+    void findsChildHistoriesByNonce() {
+        final var parentId = txnIdWith("0.0.1001", 1L, 2, false, 0);
+        final var childHistory = subject.getOrCreate(parentId.toBuilder().setNonce(3).build());
+
+        assertSame(childHistory, subject.getChild(parentId, 3));
+        assertNull(subject.getChild(parentId, 2));
+    }
+
+    @Test
+    void keepsUnpackableIdsInFallback() {
+        final var otherShardId = txnIdWith("1.2.1001", 1L, 2, false, 0);
+        final var hugeNumId = txnIdWith("0.0.8589934592", 1L, 2, false, 0);
+        final var negativeNanosId = txnIdWith("0.0.1001", 1L, -1, false, 0);
+
+        final var otherShardHistory = subject.getOrCreate(otherShardId);
+        final var hugeNumHistory = subject.getOrCreate(TxnId.fromGrpc(hugeNumId));
+        final var negativeNanosHistory = subject.getOrCreate(negativeNanosId);
+        final var childHistory = subject.getOrCreate(otherShardId.toBuilder().setNonce(1).build());
+
+        assertSame(otherShardHistory, subject.get(TxnId.fromGrpc(otherShardId)));
+        assertSame(hugeNumHistory, subject.get(hugeNumId));
+        assertSame(negativeNanosHistory, subject.get(negativeNanosId));
+        assertSame(childHistory, subject.getChild(otherShardId, 1));
+        assertEquals(4, subject.size());
+
+        subject.remove(TxnId.fromGrpc(otherShardId));
+        assertNull(subject.get(otherShardId));
+        assertEquals(3, subject.size());
+    }
+
+    @Test
+    void keepsIdsOfPayersDifferingOnlyByAliasApart() {
+        final var aId =
+                txnIdWith("0.0.1001", 1L, 2, false, 0).toBuilder()
+                        .setAccountID(asAliasAccount(ByteString.copyFromUtf8("a")))
+                        .build();
+        final var bId =
+                aId.toBuilder()
+                        .setAccountID(asAliasAccount(ByteString.copyFromUtf8("b")))
+                        .build();
+
+        final var aHistory = subject.getOrCreate(aId);
+        final var bHistory = subject.getOrCreate(bId);
+
+        assertNotSame(aHistory, bHistory);
+        assertSame(aHistory, subject.get(aId));
+        assertSame(bHistory, subject.get(bId));
+        assertNull(subject.get(txnIdWith("0.0.0", 1L, 2, false, 0)));
+        assertEquals(2, subject.size());
+    }
+
+    @Test
+    void keepsIdsWithZeroPayerNumInFallback() {
+        final var zeroNumId = txnIdWith("0.0.0", 1L, 2, false, 0);
+
+        final var history = subject.getOrCreate(TxnId.fromGrpc(zeroNumId));
+
+        assertSame(history, subject.get(zeroNumId));
+        subject.remove(TxnId.fromGrpc(zeroNumId));
+        assertNull(subject.get(zeroNumId));
+        assertEquals(0, subject.size());
+    }
+
+    @Test
+    void removesAndReinsertsManyIdsInAnyOrder() {
+        final var r = new Random(1_234_567L);
+        final List<TransactionID> ids = new ArrayList<>();
+        final Set<TransactionID> unique = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            final var id =
+                    txnIdWith(
+                            "0.0." + (1001 + r.nextInt(50)),
+                            1_600_000_000L + r.nextInt(180),
+                            r.nextInt(1_000),
+                            r.nextBoolean(),
+                            r.nextInt(3));
+            if (unique.add(id)) {
+                ids.add(id);
+                subject.getOrCreate(id);
+            }
+        }
+        assertEquals(ids.size(), subject.size());
+
+        for (int i = 0; i < ids.size(); i += 2) {
+            subject.remove(TxnId.fromGrpc(ids.get(i)));
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i % 2 == 1, subject.contains(ids.get(i)), "Wrong presence for #" + i);
+        }
+        assertEquals(ids.size() / 2, subject.size());
+
+        final var reinserted = subject.getOrCreate(ids.get(0));
+        assertNotNull(reinserted);
+        assertSame(reinserted, subject.get(ids.get(0)));
+    }
+
+    @Test
+    void clearAndForEachCoverAllHistories() {
+        subject.getOrCreate(txnIdWith("0.0.1001", 1L, 2, false, 0));
+        subject.getOrCreate(txnIdWith("1.2.1001", 1L, 2, false, 0));
+        final List<TxnIdRecentHistory> seen = new ArrayList<>();
+
+        subject.forEach(seen::add);
+        assertEquals(2, seen.size());
+
+        subject.clear();
+        assertEquals(0, subject.size());
+        assertFalse(subject.contains(txnIdWith("0.0.1001", 1L, 2, false, 0)));
+    }
+
+    private static TransactionID txnIdWith(
+            final String payer,
+            final long seconds,
+            final int nanos,
+            final boolean scheduled,
+            final int nonce) {
+        return TransactionID.newBuilder()
+                .setAccountID(asAccount(payer))
+                .setTransactionValidStart(
+                        Timestamp.newBuilder().setSeconds(seconds).setNanos(nanos))
+                .setScheduled(scheduled)
+                .setNonce(nonce)
+                .build();
+    }
+}
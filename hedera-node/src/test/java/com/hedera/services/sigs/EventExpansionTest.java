@@ -21,12 +21,15 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.ServicesState;
 import com.hedera.services.sigs.order.SigReqsManager;
+import com.hedera.services.sigs.verification.PrecheckVerifiedSigs;
 import com.hedera.services.txns.prefetch.PrefetchProcessor;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
@@ -35,10 +38,12 @@ import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
 import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
 import com.swirlds.common.system.transaction.Transaction;
 import com.swirlds.common.system.transaction.internal.SwirldTransaction;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -56,13 +61,23 @@ class EventExpansionTest {
     @Mock private SigReqsManager sigReqsManager;
     @Mock private ExpandHandleSpan expandHandleSpan;
     @Mock private PrefetchProcessor prefetchProcessor;
+    @Mock private PrecheckVerifiedSigs precheckVerifiedSigs;
+
+    private final long selfId = 3L;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private EventExpansion subject;
 
     @BeforeEach
     void setUp() {
-        subject = new EventExpansion(engine, sigReqsManager, expandHandleSpan, prefetchProcessor);
+        subject =
+                new EventExpansion(
+                        engine,
+                        sigReqsManager,
+                        expandHandleSpan,
+                        prefetchProcessor,
+                        precheckVerifiedSigs,
+                        selfId);
     }
 
     @Test
@@ -76,6 +91,23 @@ class EventExpansionTest {
         verify(prefetchProcessor, times(n)).submit(txnAccessor);
         verify(sigReqsManager, times(n)).expandSigs(sourceState, txnAccessor);
         verify(engine, times(n)).verifyAsync(Collections.emptyList());
+        verifyNoInteractions(precheckVerifiedSigs);
+    }
+
+    @Test
+    void onlySubmitsSigsNotVerifiedInPrecheckForSelfCreatedEvents()
+            throws InvalidProtocolBufferException {
+        final List<TransactionSignature> unverified = List.of(mock(TransactionSignature.class));
+        givenNTransactions(1);
+        given(event.getCreatorId()).willReturn(selfId);
+        given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+        given(precheckVerifiedSigs.unverifiedAmong(txnAccessor, Collections.emptyList()))
+                .willReturn(unverified);
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(sigReqsManager).expandSigs(sourceState, txnAccessor);
+        verify(engine).verifyAsync(unverified);
     }
 
     @Test
@@ -15,6 +15,10 @@
  */
 package com.hedera.services.sigs;
 
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNKNOWN;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
 import static com.hedera.services.sigs.order.CodeOrderResultFactory.CODE_ORDER_RESULT_FACTORY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.KEY_PREFIX_MISMATCH;
@@ -23,18 +27,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
 import com.hedera.services.sigs.factories.ReusableBodySigningFactory;
 import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.sigs.order.SigRequirements;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
+import com.hedera.services.sigs.verification.PrecheckVerifiedSigs;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.utils.RationalizedSigMeta;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
@@ -73,6 +81,7 @@ class RationalizationTest {
     @Mock private SigImpactHistorian sigImpactHistorian;
     @Mock private AccountID payer;
     @Mock private LinkedRefs linkedRefs;
+    @Mock private PrecheckVerifiedSigs precheckVerifiedSigs;
 
     private Transaction swirldsTxn = new SwirldTransaction();
 
@@ -80,7 +89,13 @@ class RationalizationTest {
 
     @BeforeEach
     void setUp() {
-        subject = new Rationalization(syncVerifier, sigImpactHistorian, keyOrderer, sigFactory);
+        subject =
+                new Rationalization(
+                        syncVerifier,
+                        sigImpactHistorian,
+                        keyOrderer,
+                        sigFactory,
+                        precheckVerifiedSigs);
     }
 
     @Test
@@ -129,7 +144,7 @@ class RationalizationTest {
     void doesNothingIfLinkedRefsAvailableAndUnchanged() {
         given(txnAccessor.getLinkedRefs()).willReturn(linkedRefs);
         given(txnAccessor.getExpandedSigStatus()).willReturn(KEY_PREFIX_MISMATCH);
-        given(linkedRefs.haveNoChangesAccordingTo(sigImpactHistorian)).willReturn(true);
+        given(linkedRefs.changeStatusAccordingTo(sigImpactHistorian)).willReturn(UNCHANGED);
         subject.setVerifiedSync(true);
 
         subject.performFor(txnAccessor);
@@ -137,6 +152,7 @@ class RationalizationTest {
         verifyNoMoreInteractions(txnAccessor);
         assertEquals(KEY_PREFIX_MISMATCH, subject.finalStatus());
         assertFalse(subject.usedSyncVerification());
+        assertNull(subject.fallbackCause());
     }
 
     @Test
@@ -157,16 +173,104 @@ class RationalizationTest {
 
         // then:
         assertEquals(generalError.getErrorReport(), subject.finalStatus());
+        assertEquals(UNKNOWN, subject.fallbackCause());
         // and:
         verify(txnAccessor).setSigMeta(captor.capture());
         assertSame(RationalizedSigMeta.noneAvailable(), captor.getValue());
     }
 
+    @Test
+    void reusesExpandedSigsWithSameMaterialAndOnlyVerifiesNewSigsSync() throws Exception {
+        final var data = "DATA".getBytes(StandardCharsets.UTF_8);
+        final var oldPk = "OLD_PUBLIC_KEY_OLD_PUBLIC_KEY_AB".getBytes(StandardCharsets.UTF_8);
+        final var newPk = "NEW_PUBLIC_KEY_NEW_PUBLIC_KEY_AB".getBytes(StandardCharsets.UTF_8);
+        final var otherPk = "OTHER_PUBLIC_KEY_OTHER_PUBLIC_KE".getBytes(StandardCharsets.UTF_8);
+        final var oldSig = "OLD_SIG".getBytes(StandardCharsets.UTF_8);
+        final var newSig = "NEW_SIG".getBytes(StandardCharsets.UTF_8);
+        final var otherSig = "OTHER_SIG".getBytes(StandardCharsets.UTF_8);
+        final var expandedOld = ed25519Sig(oldPk, oldSig, data);
+        final var expandedOther = ed25519Sig(otherPk, otherSig, data);
+        swirldsTxn.addAll(expandedOther, expandedOld);
+        final var rationalizedOld = ed25519Sig(oldPk, oldSig, data);
+        final var rationalizedNew = ed25519Sig(newPk, newSig, data);
+        final JKey changedPayerKey =
+                new JKeyList(List.of(new JEd25519Key(oldPk), new JEd25519Key(newPk)));
+
+        given(txnAccessor.getPlatformTxn()).willReturn(swirldsTxn);
+        given(txnAccessor.getLinkedRefs()).willReturn(linkedRefs);
+        given(linkedRefs.changeStatusAccordingTo(sigImpactHistorian)).willReturn(CHANGED);
+        given(txnAccessor.getTxn()).willReturn(txn);
+        given(txnAccessor.getPayer()).willReturn(payer);
+        given(txnAccessor.getPkToSigsFn()).willReturn(pkToSigFn);
+        given(pkToSigFn.sigBytesFor(oldPk)).willReturn(oldSig);
+        given(pkToSigFn.sigBytesFor(newPk)).willReturn(newSig);
+        given(sigFactory.signBodyWithEd25519(oldPk, oldSig)).willReturn(rationalizedOld);
+        given(sigFactory.signBodyWithEd25519(newPk, newSig)).willReturn(rationalizedNew);
+        given(keyOrderer.keysForPayer(txn, CODE_ORDER_RESULT_FACTORY, null, payer))
+                .willReturn(CODE_ORDER_RESULT_FACTORY.forValidOrder(List.of(changedPayerKey)));
+        given(keyOrderer.keysForOtherParties(txn, CODE_ORDER_RESULT_FACTORY, null, payer))
+                .willReturn(CODE_ORDER_RESULT_FACTORY.forValidOrder(List.of()));
+
+        given(precheckVerifiedSigs.unverifiedAmong(txnAccessor, List.of(rationalizedNew)))
+                .willAnswer(invocation -> invocation.getArgument(1));
+
+        subject.performFor(txnAccessor);
+
+        assertEquals(ResponseCodeEnum.OK, subject.finalStatus());
+        assertEquals(CHANGED, subject.fallbackCause());
+        assertTrue(subject.usedSyncVerification());
+        verify(syncVerifier).verifySync(List.of(rationalizedNew));
+        assertEquals(List.of(expandedOld, rationalizedNew), subject.getTxnSigs());
+        assertSame(expandedOld, subject.getTxnSigs().get(0));
+    }
+
+    @Test
+    void skipsSyncVerificationOfSigsVerifiedInPrecheck() throws Exception {
+        final var data = "DATA".getBytes(StandardCharsets.UTF_8);
+        final var oldPk = "OLD_PUBLIC_KEY_OLD_PUBLIC_KEY_AB".getBytes(StandardCharsets.UTF_8);
+        final var newPk = "NEW_PUBLIC_KEY_NEW_PUBLIC_KEY_AB".getBytes(StandardCharsets.UTF_8);
+        final var otherPk = "OTHER_PUBLIC_KEY_OTHER_PUBLIC_KE".getBytes(StandardCharsets.UTF_8);
+        final var oldSig = "OLD_SIG".getBytes(StandardCharsets.UTF_8);
+        final var newSig = "NEW_SIG".getBytes(StandardCharsets.UTF_8);
+        final var otherSig = "OTHER_SIG".getBytes(StandardCharsets.UTF_8);
+        final var expandedOld = ed25519Sig(oldPk, oldSig, data);
+        final var expandedOther = ed25519Sig(otherPk, otherSig, data);
+        swirldsTxn.addAll(expandedOther, expandedOld);
+        final var rationalizedOld = ed25519Sig(oldPk, oldSig, data);
+        final var rationalizedNew = ed25519Sig(newPk, newSig, data);
+        final JKey changedPayerKey =
+                new JKeyList(List.of(new JEd25519Key(oldPk), new JEd25519Key(newPk)));
+
+        given(txnAccessor.getPlatformTxn()).willReturn(swirldsTxn);
+        given(txnAccessor.getLinkedRefs()).willReturn(linkedRefs);
+        given(linkedRefs.changeStatusAccordingTo(sigImpactHistorian)).willReturn(CHANGED);
+        given(txnAccessor.getTxn()).willReturn(txn);
+        given(txnAccessor.getPayer()).willReturn(payer);
+        given(txnAccessor.getPkToSigsFn()).willReturn(pkToSigFn);
+        given(pkToSigFn.sigBytesFor(oldPk)).willReturn(oldSig);
+        given(pkToSigFn.sigBytesFor(newPk)).willReturn(newSig);
+        given(sigFactory.signBodyWithEd25519(oldPk, oldSig)).willReturn(rationalizedOld);
+        given(sigFactory.signBodyWithEd25519(newPk, newSig)).willReturn(rationalizedNew);
+        given(keyOrderer.keysForPayer(txn, CODE_ORDER_RESULT_FACTORY, null, payer))
+                .willReturn(CODE_ORDER_RESULT_FACTORY.forValidOrder(List.of(changedPayerKey)));
+        given(keyOrderer.keysForOtherParties(txn, CODE_ORDER_RESULT_FACTORY, null, payer))
+                .willReturn(CODE_ORDER_RESULT_FACTORY.forValidOrder(List.of()));
+
+        given(precheckVerifiedSigs.unverifiedAmong(txnAccessor, List.of(rationalizedNew)))
+                .willReturn(List.of());
+
+        subject.performFor(txnAccessor);
+
+        assertEquals(ResponseCodeEnum.OK, subject.finalStatus());
+        assertFalse(subject.usedSyncVerification());
+        verify(syncVerifier, never()).verifySync(any());
+    }
+
     @Test
     void propagatesFailureIfCouldNotExpandOthersKeys() {
         given(txnAccessor.getPlatformTxn()).willReturn(swirldsTxn);
         given(txnAccessor.getLinkedRefs()).willReturn(linkedRefs);
-        given(linkedRefs.haveNoChangesAccordingTo(sigImpactHistorian)).willReturn(true);
+        given(linkedRefs.changeStatusAccordingTo(sigImpactHistorian)).willReturn(UNCHANGED);
         ArgumentCaptor<RationalizedSigMeta> captor =
                 ArgumentCaptor.forClass(RationalizedSigMeta.class);
 
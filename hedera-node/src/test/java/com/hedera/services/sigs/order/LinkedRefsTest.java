@@ -108,6 +108,23 @@ class LinkedRefsTest {
         assertFalse(subject.haveNoChangesAccordingTo(historian));
     }
 
+    @Test
+    void reportsCauseOfFirstNonUnchangedRef() {
+        given(historian.entityStatusSince(when, 1L)).willReturn(UNCHANGED);
+        given(historian.entityStatusSince(when, 2L)).willReturn(CHANGED);
+        given(historian.aliasStatusSince(when, alias)).willReturn(UNKNOWN);
+
+        subject.setSourceSignedAt(when);
+        subject.link(1L);
+        subject.link(alias);
+
+        assertEquals(UNKNOWN, subject.changeStatusAccordingTo(historian));
+
+        subject.link(2L);
+
+        assertEquals(CHANGED, subject.changeStatusAccordingTo(historian));
+    }
+
     @Test
     void canTrackAliases() {
         final var firstAlias = ByteString.copyFromUtf8("pretend");
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.sigs.verification;
+
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static com.swirlds.common.crypto.VerificationStatus.INVALID;
+import static com.swirlds.common.crypto.VerificationStatus.UNKNOWN;
+import static com.swirlds.common.crypto.VerificationStatus.VALID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.services.utils.accessors.TxnAccessor;
+import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PrecheckVerifiedSigsTest {
+    private static final byte[] data = "DATA".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] aHash = "A_HASH".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] bHash = "B_HASH".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] aPk =
+            "A_PUBLIC_KEY_A_PUBLIC_KEY_A_PUBL".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] bPk =
+            "B_PUBLIC_KEY_B_PUBLIC_KEY_B_PUBL".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] aSig = "A_SIG".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] bSig = "B_SIG".getBytes(StandardCharsets.UTF_8);
+
+    @Mock private TxnAccessor accessor;
+    @Mock private TxnAccessor otherAccessor;
+
+    private PrecheckVerifiedSigs subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new PrecheckVerifiedSigs();
+    }
+
+    @Test
+    void remembersOnlyValidSigs() {
+        given(accessor.getHash()).willReturn(aHash);
+
+        subject.rememberValid(
+                accessor, List.of(sigWith(aPk, aSig, VALID), sigWith(bPk, bSig, INVALID)));
+
+        assertEquals(1, subject.numRemembered());
+    }
+
+    @Test
+    void ignoresEmptySigs() {
+        subject.rememberValid(accessor, List.of());
+
+        assertEquals(0, subject.numRemembered());
+        final List<TransactionSignature> none = List.of();
+        assertSame(none, subject.unverifiedAmong(accessor, none));
+    }
+
+    @Test
+    void returnsSameListIfNothingRemembered() {
+        final var sigs = List.of(sigWith(aPk, aSig, UNKNOWN));
+
+        assertSame(sigs, subject.unverifiedAmong(accessor, sigs));
+        assertEquals(UNKNOWN, sigs.get(0).getSignatureStatus());
+    }
+
+    @Test
+    void marksRememberedSigsValidAndReturnsTheRest() {
+        given(accessor.getHash()).willReturn(aHash);
+        subject.rememberValid(accessor, List.of(sigWith(bPk, bSig, VALID)));
+
+        final var unknownA = sigWith(aPk, aSig, UNKNOWN);
+        final var unknownB = sigWith(bPk, bSig, UNKNOWN);
+        final var unverified = subject.unverifiedAmong(accessor, List.of(unknownA, unknownB));
+
+        assertEquals(List.of(unknownA), unverified);
+        assertEquals(UNKNOWN, unknownA.getSignatureStatus());
+        assertEquals(VALID, unknownB.getSignatureStatus());
+    }
+
+    @Test
+    void doesNotReuseAcrossDifferentTxnsOrSigBytes() {
+        given(accessor.getHash()).willReturn(aHash);
+        given(otherAccessor.getHash()).willReturn(bHash);
+        subject.rememberValid(accessor, List.of(sigWith(aPk, aSig, VALID)));
+
+        final var sameSigOtherTxn = List.of(sigWith(aPk, aSig, UNKNOWN));
+        final var samePkOtherSig = List.of(sigWith(aPk, bSig, UNKNOWN));
+
+        assertSame(sameSigOtherTxn, subject.unverifiedAmong(otherAccessor, sameSigOtherTxn));
+        assertSame(samePkOtherSig, subject.unverifiedAmong(accessor, samePkOtherSig));
+    }
+
+    @Test
+    void boundsNumberOfRememberedSigs() {
+        subject = new PrecheckVerifiedSigs(1);
+        given(accessor.getHash()).willReturn(aHash);
+
+        subject.rememberValid(
+                accessor, List.of(sigWith(aPk, aSig, VALID), sigWith(bPk, bSig, VALID)));
+
+        assertEquals(1, subject.numRemembered());
+    }
+
+    private static TransactionSignature sigWith(
+            final byte[] pk, final byte[] sig, final VerificationStatus status) {
+        final var ans = ed25519Sig(pk, sig, data);
+        ans.setSignatureStatus(status);
+        return ans;
+    }
+}
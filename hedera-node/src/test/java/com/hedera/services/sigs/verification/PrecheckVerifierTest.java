@@ -26,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.legacy.core.jproto.JKey;
@@ -105,6 +107,7 @@ class PrecheckVerifierTest {
         mockAccessor = mock(SignedTxnAccessor.class);
         given(mockAccessor.getTxn()).willReturn(realAccessor.getTxn());
         given(mockAccessor.getTxnBytes()).willReturn(realAccessor.getTxnBytes());
+        given(mockAccessor.getHash()).willReturn(realAccessor.getHash());
         given(mockAccessor.getPkToSigsFn()).willReturn(VALID_PROVIDER_FACTORY.get());
     }
 
@@ -126,6 +129,21 @@ class PrecheckVerifierTest {
         assertTrue(hasPrechekSigs);
     }
 
+    @Test
+    void remembersValidSignaturesOnlyIfNecessarySigsPresent() throws Exception {
+        final var verifiedSigs = mock(PrecheckVerifiedSigs.class);
+        given(precheckKeyReqs.getRequiredKeys(txnBody)).willReturn(reqKeys);
+
+        subject = new PrecheckVerifier(ALWAYS_VALID, precheckKeyReqs, verifiedSigs);
+        assertTrue(subject.hasNecessarySignatures(mockAccessor));
+        verify(verifiedSigs).rememberValid(mockAccessor, expectedSigs);
+
+        given(mockAccessor.getPkToSigsFn()).willReturn(VALID_PROVIDER_FACTORY.get());
+        subject = new PrecheckVerifier(NEVER_VALID, precheckKeyReqs, verifiedSigs);
+        assertFalse(subject.hasNecessarySignatures(mockAccessor));
+        verifyNoMoreInteractions(verifiedSigs);
+    }
+
     @Test
     void rejectsInvalidSignatures() throws Exception {
         given(precheckKeyReqs.getRequiredKeys(txnBody)).willReturn(reqKeys);
@@ -18,8 +18,10 @@ package com.hedera.services.state.expiry;
 import static com.hedera.services.state.expiry.EntityProcessResult.DONE;
 import static com.hedera.services.state.expiry.EntityProcessResult.NOTHING_TO_DO;
 import static com.hedera.services.state.expiry.EntityProcessResult.STILL_MORE_TO_DO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -30,10 +32,14 @@ import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.config.MockHederaNumbers;
 import com.hedera.services.records.ConsensusTimeTracker;
+import com.hedera.services.state.expiry.classification.EntityLookup;
+import com.hedera.services.state.expiry.classification.SignedStatePreClassifier;
 import com.hedera.services.state.logic.NetworkCtxManager;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.throttling.ExpiryThrottle;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.factories.accounts.MerkleAccountFactory;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +61,10 @@ class EntityAutoExpiryTest {
     @Mock private MerkleNetworkContext networkCtx;
     @Mock private ConsensusTimeTracker consensusTimeTracker;
     @Mock private ExpiryThrottle expiryThrottle;
+    @Mock private EntityLookup lookup;
+    @Mock private SignedStatePreClassifier preClassifier;
+
+    private final EntityExpiryIndex expiryIndex = new EntityExpiryIndex();
 
     private EntityAutoExpiry subject;
 
@@ -69,7 +79,10 @@ class EntityAutoExpiryTest {
                         networkCtxManager,
                         () -> networkCtx,
                         consensusTimeTracker,
-                        () -> seqNo);
+                        () -> seqNo,
+                        expiryIndex,
+                        lookup,
+                        preClassifier);
     }
 
     @Test
@@ -82,6 +95,7 @@ class EntityAutoExpiryTest {
 
         // then:
         verifyNoInteractions(autoExpiryCycle);
+        verifyNoInteractions(preClassifier);
         verify(networkCtx).syncExpiryThrottle(expiryThrottle);
 
         // cleanup:
@@ -140,6 +154,7 @@ class EntityAutoExpiryTest {
         subject.execute(instantNow);
 
         // then:
+        verify(preClassifier).refreshIfStale(instantNow);
         verify(autoExpiryCycle).beginCycle(instantNow);
         for (long i = aNum; i < aNum + numToScan; i++) {
             verify(autoExpiryCycle).process(i);
@@ -272,6 +287,220 @@ class EntityAutoExpiryTest {
         verify(networkCtx).updateAutoRenewSummaryCounts(4, 2);
     }
 
+    @Test
+    void indexedScanOnlyVisitsAccountsConfirmedDue() {
+        final long now = instantNow.getEpochSecond();
+        final long dNum = cNum + 1;
+        properties.enableAutoRenewExpiryIndexScan();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(dNum + 1);
+        givenLastScanned(aNum - 1);
+        expiryIndex.track(aNum, now - 1);
+        expiryIndex.track(bNum, now + 100);
+        expiryIndex.track(cNum, now - 5);
+        expiryIndex.track(dNum, now - 5);
+        givenAccountWithExpiry(aNum, now - 1);
+        // The expiry of cNum was extended without the index knowing
+        givenAccountWithExpiry(cNum, now + 50);
+        // And dNum was removed
+        given(lookup.getImmutableAccount(EntityNum.fromLong(dNum))).willReturn(null);
+        given(autoExpiryCycle.process(aNum)).willReturn(NOTHING_TO_DO);
+
+        subject.execute(instantNow);
+
+        verify(autoExpiryCycle).beginCycle(instantNow);
+        verify(autoExpiryCycle).process(aNum);
+        verify(autoExpiryCycle).endCycle();
+        verifyNoMoreInteractions(autoExpiryCycle);
+        verify(networkCtx).updateLastScannedEntity(aNum);
+        verify(networkCtx).updateAutoRenewSummaryCounts(1, 0);
+        // Only aNum is still due; cNum is re-tracked at its actual expiry, and dNum forgotten
+        assertEquals(1, expiryIndex.numDue());
+        assertEquals(2, expiryIndex.numPending());
+    }
+
+    @Test
+    void indexedScanWrapsAtMostOnce() {
+        final long now = instantNow.getEpochSecond();
+        properties.enableAutoRenewExpiryIndexScan();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(cNum + 1);
+        givenLastScanned(bNum);
+        expiryIndex.track(aNum, now);
+        expiryIndex.track(cNum, now);
+        givenAccountWithExpiry(aNum, now);
+        givenAccountWithExpiry(cNum, now);
+        given(autoExpiryCycle.process(anyLong())).willReturn(NOTHING_TO_DO);
+
+        subject.execute(instantNow);
+
+        final var inOrder = inOrder(autoExpiryCycle);
+        inOrder.verify(autoExpiryCycle).process(cNum);
+        inOrder.verify(autoExpiryCycle).process(aNum);
+        inOrder.verify(autoExpiryCycle).endCycle();
+        verify(networkCtx).updateLastScannedEntity(aNum);
+        verify(networkCtx).updateAutoRenewSummaryCounts(2, 0);
+    }
+
+    @Test
+    void indexedScanRevisitsEntityWithMoreToDo() {
+        final long now = instantNow.getEpochSecond();
+        properties.enableAutoRenewExpiryIndexScan();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(cNum + 1);
+        givenLastScanned(aNum - 1);
+        expiryIndex.track(aNum, now);
+        expiryIndex.track(bNum, now);
+        givenAccountWithExpiry(aNum, now);
+        given(autoExpiryCycle.process(aNum)).willReturn(STILL_MORE_TO_DO);
+
+        subject.execute(instantNow);
+
+        verify(autoExpiryCycle, times(2)).process(aNum);
+        verify(autoExpiryCycle, never()).process(bNum);
+        verify(networkCtx).updateLastScannedEntity(aNum - 1);
+        verify(networkCtx).updateAutoRenewSummaryCounts(2, 2);
+    }
+
+    @Test
+    void indexedScanParksOrSkipsAccountsItWouldHaveNothingToDoFor() {
+        final long now = instantNow.getEpochSecond();
+        final long dNum = cNum + 1;
+        properties.enableAutoRenewExpiryIndexScan();
+        properties.disableContractAutoRenew();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(dNum + 1);
+        givenLastScanned(aNum - 1);
+        expiryIndex.track(aNum, now);
+        expiryIndex.track(bNum, now);
+        expiryIndex.track(cNum, now);
+        expiryIndex.track(dNum, now);
+        // A contract while contract auto-renew is disabled
+        given(lookup.getImmutableAccount(EntityNum.fromLong(aNum)))
+                .willReturn(
+                        MerkleAccountFactory.newAccount()
+                                .isSmartContract(true)
+                                .balance(1L)
+                                .expirationTime(now)
+                                .get());
+        // An unfunded account still in its grace period
+        givenUnfundedAccountWithExpiry(bNum, now);
+        // An unfunded treasury past its grace period
+        final var treasury =
+                MerkleAccountFactory.newAccount()
+                        .balance(0L)
+                        .expirationTime(now - properties.autoRenewGracePeriod())
+                        .get();
+        treasury.setNumTreasuryTitles(1);
+        given(lookup.getImmutableAccount(EntityNum.fromLong(cNum))).willReturn(treasury);
+        // An unfunded account past its grace period
+        givenUnfundedAccountWithExpiry(dNum, now - properties.autoRenewGracePeriod());
+        given(autoExpiryCycle.process(dNum)).willReturn(DONE);
+
+        subject.execute(instantNow);
+
+        verify(autoExpiryCycle).process(dNum);
+        verify(autoExpiryCycle, never()).process(aNum);
+        verify(autoExpiryCycle, never()).process(bNum);
+        verify(autoExpiryCycle, never()).process(cNum);
+        verify(networkCtx).updateAutoRenewSummaryCounts(1, 1);
+        // Only the contract is parked; the unfunded accounts are re-checked on every lap
+        assertEquals(1, expiryIndex.numParked());
+        assertEquals(3, expiryIndex.numDue());
+        assertEquals(bNum, expiryIndex.nextDueAfter(aNum));
+    }
+
+    @Test
+    void indexedScanVisitsSkippedTreasuryOnceItLosesItsLastToken() {
+        final long now = instantNow.getEpochSecond();
+        properties.enableAutoRenewExpiryIndexScan();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(aNum + 1);
+        givenLastScanned(aNum - 1);
+        expiryIndex.track(aNum, now);
+        final var treasury =
+                MerkleAccountFactory.newAccount()
+                        .balance(0L)
+                        .expirationTime(now - properties.autoRenewGracePeriod())
+                        .get();
+        treasury.setNumTreasuryTitles(1);
+        given(lookup.getImmutableAccount(EntityNum.fromLong(aNum))).willReturn(treasury);
+        given(autoExpiryCycle.process(aNum)).willReturn(DONE);
+
+        subject.execute(instantNow);
+        verify(autoExpiryCycle, never()).process(aNum);
+
+        // The token is deleted without the index being told about it
+        treasury.setNumTreasuryTitles(0);
+        subject.execute(instantNow);
+
+        verify(autoExpiryCycle).process(aNum);
+        assertEquals(0, expiryIndex.numParked());
+    }
+
+    @Test
+    void indexedScanVisitsAccountFundedDuringItsGracePeriod() {
+        final long now = instantNow.getEpochSecond();
+        properties.enableAutoRenewExpiryIndexScan();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(aNum + 1);
+        givenLastScanned(aNum - 1);
+        expiryIndex.track(aNum, now);
+        final var account = MerkleAccountFactory.newAccount().balance(0L).expirationTime(now).get();
+        given(lookup.getImmutableAccount(EntityNum.fromLong(aNum))).willReturn(account);
+        given(autoExpiryCycle.process(aNum)).willReturn(DONE);
+
+        subject.execute(instantNow);
+        verify(autoExpiryCycle, never()).process(aNum);
+
+        account.setBalanceUnchecked(1L);
+        subject.execute(instantNow);
+
+        verify(autoExpiryCycle).process(aNum);
+    }
+
+    @Test
+    void indexedScanUnparksEverythingWhenParkingRulesChange() {
+        final long now = instantNow.getEpochSecond();
+        properties.enableAutoRenewExpiryIndexScan();
+        properties.disableContractAutoRenew();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(aNum + 1);
+        givenLastScanned(aNum - 1);
+        expiryIndex.track(aNum, now);
+        given(lookup.getImmutableAccount(EntityNum.fromLong(aNum)))
+                .willReturn(
+                        MerkleAccountFactory.newAccount()
+                                .isSmartContract(true)
+                                .balance(1L)
+                                .expirationTime(now)
+                                .get());
+        given(autoExpiryCycle.process(aNum)).willReturn(DONE);
+
+        subject.execute(instantNow);
+        subject.execute(instantNow);
+        verify(autoExpiryCycle, never()).process(aNum);
+        assertEquals(1, expiryIndex.numParked());
+
+        properties.enableContractAutoRenew();
+        subject.execute(instantNow);
+
+        verify(autoExpiryCycle).process(aNum);
+        assertEquals(0, expiryIndex.numParked());
+    }
+
+    private void givenAccountWithExpiry(final long num, final long expiry) {
+        given(lookup.getImmutableAccount(EntityNum.fromLong(num)))
+                .willReturn(
+                        MerkleAccountFactory.newAccount().balance(1L).expirationTime(expiry).get());
+    }
+
+    private void givenUnfundedAccountWithExpiry(final long num, final long expiry) {
+        given(lookup.getImmutableAccount(EntityNum.fromLong(num)))
+                .willReturn(
+                        MerkleAccountFactory.newAccount().balance(0L).expirationTime(expiry).get());
+    }
+
     private void givenWrapNum(long num) {
         given(seqNo.current()).willReturn(num);
     }
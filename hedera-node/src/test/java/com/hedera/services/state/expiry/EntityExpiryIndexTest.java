@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry;
+
+import static com.hedera.services.state.expiry.EntityExpiryIndex.NO_DUE_NUM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class EntityExpiryIndexTest {
+    private final EntityExpiryIndex subject = new EntityExpiryIndex();
+
+    @Test
+    void onlyNumsWithPassedExpiriesBecomeDue() {
+        subject.track(1003L, 300L);
+        subject.track(1001L, 100L);
+        subject.track(1002L, 200L);
+
+        subject.advanceTo(199L);
+        assertEquals(1001L, subject.nextDueAfter(0L));
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(1001L));
+
+        subject.advanceTo(300L);
+        assertEquals(1002L, subject.nextDueAfter(1001L));
+        assertEquals(1003L, subject.nextDueAfter(1002L));
+        assertEquals(0, subject.numPending());
+        assertEquals(3, subject.numDue());
+    }
+
+    @Test
+    void retrackedAndForgottenNumsAreNoLongerDue() {
+        subject.track(1001L, 100L);
+        subject.track(1002L, 100L);
+        subject.advanceTo(100L);
+
+        subject.retrack(1001L, 500L);
+        subject.forget(1002L);
+
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(0L));
+        subject.advanceTo(499L);
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(0L));
+        subject.advanceTo(500L);
+        assertEquals(1001L, subject.nextDueAfter(0L));
+    }
+
+    @Test
+    void clampsExtremeExpiriesAndIgnoresInvalidNums() {
+        subject.track(1001L, Long.MAX_VALUE);
+        subject.track(1002L, -1L);
+        subject.track(-1L, 1L);
+        subject.track(0x1_0000_0000L, 1L);
+
+        subject.advanceTo(0L);
+        assertEquals(1002L, subject.nextDueAfter(0L));
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(1002L));
+        assertEquals(1, subject.numPending());
+
+        subject.advanceTo(Long.MAX_VALUE);
+        assertEquals(1001L, subject.nextDueAfter(0L));
+    }
+
+    @Test
+    void releasesInExpiryOrderAtScale() {
+        final var r = new Random(1_234_567L);
+        final var n = 10_000;
+        final var expiries = new long[n];
+        for (int i = 0; i < n; i++) {
+            expiries[i] = 1 + r.nextInt(1_000_000);
+            subject.track(i, expiries[i]);
+        }
+
+        for (long now = 0; now <= 1_000_000; now += 50_000) {
+            subject.advanceTo(now);
+            var expectedDue = 0;
+            for (int i = 0; i < n; i++) {
+                if (expiries[i] <= now) {
+                    expectedDue++;
+                }
+            }
+            assertEquals(expectedDue, subject.numDue());
+            assertEquals(n - expectedDue, subject.numPending());
+        }
+    }
+
+    @Test
+    void dropsStaleEntriesAndDedupesRepeatedTracks() {
+        subject.track(1001L, 100L);
+        subject.track(1001L, 100L);
+        assertEquals(1, subject.numPending());
+
+        subject.track(1001L, 300L);
+        subject.track(1001L, 200L);
+        assertEquals(3, subject.numPending());
+
+        subject.advanceTo(199L);
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(0L));
+        assertEquals(2, subject.numPending());
+
+        subject.advanceTo(200L);
+        assertEquals(1001L, subject.nextDueAfter(0L));
+        assertEquals(1, subject.numPending());
+
+        subject.retrack(1001L, 400L);
+        subject.advanceTo(300L);
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(0L));
+        assertEquals(1, subject.numPending());
+    }
+
+    @Test
+    void compactsInsteadOfGrowingWhenMostEntriesAreStale() {
+        for (int i = 0; i < 1024; i++) {
+            subject.track(1001L, 1L + i);
+        }
+        assertEquals(1024, subject.numPending());
+
+        subject.track(1002L, 5_000L);
+
+        assertEquals(2, subject.numPending());
+        subject.advanceTo(1024L);
+        assertEquals(1001L, subject.nextDueAfter(0L));
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(1001L));
+        subject.advanceTo(5_000L);
+        assertEquals(1002L, subject.nextDueAfter(1001L));
+    }
+
+    @Test
+    void parkedNumsAreDueAgainOnlyWhenUnparked() {
+        subject.track(1001L, 100L);
+        subject.track(1002L, 100L);
+        subject.track(1003L, 100L);
+        subject.advanceTo(100L);
+
+        subject.park(1001L);
+        subject.park(1002L);
+        subject.park(1003L);
+        subject.park(1004L);
+
+        assertEquals(3, subject.numParked());
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(0L));
+        subject.advanceTo(Long.MAX_VALUE);
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(0L));
+
+        subject.unparkAll();
+        assertEquals(0, subject.numParked());
+        assertEquals(3, subject.numDue());
+    }
+
+    @Test
+    void trackingAParkedNumUnparksIt() {
+        subject.track(1001L, 100L);
+        subject.advanceTo(100L);
+        subject.park(1001L);
+
+        subject.track(1001L, 200L);
+
+        assertEquals(0, subject.numParked());
+        subject.advanceTo(200L);
+        assertEquals(1001L, subject.nextDueAfter(0L));
+    }
+
+    @Test
+    void clearDropsEverything() {
+        subject.track(1001L, 100L);
+        subject.track(1002L, 200L);
+        subject.advanceTo(100L);
+        subject.park(1001L);
+
+        subject.clear();
+
+        assertEquals(0, subject.numPending());
+        assertEquals(0, subject.numDue());
+        assertEquals(0, subject.numParked());
+        assertEquals(NO_DUE_NUM, subject.nextDueAfter(0L));
+    }
+}
@@ -25,7 +25,7 @@ import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.config.MockHederaNumbers;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
-import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdRecentHistories;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.RichInstant;
@@ -37,8 +37,6 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.merkle.map.MerkleMap;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -57,12 +55,12 @@ class ExpiryManagerTest {
     private final MerkleAccount anAccount = new MerkleAccount();
 
     private MerkleMap<EntityNum, MerkleAccount> liveAccounts = new MerkleMap<>();
-    private Map<TransactionID, TxnIdRecentHistory> liveTxnHistories = new HashMap<>();
+    private TxnIdRecentHistories liveTxnHistories = new TxnIdRecentHistories();
 
     private final HederaNumbers nums = new MockHederaNumbers();
 
     @Mock private SigImpactHistorian sigImpactHistorian;
-    @Mock private Map<TransactionID, TxnIdRecentHistory> mockTxnHistories;
+    @Mock private TxnIdRecentHistories mockTxnHistories;
     @Mock private MerkleMap<EntityNum, MerkleAccount> mockAccounts;
 
     private ExpiryManager subject;
@@ -84,7 +82,7 @@ class ExpiryManagerTest {
         subject = new ExpiryManager(nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts);
         final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
         final var leftoverTxnId = recordWith(bGrpcId, now).getTxnId().toGrpc();
-        liveTxnHistories.put(leftoverTxnId, new TxnIdRecentHistory());
+        liveTxnHistories.getOrCreate(leftoverTxnId);
         anAccount.records().offer(expiring(recordWith(aGrpcId, start), firstThen));
         anAccount.records().offer(expiring(recordWith(aGrpcId, start), secondThen));
         liveAccounts.put(aKey, anAccount);
@@ -92,7 +90,7 @@ class ExpiryManagerTest {
         subject.reviewExistingPayerRecords();
 
         // then:
-        assertFalse(liveTxnHistories.containsKey(leftoverTxnId));
+        assertFalse(liveTxnHistories.contains(leftoverTxnId));
         assertEquals(firstThen, liveTxnHistories.get(newTxnId).priorityRecord().getExpiry());
         assertEquals(
                 secondThen,
@@ -107,16 +105,12 @@ class ExpiryManagerTest {
 
         final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
         addLiveRecord(aKey, firstRecord);
-        liveTxnHistories
-                .computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory())
-                .observe(firstRecord, OK);
+        liveTxnHistories.getOrCreate(newTxnId).observe(firstRecord, OK);
         subject.trackRecordInState(aGrpcId, firstThen);
 
         final var secondRecord = expiring(recordWith(aGrpcId, start), secondThen);
         addLiveRecord(aKey, secondRecord);
-        liveTxnHistories
-                .computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory())
-                .observe(secondRecord, OK);
+        liveTxnHistories.getOrCreate(newTxnId).observe(secondRecord, OK);
         subject.trackRecordInState(aGrpcId, secondThen);
 
         subject.purge(now);
@@ -133,15 +127,13 @@ class ExpiryManagerTest {
 
         final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
         addLiveRecord(aKey, firstRecord);
-        liveTxnHistories
-                .computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory())
-                .observe(firstRecord, OK);
+        liveTxnHistories.getOrCreate(newTxnId).observe(firstRecord, OK);
         subject.trackRecordInState(aGrpcId, firstThen);
 
         subject.purge(now);
 
         assertEquals(0, liveAccounts.get(aKey).records().size());
-        assertFalse(liveTxnHistories.containsKey(newTxnId));
+        assertFalse(liveTxnHistories.contains(newTxnId));
     }
 
     private void addLiveRecord(EntityNum key, ExpirableTxnRecord expirableTxnRecord) {
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockGlobalDynamicProps;
@@ -42,6 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ClassificationWorkTest {
     @Mock private MerkleMap<EntityNum, MerkleAccount> accounts;
     @Mock private ExpiryThrottle expiryThrottle;
+    @Mock private SignedStatePreClassifier preClassifier;
 
     private EntityLookup lookup;
     private ClassificationWork subject;
@@ -49,7 +51,7 @@ class ClassificationWorkTest {
     @BeforeEach
     void setUp() {
         lookup = new EntityLookup(() -> accounts);
-        subject = new ClassificationWork(dynamicProps, lookup, expiryThrottle);
+        subject = new ClassificationWork(dynamicProps, lookup, expiryThrottle, preClassifier);
     }
 
     @Test
@@ -64,6 +66,24 @@ class ClassificationWorkTest {
         assertEquals(COME_BACK_LATER, subject.classify(EntityNum.fromLong(4L), now));
     }
 
+    @Test
+    void classifiesPreClassifiedAccountWithoutLookup() {
+        given(expiryThrottle.allow(eq(CLASSIFICATION_WORK), any(Instant.class))).willReturn(true);
+        given(preClassifier.isKnownNotExpired(nonExpiredAccountNum, now.getEpochSecond()))
+                .willReturn(true);
+
+        assertEquals(OTHER, subject.classify(EntityNum.fromLong(nonExpiredAccountNum), now));
+        assertEquals(EntityNum.fromLong(nonExpiredAccountNum), subject.getLastClassifiedNum());
+        assertNull(subject.getLastClassified());
+        verifyNoInteractions(accounts);
+    }
+
+    @Test
+    void preClassificationDoesNotSkipThrottle() {
+        assertEquals(COME_BACK_LATER, subject.classify(EntityNum.fromLong(4L), now));
+        verifyNoInteractions(preClassifier);
+    }
+
     @Test
     void classifiesNonExpiredAccount() {
         given(expiryThrottle.allow(eq(CLASSIFICATION_WORK), any(Instant.class))).willReturn(true);
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry.classification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.context.StateChildren;
+import com.hedera.services.context.primitives.SignedStateViewFactory;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.factories.accounts.MerkleAccountFactory;
+import com.swirlds.merkle.map.MerkleMap;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SignedStatePreClassifierTest {
+    private static final long lookaheadSecs = 600L;
+    private static final long now = 1_234_567L;
+    private static final long soonNum = 1001L;
+    private static final long laterNum = 1002L;
+    private static final long deletedLaterNum = 1003L;
+
+    @Mock private SignedStateViewFactory stateViewFactory;
+    @Mock private StateChildren signedChildren;
+    @Mock private NodeLocalProperties properties;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private SignedStatePreClassifier subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new SignedStatePreClassifier(lookaheadSecs, stateViewFactory, submitted::add);
+    }
+
+    @Test
+    void doesNothingIfDisabled() {
+        subject = new SignedStatePreClassifier(0L, stateViewFactory, submitted::add);
+
+        subject.refreshIfStale(Instant.ofEpochSecond(now));
+
+        assertTrue(submitted.isEmpty());
+        verifyNoInteractions(stateViewFactory);
+    }
+
+    @Test
+    void injectedConstructorUsesConfiguredLookahead() {
+        given(properties.autoRenewPreClassifyLookaheadSecs()).willReturn(0L);
+
+        subject = new SignedStatePreClassifier(properties, stateViewFactory);
+        subject.refreshIfStale(Instant.ofEpochSecond(now));
+
+        verifyNoInteractions(stateViewFactory);
+    }
+
+    @Test
+    void refreshRecordsOnlyAccountsNotExpiredByHorizon() {
+        givenSignedAccounts();
+
+        subject.refreshIfStale(Instant.ofEpochSecond(now));
+        runSubmitted();
+
+        final var snapshot = subject.getSnapshot();
+        assertNotNull(snapshot);
+        assertEquals(now + lookaheadSecs, snapshot.horizon());
+        assertEquals(2, snapshot.notExpiredNums().size());
+        assertFalse(subject.isKnownNotExpired(soonNum, now));
+        assertTrue(subject.isKnownNotExpired(laterNum, now));
+        assertTrue(subject.isKnownNotExpired(deletedLaterNum, now + lookaheadSecs));
+        assertFalse(subject.isKnownNotExpired(laterNum, now + lookaheadSecs + 1));
+        assertFalse(subject.isKnownNotExpired(1234L, now));
+    }
+
+    @Test
+    void onlyRefreshesAfterHalfTheLookaheadAndNeverConcurrently() {
+        subject.refreshIfStale(Instant.ofEpochSecond(now));
+        subject.refreshIfStale(Instant.ofEpochSecond(now + lookaheadSecs));
+        assertEquals(1, submitted.size());
+
+        runSubmitted();
+        subject.refreshIfStale(Instant.ofEpochSecond(now + lookaheadSecs / 2 - 1));
+        assertTrue(submitted.isEmpty());
+
+        subject.refreshIfStale(Instant.ofEpochSecond(now + lookaheadSecs / 2));
+        assertEquals(1, submitted.size());
+    }
+
+    @Test
+    void keepsPreviousSnapshotIfNoSignedStateAvailable() {
+        givenSignedAccounts();
+        subject.refresh(now + lookaheadSecs);
+        final var snapshot = subject.getSnapshot();
+
+        given(stateViewFactory.childrenOfLatestSignedState()).willReturn(Optional.empty());
+        subject.refresh(now + 2 * lookaheadSecs);
+
+        assertSame(snapshot, subject.getSnapshot());
+    }
+
+    @Test
+    void keepsPreviousSnapshotIfSignedStateUnreadable() {
+        given(stateViewFactory.childrenOfLatestSignedState())
+                .willReturn(Optional.of(signedChildren));
+        given(signedChildren.accounts()).willThrow(IllegalStateException.class);
+
+        subject.refresh(now + lookaheadSecs);
+
+        assertNull(subject.getSnapshot());
+        assertFalse(subject.isKnownNotExpired(laterNum, now));
+    }
+
+    @Test
+    void clearDiscardsSnapshot() {
+        givenSignedAccounts();
+        subject.refresh(now + lookaheadSecs);
+
+        subject.clear();
+
+        assertNull(subject.getSnapshot());
+        assertFalse(subject.isKnownNotExpired(laterNum, now));
+    }
+
+    private void givenSignedAccounts() {
+        final var accounts = new MerkleMap<EntityNum, MerkleAccount>();
+        final var horizon = now + lookaheadSecs;
+        accounts.put(
+                EntityNum.fromLong(soonNum),
+                MerkleAccountFactory.newAccount().expirationTime(horizon).get());
+        accounts.put(
+                EntityNum.fromLong(laterNum),
+                MerkleAccountFactory.newAccount().expirationTime(horizon + 1).get());
+        accounts.put(
+                EntityNum.fromLong(deletedLaterNum),
+                MerkleAccountFactory.newAccount()
+                        .deleted(true)
+                        .expirationTime(horizon + 1)
+                        .get());
+        given(stateViewFactory.childrenOfLatestSignedState())
+                .willReturn(Optional.of(signedChildren));
+        given(signedChildren.accounts()).willReturn(accounts);
+    }
+
+    private void runSubmitted() {
+        final var tasks = new ArrayList<>(submitted);
+        submitted.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
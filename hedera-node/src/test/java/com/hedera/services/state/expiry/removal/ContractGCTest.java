@@ -19,6 +19,7 @@ import static com.hedera.services.state.expiry.removal.ContractGC.*;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -28,10 +29,11 @@ import static org.mockito.Mockito.*;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.internals.BitPackUtils;
 import com.hedera.services.state.virtual.ContractKey;
-import com.hedera.services.state.virtual.ContractStorageListMutation;
 import com.hedera.services.state.virtual.IterableContractValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.stats.ContractGCGauges;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.throttling.ExpiryThrottle;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.test.factories.accounts.MerkleAccountFactory;
@@ -40,6 +42,7 @@ import com.swirlds.virtualmap.VirtualMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -49,14 +52,21 @@ class ContractGCTest {
     @Mock private MerkleMap<EntityNum, MerkleAccount> contracts;
     @Mock private VirtualMap<ContractKey, IterableContractValue> storage;
     @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> bytecode;
-    @Mock private ContractGC.RemovalFacilitation removalFacilitation;
+    @Mock private MiscSpeedometers speedometers;
+    @Mock private ContractGCGauges gauges;
 
     private ContractGC subject;
 
     @BeforeEach
     void setUp() {
-        subject = new ContractGC(expiryThrottle, () -> contracts, () -> storage, () -> bytecode);
-        subject.setRemovalFacilitation(removalFacilitation);
+        subject =
+                new ContractGC(
+                        expiryThrottle,
+                        () -> contracts,
+                        () -> storage,
+                        () -> bytecode,
+                        speedometers,
+                        gauges);
     }
 
     @Test
@@ -81,18 +91,7 @@ class ContractGCTest {
         given(expiryThrottle.allow(BYTECODE_REMOVAL_WORK)).willReturn(false);
         given(expiryThrottle.allow(NEXT_SLOT_REMOVAL_WORK)).willReturn(true);
         given(expiryThrottle.allow(ONLY_SLOT_REMOVAL_WORK)).willReturn(true);
-        given(
-                        removalFacilitation.removeNext(
-                                eq(rootKey), eq(rootKey), any(ContractStorageListMutation.class)))
-                .willReturn(interKey);
-        given(
-                        removalFacilitation.removeNext(
-                                eq(interKey), eq(interKey), any(ContractStorageListMutation.class)))
-                .willReturn(tailKey);
-        given(
-                        removalFacilitation.removeNext(
-                                eq(tailKey), eq(tailKey), any(ContractStorageListMutation.class)))
-                .willReturn(null);
+        givenStorageList();
 
         final var done = subject.expireBestEffort(contractNum, contractSomeKvPairs);
 
@@ -108,23 +107,20 @@ class ContractGCTest {
         given(expiryThrottle.allow(BYTECODE_REMOVAL_WORK)).willReturn(true);
         given(expiryThrottle.allow(NEXT_SLOT_REMOVAL_WORK)).willReturn(true);
         given(expiryThrottle.allow(ONLY_SLOT_REMOVAL_WORK)).willReturn(true);
-        given(
-                        removalFacilitation.removeNext(
-                                eq(rootKey), eq(rootKey), any(ContractStorageListMutation.class)))
-                .willReturn(interKey);
-        given(
-                        removalFacilitation.removeNext(
-                                eq(interKey), eq(interKey), any(ContractStorageListMutation.class)))
-                .willReturn(tailKey);
-        given(
-                        removalFacilitation.removeNext(
-                                eq(tailKey), eq(tailKey), any(ContractStorageListMutation.class)))
-                .willReturn(null);
+        givenStorageList();
 
         final var done = subject.expireBestEffort(contractNum, contractSomeKvPairs);
 
         assertTrue(done);
         assertEquals(0, contractSomeKvPairs.getNumContractKvPairs());
+        verify(expiryThrottle).allow(NEXT_SLOT_REMOVAL_WORK);
+        verify(expiryThrottle, times(2)).allow(ONLY_SLOT_REMOVAL_WORK);
+        verify(storage, never()).get(any());
+        verify(storage, never()).put(any(), any());
+        verify(speedometers).cycleExpiredContractSlotRemovals(3);
+        verify(gauges).updateSlotsLeft(0);
+        verify(gauges).updateLinksOutOfOrder(0, 2);
+        verify(bytecode).remove(bytecodeKey);
     }
 
     @Test
@@ -132,20 +128,65 @@ class ContractGCTest {
         given(contracts.getForModify(contractNum)).willReturn(contractSomeKvPairs);
         given(expiryThrottle.allow(ROOT_KEY_UPDATE_WORK)).willReturn(true);
         given(expiryThrottle.allow(NEXT_SLOT_REMOVAL_WORK)).willReturn(true);
-        given(expiryThrottle.allow(ONLY_SLOT_REMOVAL_WORK)).willReturn(false);
-        given(
-                        removalFacilitation.removeNext(
-                                eq(rootKey), eq(rootKey), any(ContractStorageListMutation.class)))
-                .willReturn(interKey);
-        given(
-                        removalFacilitation.removeNext(
-                                eq(interKey), eq(interKey), any(ContractStorageListMutation.class)))
-                .willReturn(tailKey);
+        given(expiryThrottle.allow(ONLY_SLOT_REMOVAL_WORK)).willReturn(true).willReturn(false);
+        givenStorageList();
+        given(storage.get(tailKey)).willReturn(tailValue);
+        final var captor = ArgumentCaptor.forClass(IterableContractValue.class);
 
         final var done = subject.expireBestEffort(contractNum, contractSomeKvPairs);
 
         assertFalse(done);
         assertEquals(1, contractSomeKvPairs.getNumContractKvPairs());
+        assertEquals(tailKey, contractSomeKvPairs.getFirstContractStorageKey());
+        verify(storage, never()).remove(tailKey);
+        verify(storage).put(eq(tailKey), captor.capture());
+        assertNull(captor.getValue().getPrevKeyScopedTo(contractNum.longValue()));
+        verify(speedometers).cycleExpiredContractSlotRemovals(2);
+        verify(gauges).updateSlotsLeft(1);
+        verify(gauges).updateLinksOutOfOrder(0, 2);
+        verify(bytecode, never()).remove(bytecodeKey);
+    }
+
+    @Test
+    void gaugesLinksThatPointToLowerKeys() {
+        given(contracts.getForModify(contractNum)).willReturn(contractSomeKvPairs);
+        given(expiryThrottle.allow(ROOT_KEY_UPDATE_WORK)).willReturn(true);
+        given(expiryThrottle.allow(BYTECODE_REMOVAL_WORK)).willReturn(true);
+        given(expiryThrottle.allow(NEXT_SLOT_REMOVAL_WORK)).willReturn(true);
+        given(expiryThrottle.allow(ONLY_SLOT_REMOVAL_WORK)).willReturn(true);
+        given(storage.remove(rootKey))
+                .willReturn(new IterableContractValue(someValue, null, tailUint256Key));
+        given(storage.remove(tailKey))
+                .willReturn(new IterableContractValue(someValue, rootUint256Key, interUint256Key));
+        given(storage.remove(interKey))
+                .willReturn(new IterableContractValue(someValue, tailUint256Key, null));
+
+        final var done = subject.expireBestEffort(contractNum, contractSomeKvPairs);
+
+        assertTrue(done);
+        verify(gauges).updateSlotsLeft(0);
+        verify(gauges).updateLinksOutOfOrder(1, 2);
+    }
+
+    @Test
+    void onlySlotNeedsNoRootUpdateCapacity() {
+        final var contractOneKvPair =
+                MerkleAccountFactory.newContract()
+                        .balance(0)
+                        .number(contractNum)
+                        .numKvPairs(1)
+                        .firstContractKey(tailUint256Key)
+                        .get();
+        given(contracts.getForModify(contractNum)).willReturn(contractOneKvPair);
+        given(expiryThrottle.allow(ROOT_KEY_UPDATE_WORK)).willReturn(true);
+        given(expiryThrottle.allow(ONLY_SLOT_REMOVAL_WORK)).willReturn(true);
+        given(storage.remove(tailKey)).willReturn(new IterableContractValue(1L));
+
+        final var done = subject.expireBestEffort(contractNum, contractOneKvPair);
+
+        assertFalse(done);
+        assertEquals(0, contractOneKvPair.getNumContractKvPairs());
+        verify(expiryThrottle, never()).allow(NEXT_SLOT_REMOVAL_WORK);
     }
 
     @Test
@@ -159,6 +200,14 @@ class ContractGCTest {
         verify(expiryThrottle).reclaimLastAllowedUse();
     }
 
+    private void givenStorageList() {
+        given(storage.remove(rootKey))
+                .willReturn(new IterableContractValue(someValue, null, interUint256Key));
+        given(storage.remove(interKey))
+                .willReturn(new IterableContractValue(someValue, rootUint256Key, tailUint256Key));
+        lenient().when(storage.remove(tailKey)).thenReturn(tailValue);
+    }
+
     private static ContractKey asKey(final int[] uint256Key) {
         return new ContractKey(BitPackUtils.numFromCode(contractNum.intValue()), uint256Key);
     }
@@ -169,9 +218,12 @@ class ContractGCTest {
     private static final int[] rootUint256Key = new int[] {1, 2, 3, 4, 5, 6, 7, 8};
     private static final int[] interUint256Key = new int[] {2, 3, 4, 5, 6, 7, 8, 9};
     private static final int[] tailUint256Key = new int[] {3, 4, 5, 6, 7, 8, 9, 10};
+    private static final byte[] someValue = new byte[32];
     private static final ContractKey rootKey = asKey(rootUint256Key);
     private static final ContractKey interKey = asKey(interUint256Key);
     private static final ContractKey tailKey = asKey(tailUint256Key);
+    private final IterableContractValue tailValue =
+            new IterableContractValue(someValue, interUint256Key, null);
     private final MerkleAccount contractSomeKvPairs =
             MerkleAccountFactory.newContract()
                     .balance(0)
@@ -29,6 +29,7 @@ import com.hedera.services.state.expiry.EntityProcessResult;
 import com.hedera.services.state.expiry.ExpiryRecordsHelper;
 import com.hedera.services.state.expiry.classification.ClassificationWork;
 import com.hedera.services.state.expiry.classification.EntityLookup;
+import com.hedera.services.state.expiry.classification.SignedStatePreClassifier;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.throttling.ExpiryThrottle;
@@ -60,6 +61,7 @@ class RemovalHelperTest {
     @Mock private AccountGC accountGC;
     @Mock private ExpiryRecordsHelper recordsHelper;
     @Mock private ExpiryThrottle expiryThrottle;
+    @Mock private SignedStatePreClassifier preClassifier;
 
     private EntityLookup lookup;
     private ClassificationWork classifier;
@@ -71,7 +73,8 @@ class RemovalHelperTest {
         accounts.put(EntityNum.fromLong(expiredDeletedAccountNum), expiredDeletedAccount);
         accounts.put(EntityNum.fromLong(expiredDeletedContractNum), expiredDeletedContract);
         lookup = new EntityLookup(() -> accounts);
-        classifier = new ClassificationWork(properties, lookup, expiryThrottle);
+        classifier =
+                new ClassificationWork(properties, lookup, expiryThrottle, preClassifier);
 
         subject = new RemovalHelper(classifier, properties, contractGC, accountGC, recordsHelper);
     }
@@ -33,6 +33,7 @@ import com.hedera.services.state.expiry.EntityProcessResult;
 import com.hedera.services.state.expiry.ExpiryRecordsHelper;
 import com.hedera.services.state.expiry.classification.ClassificationWork;
 import com.hedera.services.state.expiry.classification.EntityLookup;
+import com.hedera.services.state.expiry.classification.SignedStatePreClassifier;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.throttling.ExpiryThrottle;
 import com.hedera.services.utils.EntityNum;
@@ -52,6 +53,7 @@ class RenewalHelperTest {
     @Mock private FeeCalculator fees;
     @Mock private ExpiryRecordsHelper recordsHelper;
     @Mock private ExpiryThrottle expiryThrottle;
+    @Mock private SignedStatePreClassifier preClassifier;
 
     private EntityLookup lookup;
     private ClassificationWork classificationWork;
@@ -60,7 +62,8 @@ class RenewalHelperTest {
     @BeforeEach
     void setUp() {
         lookup = new EntityLookup(() -> accounts);
-        classificationWork = new ClassificationWork(properties, lookup, expiryThrottle);
+        classificationWork =
+                new ClassificationWork(properties, lookup, expiryThrottle, preClassifier);
         subject =
                 new RenewalHelper(
                         lookup,
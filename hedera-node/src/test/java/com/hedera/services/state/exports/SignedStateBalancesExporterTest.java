@@ -24,6 +24,7 @@ import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.IdUtils.asToken;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -33,6 +34,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.services.ServicesState;
 import com.hedera.services.config.MockGlobalDynamicProps;
@@ -66,6 +68,8 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -292,6 +296,69 @@ class SignedStateBalancesExporterTest {
         new File(loc).delete();
     }
 
+    @Test
+    void streamsSameBalancesFileAndSignsItsRunningHash() throws Exception {
+        final var loc = expectedExportLoc();
+        given(hashReader.readHash(loc)).willReturn(fileHash);
+        subject.exportBalancesFrom(state, now, nodeId);
+        final var bufferedBytes = Files.readAllBytes(Path.of(loc));
+        new File(loc).delete();
+
+        final var streamingSubject = streamingSubject();
+        final var streamingHashReader = mock(FileHashReader.class);
+        streamingSubject.hashReader = streamingHashReader;
+        final var expectedHash = sha384Of(bufferedBytes);
+        given(signer.apply(expectedHash)).willReturn(sig);
+        given(sigFileWriter.writeSigFile(loc, sig, expectedHash)).willReturn(loc + "_sig");
+
+        streamingSubject.exportBalancesFrom(state, now, nodeId);
+        final var streamedBytes = Files.readAllBytes(Path.of(loc));
+
+        assertArrayEquals(bufferedBytes, streamedBytes);
+        assertEquals(
+                theExpectedBalances(), importBalanceProtoFile(loc).get().getAllAccountsList());
+        verify(sigFileWriter).writeSigFile(loc, sig, expectedHash);
+        verifyNoInteractions(streamingHashReader);
+
+        new File(loc).delete();
+    }
+
+    @Test
+    void streamingExportRemovesFileAndExitsOnUnexpectedTotalFloat()
+            throws NegativeAccountBalanceException {
+        final var loc = expectedExportLoc();
+        final var mutableAnotherNodeAccount = accounts.getForModify(fromAccountId(anotherNode));
+        final var desiredSuffix = "had total balance 1001 not 1000; exiting";
+        mutableAnotherNodeAccount.setBalance(anotherNodeBalance + 1);
+        subject = streamingSubject();
+
+        subject.exportBalancesFrom(state, now, nodeId);
+
+        assertThat(logCaptor.errorLogs(), contains(Matchers.endsWith(desiredSuffix)));
+        verify(systemExits).fail(1);
+        verifyNoInteractions(sigFileWriter);
+        assertFalse(new File(loc).exists());
+    }
+
+    private SignedStateBalancesExporter streamingSubject() {
+        final var streamingProperties =
+                new MockGlobalDynamicProps() {
+                    @Override
+                    public boolean shouldStreamBalancesExport() {
+                        return true;
+                    }
+                };
+        final var streamingSubject =
+                new SignedStateBalancesExporter(
+                        systemExits, properties, signer, streamingProperties);
+        streamingSubject.sigFileWriter = sigFileWriter;
+        return streamingSubject;
+    }
+
+    private static byte[] sha384Of(final byte[] data) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-384").digest(data);
+    }
+
     @Test
     void protoWriteIoException() {
         final var otherDynamicProperties =
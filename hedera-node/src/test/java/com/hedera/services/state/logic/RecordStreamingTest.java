@@ -19,7 +19,6 @@ import static com.hedera.services.state.logic.RecordStreaming.PENDING_USER_TXN_B
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
-import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 import com.hedera.services.records.RecordsHistorian;
 import com.hedera.services.stream.NonBlockingHandoff;
@@ -67,22 +66,17 @@ class RecordStreamingTest {
                 .willReturn(List.of(firstPrecedingChildRso));
         given(recordsHistorian.hasFollowingChildRecords()).willReturn(true);
         given(recordsHistorian.getTopLevelRecord()).willReturn(topLevelRso);
-        given(nonBlockingHandoff.offer(topLevelRso)).willReturn(true);
         given(recordsHistorian.getFollowingChildRecords())
                 .willReturn(List.of(firstFollowingChildRso, secondFollowingChildRso));
-        given(nonBlockingHandoff.offer(firstPrecedingChildRso)).willReturn(true);
-        given(nonBlockingHandoff.offer(firstFollowingChildRso)).willReturn(true);
-        given(nonBlockingHandoff.offer(secondFollowingChildRso)).willReturn(true);
-        given(nonBlockingHandoff.offer(systemRso)).willReturn(true);
 
         subject.streamUserTxnRecords();
         subject.streamSystemRecord(systemRso);
 
-        verify(nonBlockingHandoff).offer(firstPrecedingChildRso);
-        verify(nonBlockingHandoff).offer(firstFollowingChildRso);
-        verify(nonBlockingHandoff).offer(topLevelRso);
-        verify(nonBlockingHandoff).offer(secondFollowingChildRso);
-        verify(nonBlockingHandoff).offer(systemRso);
+        verify(nonBlockingHandoff).put(firstPrecedingChildRso);
+        verify(nonBlockingHandoff).put(firstFollowingChildRso);
+        verify(nonBlockingHandoff).put(topLevelRso);
+        verify(nonBlockingHandoff).put(secondFollowingChildRso);
+        verify(nonBlockingHandoff).put(systemRso);
         verify(blockManager).updateCurrentBlockHash(mockUserHash);
         verify(blockManager).updateCurrentBlockHash(mockSystemHash);
     }
@@ -93,11 +87,10 @@ class RecordStreamingTest {
         givenAlignable(topLevelRso);
 
         given(recordsHistorian.getTopLevelRecord()).willReturn(topLevelRso);
-        given(nonBlockingHandoff.offer(topLevelRso)).willReturn(false).willReturn(true);
 
         subject.streamUserTxnRecords();
 
-        verify(nonBlockingHandoff, times(2)).offer(topLevelRso);
+        verify(nonBlockingHandoff).put(topLevelRso);
         verify(blockManager).updateCurrentBlockHash(mockUserHash);
 
         subject.resetBlockNo();
@@ -110,11 +103,10 @@ class RecordStreamingTest {
         given(blockManager.getAlignmentBlockNumber()).willReturn(someBlockNo);
         givenAlignable(systemRso);
         given(systemRso.getRunningHash()).willReturn(mockSystemHash);
-        given(nonBlockingHandoff.offer(systemRso)).willReturn(true);
 
         subject.streamSystemRecord(systemRso);
 
-        verify(nonBlockingHandoff).offer(systemRso);
+        verify(nonBlockingHandoff).put(systemRso);
         verify(blockManager).updateCurrentBlockHash(mockSystemHash);
     }
 
@@ -15,17 +15,21 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.TRANSITION;
 import static com.hedera.services.txns.auth.SystemOpAuthorization.IMPERMISSIBLE;
 import static com.hedera.services.txns.auth.SystemOpAuthorization.UNNECESSARY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.AUTHORIZATION_FAILED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.domain.security.HapiOpPermissions;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.txns.TransitionRunner;
 import com.hedera.services.txns.auth.SystemOpPolicies;
 import com.hedera.services.utils.accessors.TxnAccessor;
@@ -46,6 +50,7 @@ class RequestedTransitionTest {
     @Mock private AccountID payer;
     @Mock private TxnAccessor accessor;
     @Mock private HapiOpPermissions hapiOpPermissions;
+    @Mock private HandlePhaseLatencies handlePhaseLatencies;
 
     private RequestedTransition subject;
 
@@ -53,7 +58,12 @@ class RequestedTransitionTest {
     void setUp() {
         subject =
                 new RequestedTransition(
-                        transitionRunner, opPolicies, txnCtx, networkCtxManager, hapiOpPermissions);
+                        transitionRunner,
+                        opPolicies,
+                        txnCtx,
+                        networkCtxManager,
+                        hapiOpPermissions,
+                        handlePhaseLatencies);
     }
 
     @Test
@@ -102,6 +112,8 @@ class RequestedTransitionTest {
         // then:
         verify(transitionRunner).tryTransition(accessor);
         verify(networkCtxManager).finishIncorporating(HederaFunctionality.CryptoTransfer);
+        verify(handlePhaseLatencies)
+                .recordSince(eq(TRANSITION), eq(HederaFunctionality.CryptoTransfer), anyLong());
     }
 
     @Test
@@ -15,9 +15,13 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.LEDGER_COMMIT;
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.RECORD_STREAMING;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
@@ -33,6 +37,7 @@ import com.hedera.services.ledger.accounts.staking.RewardCalculator;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.RecordsHistorian;
 import com.hedera.services.state.migration.MigrationRecordsManager;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
 import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
@@ -69,6 +74,7 @@ class ServicesTxnManagerTest {
     @Mock private RecordStreaming recordStreaming;
     @Mock private BlockManager blockManager;
     @Mock private RewardCalculator rewardCalculator;
+    @Mock private HandlePhaseLatencies handlePhaseLatencies;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private ServicesTxnManager subject;
@@ -87,7 +93,8 @@ class ServicesTxnManagerTest {
                         migrationRecordsManager,
                         recordStreaming,
                         blockManager,
-                        rewardCalculator);
+                        rewardCalculator,
+                        handlePhaseLatencies);
     }
 
     @Test
@@ -101,7 +108,9 @@ class ServicesTxnManagerTest {
                         recordStreaming,
                         recordsHistorian,
                         sigImpactHistorian,
-                        migrationRecordsManager);
+                        migrationRecordsManager,
+                        handlePhaseLatencies);
+        given(accessor.getFunction()).willReturn(CryptoTransfer);
 
         // when:
         subject.process(accessor, consensusTime, submittingMember);
@@ -114,7 +123,11 @@ class ServicesTxnManagerTest {
         inOrder.verify(migrationRecordsManager).publishMigrationRecords(consensusTime);
         inOrder.verify(processLogic).run();
         inOrder.verify(ledger).commit();
+        inOrder.verify(handlePhaseLatencies)
+                .recordSince(eq(LEDGER_COMMIT), eq(CryptoTransfer), anyLong());
         inOrder.verify(recordStreaming).streamUserTxnRecords();
+        inOrder.verify(handlePhaseLatencies)
+                .recordSince(eq(RECORD_STREAMING), eq(CryptoTransfer), anyLong());
     }
 
     @Test
@@ -15,6 +15,8 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNKNOWN;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -117,6 +119,26 @@ class SigsAndPayerKeyScreenTest {
         verify(speedometers).cycleSyncVerifications();
     }
 
+    @Test
+    void cyclesChangedRefsFallbackWhenReported() {
+        givenOkRationalization();
+        given(rationalization.fallbackCause()).willReturn(CHANGED);
+
+        subject.applyTo(accessor);
+
+        verify(speedometers).cycleChangedRefsRationalizations();
+    }
+
+    @Test
+    void cyclesUnknownRefsFallbackWhenReported() {
+        givenOkRationalization();
+        given(rationalization.fallbackCause()).willReturn(UNKNOWN);
+
+        subject.applyTo(accessor);
+
+        verify(speedometers).cycleUnknownRefsRationalizations();
+    }
+
     @Test
     void doesntCyclesAsyncAnymore() {
         givenOkRationalization();
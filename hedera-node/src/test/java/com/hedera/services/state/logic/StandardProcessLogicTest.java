@@ -36,6 +36,7 @@ import com.hedera.services.records.ConsensusTimeTracker;
 import com.hedera.services.state.expiry.EntityAutoExpiry;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.stats.ExecutionTimeTracker;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.txns.schedule.ScheduleProcessing;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
@@ -76,6 +77,7 @@ class StandardProcessLogicTest {
     @Mock private RecordStreaming recordStreaming;
     @Mock private ScheduleProcessing scheduleProcessing;
     @Mock private StateView workingView;
+    @Mock private HandlePhaseLatencies handlePhaseLatencies;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private StandardProcessLogic subject;
@@ -97,7 +99,8 @@ class StandardProcessLogicTest {
                         scheduleProcessing,
                         executionTimeTracker,
                         recordStreaming,
-                        workingView);
+                        workingView,
+                        handlePhaseLatencies);
     }
 
     @Test
@@ -15,8 +15,13 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.SIG_SCREEN;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SIGNATURE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -24,6 +29,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.fees.charging.TxnChargingPolicyAgent;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,6 +52,7 @@ class TopLevelTransitionTest {
     @Mock private SigsAndPayerKeyScreen sigsAndPayerKeyScreen;
     @Mock private NonPayerKeysScreen nonPayerKeysScreen;
     @Mock private NetworkUtilization networkUtilization;
+    @Mock private HandlePhaseLatencies handlePhaseLatencies;
 
     private TopLevelTransition subject;
 
@@ -59,7 +66,8 @@ class TopLevelTransitionTest {
                         txnCtx,
                         nonPayerKeysScreen,
                         networkUtilization,
-                        chargingPolicyAgent);
+                        chargingPolicyAgent,
+                        handlePhaseLatencies);
     }
 
     @Test
@@ -86,9 +94,11 @@ class TopLevelTransitionTest {
                         chargingPolicyAgent,
                         networkUtilization,
                         nonPayerKeysScreen,
-                        requestedTransition);
+                        requestedTransition,
+                        handlePhaseLatencies);
 
         given(txnCtx.swirldsTxnAccessor()).willReturn(accessor);
+        given(accessor.getFunction()).willReturn(CryptoTransfer);
         given(txnCtx.consensusTime()).willReturn(consensusNow);
         given(sigsAndPayerKeyScreen.applyTo(accessor)).willReturn(OK);
         given(chargingPolicyAgent.applyPolicyFor(accessor)).willReturn(true);
@@ -100,8 +110,12 @@ class TopLevelTransitionTest {
         // then:
         inOrder.verify(networkCtxManager).advanceConsensusClockTo(consensusNow);
         inOrder.verify(sigsAndPayerKeyScreen).applyTo(accessor);
+        inOrder.verify(handlePhaseLatencies)
+                .recordSince(eq(SIG_SCREEN), eq(CryptoTransfer), anyLong());
         inOrder.verify(networkUtilization).trackUserTxn(accessor, consensusNow);
         inOrder.verify(chargingPolicyAgent).applyPolicyFor(accessor);
+        inOrder.verify(handlePhaseLatencies)
+                .recordSince(eq(FEE_CHARGING), eq(CryptoTransfer), anyLong());
         inOrder.verify(nonPayerKeysScreen).reqKeysAreActiveGiven(OK);
         inOrder.verify(networkUtilization).screenForAvailableCapacity();
         inOrder.verify(requestedTransition).finishFor(accessor);
@@ -33,6 +33,7 @@ import com.hedera.services.fees.charging.FeeChargingPolicy;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
 import com.hedera.test.utils.IdUtils;
@@ -63,6 +64,7 @@ class TriggeredTransitionTest {
     @Mock private NetworkUtilization networkUtilization;
     @Mock private ScheduleStore scheduleStore;
     @Mock private SigImpactHistorian sigImpactHistorian;
+    @Mock private HandlePhaseLatencies handlePhaseLatencies;
 
     private TriggeredTransition subject;
 
@@ -78,7 +80,8 @@ class TriggeredTransitionTest {
                         networkCtxManager,
                         requestedTransition,
                         scheduleStore,
-                        networkUtilization);
+                        networkUtilization,
+                        handlePhaseLatencies);
     }
 
     @Test
@@ -15,16 +15,25 @@
  */
 package com.hedera.services.state.virtual;
 
+import static com.hedera.services.state.virtual.IterableStorageUtils.batchRemoveMappings;
+import static com.hedera.services.state.virtual.IterableStorageUtils.batchUpsertMappings;
 import static com.hedera.services.state.virtual.IterableStorageUtils.inPlaceUpsertMapping;
 import static com.hedera.services.state.virtual.IterableStorageUtils.overwritingUpsertMapping;
 import static com.hedera.services.state.virtual.IterableStorageUtils.removeMapping;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.services.state.merkle.MerkleUniqueToken;
@@ -33,7 +42,11 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.common.utility.CommonUtils;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -219,6 +232,247 @@ class IterableStorageUtilsTest {
         verify(storage, never()).getForModify(rootKey);
     }
 
+    @Test
+    void batchUpsertToEmptyListMatchesSequentialUpserts() {
+        final var batchMap = givenMapBackedStorage();
+        final var keys = contractKeys(0, 3);
+
+        final var newRoot = batchUpsertMappings(keys, valuesFor(keys, 1), null, storage);
+        final var expected = new HashMap<ContractKey, IterableContractValue>();
+        final var expectedRoot = sequentiallyUpserted(keys, valuesFor(keys, 1), null, expected);
+
+        assertEquals(expectedRoot, newRoot);
+        assertEquals(expected, batchMap);
+    }
+
+    @Test
+    void batchUpsertSplicesNewKeysWithOneRootUpdate() {
+        final var batchMap = givenMapBackedStorage();
+        final var extantKeys = contractKeys(0, 4);
+        final var root = sequentiallyUpserted(extantKeys, valuesFor(extantKeys, 1), null, batchMap);
+        final var expected = copyOf(batchMap);
+        // Mixes updates of extant keys (including the root) with new keys
+        final var keys = new ArrayList<>(contractKeys(4, 7));
+        keys.add(1, extantKeys.get(1));
+        keys.add(root);
+
+        final var newRoot = batchUpsertMappings(keys, valuesFor(keys, 2), root, storage);
+        final var expectedRoot = sequentiallyUpserted(keys, valuesFor(keys, 2), root, expected);
+
+        assertEquals(expectedRoot, newRoot);
+        assertEquals(expected, batchMap);
+        verify(storage, times(1)).put(eq(root), any());
+    }
+
+    @Test
+    void batchUpsertOfOnlyExtantKeysKeepsRoot() {
+        final var batchMap = givenMapBackedStorage();
+        final var keys = contractKeys(0, 2);
+        final var root = sequentiallyUpserted(keys, valuesFor(keys, 1), null, batchMap);
+
+        final var newRoot = batchUpsertMappings(keys, valuesFor(keys, 2), root, storage);
+
+        assertSame(root, newRoot);
+        assertEquals(valuesFor(keys, 2).get(root).asUInt256(), batchMap.get(root).asUInt256());
+    }
+
+    @Test
+    void batchUpsertWithMissingRootThrowsWithoutWritingAnything() {
+        final var batchMap = givenMapBackedStorage();
+        final var extantKeys = contractKeys(0, 2);
+        final var root = sequentiallyUpserted(extantKeys, valuesFor(extantKeys, 1), null, batchMap);
+        batchMap.remove(root);
+        final var expected = copyOf(batchMap);
+        final var keys = new ArrayList<>(contractKeys(2, 4));
+        keys.add(extantKeys.get(0));
+        final var values = valuesFor(keys, 2);
+
+        assertThrows(
+                NullPointerException.class,
+                () -> batchUpsertMappings(keys, values, root, storage));
+
+        verify(storage, never()).put(any(), any());
+        assertEquals(expected, batchMap);
+        assertAllMutable(batchMap);
+    }
+
+    @Test
+    void batchRemoveWithMissingNeighbourThrowsWithoutWritingAnything() {
+        final var batchMap = givenMapBackedStorage();
+        final var extantKeys = contractKeys(0, 4);
+        final var root = sequentiallyUpserted(extantKeys, valuesFor(extantKeys, 1), null, batchMap);
+        // The list runs from the last key inserted to the first, so this is a neighbour of both
+        batchMap.remove(extantKeys.get(2));
+        final var expected = copyOf(batchMap);
+
+        assertThrows(
+                NullPointerException.class,
+                () -> batchRemoveMappings(List.of(extantKeys.get(1)), root, storage));
+
+        verify(storage, never()).remove(any());
+        verify(storage, never()).put(any(), any());
+        assertEquals(expected, batchMap);
+        assertAllMutable(batchMap);
+    }
+
+    @Test
+    void batchRemoveWithMissingNextNeighbourDoesNotCopyPrevNeighbour() {
+        final var batchMap = givenMapBackedStorage();
+        final var extantKeys = contractKeys(0, 4);
+        final var root = sequentiallyUpserted(extantKeys, valuesFor(extantKeys, 1), null, batchMap);
+        // The list runs from the last key inserted to the first, so this is the next neighbour
+        batchMap.remove(extantKeys.get(0));
+        final var expected = copyOf(batchMap);
+
+        assertThrows(
+                NullPointerException.class,
+                () -> batchRemoveMappings(List.of(extantKeys.get(1)), root, storage));
+
+        verify(storage, never()).put(any(), any());
+        assertEquals(expected, batchMap);
+        assertAllMutable(batchMap);
+    }
+
+    @Test
+    void batchRemoveMatchesSequentialRemoves() {
+        final var batchMap = givenMapBackedStorage();
+        final var extantKeys = contractKeys(0, 8);
+        final var root = sequentiallyUpserted(extantKeys, valuesFor(extantKeys, 1), null, batchMap);
+        final var expected = copyOf(batchMap);
+        // Removes the root, a run of adjacent keys, a lone key, the tail, and a missing key
+        final var keys =
+                List.of(
+                        extantKeys.get(7),
+                        extantKeys.get(5),
+                        extantKeys.get(4),
+                        extantKeys.get(2),
+                        extantKeys.get(0),
+                        contractKeys(8, 9).get(0));
+
+        final var newRoot = batchRemoveMappings(keys, root, storage);
+        var expectedRoot = root;
+        for (final var key : keys) {
+            if (expected.containsKey(key)) {
+                expectedRoot = removeMapping(key, expectedRoot, mapBacked(expected));
+            }
+        }
+
+        assertEquals(expectedRoot, newRoot);
+        assertEquals(expected, batchMap);
+    }
+
+    @Test
+    void batchRemoveUpdatesNeighbourOfTwoRunsOnlyOnce() {
+        final var batchMap = givenMapBackedStorage();
+        final var extantKeys = contractKeys(0, 5);
+        final var root = sequentiallyUpserted(extantKeys, valuesFor(extantKeys, 1), null, batchMap);
+        final var sharedNeighbour = extantKeys.get(2);
+
+        final var newRoot =
+                batchRemoveMappings(
+                        List.of(extantKeys.get(1), extantKeys.get(3)), root, storage);
+
+        assertSame(root, newRoot);
+        verify(storage, times(1)).put(eq(sharedNeighbour), any());
+        final var neighbourValue = batchMap.get(sharedNeighbour);
+        assertEquals(extantKeys.get(4), neighbourValue.getPrevKeyScopedTo(contractNum));
+        assertEquals(extantKeys.get(0), neighbourValue.getNextKeyScopedTo(contractNum));
+    }
+
+    @Test
+    void batchRemoveOfAllKeysLeavesEmptyList() {
+        final var batchMap = givenMapBackedStorage();
+        final var keys = contractKeys(0, 3);
+        final var root = sequentiallyUpserted(keys, valuesFor(keys, 1), null, batchMap);
+
+        final var newRoot = batchRemoveMappings(keys, root, storage);
+
+        assertNull(newRoot);
+        assertEquals(Map.of(), batchMap);
+    }
+
+    @Test
+    void batchRemoveOfOnlyMissingKeysIsNoop() {
+        givenMapBackedStorage();
+
+        final var newRoot = batchRemoveMappings(List.of(targetKey), rootKey, storage);
+
+        assertSame(rootKey, newRoot);
+        verify(storage, never()).remove(any());
+    }
+
+    private Map<ContractKey, IterableContractValue> givenMapBackedStorage() {
+        final Map<ContractKey, IterableContractValue> map = new HashMap<>();
+        lenient().when(storage.get(any())).thenAnswer(inv -> map.get(inv.getArgument(0)));
+        lenient()
+                .when(storage.getForModify(any()))
+                .thenAnswer(inv -> map.get(inv.getArgument(0)));
+        lenient()
+                .doAnswer(inv -> map.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(storage)
+                .put(any(), any());
+        lenient().doAnswer(inv -> map.remove(inv.getArgument(0))).when(storage).remove(any());
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VirtualMap<ContractKey, IterableContractValue> mapBacked(
+            final Map<ContractKey, IterableContractValue> map) {
+        final VirtualMap<ContractKey, IterableContractValue> mapStorage =
+                mock(VirtualMap.class);
+        lenient().when(mapStorage.get(any())).thenAnswer(inv -> map.get(inv.getArgument(0)));
+        lenient()
+                .when(mapStorage.getForModify(any()))
+                .thenAnswer(inv -> map.get(inv.getArgument(0)));
+        lenient()
+                .doAnswer(inv -> map.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(mapStorage)
+                .put(any(), any());
+        lenient().doAnswer(inv -> map.remove(inv.getArgument(0))).when(mapStorage).remove(any());
+        return mapStorage;
+    }
+
+    private static ContractKey sequentiallyUpserted(
+            final List<ContractKey> keys,
+            final Map<ContractKey, IterableContractValue> values,
+            final ContractKey rootKey,
+            final Map<ContractKey, IterableContractValue> map) {
+        final var mapStorage = mapBacked(map);
+        var newRoot = rootKey;
+        for (final var key : keys) {
+            newRoot = overwritingUpsertMapping(key, values.get(key), newRoot, null, mapStorage);
+        }
+        return newRoot;
+    }
+
+    private static void assertAllMutable(final Map<ContractKey, IterableContractValue> map) {
+        map.values().forEach(value -> assertFalse(value.isImmutable()));
+    }
+
+    private static Map<ContractKey, IterableContractValue> copyOf(
+            final Map<ContractKey, IterableContractValue> map) {
+        final Map<ContractKey, IterableContractValue> copy = new HashMap<>();
+        map.forEach((key, value) -> copy.put(key, value.asReadOnly()));
+        return copy;
+    }
+
+    private static List<ContractKey> contractKeys(final int from, final int to) {
+        final List<ContractKey> keys = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            keys.add(ContractKey.from(contractId, UInt256.valueOf(0xabc0L + i)));
+        }
+        return keys;
+    }
+
+    private static Map<ContractKey, IterableContractValue> valuesFor(
+            final List<ContractKey> keys, final long salt) {
+        final Map<ContractKey, IterableContractValue> values = new LinkedHashMap<>();
+        for (int i = 0, n = keys.size(); i < n; i++) {
+            values.put(keys.get(i), IterableContractValue.from(UInt256.valueOf(salt * 1_000L + i)));
+        }
+        return values;
+    }
+
     private static final long contractNum = 1234;
     private static final AccountID contractId =
             AccountID.newBuilder().setAccountNum(contractNum).build();
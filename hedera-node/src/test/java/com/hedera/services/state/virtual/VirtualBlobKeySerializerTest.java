@@ -88,6 +88,19 @@ class VirtualBlobKeySerializerTest {
         assertFalse(subject.equals(bin, 1, diffTypeSameNum));
     }
 
+    @Test
+    void equalsUsingByteBufferComparesChunkIndex() throws IOException {
+        final var chunkKey = VirtualBlobKey.chunkKey(entityNum, 3);
+        final var otherChunkKey = VirtualBlobKey.chunkKey(entityNum, 4);
+        final var buffer = ByteBuffer.allocate(BYTES_IN_SERIALIZED_FORM);
+        chunkKey.serialize(buffer);
+
+        buffer.flip();
+        assertTrue(subject.equals(buffer, 1, chunkKey));
+        buffer.flip();
+        assertFalse(subject.equals(buffer, 1, otherChunkKey));
+    }
+
     @Test
     void serdesAreNoop() {
         final var in = mock(SerializableDataInputStream.class);
@@ -16,10 +16,14 @@
 package com.hedera.services.state.virtual;
 
 import static com.hedera.services.state.virtual.VirtualBlobKey.BYTES_IN_SERIALIZED_FORM;
+import static com.hedera.services.state.virtual.VirtualBlobKey.FIRST_CHUNK_CODE;
+import static com.hedera.services.state.virtual.VirtualBlobKey.MAX_CHUNK_INDEX;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA_CHUNK;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_METADATA;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.SYSTEM_DELETED_ENTITY_EXPIRY;
+import static com.hedera.services.state.virtual.VirtualBlobKey.chunkKey;
 import static com.hedera.services.state.virtual.VirtualBlobKey.fromPath;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -30,6 +34,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import com.hedera.services.utils.MiscUtils;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import java.io.IOException;
@@ -149,6 +154,48 @@ class VirtualBlobKeyTest {
         assertEquals(subject.getType(), blobKey.getType());
     }
 
+    @Test
+    void chunkKeysEncodeIndexInTypeByte() throws IOException {
+        final var lastChunk = chunkKey(entityNum, MAX_CHUNK_INDEX);
+        final var buffer = ByteBuffer.allocate(BYTES_IN_SERIALIZED_FORM);
+
+        lastChunk.serialize(buffer);
+        buffer.flip();
+        final var copy = new VirtualBlobKey();
+        copy.deserialize(buffer, VirtualBlobKey.CURRENT_VERSION);
+
+        assertEquals(0xff, FIRST_CHUNK_CODE + MAX_CHUNK_INDEX - 1);
+        assertEquals(lastChunk, copy);
+        assertEquals(FILE_DATA_CHUNK, copy.getType());
+        assertEquals(MAX_CHUNK_INDEX, copy.getChunk());
+        assertEquals(entityNum, copy.getEntityNumCode());
+    }
+
+    @Test
+    void chunkIndexDistinguishesKeys() {
+        final var first = chunkKey(entityNum, 1);
+        final var second = chunkKey(entityNum, 2);
+
+        assertNotEquals(first, second);
+        assertNotEquals(first.hashCode(), second.hashCode());
+        assertEquals(-1, first.compareTo(second));
+        assertEquals(first, chunkKey(entityNum, 1));
+    }
+
+    @Test
+    void legacyKeysKeepTheirHashCodes() {
+        final var expected = (int) MiscUtils.perm64(entityNum | ((long) FILE_DATA.ordinal()) << 4);
+        assertEquals(expected, subject.hashCode());
+        assertEquals(0, subject.getChunk());
+    }
+
+    @Test
+    void rejectsOutOfRangeChunkIndices() {
+        assertThrows(IllegalArgumentException.class, () -> chunkKey(entityNum, 0));
+        assertThrows(
+                IllegalArgumentException.class, () -> chunkKey(entityNum, MAX_CHUNK_INDEX + 1));
+    }
+
     @Test
     void merkleMethodsWork() {
         assertEquals(VirtualBlobKey.CURRENT_VERSION, subject.getVersion());
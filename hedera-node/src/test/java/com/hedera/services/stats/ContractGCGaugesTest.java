@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContractGCGaugesTest {
+    @Mock private Platform platform;
+
+    private ContractGCGauges subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new ContractGCGauges();
+    }
+
+    @Test
+    void registersExpectedGauges() {
+        subject.registerWith(platform);
+
+        verify(platform).addAppMetrics(any(DoubleGauge.class), any(DoubleGauge.class));
+    }
+
+    @Test
+    void updatesSlotsLeft() {
+        subject.updateSlotsLeft(42);
+
+        assertEquals(42.0, subject.getSlotsLeft(), 1e-9);
+    }
+
+    @Test
+    void updatesPercentOfLinksOutOfOrder() {
+        subject.updateLinksOutOfOrder(1, 4);
+
+        assertEquals(25.0, subject.getPercentLinksOutOfOrder(), 1e-9);
+    }
+
+    @Test
+    void keepsLastPercentIfNoLinksWalked() {
+        subject.updateLinksOutOfOrder(1, 4);
+        subject.updateLinksOutOfOrder(0, 0);
+
+        assertEquals(25.0, subject.getPercentLinksOutOfOrder(), 1e-9);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.HandlePhaseLatencies.NUM_BUCKETS;
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.LEDGER_COMMIT;
+import static com.hedera.services.stats.HandlePhaseLatencies.Phase.SIG_SCREEN;
+import static com.hedera.services.stats.HandlePhaseLatencies.bucketOf;
+import static com.hedera.services.stats.HandlePhaseLatencies.lowerBoundNanos;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.NONE;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetInfo;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HandlePhaseLatenciesTest {
+    @Mock private Platform platform;
+
+    private HandlePhaseLatencies subject;
+
+    @BeforeEach
+    void setUp() {
+        HandlePhaseLatencies.allFunctions =
+                () -> new HederaFunctionality[] {CryptoTransfer, TokenGetInfo, NONE};
+
+        subject = new HandlePhaseLatencies(HederaFunctionality::toString);
+    }
+
+    @AfterEach
+    void cleanup() {
+        HandlePhaseLatencies.allFunctions = HederaFunctionality.class::getEnumConstants;
+    }
+
+    @Test
+    void registersTwoGaugesPerPhaseOfEachHandledFunction() {
+        subject.registerWith(platform);
+
+        final var numPhases = HandlePhaseLatencies.Phase.values().length;
+        verify(platform, times(2 * numPhases)).addAppMetrics(any(DoubleGauge.class));
+        assertEquals(
+                "CryptoTransferSigScreenP50Us",
+                subject.p50For(SIG_SCREEN, CryptoTransfer).getName());
+        assertEquals(
+                "CryptoTransferCommitP99Us", subject.p99For(LEDGER_COMMIT, CryptoTransfer).getName());
+    }
+
+    @Test
+    void bucketsBoundEachLatencyWithinAQuarter() {
+        final long[] latencies = {0, 1, 3, 4, 7, 8, 999, 1_000, 1_024, 123_456_789L};
+        for (final var nanos : latencies) {
+            final var bucket = bucketOf(nanos);
+            final var lower = lowerBoundNanos(bucket);
+            final var upper = lowerBoundNanos(bucket + 1);
+            assertTrue(lower <= nanos && nanos < upper, "Bad bucket for " + nanos);
+            assertTrue(upper - lower <= Math.max(1, lower / 4), "Bucket too wide for " + nanos);
+        }
+        assertEquals(NUM_BUCKETS - 1, bucketOf(Long.MAX_VALUE));
+        assertEquals(0, bucketOf(-1));
+    }
+
+    @Test
+    void updatesPercentilesFromLatenciesSinceLastUpdate() {
+        for (int i = 0; i < 98; i++) {
+            subject.record(SIG_SCREEN, CryptoTransfer, 1_000);
+        }
+        subject.record(SIG_SCREEN, CryptoTransfer, 1_000_000);
+        subject.record(SIG_SCREEN, CryptoTransfer, 1_000_000);
+
+        subject.updateAll();
+
+        assertEquals(1.024, subject.p50For(SIG_SCREEN, CryptoTransfer).get(), 1e-9);
+        assertEquals(1048.576, subject.p99For(SIG_SCREEN, CryptoTransfer).get(), 1e-9);
+
+        subject.record(SIG_SCREEN, CryptoTransfer, 5);
+        subject.updateAll();
+
+        assertEquals(0.006, subject.p50For(SIG_SCREEN, CryptoTransfer).get(), 1e-9);
+        assertEquals(0.006, subject.p99For(SIG_SCREEN, CryptoTransfer).get(), 1e-9);
+    }
+
+    @Test
+    void leavesGaugesUnchangedWithoutNewLatencies() {
+        subject.record(LEDGER_COMMIT, CryptoTransfer, 1_000);
+        subject.updateAll();
+        subject.updateAll();
+
+        assertEquals(1.024, subject.p50For(LEDGER_COMMIT, CryptoTransfer).get(), 1e-9);
+        assertEquals(0.0, subject.p50For(SIG_SCREEN, CryptoTransfer).get(), 1e-9);
+    }
+
+    @Test
+    void ignoresUntrackedFunctions() {
+        assertDoesNotThrow(() -> subject.recordSince(SIG_SCREEN, TokenGetInfo, System.nanoTime()));
+        assertDoesNotThrow(() -> subject.recordSince(SIG_SCREEN, NONE, System.nanoTime()));
+    }
+}
@@ -38,6 +38,14 @@ class MiscRunningAvgsTest {
     @Mock private RunningAverageMetric submitSizes;
     @Mock private RunningAverageMetric queueSize;
     @Mock private RunningAverageMetric hashS;
+    @Mock private RunningAverageMetric prefetchLatency;
+    @Mock private RunningAverageMetric hashWait;
+    @Mock private RunningAverageMetric fileWrite;
+    @Mock private RunningAverageMetric fileSync;
+    @Mock private RunningAverageMetric fileSign;
+    @Mock private RunningAverageMetric handoffQueueSize;
+    @Mock private RunningAverageMetric handoffLatency;
+    @Mock private RunningAverageMetric handoffBatchSize;
     private MiscRunningAvgs subject;
 
     @BeforeEach
@@ -53,7 +61,22 @@ class MiscRunningAvgsTest {
 
         subject.registerWith(platform);
 
-        verify(platform).addAppMetrics(gasPerSec, waitMs, retries, submitSizes, queueSize, hashS);
+        verify(platform)
+                .addAppMetrics(
+                        gasPerSec,
+                        waitMs,
+                        retries,
+                        submitSizes,
+                        queueSize,
+                        hashS,
+                        prefetchLatency,
+                        hashWait,
+                        fileWrite,
+                        fileSync,
+                        fileSign,
+                        handoffQueueSize,
+                        handoffLatency,
+                        handoffBatchSize);
     }
 
     @Test
@@ -66,6 +89,14 @@ class MiscRunningAvgsTest {
         subject.writeQueueSizeRecordStream(4);
         subject.hashQueueSizeRecordStream(5);
         subject.recordGasPerConsSec(6L);
+        subject.recordPrefetchQueueLatencyMs(7.0);
+        subject.recordFileHashWaitMs(8.0);
+        subject.recordFileWriteMs(9.0);
+        subject.recordFileSyncMs(10.0);
+        subject.recordFileSignMs(11.0);
+        subject.handoffQueueSizeRecordStream(12);
+        subject.recordStreamHandoffLatencyMs(13.0);
+        subject.recordStreamHandoffBatchSize(14);
 
         verify(retries).recordValue(1.0);
         verify(waitMs).recordValue(2.0);
@@ -73,6 +104,14 @@ class MiscRunningAvgsTest {
         verify(queueSize).recordValue(4.0);
         verify(hashS).recordValue(5);
         verify(gasPerSec).recordValue(6L);
+        verify(prefetchLatency).recordValue(7.0);
+        verify(hashWait).recordValue(8.0);
+        verify(fileWrite).recordValue(9.0);
+        verify(fileSync).recordValue(10.0);
+        verify(fileSign).recordValue(11.0);
+        verify(handoffQueueSize).recordValue(12.0);
+        verify(handoffLatency).recordValue(13.0);
+        verify(handoffBatchSize).recordValue(14.0);
     }
 
     private void setMocks() {
@@ -82,5 +121,13 @@ class MiscRunningAvgsTest {
         subject.setWriteQueueSizeRecordStream(queueSize);
         subject.setHashQueueSizeRecordStream(hashS);
         subject.setGasPerConsSec(gasPerSec);
+        subject.setPrefetchQueueLatencyMs(prefetchLatency);
+        subject.setRecordFileHashWaitMs(hashWait);
+        subject.setRecordFileWriteMs(fileWrite);
+        subject.setRecordFileSyncMs(fileSync);
+        subject.setRecordFileSignMs(fileSign);
+        subject.setHandoffQueueSizeRecordStream(handoffQueueSize);
+        subject.setRecordStreamHandoffLatencyMs(handoffLatency);
+        subject.setRecordStreamHandoffBatchSize(handoffBatchSize);
     }
 }
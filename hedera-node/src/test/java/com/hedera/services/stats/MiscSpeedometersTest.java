@@ -34,6 +34,16 @@ class MiscSpeedometersTest {
     @Mock private Platform platform;
     @Mock private SpeedometerMetric syncVerifies;
     @Mock private SpeedometerMetric txnRejections;
+    @Mock private SpeedometerMetric changedRefs;
+    @Mock private SpeedometerMetric unknownRefs;
+    @Mock private SpeedometerMetric prefetchDrops;
+    @Mock private SpeedometerMetric prefetchHits;
+    @Mock private SpeedometerMetric prefetchMisses;
+    @Mock private SpeedometerMetric handoffsWhenFull;
+    @Mock private SpeedometerMetric codeCacheHits;
+    @Mock private SpeedometerMetric codeCacheMisses;
+    @Mock private SpeedometerMetric codeCacheEvictions;
+    @Mock private SpeedometerMetric expiredContractSlotRemovals;
 
     private MiscSpeedometers subject;
 
@@ -48,18 +58,65 @@ class MiscSpeedometersTest {
     void registersExpectedStatEntries() {
         subject.setSyncVerifications(syncVerifies);
         subject.setPlatformTxnRejections(txnRejections);
+        subject.setChangedRefsRationalizations(changedRefs);
+        subject.setUnknownRefsRationalizations(unknownRefs);
+        subject.setPrefetchDrops(prefetchDrops);
+        subject.setPrefetchHits(prefetchHits);
+        subject.setPrefetchMisses(prefetchMisses);
+        subject.setRecordStreamHandoffsWhenFull(handoffsWhenFull);
+        subject.setCodeCacheHits(codeCacheHits);
+        subject.setCodeCacheMisses(codeCacheMisses);
+        subject.setCodeCacheEvictions(codeCacheEvictions);
+        subject.setExpiredContractSlotRemovals(expiredContractSlotRemovals);
 
         subject.registerWith(platform);
 
-        verify(platform).addAppMetrics(syncVerifies, txnRejections);
+        verify(platform)
+                .addAppMetrics(
+                        syncVerifies,
+                        txnRejections,
+                        changedRefs,
+                        unknownRefs,
+                        prefetchDrops,
+                        prefetchHits,
+                        prefetchMisses,
+                        handoffsWhenFull,
+                        codeCacheHits,
+                        codeCacheMisses,
+                        codeCacheEvictions,
+                        expiredContractSlotRemovals);
     }
 
     @Test
     void cyclesExpectedSpeedometers() {
         subject.cycleSyncVerifications();
         subject.cyclePlatformTxnRejections();
+        subject.cycleChangedRefsRationalizations();
+        subject.cycleUnknownRefsRationalizations();
+        subject.cyclePrefetchDrops();
+        subject.cyclePrefetchHits();
+        subject.cyclePrefetchMisses();
+        subject.cycleRecordStreamHandoffsWhenFull();
+        subject.cycleCodeCacheHits();
+        subject.cycleCodeCacheMisses();
+        subject.cycleCodeCacheEvictions();
+        subject.cycleExpiredContractSlotRemovals(3);
 
         assertNotEquals(0.0, subject.getPlatformTxnRejections().getStatsBuffered().getMean());
+        assertNotEquals(
+                0.0, subject.getChangedRefsRationalizations().getStatsBuffered().getMean());
+        assertNotEquals(
+                0.0, subject.getUnknownRefsRationalizations().getStatsBuffered().getMean());
+        assertNotEquals(0.0, subject.getPrefetchDrops().getStatsBuffered().getMean());
+        assertNotEquals(0.0, subject.getPrefetchHits().getStatsBuffered().getMean());
+        assertNotEquals(0.0, subject.getPrefetchMisses().getStatsBuffered().getMean());
+        assertNotEquals(
+                0.0, subject.getRecordStreamHandoffsWhenFull().getStatsBuffered().getMean());
         assertNotEquals(0.0, subject.getSyncVerifications().getStatsBuffered().getMean());
+        assertNotEquals(0.0, subject.getCodeCacheHits().getStatsBuffered().getMean());
+        assertNotEquals(0.0, subject.getCodeCacheMisses().getStatsBuffered().getMean());
+        assertNotEquals(0.0, subject.getCodeCacheEvictions().getStatsBuffered().getMean());
+        assertNotEquals(
+                0.0, subject.getExpiredContractSlotRemovals().getStatsBuffered().getMean());
     }
 }
@@ -59,6 +59,8 @@ class ServicesStatsManagerTest {
     @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> bytecode;
     @Mock private ThrottleGauges throttleGauges;
     @Mock private EntityUtilGauges entityUtilGauges;
+    @Mock private ContractGCGauges contractGCGauges;
+    @Mock private HandlePhaseLatencies handlePhaseLatencies;
 
     ServicesStatsManager subject;
 
@@ -80,8 +82,10 @@ class ServicesStatsManagerTest {
                         throttleGauges,
                         runningAvgs,
                         entityUtilGauges,
+                        contractGCGauges,
                         miscSpeedometers,
                         speedometers,
+                        handlePhaseLatencies,
                         properties,
                         () -> storage,
                         () -> bytecode);
@@ -119,6 +123,8 @@ class ServicesStatsManagerTest {
         verify(runningAvgs).registerWith(platform);
         verify(throttleGauges).registerWith(platform);
         verify(entityUtilGauges).registerWith(platform);
+        verify(contractGCGauges).registerWith(platform);
+        verify(handlePhaseLatencies).registerWith(platform);
         verify(storage).registerStatistics(any());
         verify(bytecode).registerStatistics(any());
         verify(platform).appStatInit();
@@ -133,6 +139,7 @@ class ServicesStatsManagerTest {
         // then:
         verify(pause, times(6)).forMs(1_000L);
         verify(speedometers, times(6)).updateAll();
+        verify(handlePhaseLatencies, times(6)).updateAll();
         verify(throttleGauges, times(3)).updateAll();
         verify(entityUtilGauges, times(2)).updateAll();
     }
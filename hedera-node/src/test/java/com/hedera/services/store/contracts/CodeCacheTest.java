@@ -41,12 +41,18 @@ import static com.hedera.services.store.contracts.WorldStateTokenAccount.proxyBy
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.utils.BytesKey;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
@@ -62,6 +68,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CodeCacheTest {
     @Mock NodeLocalProperties properties;
     @Mock MutableEntityAccess entityAccess;
+    @Mock MiscSpeedometers speedometers;
 
     CodeCache codeCache;
 
@@ -126,6 +133,126 @@ class CodeCacheTest {
         assertDoesNotThrow(() -> codeCache.invalidate(Address.fromHexString("0xabc")));
     }
 
+    @Test
+    void injectedCacheUsesConfiguredTiers() {
+        given(properties.prefetchCodeCacheTtlSecs()).willReturn(100);
+        given(properties.prefetchCodeCacheMaxStrongBytes()).willReturn(1024L);
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+        codeCache = new CodeCache(properties, entityAccess, speedometers);
+
+        codeCache.getIfPresent(Address.fromHexString("0xabc"));
+        codeCache.getIfPresent(Address.fromHexString("0xabc"));
+
+        verify(speedometers).cycleCodeCacheMisses();
+        verify(speedometers).cycleCodeCacheHits();
+        assertEquals(1, codeCache.getAnalyzedCode().estimatedSize());
+    }
+
+    @Test
+    void softTierMissIsServedFromStrongTierWithoutReloading() {
+        codeCache = new CodeCache(100, 1024L, entityAccess, speedometers);
+        final var address = Address.fromHexString("0xabc");
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        final var loaded = codeCache.getIfPresent(address);
+        codeCache.getCache().invalidateAll();
+        final var reloaded = codeCache.getIfPresent(address);
+
+        assertSame(loaded, reloaded);
+        verify(entityAccess, times(1)).fetchCodeIfPresent(any());
+        verify(speedometers).cycleCodeCacheHits();
+        assertEquals(1, codeCache.size());
+    }
+
+    @Test
+    void identicalBytecodeSharesAnalyzedCode() {
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        final var first = codeCache.getIfPresent(Address.fromHexString("0xabc"));
+        final var second = codeCache.getIfPresent(Address.fromHexString("0xdef"));
+
+        assertSame(first, second);
+        assertEquals(1, codeCache.getAnalyzedCode().estimatedSize());
+        assertEquals(2, codeCache.getCodeHashes().estimatedSize());
+    }
+
+    @Test
+    void invalidateAlsoForgetsCodeHash() {
+        final var address = Address.fromHexString("0xabc");
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        codeCache.getIfPresent(address);
+        codeCache.invalidate(address);
+        codeCache.getIfPresent(address);
+
+        verify(entityAccess, times(2)).fetchCodeIfPresent(any());
+    }
+
+    @Test
+    void firstLookupOfPrefetchedCodeIsPrefetchHit() {
+        codeCache = new CodeCache(100, 1024L, entityAccess, speedometers);
+        final var address = Address.fromHexString("0xabc");
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        codeCache.prefetch(address);
+        codeCache.prefetch(address);
+        codeCache.getIfPresent(address);
+        codeCache.getIfPresent(address);
+
+        verify(entityAccess, times(1)).fetchCodeIfPresent(any());
+        verify(speedometers).cyclePrefetchHits();
+        verify(speedometers, never()).cyclePrefetchMisses();
+        verify(speedometers, times(2)).cycleCodeCacheHits();
+        verify(speedometers, never()).cycleCodeCacheMisses();
+    }
+
+    @Test
+    void lookupOfEvictedPrefetchedCodeIsPrefetchMiss() {
+        codeCache = new CodeCache(100, 1024L, entityAccess, speedometers);
+        final var address = Address.fromHexString("0xabc");
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        codeCache.prefetch(address);
+        codeCache.getCache().invalidateAll();
+        codeCache.getCodeHashes().invalidateAll();
+        codeCache.getIfPresent(address);
+
+        verify(entityAccess, times(2)).fetchCodeIfPresent(any());
+        verify(speedometers).cyclePrefetchMisses();
+        verify(speedometers, never()).cyclePrefetchHits();
+        verify(speedometers).cycleCodeCacheMisses();
+    }
+
+    @Test
+    void lookupWithoutPrefetchIsNeitherPrefetchHitNorMiss() {
+        codeCache = new CodeCache(100, 1024L, entityAccess, speedometers);
+        final var address = Address.fromHexString("0xabc");
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        codeCache.prefetch(address);
+        codeCache.invalidate(address);
+        codeCache.getIfPresent(address);
+
+        verify(speedometers, never()).cyclePrefetchHits();
+        verify(speedometers, never()).cyclePrefetchMisses();
+    }
+
+    @Test
+    void strongTierIsBoundedByCodeBytes() {
+        codeCache = new CodeCache(100, 8L, entityAccess, speedometers);
+        given(entityAccess.fetchCodeIfPresent(any()))
+                .willReturn(Bytes.of("abcdef".getBytes()))
+                .willReturn(Bytes.of("ghijkl".getBytes()));
+
+        codeCache.getIfPresent(Address.fromHexString("0xabc"));
+        codeCache.getIfPresent(Address.fromHexString("0xdef"));
+        codeCache.getAnalyzedCode().cleanUp();
+
+        assertEquals(1, codeCache.getAnalyzedCode().estimatedSize());
+        verify(speedometers, atLeastOnce()).cycleCodeCacheEvictions();
+        verify(speedometers, never()).cycleCodeCacheHits();
+    }
+
     @Test
     void bytesKeyEquals() {
         BytesKey key1 = new BytesKey("abc".getBytes());
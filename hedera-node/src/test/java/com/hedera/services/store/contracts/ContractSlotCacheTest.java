@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.store.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.services.state.virtual.ContractKey;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.Test;
+
+class ContractSlotCacheTest {
+    private static final long contractNum = 1234L;
+    private static final UInt256 aValue = UInt256.fromHexString("0x1234aa");
+    private static final UInt256 bValue = UInt256.fromHexString("0x1234bb");
+
+    private ContractSlotCache subject = new ContractSlotCache(8);
+
+    @Test
+    void rejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ContractSlotCache(6));
+        assertThrows(IllegalArgumentException.class, () -> new ContractSlotCache(1));
+    }
+
+    @Test
+    void getsWhatWasPut() {
+        subject.put(contractNum, keyOf(1), aValue);
+        subject.put(contractNum + 1, keyOf(1), bValue);
+        subject.put(contractNum, keyOf(2), UInt256.ZERO);
+
+        assertSame(aValue, subject.get(contractNum, keyOf(1)));
+        assertSame(bValue, subject.get(contractNum + 1, keyOf(1)));
+        assertSame(UInt256.ZERO, subject.get(contractNum, keyOf(2)));
+        assertNull(subject.get(contractNum, keyOf(3)));
+        assertEquals(3, subject.size());
+    }
+
+    @Test
+    void overwritesExistingEntry() {
+        subject.put(contractNum, keyOf(1), aValue);
+        subject.put(contractNum, keyOf(1), bValue);
+
+        assertSame(bValue, subject.get(contractNum, keyOf(1)));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void copiesReusedKeyArrays() {
+        final var reused = keyOf(1);
+        subject.put(contractNum, reused, aValue);
+        ContractKey.packInto(UInt256.valueOf(2), reused);
+
+        assertSame(aValue, subject.get(contractNum, keyOf(1)));
+        assertNull(subject.get(contractNum, reused));
+    }
+
+    @Test
+    void clearsWhenFull() {
+        for (int i = 0; i < 4; i++) {
+            subject.put(contractNum, keyOf(i), aValue);
+        }
+        assertEquals(4, subject.size());
+
+        subject.put(contractNum, keyOf(4), bValue);
+
+        assertEquals(1, subject.size());
+        assertSame(bValue, subject.get(contractNum, keyOf(4)));
+        assertNull(subject.get(contractNum, keyOf(0)));
+    }
+
+    @Test
+    void evictionKeepsCollidingEntriesReachable() {
+        final var tinySubject = new ContractSlotCache(2);
+        tinySubject.put(contractNum, keyOf(1), aValue);
+
+        tinySubject.evict(contractNum, keyOf(2));
+        tinySubject.evict(contractNum, keyOf(1));
+
+        assertEquals(0, tinySubject.size());
+        for (int round = 0; round < 100; round++) {
+            subject = new ContractSlotCache(8);
+            final var base = 4L * round;
+            for (long i = base; i < base + 4; i++) {
+                subject.put(contractNum, keyOf(i), UInt256.valueOf(i));
+            }
+            subject.evict(contractNum, keyOf(base + round % 4));
+            for (long i = base; i < base + 4; i++) {
+                if (i == base + round % 4) {
+                    assertNull(subject.get(contractNum, keyOf(i)));
+                } else {
+                    assertEquals(UInt256.valueOf(i), subject.get(contractNum, keyOf(i)));
+                }
+            }
+            assertEquals(3, subject.size());
+        }
+    }
+
+    @Test
+    void clearsOnlyWhenSourceChanges() {
+        final var source = new Object();
+        subject.useSource(source);
+        subject.put(contractNum, keyOf(1), aValue);
+
+        subject.useSource(source);
+        assertEquals(1, subject.size());
+
+        subject.useSource(new Object());
+        assertEquals(0, subject.size());
+        assertNull(subject.get(contractNum, keyOf(1)));
+    }
+
+    @Test
+    void packsLikeContractKey() {
+        final var evmKey = UInt256.fromHexString("0xaabbccddeeff00112233445566778899");
+        final var packed = new int[8];
+
+        ContractKey.packInto(evmKey, packed);
+
+        assertEquals(new ContractKey(contractNum, packed), ContractKey.from(contractNum, evmKey));
+    }
+
+    private static int[] keyOf(final long n) {
+        return ContractKey.asPackedInts(UInt256.valueOf(n));
+    }
+}
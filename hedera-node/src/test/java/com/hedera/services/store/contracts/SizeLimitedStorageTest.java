@@ -33,6 +33,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -50,9 +51,11 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -66,6 +69,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class SizeLimitedStorageTest {
     @Mock private ContractStorageLimits usageLimits;
     @Mock private StorageFeeCharging storageFeeCharging;
+    @Mock private SizeLimitedStorage.IterableStorageBatchUpserter storageBatchUpserter;
+    @Mock private SizeLimitedStorage.IterableStorageBatchRemover storageBatchRemover;
     @Mock private SizeLimitedStorage.IterableStorageUpserter storageUpserter;
     @Mock private SizeLimitedStorage.IterableStorageRemover storageRemover;
     @Mock private MerkleMap<EntityNum, MerkleAccount> accounts;
@@ -84,6 +89,8 @@ class SizeLimitedStorageTest {
                 new SizeLimitedStorage(
                         storageFeeCharging,
                         usageLimits,
+                        storageBatchUpserter,
+                        storageBatchRemover,
                         storageUpserter,
                         storageRemover,
                         () -> accounts,
@@ -94,13 +101,12 @@ class SizeLimitedStorageTest {
     void removesMappingsInOrder() {
         givenAccount(firstAccount, firstKvPairs, firstRootKey);
         givenAccount(nextAccount, nextKvPairs, nextRootKey);
-        given(storageRemover.removeMapping(firstAKey, firstRootKey, storage))
+        given(storageBatchRemover.removeMappings(keys(firstAKey, firstBKey), firstRootKey, storage))
                 .willReturn(firstRootKey);
-        given(storageRemover.removeMapping(firstBKey, firstRootKey, storage))
-                .willReturn(firstRootKey);
-        given(storageRemover.removeMapping(nextAKey, nextRootKey, storage)).willReturn(null);
+        given(storageBatchRemover.removeMappings(keys(nextAKey), nextRootKey, storage))
+                .willReturn(null);
 
-        InOrder inOrder = Mockito.inOrder(storage, accounts, accountsLedger, storageRemover);
+        InOrder inOrder = Mockito.inOrder(storage, accounts, accountsLedger, storageBatchRemover);
 
         given(storage.containsKey(firstAKey)).willReturn(true);
         given(storage.containsKey(firstBKey)).willReturn(true);
@@ -113,9 +119,9 @@ class SizeLimitedStorageTest {
         subject.validateAndCommit(accountsLedger);
         subject.recordNewKvUsageTo(accountsLedger);
 
-        inOrder.verify(storageRemover).removeMapping(firstAKey, firstRootKey, storage);
-        inOrder.verify(storageRemover).removeMapping(firstBKey, firstRootKey, storage);
-        inOrder.verify(storageRemover).removeMapping(nextAKey, nextRootKey, storage);
+        inOrder.verify(storageBatchRemover)
+                .removeMappings(keys(firstAKey, firstBKey), firstRootKey, storage);
+        inOrder.verify(storageBatchRemover).removeMappings(keys(nextAKey), nextRootKey, storage);
         // and:
         inOrder.verify(accountsLedger).set(firstAccount, NUM_CONTRACT_KV_PAIRS, firstKvPairs - 2);
         inOrder.verify(accountsLedger)
@@ -127,16 +133,18 @@ class SizeLimitedStorageTest {
     }
 
     @Test
-    void removesAllMappingsEvenIfExceptionThrown() {
+    void removesMappingsOneAtATimeIfBatchFails() {
         givenAccount(firstAccount, firstKvPairs, firstRootKey);
         givenAccount(nextAccount, nextKvPairs, nextRootKey);
-        given(storageRemover.removeMapping(firstAKey, firstRootKey, storage))
+        given(storageBatchRemover.removeMappings(keys(firstAKey, firstBKey), firstRootKey, storage))
                 .willThrow(NullPointerException.class);
+        given(storageBatchRemover.removeMappings(keys(nextAKey), nextRootKey, storage))
+                .willReturn(null);
+        given(storageRemover.removeMapping(firstAKey, firstRootKey, storage)).willReturn(firstBKey);
         given(storageRemover.removeMapping(eq(firstBKey), any(), eq(storage)))
-                .willReturn(firstRootKey);
-        given(storageRemover.removeMapping(eq(nextAKey), any(), eq(storage))).willReturn(null);
+                .willThrow(NullPointerException.class);
 
-        InOrder inOrder = Mockito.inOrder(storage, accounts, accountsLedger, storageRemover);
+        InOrder inOrder = Mockito.inOrder(storage, accounts, accountsLedger, storageBatchRemover);
 
         given(storage.containsKey(firstAKey)).willReturn(true);
         given(storage.containsKey(firstBKey)).willReturn(true);
@@ -149,29 +157,33 @@ class SizeLimitedStorageTest {
         subject.validateAndCommit(accountsLedger);
         subject.recordNewKvUsageTo(accountsLedger);
 
-        inOrder.verify(storageRemover, times(3)).removeMapping(any(), any(), eq(storage));
+        inOrder.verify(storageBatchRemover, times(2)).removeMappings(any(), any(), eq(storage));
+        verify(storageRemover).removeMapping(firstAKey, firstRootKey, storage);
+        verify(storageRemover).removeMapping(eq(firstBKey), any(), eq(storage));
         // and:
         inOrder.verify(accountsLedger).set(firstAccount, NUM_CONTRACT_KV_PAIRS, firstKvPairs - 2);
         inOrder.verify(accountsLedger)
-                .set(firstAccount, FIRST_CONTRACT_STORAGE_KEY, firstRootKey.getKey());
+                .set(firstAccount, FIRST_CONTRACT_STORAGE_KEY, firstBKey.getKey());
         inOrder.verify(accountsLedger).set(nextAccount, NUM_CONTRACT_KV_PAIRS, nextKvPairs - 1);
         inOrder.verify(accountsLedger).set(nextAccount, FIRST_CONTRACT_STORAGE_KEY, null);
     }
 
     @Test
-    void commitsMappingsInOrderWithNewRootValue() {
-        InOrder inOrder = Mockito.inOrder(storage, accountsLedger, storageUpserter);
+    void commitsMappingsInOrderAsOneBatchPerContract() {
+        InOrder inOrder = Mockito.inOrder(storage, accountsLedger, storageBatchUpserter);
 
-        given(storage.size()).willReturn(0L).willReturn(1L);
         givenAccount(firstAccount, firstKvPairs, firstRootKey);
         givenAccount(nextAccount, nextKvPairs, nextRootKey);
-        given(storageUpserter.upsertMapping(firstAKey, aValue, firstRootKey, null, storage))
-                .willReturn(firstAKey);
-        given(storageUpserter.upsertMapping(firstBKey, bValue, firstAKey, aValue, storage))
-                .willReturn(firstAKey);
-        given(storageUpserter.upsertMapping(firstDKey, dValue, firstAKey, null, storage))
+        given(
+                        storageBatchUpserter.upsertMappings(
+                                eq(keys(firstAKey, firstBKey, firstDKey)),
+                                any(),
+                                eq(firstRootKey),
+                                eq(storage)))
                 .willReturn(firstAKey);
-        given(storageUpserter.upsertMapping(nextAKey, aValue, nextRootKey, null, storage))
+        given(
+                        storageBatchUpserter.upsertMappings(
+                                eq(keys(nextAKey)), any(), eq(nextRootKey), eq(storage)))
                 .willReturn(nextAKey);
 
         subject.putStorage(firstAccount, aLiteralKey, aLiteralValue);
@@ -180,27 +192,34 @@ class SizeLimitedStorageTest {
         subject.putStorage(firstAccount, dLiteralKey, dLiteralValue);
 
         subject.validateAndCommit(accountsLedger);
+        subject.recordNewKvUsageTo(accountsLedger);
 
-        inOrder.verify(storageUpserter)
-                .upsertMapping(firstAKey, aValue, firstRootKey, null, storage);
-        inOrder.verify(storageUpserter)
-                .upsertMapping(firstBKey, bValue, firstAKey, aValue, storage);
-        inOrder.verify(storageUpserter).upsertMapping(firstDKey, dValue, firstAKey, null, storage);
-        inOrder.verify(storageUpserter).upsertMapping(nextAKey, aValue, nextRootKey, null, storage);
+        inOrder.verify(storageBatchUpserter)
+                .upsertMappings(
+                        keys(firstAKey, firstBKey, firstDKey),
+                        subject.getNewMappings(),
+                        firstRootKey,
+                        storage);
+        inOrder.verify(storageBatchUpserter)
+                .upsertMappings(keys(nextAKey), subject.getNewMappings(), nextRootKey, storage);
+        inOrder.verify(accountsLedger)
+                .set(firstAccount, FIRST_CONTRACT_STORAGE_KEY, firstAKey.getKey());
+        inOrder.verify(accountsLedger)
+                .set(nextAccount, FIRST_CONTRACT_STORAGE_KEY, nextAKey.getKey());
     }
 
     @Test
-    void commitsAllMappingsEvenIfExceptionThrown() {
+    void commitsMappingsOneAtATimeIfBatchFails() {
         givenAccount(firstAccount, firstKvPairs, firstRootKey);
         givenAccount(nextAccount, nextKvPairs, nextRootKey);
-        given(storageUpserter.upsertMapping(firstAKey, aValue, firstRootKey, null, storage))
+        given(storageBatchUpserter.upsertMappings(any(), any(), eq(firstRootKey), eq(storage)))
                 .willThrow(NullPointerException.class);
-        given(storageUpserter.upsertMapping(eq(firstBKey), eq(bValue), any(), any(), eq(storage)))
-                .willReturn(firstAKey);
-        given(storageUpserter.upsertMapping(eq(firstDKey), eq(dValue), any(), any(), eq(storage)))
-                .willReturn(firstAKey);
-        given(storageUpserter.upsertMapping(eq(nextAKey), eq(aValue), any(), any(), eq(storage)))
+        given(storageBatchUpserter.upsertMappings(any(), any(), eq(nextRootKey), eq(storage)))
                 .willReturn(nextAKey);
+        given(storageUpserter.upsertMapping(any(), any(), any(), any(), eq(storage)))
+                .willReturn(firstAKey);
+        given(storageUpserter.upsertMapping(eq(firstBKey), any(), any(), any(), eq(storage)))
+                .willThrow(NullPointerException.class);
 
         subject.putStorage(firstAccount, aLiteralKey, aLiteralValue);
         subject.putStorage(firstAccount, bLiteralKey, bLiteralValue);
@@ -209,7 +228,11 @@ class SizeLimitedStorageTest {
 
         subject.validateAndCommit(accountsLedger);
 
-        verify(storageUpserter, times(4)).upsertMapping(any(), any(), any(), any(), any());
+        verify(storageBatchUpserter, times(2)).upsertMappings(any(), any(), any(), any());
+        verify(storageUpserter, times(3)).upsertMapping(any(), any(), any(), any(), eq(storage));
+        // Every value but the one that failed to link still becomes the root in turn
+        assertEquals(firstAKey, subject.getNewFirstKeys().get(firstAccount.getAccountNum()));
+        assertEquals(nextAKey, subject.getNewFirstKeys().get(nextAccount.getAccountNum()));
     }
 
     @Test
@@ -217,40 +240,11 @@ class SizeLimitedStorageTest {
         assertDoesNotThrow(() -> subject.validateAndCommit(accountsLedger));
     }
 
-    @Test
-    void commitsMappingsInOrderWithUpdatedRootValue() {
-        InOrder inOrder = Mockito.inOrder(storage, accountsLedger, storageUpserter);
-
-        givenAccount(firstAccount, firstKvPairs, firstRootKey);
-        givenAccount(nextAccount, nextKvPairs, nextRootKey);
-        given(storageUpserter.upsertMapping(firstAKey, aValue, firstRootKey, null, storage))
-                .willReturn(firstAKey);
-        given(storageUpserter.upsertMapping(firstBKey, bValue, firstAKey, null, storage))
-                .willReturn(firstAKey);
-        given(storageUpserter.upsertMapping(firstDKey, dValue, firstAKey, null, storage))
-                .willReturn(firstAKey);
-        given(storageUpserter.upsertMapping(nextAKey, aValue, nextRootKey, null, storage))
-                .willReturn(nextAKey);
-
-        subject.putStorage(firstAccount, aLiteralKey, aLiteralValue);
-        subject.putStorage(firstAccount, bLiteralKey, bLiteralValue);
-        subject.putStorage(nextAccount, aLiteralKey, aLiteralValue);
-        subject.putStorage(firstAccount, dLiteralKey, dLiteralValue);
-
-        subject.validateAndCommit(accountsLedger);
-
-        inOrder.verify(storageUpserter)
-                .upsertMapping(firstAKey, aValue, firstRootKey, null, storage);
-        inOrder.verify(storageUpserter).upsertMapping(firstBKey, bValue, firstAKey, null, storage);
-        inOrder.verify(storageUpserter).upsertMapping(firstDKey, dValue, firstAKey, null, storage);
-        inOrder.verify(storageUpserter).upsertMapping(nextAKey, aValue, nextRootKey, null, storage);
-    }
-
     @Test
     void commitsMappingsForMissingAccount() {
-        InOrder inOrder = Mockito.inOrder(storage, accountsLedger, storageUpserter);
-
-        given(storageUpserter.upsertMapping(firstAKey, aValue, null, null, storage))
+        given(
+                        storageBatchUpserter.upsertMappings(
+                                eq(keys(firstAKey)), any(), eq(null), eq(storage)))
                 .willReturn(firstAKey);
 
         subject.putStorage(firstAccount, aLiteralKey, aLiteralValue);
@@ -258,7 +252,8 @@ class SizeLimitedStorageTest {
         subject.validateAndCommit(accountsLedger);
         subject.recordNewKvUsageTo(accountsLedger);
 
-        inOrder.verify(storageUpserter).upsertMapping(firstAKey, aValue, null, null, storage);
+        verify(storageBatchUpserter)
+                .upsertMappings(keys(firstAKey), subject.getNewMappings(), null, storage);
     }
 
     @Test
@@ -316,6 +311,74 @@ class SizeLimitedStorageTest {
         assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
     }
 
+    @Test
+    void repeatedReadsAcrossSessionsAreServedFromSlotCache() {
+        given(storage.get(firstAKey)).willReturn(aValue);
+
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        subject.beginSession();
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
+        assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
+
+        verify(storage, times(1)).get(firstAKey);
+        verify(storage, times(1)).get(firstBKey);
+    }
+
+    @Test
+    void committedChangesAreServedFromSlotCache() {
+        given(storage.containsKey(firstBKey)).willReturn(true);
+
+        subject.putStorage(firstAccount, aLiteralKey, aLiteralValue);
+        subject.putStorage(firstAccount, bLiteralKey, UInt256.ZERO);
+        subject.validateAndCommit(accountsLedger);
+        subject.beginSession();
+
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
+        verify(storage, never()).get(any());
+    }
+
+    @Test
+    void failedCommitEvictsSlotFromCache() {
+        given(storage.get(firstAKey)).willReturn(aValue);
+        given(storageBatchUpserter.upsertMappings(eq(keys(firstAKey)), any(), any(), any()))
+                .willThrow(IllegalStateException.class);
+
+        subject.getStorage(firstAccount, aLiteralKey);
+        subject.putStorage(firstAccount, aLiteralKey, bLiteralValue);
+        subject.validateAndCommit(accountsLedger);
+        subject.beginSession();
+        subject.getStorage(firstAccount, aLiteralKey);
+
+        verify(storage, times(2)).get(firstAKey);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void slotCacheIsClearedWhenStorageMapChanges() {
+        final VirtualMap<ContractKey, IterableContractValue> nextStorage = mock(VirtualMap.class);
+        final var curStorage = new AtomicReference<>(storage);
+        subject =
+                new SizeLimitedStorage(
+                        storageFeeCharging,
+                        usageLimits,
+                        storageBatchUpserter,
+                        storageBatchRemover,
+                        storageUpserter,
+                        storageRemover,
+                        () -> accounts,
+                        curStorage::get);
+        given(storage.get(firstAKey)).willReturn(aValue);
+
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        curStorage.set(nextStorage);
+
+        assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, aLiteralKey));
+        assertEquals(1, subject.getSlotCache().size());
+    }
+
     @Test
     void resetsPendingChangesAsExpected() {
         given(storage.containsKey(firstAKey)).willReturn(true);
@@ -365,12 +428,17 @@ class SizeLimitedStorageTest {
         subject.putStorage(firstAccount, aLiteralKey, UInt256.ZERO);
         subject.putStorage(firstAccount, bLiteralKey, bLiteralValue);
 
-        given(storageUpserter.upsertMapping(firstBKey, bValue, null, null, storage))
+        given(storageBatchRemover.removeMappings(keys(firstAKey), firstAKey, storage))
+                .willReturn(null);
+        given(
+                        storageBatchUpserter.upsertMappings(
+                                eq(keys(firstBKey)), any(), eq(null), eq(storage)))
                 .willReturn(firstBKey);
 
         subject.validateAndCommit(accountsLedger);
 
-        verify(storageUpserter).upsertMapping(firstBKey, bValue, null, null, storage);
+        verify(storageBatchUpserter)
+                .upsertMappings(keys(firstBKey), subject.getNewMappings(), null, storage);
     }
 
     @Test
@@ -542,6 +610,10 @@ class SizeLimitedStorageTest {
         given(accounts.get(key)).willReturn(account);
     }
 
+    private static TreeSet<ContractKey> keys(final ContractKey... keys) {
+        return new TreeSet<>(List.of(keys));
+    }
+
     private void givenContainedStorage(final ContractKey key, final IterableContractValue value) {
         given(storage.get(key)).willReturn(value);
         given(storage.containsKey(key)).willReturn(true);
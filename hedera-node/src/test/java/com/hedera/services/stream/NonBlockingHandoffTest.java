@@ -15,12 +15,25 @@
  */
 package com.hedera.services.stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -34,34 +47,108 @@ class NonBlockingHandoffTest {
     @Mock private ExecutorService executorService;
     @Mock private RecordStreamManager recordStreamManager;
     @Mock private NodeLocalProperties nodeLocalProperties;
+    @Mock private MiscRunningAvgs runningAvgs;
+    @Mock private MiscSpeedometers speedometers;
 
     private NonBlockingHandoff subject;
 
     @Test
     void handoffWorksAsExpected() {
         given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
+        final List<RecordStreamObject> handedOff = new CopyOnWriteArrayList<>();
+        willAnswer(
+                        invocation -> {
+                            handedOff.addAll(invocation.getArgument(0));
+                            return null;
+                        })
+                .given(recordStreamManager)
+                .addRecordStreamObjects(any());
         // and:
-        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+        subject = newSubject();
 
         // when:
         assertTrue(subject.offer(rso));
 
-        // and:
+        // then:
+        verify(runningAvgs, timeout(1_000)).recordStreamHandoffBatchSize(1);
+        assertEquals(List.of(rso), handedOff);
+        verify(runningAvgs).recordStreamHandoffLatencyMs(anyDouble());
         subject.getExecutor().shutdownNow();
+    }
 
-        // then:
-        try {
-            verify(recordStreamManager).addRecordStreamObject(rso);
-        } catch (NullPointerException ignore) {
-            /* In CI apparently Mockito can have problems here? */
+    @Test
+    void drainsEverythingQueuedInBatches() throws InterruptedException {
+        given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
+        given(nodeLocalProperties.recordStreamHandoffBatchSize()).willReturn(64);
+        final var consumerBusy = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final List<RecordStreamObject> handedOff = new CopyOnWriteArrayList<>();
+        willAnswer(
+                        invocation -> {
+                            final List<RecordStreamObject> batch = invocation.getArgument(0);
+                            batchSizes.add(batch.size());
+                            handedOff.addAll(batch);
+                            consumerBusy.countDown();
+                            release.await();
+                            return null;
+                        })
+                .given(recordStreamManager)
+                .addRecordStreamObjects(any());
+        subject = newSubject();
+        final List<RecordStreamObject> expected = new ArrayList<>();
+
+        expected.add(handOffNew());
+        assertTrue(consumerBusy.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            expected.add(handOffNew());
         }
+        release.countDown();
+
+        verify(runningAvgs, timeout(1_000)).recordStreamHandoffBatchSize(36);
+        assertEquals(List.of(1, 64, 36), batchSizes);
+        assertEquals(expected, handedOff);
+        subject.getExecutor().shutdownNow();
+    }
+
+    @Test
+    void putWaitsForRoomAndCountsFullQueue() throws InterruptedException {
+        given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
+        given(nodeLocalProperties.recordStreamHandoffBatchSize()).willReturn(1);
+        given(nodeLocalProperties.recordStreamHandoffBlockWhenFull()).willReturn(true);
+        final var consumerBusy = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        willAnswer(
+                        invocation -> {
+                            consumerBusy.countDown();
+                            release.await();
+                            return null;
+                        })
+                .given(recordStreamManager)
+                .addRecordStreamObjects(any());
+        subject = newSubject();
+
+        subject.put(rso);
+        assertTrue(consumerBusy.await(1, TimeUnit.SECONDS));
+        while (subject.offer(rso)) {
+            // Fill the queue while the consumer is busy
+        }
+        final var producer = new Thread(() -> subject.put(rso));
+        producer.start();
+
+        verify(speedometers, timeout(1_000)).cycleRecordStreamHandoffsWhenFull();
+        assertTrue(producer.isAlive());
+        release.countDown();
+        producer.join(5_000);
+        assertFalse(producer.isAlive());
+        subject.getExecutor().shutdownNow();
     }
 
     @Test
     void shutdownHookWorksAsExpected() {
         given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
         // and:
-        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+        subject = newSubject();
         // and:
         subject.setExecutor(executorService);
 
@@ -73,4 +160,15 @@ class NonBlockingHandoffTest {
         // and:
         verify(executorService).shutdown();
     }
+
+    private RecordStreamObject handOffNew() {
+        final var next = new RecordStreamObject();
+        subject.put(next);
+        return next;
+    }
+
+    private NonBlockingHandoff newSubject() {
+        return new NonBlockingHandoff(
+                recordStreamManager, nodeLocalProperties, runningAvgs, speedometers);
+    }
 }
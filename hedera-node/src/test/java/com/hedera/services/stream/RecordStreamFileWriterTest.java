@@ -25,10 +25,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.ByteString;
@@ -37,6 +39,7 @@ import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.recordstreaming.RecordStreamingUtils;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stream.proto.ContractAction;
 import com.hedera.services.stream.proto.ContractActions;
 import com.hedera.services.stream.proto.ContractBytecode;
@@ -109,7 +112,8 @@ class RecordStreamFileWriterTest {
                         streamType,
                         expectedExportDir(),
                         maxSidecarFileSize,
-                        globalDynamicProperties);
+                        globalDynamicProperties,
+                        runningAvgs);
         messageDigest = MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
         messageDigest.digest("yumyum".getBytes(StandardCharsets.UTF_8));
         final var startRunningHash = new Hash(messageDigest.digest());
@@ -190,6 +194,11 @@ class RecordStreamFileWriterTest {
                 Map.of(1, someSidecarTypesEnum),
                 Map.of(1, transformToExpectedSidecars(someSidecarTypes, numberOfRSOsInSecondBlock)),
                 isCompressed);
+        // and the latency of each finalization stage was recorded once per closed file
+        verify(runningAvgs, times(2)).recordFileHashWaitMs(anyDouble());
+        verify(runningAvgs, times(2)).recordFileWriteMs(anyDouble());
+        verify(runningAvgs, times(2)).recordFileSyncMs(anyDouble());
+        verify(runningAvgs, times(2)).recordFileSignMs(anyDouble());
     }
 
     @ParameterizedTest
@@ -1246,6 +1255,7 @@ class RecordStreamFileWriterTest {
     @Mock private RecordStreamType streamType;
     @Mock private Signer signer;
     @Mock private GlobalDynamicProperties globalDynamicProperties;
+    @Mock private MiscRunningAvgs runningAvgs;
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private RecordStreamFileWriter subject;
 
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -47,6 +48,7 @@ import com.swirlds.common.stream.QueueThreadObjectStream;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.system.Platform;
 import java.io.File;
+import java.util.List;
 import java.util.Queue;
 import org.apache.commons.lang3.RandomUtils;
 import org.hamcrest.Matchers;
@@ -295,6 +297,29 @@ public class RecordStreamManagerTest {
         assertTrue(logCaptor.infoLogs().isEmpty());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void addsBatchInOrderAndSamplesQueueSizesOnce() {
+        final MiscRunningAvgs runningAvgs = mock(MiscRunningAvgs.class);
+        final MultiStream<RecordStreamObject> multiStream = mock(MultiStream.class);
+        final QueueThreadObjectStream<RecordStreamObject> writeQueueThread =
+                mock(QueueThreadObjectStream.class);
+        final var mockQueue = mock(Queue.class);
+        given(writeQueueThread.getQueue()).willReturn(mockQueue);
+        given(mockQueue.size()).willReturn(3);
+        final var first = new RecordStreamObject();
+        final var second = new RecordStreamObject();
+        recordStreamManager = new RecordStreamManager(multiStream, writeQueueThread, runningAvgs);
+
+        recordStreamManager.addRecordStreamObjects(List.of(first, second));
+
+        final var inOrder = inOrder(multiStream);
+        inOrder.verify(multiStream).addObject(first);
+        inOrder.verify(multiStream).addObject(second);
+        verify(runningAvgs).writeQueueSizeRecordStream(3);
+        verify(runningAvgs).hashQueueSizeRecordStream(0);
+    }
+
     @Test
     void setInFreezeTest() {
         MultiStream<RecordStreamObject> multiStreamMock = mock(MultiStream.class);
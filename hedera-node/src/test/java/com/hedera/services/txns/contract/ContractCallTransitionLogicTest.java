@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -341,7 +342,7 @@ class ContractCallTransitionLogicTest {
 
         subject.preFetch(accessor);
 
-        verify(codeCache).getIfPresent(targetNum.toEvmAddress());
+        verify(codeCache).prefetch(targetNum.toEvmAddress());
     }
 
     @Test
@@ -352,7 +353,7 @@ class ContractCallTransitionLogicTest {
         given(accessor.getTxn()).willReturn(txnBody);
         given(txnBody.getContractCall()).willReturn(ccTxnBody);
         given(ccTxnBody.getContractID()).willReturn(IdUtils.asContract("0.0.1324"));
-        given(codeCache.getIfPresent(any(Address.class))).willThrow(new RuntimeException("oh no"));
+        willThrow(new RuntimeException("oh no")).given(codeCache).prefetch(any(Address.class));
 
         // when:
         assertDoesNotThrow(() -> subject.preFetch(accessor));
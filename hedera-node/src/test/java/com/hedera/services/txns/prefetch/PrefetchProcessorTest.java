@@ -20,12 +20,18 @@ import static com.hedera.services.txns.prefetch.PrefetchProcessor.MINIMUM_THREAD
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyDouble;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.txns.PreFetchableTransition;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.TransitionLogicLookup;
@@ -55,6 +61,8 @@ class PrefetchProcessorTest {
     @Mock TransitionLogicLookup lookup;
     @Mock PlatformTxnAccessor accessor;
     @Mock PreFetchableTransition logic;
+    @Mock MiscRunningAvgs runningAvgs;
+    @Mock MiscSpeedometers speedometers;
 
     PrefetchProcessor processor;
     List<Runnable> executed = new ArrayList<>();
@@ -71,7 +79,7 @@ class PrefetchProcessorTest {
         given(properties.prefetchThreadPoolSize()).willReturn(MINIMUM_THREAD_POOL_SIZE + 1);
 
         processor =
-                new PrefetchProcessor(properties, lookup) {
+                new PrefetchProcessor(properties, lookup, runningAvgs, speedometers) {
                     @Override
                     ExecutorService createExecutorService(
                             int threadPoolSize, BlockingQueue<Runnable> queue) {
@@ -90,7 +98,7 @@ class PrefetchProcessorTest {
         given(properties.prefetchThreadPoolSize()).willReturn(1);
 
         processor =
-                new PrefetchProcessor(properties, lookup) {
+                new PrefetchProcessor(properties, lookup, runningAvgs, speedometers) {
                     @Override
                     ExecutorService createExecutorService(
                             int threadPoolSize, BlockingQueue<Runnable> queue) {
@@ -109,7 +117,7 @@ class PrefetchProcessorTest {
 
         final AtomicReference<BlockingQueue<Runnable>> queueRef = new AtomicReference<>();
         processor =
-                new PrefetchProcessor(properties, lookup) {
+                new PrefetchProcessor(properties, lookup, runningAvgs, speedometers) {
                     @Override
                     ExecutorService createExecutorService(
                             int threadPoolSize, BlockingQueue<Runnable> queue) {
@@ -159,6 +167,60 @@ class PrefetchProcessorTest {
         verify(logic).preFetch(accessor);
     }
 
+    @Test
+    void recordsQueueLatencyOfExecutedTasks() {
+        given(lookup.lookupFor(any(), any())).willReturn(Optional.of(logic));
+
+        setupSubmit();
+        processor.submit(accessor);
+
+        await().until(() -> executed.size() == 1);
+
+        verify(runningAvgs, timeout(1_000)).recordPrefetchQueueLatencyMs(anyDouble());
+    }
+
+    @Test
+    void dropsOldestQueuedTaskWhenSaturated() {
+        given(properties.prefetchQueueCapacity()).willReturn(2);
+        given(properties.prefetchThreadPoolSize()).willReturn(1);
+        processor = new PrefetchProcessor(properties, lookup, runningAvgs, speedometers);
+
+        final var queue = new ArrayBlockingQueue<Runnable>(1);
+        final var executor =
+                new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue) {
+                    @Override
+                    public void execute(final Runnable command) {
+                        queue.offer(command);
+                    }
+                };
+        final Runnable oldest = () -> {};
+        final Runnable newest = () -> {};
+        queue.offer(oldest);
+
+        processor.dropOldestAndRetry(newest, executor);
+
+        assertEquals(1, queue.size());
+        assertSame(newest, queue.peek());
+        verify(speedometers).cyclePrefetchDrops();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void doesNotRetryOnShutdownExecutor() {
+        given(properties.prefetchQueueCapacity()).willReturn(2);
+        given(properties.prefetchThreadPoolSize()).willReturn(1);
+        processor = new PrefetchProcessor(properties, lookup, runningAvgs, speedometers);
+
+        final var executor =
+                new ThreadPoolExecutor(
+                        1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        executor.shutdownNow();
+
+        processor.dropOldestAndRetry(() -> {}, executor);
+
+        verifyNoInteractions(speedometers);
+    }
+
     @Test
     void submitNotPrefetchableLogic() {
         TransitionLogic logic = Mockito.mock(TransitionLogic.class);
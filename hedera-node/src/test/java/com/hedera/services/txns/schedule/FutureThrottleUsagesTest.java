@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.virtual.schedule.ScheduleSecondVirtualValue;
+import com.hedera.services.throttles.DeterministicThrottle;
+import com.hedera.services.throttles.GasLimitDeterministicThrottle;
+import com.hedera.services.throttling.TimedFunctionalityThrottling;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FutureThrottleUsagesTest {
+    private static final long second = 1_234_567L;
+    private static final RichInstant early = new RichInstant(second, 0);
+    private static final RichInstant late = new RichInstant(second, 5);
+
+    @Mock private TimedFunctionalityThrottling throttling;
+    @Mock private GlobalDynamicProperties properties;
+
+    private final DeterministicThrottle throttle = DeterministicThrottle.withTps(10);
+    private final GasLimitDeterministicThrottle gasThrottle =
+            new GasLimitDeterministicThrottle(1_000_000L);
+    private List<DeterministicThrottle> throttles;
+
+    private FutureThrottleUsages subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new FutureThrottleUsages();
+        throttles = List.of(throttle);
+    }
+
+    @Test
+    void resumesFromSavedUsageOnlyIfIdsMatchExactly() {
+        givenThrottles();
+        final var then = Instant.ofEpochSecond(second);
+        throttle.allow(3, then);
+        gasThrottle.allow(then, 1_000L);
+
+        subject.save(second, new long[] {1L, 2L}, 2, throttling, properties);
+        throttle.resetUsage();
+        gasThrottle.resetUsage();
+
+        assertEquals(
+                2,
+                subject.resumeIfUnchanged(
+                        second, secondWith(1L, 2L), late, throttling, properties));
+        assertEquals(DeterministicThrottle.capacityRequiredFor(3), throttle.used());
+        assertEquals(1_000L, gasThrottle.getUsed());
+        assertEquals(
+                -1,
+                subject.resumeIfUnchanged(
+                        second, secondWith(2L, 1L), late, throttling, properties));
+        assertNull(subject.idsFor(second));
+    }
+
+    @Test
+    void doesNotResumeIfCandidateWouldNotBeLast() {
+        givenThrottles();
+        subject.save(second, new long[] {1L}, 1, throttling, properties);
+
+        assertEquals(
+                -1,
+                subject.resumeIfUnchanged(second, secondWith(1L), early, throttling, properties));
+    }
+
+    @Test
+    void doesNotResumeIfPropertiesChanged() {
+        givenThrottles();
+        subject.save(second, new long[0], 0, throttling, properties);
+        given(properties.shouldThrottleByGas()).willReturn(true);
+
+        assertEquals(-1, subject.resumeIfUnchanged(second, null, late, throttling, properties));
+    }
+
+    @Test
+    void purgesOnlyPastSecondsAndEvictsEldest() {
+        givenThrottles();
+        for (int i = 0; i <= FutureThrottleUsages.MAX_CACHED_SECONDS; i++) {
+            subject.save(second + i, new long[0], 0, throttling, properties);
+        }
+        assertEquals(FutureThrottleUsages.MAX_CACHED_SECONDS, subject.size());
+        assertNull(subject.idsFor(second));
+
+        subject.purgeThrough(second + 10);
+        assertEquals(FutureThrottleUsages.MAX_CACHED_SECONDS - 10, subject.size());
+        subject.purgeThrough(second + 5);
+        assertEquals(FutureThrottleUsages.MAX_CACHED_SECONDS - 10, subject.size());
+    }
+
+    @Test
+    void idHelpersWorkAsExpected() {
+        final var bySecond = secondWith(1L, 2L);
+
+        assertArrayEquals(new long[0], FutureThrottleUsages.idsOf(null));
+        assertArrayEquals(new long[] {1L, 2L}, FutureThrottleUsages.idsOf(bySecond));
+        assertArrayEquals(
+                new long[] {1L, 2L, 3L}, FutureThrottleUsages.append(new long[] {1L, 2L}, 3L));
+        assertTrue(FutureThrottleUsages.sameIds(new long[0], null));
+        assertFalse(FutureThrottleUsages.sameIds(new long[] {1L}, null));
+        assertFalse(FutureThrottleUsages.sameIds(new long[] {1L}, bySecond));
+        assertFalse(FutureThrottleUsages.sameIds(new long[] {1L, 2L, 3L}, bySecond));
+        assertTrue(FutureThrottleUsages.isLast(early, null));
+        assertTrue(FutureThrottleUsages.isLast(early, bySecond));
+        assertFalse(FutureThrottleUsages.isLast(new RichInstant(second - 1, 0), bySecond));
+    }
+
+    private void givenThrottles() {
+        given(throttling.allActiveThrottles()).willReturn(throttles);
+        given(throttling.gasLimitThrottle()).willReturn(gasThrottle);
+    }
+
+    private static ScheduleSecondVirtualValue secondWith(final long... ids) {
+        return new ScheduleSecondVirtualValue(
+                new TreeMap<>(Map.of(early, LongArrayList.newListWith(ids))));
+    }
+}
@@ -16,6 +16,7 @@
 package com.hedera.services.txns.schedule;
 
 import static com.hedera.services.utils.EntityNum.fromScheduleId;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SCHEDULE_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SCHEDULE_FUTURE_GAS_LIMIT_EXCEEDED;
@@ -29,12 +30,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.SigImpactHistorian;
@@ -43,14 +47,23 @@ import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.virtual.schedule.ScheduleSecondVirtualValue;
 import com.hedera.services.state.virtual.schedule.ScheduleVirtualValue;
 import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.throttles.DeterministicThrottle;
 import com.hedera.services.throttling.TimedFunctionalityThrottling;
 import com.hedera.services.utils.accessors.TxnAccessor;
 import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.ScheduleID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransferList;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,6 +75,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ScheduleProcessingTest {
 
     private static Instant consensusTime = Instant.EPOCH;
+    private static final long second = 1_234_567L;
+    private static final RichInstant expiry = new RichInstant(second, 0);
     private static final ScheduleID scheduleId1 = IdUtils.asSchedule("0.0.133333");
     private static final ScheduleID scheduleId2 = IdUtils.asSchedule("0.0.233333");
     private static final ScheduleID scheduleId3 = IdUtils.asSchedule("0.0.333333");
@@ -654,6 +669,87 @@ class ScheduleProcessingTest {
         assertEquals(OK, result);
     }
 
+    @Test
+    void checkFutureThrottlesForCreateResumesFromSavedUsage()
+            throws InvalidProtocolBufferException {
+        final var throttle = DeterministicThrottle.withTps(2);
+        givenScheduleThrottleBackedBy(throttle);
+        givenSchedulesExpiringAt(expiry);
+        given(store.getBySecond(second)).willReturn(secondWith(scheduleId1));
+
+        assertEquals(OK, subject.checkFutureThrottlesForCreate(scheduleId2, schedule2));
+
+        given(store.getBySecond(second)).willReturn(secondWith(scheduleId1, scheduleId2));
+        throttle.resetUsage();
+
+        assertEquals(
+                SCHEDULE_FUTURE_THROTTLE_EXCEEDED,
+                subject.checkFutureThrottlesForCreate(scheduleId4, schedule4));
+        assertEquals(
+                SCHEDULE_FUTURE_THROTTLE_EXCEEDED,
+                subject.checkFutureThrottlesForCreate(scheduleId4, schedule4));
+
+        verify(scheduleExecutor, times(1)).getTxnAccessor(scheduleId1, schedule1, false);
+        verify(scheduleExecutor, times(1)).getTxnAccessor(scheduleId2, schedule2, false);
+        verify(scheduleThrottling, times(1))
+                .shouldThrottleTxn(schedule1Accessor, Instant.ofEpochSecond(second));
+        verify(scheduleThrottling, times(2))
+                .shouldThrottleTxn(schedule4Accessor, Instant.ofEpochSecond(second, 2));
+    }
+
+    @Test
+    void checkFutureThrottlesForCreateReplaysIfSecondOrThrottlesChanged()
+            throws InvalidProtocolBufferException {
+        final var throttle = DeterministicThrottle.withTps(5);
+        givenScheduleThrottleBackedBy(throttle);
+        givenSchedulesExpiringAt(expiry);
+        given(store.getBySecond(second)).willReturn(secondWith(scheduleId1));
+
+        assertEquals(OK, subject.checkFutureThrottlesForCreate(scheduleId2, schedule2));
+        // scheduleId2 was never committed, so the saved usage doesn't match the second
+        assertEquals(OK, subject.checkFutureThrottlesForCreate(scheduleId4, schedule4));
+        // the saved usage for [scheduleId1, scheduleId4] is for a different throttle list
+        given(store.getBySecond(second)).willReturn(secondWith(scheduleId1, scheduleId4));
+        given(scheduleThrottling.allActiveThrottles()).willReturn(List.of(throttle));
+        assertEquals(OK, subject.checkFutureThrottlesForCreate(scheduleId2, schedule2));
+
+        verify(scheduleExecutor, times(3)).getTxnAccessor(scheduleId1, schedule1, false);
+        verify(scheduleExecutor, times(2)).getTxnAccessor(scheduleId4, schedule4, false);
+    }
+
+    @Test
+    void checkFutureThrottlesForCreateNeverSavesUsageDependingOnAliases()
+            throws InvalidProtocolBufferException {
+        givenScheduleThrottleBackedBy(DeterministicThrottle.withTps(5));
+        givenSchedulesExpiringAt(expiry);
+        given(schedule1Accessor.getFunction()).willReturn(CryptoTransfer);
+        given(schedule1Accessor.getTxn()).willReturn(aliasedTransfer());
+        given(store.getBySecond(second)).willReturn(secondWith(scheduleId1));
+
+        assertEquals(OK, subject.checkFutureThrottlesForCreate(scheduleId2, schedule2));
+        given(store.getBySecond(second)).willReturn(secondWith(scheduleId1, scheduleId2));
+        assertEquals(OK, subject.checkFutureThrottlesForCreate(scheduleId4, schedule4));
+
+        verify(scheduleExecutor, times(2)).getTxnAccessor(scheduleId1, schedule1, false);
+    }
+
+    @Test
+    void expirePurgesSavedUsagesForPastSeconds() throws InvalidProtocolBufferException {
+        givenScheduleThrottleBackedBy(DeterministicThrottle.withTps(5));
+        givenSchedulesExpiringAt(expiry);
+        given(store.getBySecond(second)).willReturn(secondWith(scheduleId1));
+        given(dynamicProperties.schedulingMaxTxnPerSecond()).willReturn(5L);
+        given(store.nextSchedulesToExpire(any())).willReturn(ImmutableList.of());
+
+        subject.checkFutureThrottlesForCreate(scheduleId2, schedule2);
+        assertEquals(1, subject.futureThrottleUsages.size());
+
+        subject.expire(Instant.ofEpochSecond(second - 1));
+        assertEquals(1, subject.futureThrottleUsages.size());
+        subject.expire(Instant.ofEpochSecond(second));
+        assertEquals(0, subject.futureThrottleUsages.size());
+    }
+
     @Test
     void shouldProcessScheduledTransactionsWorksAsExpected() {
 
@@ -690,4 +786,61 @@ class ScheduleProcessingTest {
         given(dynamicProperties.schedulingMaxTxnPerSecond()).willReturn(5L);
         assertEquals(50L, subject.getMaxProcessingLoopIterations());
     }
+
+    private void givenScheduleThrottleBackedBy(final DeterministicThrottle throttle) {
+        given(scheduleThrottling.allActiveThrottles()).willReturn(List.of(throttle));
+        given(scheduleThrottling.shouldThrottleTxn(any(), any()))
+                .willAnswer(invocation -> !throttle.allow(1, invocation.getArgument(1)));
+        willAnswer(
+                        invocation -> {
+                            throttle.resetUsage();
+                            return null;
+                        })
+                .given(scheduleThrottling)
+                .resetUsage();
+    }
+
+    private void givenSchedulesExpiringAt(final RichInstant expiry)
+            throws InvalidProtocolBufferException {
+        given(dynamicProperties.schedulingLongTermEnabled()).willReturn(true);
+        given(schedule1.calculatedExpirationTime()).willReturn(expiry);
+        given(schedule2.calculatedExpirationTime()).willReturn(expiry);
+        given(schedule4.calculatedExpirationTime()).willReturn(expiry);
+        given(store.getNoError(scheduleId1)).willReturn(schedule1);
+        given(scheduleExecutor.getTxnAccessor(scheduleId1, schedule1, false))
+                .willReturn(schedule1Accessor);
+        given(scheduleExecutor.getTxnAccessor(scheduleId2, schedule2, false))
+                .willReturn(schedule2Accessor);
+        given(scheduleExecutor.getTxnAccessor(scheduleId4, schedule4, false))
+                .willReturn(schedule4Accessor);
+    }
+
+    private ScheduleSecondVirtualValue secondWith(final ScheduleID... ids) {
+        final var nums = new LongArrayList();
+        for (final var id : ids) {
+            nums.add(fromScheduleId(id).longValue());
+            if (id != scheduleId1) {
+                lenient().when(store.getNoError(id)).thenReturn(scheduleWithId(id));
+            }
+        }
+        return new ScheduleSecondVirtualValue(new TreeMap<>(Map.of(expiry, nums)));
+    }
+
+    private ScheduleVirtualValue scheduleWithId(final ScheduleID id) {
+        if (id == scheduleId2) {
+            return schedule2;
+        } else {
+            return schedule4;
+        }
+    }
+
+    private static TransactionBody aliasedTransfer() {
+        final var aliasId = AccountID.newBuilder().setAlias(ByteString.copyFromUtf8("alias"));
+        final var adjust = AccountAmount.newBuilder().setAccountID(aliasId).setAmount(1);
+        return TransactionBody.newBuilder()
+                .setCryptoTransfer(
+                        CryptoTransferTransactionBody.newBuilder()
+                                .setTransfers(TransferList.newBuilder().addAccountAmounts(adjust)))
+                .build();
+    }
 }
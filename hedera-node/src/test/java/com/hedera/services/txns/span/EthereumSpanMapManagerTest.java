@@ -63,9 +63,7 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.virtualmap.VirtualMap;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import org.bouncycastle.util.encoders.Hex;
@@ -94,7 +92,7 @@ class EthereumSpanMapManagerTest {
     @Mock private SigImpactHistorian sigImpactHistorian;
     @Mock private SyntheticTxnFactory syntheticTxnFactory;
 
-    private final Map<String, Object> spanMap = new HashMap<>();
+    private final SpanMap spanMap = new SpanMap();
     private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
 
     private SpanMapManager subject;
@@ -137,7 +135,9 @@ class EthereumSpanMapManagerTest {
     @Test
     void expansionIsNoopIfSpanMapIsImmutable() {
         given(accessor.getFunction()).willReturn(EthereumTransaction);
-        given(accessor.getSpanMap()).willReturn(Map.of("ethTxDataMeta", ethTxData));
+        final var frozenSpan = new SpanMap();
+        frozenSpan.setEthTxData(ethTxData);
+        given(accessor.getSpanMap()).willReturn(frozenSpan.freeze());
         txn = TransactionBody.newBuilder().setEthereumTransaction(bodyWithoutCallData).build();
         given(accessor.getTxn()).willReturn(txn);
         given(stateViewFactory.childrenOfLatestSignedState())
@@ -265,8 +265,7 @@ class EthereumSpanMapManagerTest {
                 .willReturn(Optional.of(synthCallBody));
         willAnswer(
                         invocationOnMock -> {
-                            final Map<String, Object> rationalizedMap =
-                                    invocationOnMock.getArgument(0);
+                            final SpanMap rationalizedMap = invocationOnMock.getArgument(0);
                             given(accessor.getSpanMap()).willReturn(rationalizedMap);
                             return null;
                         })
@@ -293,8 +292,7 @@ class EthereumSpanMapManagerTest {
                 .willReturn(Optional.of(synthCallBody));
         willAnswer(
                         invocationOnMock -> {
-                            final Map<String, Object> rationalizedMap =
-                                    invocationOnMock.getArgument(0);
+                            final SpanMap rationalizedMap = invocationOnMock.getArgument(0);
                             given(accessor.getSpanMap()).willReturn(rationalizedMap);
                             return null;
                         })
@@ -52,9 +52,7 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -147,7 +145,7 @@ class SpanMapManagerTest {
 
     private CryptoTransferMeta xferMeta = new CryptoTransferMeta(1, 1, 1, 0);
 
-    private Map<String, Object> span = new HashMap<>();
+    private SpanMap span = new SpanMap();
 
     @Mock private TxnAccessor accessor;
     @Mock private ImpliedTransfersMarshal impliedTransfersMarshal;
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.span;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.services.sigs.order.LinkedRefs;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.junit.jupiter.api.Test;
+
+class SpanMapTest {
+    private final SpanMap subject = new SpanMap();
+
+    @Test
+    void slotsAreIndependent() {
+        final var expansion = new EthTxExpansion(new LinkedRefs(), OK);
+        final var body = TransactionBody.getDefaultInstance();
+
+        subject.setEthTxExpansion(expansion);
+        subject.setEthTxBody(body);
+
+        assertSame(expansion, subject.getEthTxExpansion());
+        assertSame(body, subject.getEthTxBody());
+        assertNull(subject.getEthTxData());
+        assertNull(subject.getEthTxSigs());
+        assertNull(subject.getImpliedTransfers());
+        assertNull(subject.getTokenWipeMeta());
+    }
+
+    @Test
+    void frozenSpanRejectsAllSetsButKeepsValues() {
+        final var expansion = new EthTxExpansion(null, OK);
+        subject.setEthTxExpansion(expansion);
+        assertFalse(subject.isFrozen());
+
+        assertSame(subject, subject.freeze());
+
+        assertTrue(subject.isFrozen());
+        assertSame(expansion, subject.getEthTxExpansion());
+        assertThrows(UnsupportedOperationException.class, () -> subject.setEthTxExpansion(null));
+        assertThrows(UnsupportedOperationException.class, () -> subject.setEthTxData(null));
+        assertThrows(UnsupportedOperationException.class, () -> subject.setEthTxSigs(null));
+        assertThrows(UnsupportedOperationException.class, () -> subject.setEthTxBody(null));
+        assertThrows(UnsupportedOperationException.class, () -> subject.setImpliedTransfers(null));
+        assertThrows(UnsupportedOperationException.class, () -> subject.setUtilPrngMeta(null));
+        assertThrows(UnsupportedOperationException.class, () -> subject.setTokenWipeMeta(null));
+    }
+}
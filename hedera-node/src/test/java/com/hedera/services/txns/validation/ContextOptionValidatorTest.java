@@ -900,6 +900,13 @@ class ContextOptionValidatorTest {
         assertEquals(OK, subject.nftMaxQueryRangeCheck(0, 9));
     }
 
+    @Test
+    void checksAccountWalkLength() {
+        given(dynamicProperties.maxNftAccountWalkLength()).willReturn(1_000L);
+        assertEquals(OK, subject.nftAccountWalkLengthCheck(1_000L));
+        assertEquals(INVALID_QUERY_RANGE, subject.nftAccountWalkLengthCheck(1_001L));
+    }
+
     @Test
     void rejectsDecodeEmptyKey() {
         assertFailsWith(
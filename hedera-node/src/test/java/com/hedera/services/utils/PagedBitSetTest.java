@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.utils;
+
+import static com.hedera.services.state.merkle.internals.BitPackUtils.MAX_NUM_ALLOWED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PagedBitSetTest {
+    private final PagedBitSet subject = new PagedBitSet();
+
+    @Test
+    void addsAndRemovesAsExpected() {
+        assertTrue(subject.add(1001L));
+        assertFalse(subject.add(1001L));
+        assertTrue(subject.add(0L));
+        assertTrue(subject.add(MAX_NUM_ALLOWED));
+
+        assertTrue(subject.contains(1001L));
+        assertTrue(subject.contains(0L));
+        assertTrue(subject.contains(MAX_NUM_ALLOWED));
+        assertFalse(subject.contains(1002L));
+        assertEquals(3, subject.size());
+
+        assertTrue(subject.remove(1001L));
+        assertFalse(subject.remove(1001L));
+        assertFalse(subject.remove(1002L));
+        assertFalse(subject.contains(1001L));
+        assertEquals(2, subject.size());
+    }
+
+    @Test
+    void neverContainsInvalidNums() {
+        assertFalse(subject.contains(-1L));
+        assertFalse(subject.contains(MAX_NUM_ALLOWED + 1));
+        assertFalse(subject.remove(-1L));
+        assertFalse(subject.remove(MAX_NUM_ALLOWED + 1));
+    }
+
+    @Test
+    void rejectsInvalidNums() {
+        assertThrows(IllegalArgumentException.class, () -> subject.add(-1L));
+        assertThrows(IllegalArgumentException.class, () -> subject.add(MAX_NUM_ALLOWED + 1));
+    }
+
+    @Test
+    void onlyAllocatesPagesInUse() {
+        subject.add(1L);
+        subject.add(65_535L);
+        assertEquals(1, subject.numAllocatedPages());
+
+        subject.add(65_536L);
+        subject.add(10_000_000L);
+        assertEquals(3, subject.numAllocatedPages());
+        assertFalse(subject.contains(200_000L));
+    }
+
+    @Test
+    void iteratesInAscendingOrder() {
+        final var nums = List.of(2L, 63L, 64L, 65_536L, 10_000_000L, MAX_NUM_ALLOWED);
+        for (int i = nums.size() - 1; i >= 0; i--) {
+            subject.add(nums.get(i));
+        }
+        final List<Long> seen = new ArrayList<>();
+
+        subject.forEach(seen::add);
+
+        assertEquals(nums, seen);
+    }
+
+    @Test
+    void findsNextNumAfterGiven() {
+        subject.add(5L);
+        subject.add(63L);
+        subject.add(64L);
+        subject.add(200_000L);
+        subject.add(MAX_NUM_ALLOWED);
+
+        assertEquals(5L, subject.nextAfter(-1L));
+        assertEquals(5L, subject.nextAfter(4L));
+        assertEquals(63L, subject.nextAfter(5L));
+        assertEquals(64L, subject.nextAfter(63L));
+        assertEquals(200_000L, subject.nextAfter(64L));
+        assertEquals(MAX_NUM_ALLOWED, subject.nextAfter(200_000L));
+        assertEquals(-1L, subject.nextAfter(MAX_NUM_ALLOWED));
+    }
+
+    @Test
+    void noNextNumInEmptySet() {
+        assertEquals(-1L, subject.nextAfter(0L));
+        subject.add(70_000L);
+        subject.remove(70_000L);
+        assertEquals(-1L, subject.nextAfter(0L));
+    }
+
+    @Test
+    void clearKeepsNoNums() {
+        subject.add(1L);
+        subject.add(100_000L);
+
+        subject.clear();
+
+        assertEquals(0, subject.size());
+        assertFalse(subject.contains(1L));
+        assertFalse(subject.contains(100_000L));
+        subject.forEach(
+                num -> {
+                    throw new AssertionError("Unexpected num " + num);
+                });
+    }
+}
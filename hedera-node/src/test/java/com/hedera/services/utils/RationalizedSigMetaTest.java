@@ -36,6 +36,7 @@ import static org.mockito.BDDMockito.given;
 import com.hedera.services.ethereum.EthTxSigs;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.services.txns.span.SpanMap;
 import com.hedera.services.utils.accessors.TxnAccessor;
 import com.hedera.test.factories.keys.KeyFactory;
 import com.hedera.test.factories.keys.KeyTree;
@@ -43,9 +44,7 @@ import com.hedera.test.factories.scenarios.TxnHandlingScenario;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.swirlds.common.crypto.TransactionSignature;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -57,7 +56,7 @@ class RationalizedSigMetaTest {
     @Mock private EthTxSigs ethTxSigs;
     @Mock private TxnAccessor accessor;
 
-    private final Map<String, Object> spanMap = new HashMap<>();
+    private final SpanMap spanMap = new SpanMap();
 
     private final JKey payerKey = TxnHandlingScenario.MISC_ACCOUNT_KT.asJKeyUnchecked();
     private final List<JKey> othersKeys =
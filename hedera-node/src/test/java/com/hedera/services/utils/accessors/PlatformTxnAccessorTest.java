@@ -40,6 +40,7 @@ import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
 import com.hedera.services.sigs.order.LinkedRefs;
+import com.hedera.services.txns.span.SpanMap;
 import com.hedera.services.utils.RationalizedSigMeta;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -54,9 +55,7 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.common.system.transaction.internal.SwirldTransaction;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.apache.commons.codec.binary.StringUtils;
 import org.junit.jupiter.api.Test;
 
@@ -73,7 +72,7 @@ class PlatformTxnAccessorTest {
         final var delegate = mock(TxnAccessor.class);
         given(delegate.getSigMap()).willReturn(SignatureMap.getDefaultInstance());
         final var subject = new PlatformTxnAccessor(delegate, new SwirldTransaction());
-        final var newMap = Map.of("1", new Object());
+        final var newMap = new SpanMap();
         subject.setRationalizedSpanMap(newMap);
         verify(delegate).setRationalizedSpanMap(newMap);
     }
@@ -91,7 +90,7 @@ class PlatformTxnAccessorTest {
                         SignedTxnAccessor.from(platformTxn.getContents()), platformTxn);
 
         // expect:
-        assertThat(subject.getSpanMap(), instanceOf(HashMap.class));
+        assertThat(subject.getSpanMap(), instanceOf(SpanMap.class));
     }
 
     @Test
@@ -53,6 +53,7 @@ import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.FcCustomFee;
+import com.hedera.services.txns.span.SpanMap;
 import com.hedera.services.usage.token.TokenOpsUsage;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.KeyUtils;
@@ -301,12 +302,15 @@ class SignedTxnAccessorTest {
     void usesUnmodifiableFormOfRationalizedSpanMap() {
         final var subject = SignedTxnAccessor.uncheckedFrom(Transaction.getDefaultInstance());
 
-        final var newMap = new HashMap<String, Object>();
-        newMap.put("1", new Object());
+        final var newMap = new SpanMap();
         subject.setRationalizedSpanMap(newMap);
 
         final var rationalizedMap = subject.getSpanMap();
-        assertThrows(UnsupportedOperationException.class, () -> rationalizedMap.put("2", 3));
+        assertSame(newMap, rationalizedMap);
+        assertTrue(rationalizedMap.isFrozen());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> rationalizedMap.setEthTxExpansion(null));
     }
 
     @Test
@@ -496,6 +500,28 @@ class SignedTxnAccessorTest {
         assertEquals(memo, accessor.getMemo());
     }
 
+    @Test
+    void aliasesWrapperBytesAndHashesOnlyOnce() throws InvalidProtocolBufferException {
+        final var body =
+                TransactionBody.newBuilder()
+                        .setMemo(memo)
+                        .setCryptoTransfer(CryptoTransferTransactionBody.getDefaultInstance())
+                        .build();
+        final var signedTransaction = signedTransactionFrom(body, expectedMap);
+        final var wrapperBytes =
+                buildTransactionFrom(signedTransaction.toByteString()).toByteArray();
+
+        final var aliased = SignedTxnAccessor.aliasedWrapperFrom(wrapperBytes);
+        final var accessor = SignedTxnAccessor.from(wrapperBytes);
+
+        assertEquals(Transaction.parseFrom(wrapperBytes), aliased);
+        assertEquals(aliased, accessor.getSignedTxnWrapper());
+        assertEquals(body, accessor.getTxn());
+        final var hash = accessor.getHash();
+        assertArrayEquals(CommonUtils.noThrowSha384HashOf(signedTransaction.toByteArray()), hash);
+        assertSame(hash, accessor.getHash());
+    }
+
     @Test
     void registersNoneOnMalformedCreation() throws InvalidProtocolBufferException {
         final var xferWithTopLevelBodyBytes =
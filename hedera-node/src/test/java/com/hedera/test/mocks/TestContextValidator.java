@@ -132,6 +132,11 @@ public enum TestContextValidator implements OptionValidator {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public ResponseCodeEnum nftAccountWalkLengthCheck(long length) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public ResponseCodeEnum queryableTopicStatus(
             TopicID id, MerkleMap<EntityNum, MerkleTopic> topics) {